@@ -22,6 +22,7 @@ import io.camunda.zeebe.gateway.rest.controller.ResponseObserverProvider;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.ActorScheduler;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -76,7 +77,9 @@ public class JobHandlerConfiguration {
           brokerClient,
           config.maxMessageSize().toBytes(),
           ResponseMapper::toActivateJobsResponse,
-          RuntimeException::new);
+          RuntimeException::new,
+          config.longPolling().getMaxConcurrentPartitionRequests(),
+          Duration.ZERO);
     }
   }
 
@@ -88,6 +91,8 @@ public class JobHandlerConfiguration {
         .setLongPollingTimeout(config.longPolling().getTimeout())
         .setProbeTimeoutMillis(config.longPolling().getProbeTimeout())
         .setMinEmptyResponses(config.longPolling().getMinEmptyResponses())
+        .setMaxConcurrentPartitionRequests(config.longPolling().getMaxConcurrentPartitionRequests())
+        .setPartitionHintTimeoutMillis(config.longPolling().getPartitionHintTimeout())
         .setActivationResultMapper(ResponseMapper::toActivateJobsResponse)
         .setNoJobsReceivedExceptionProvider(RuntimeException::new)
         .setRequestCanceledExceptionProvider(RuntimeException::new)
@@ -320,14 +320,14 @@ final class ClusterApiUtils {
       final RoutingState.RequestHandling requestHandling) {
     return switch (requestHandling) {
       case ActivePartitions(
-              final var basePartitionCount,
-              final var additionalActivePartitions,
-              final var inactivePartitions) ->
+              var basePartitionCount,
+              var additionalActivePartitions,
+              var inactivePartitions) ->
           new RequestHandlingActivePartitions(
               basePartitionCount,
               new ArrayList<>(additionalActivePartitions),
               new ArrayList<>(inactivePartitions));
-      case AllPartitions(final var partitionCount) ->
+      case AllPartitions(var partitionCount) ->
           new RequestHandlingAllPartitions(partitionCount);
     };
   }
@@ -335,7 +335,7 @@ final class ClusterApiUtils {
   private static MessageCorrelation mapMessageCorrelation(
       final RoutingState.MessageCorrelation messageCorrelation) {
     return switch (messageCorrelation) {
-      case HashMod(final var partitionCount) ->
+      case HashMod(var partitionCount) ->
           new MessageCorrelationHashMod().partitionCount(partitionCount);
     };
   }
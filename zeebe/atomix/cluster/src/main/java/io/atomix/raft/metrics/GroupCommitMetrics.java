@@ -0,0 +1,34 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.metrics;
+
+import static io.atomix.raft.metrics.GroupCommitMetricsDoc.FLUSH_BATCH_SIZE;
+import static io.atomix.raft.metrics.GroupCommitMetricsDoc.FLUSH_LATENCY;
+
+import io.camunda.zeebe.util.micrometer.MicrometerUtil;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+public final class GroupCommitMetrics {
+  private final DistributionSummary flushBatchSize;
+  private final Timer flushLatency;
+
+  public GroupCommitMetrics(final MeterRegistry registry) {
+    Objects.requireNonNull(registry, "MeterRegistry cannot be null");
+    flushBatchSize = MicrometerUtil.buildSummary(FLUSH_BATCH_SIZE).register(registry);
+    flushLatency = MicrometerUtil.buildTimer(FLUSH_LATENCY).register(registry);
+  }
+
+  public void observeFlush(final long batchSize, final long latencyNanos) {
+    flushBatchSize.record(batchSize);
+    flushLatency.record(latencyNanos, TimeUnit.NANOSECONDS);
+  }
+}
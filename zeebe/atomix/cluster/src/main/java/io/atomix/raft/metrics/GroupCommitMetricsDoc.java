@@ -0,0 +1,90 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.metrics;
+
+import io.camunda.zeebe.util.micrometer.ExtendedMeterDocumentation;
+import io.camunda.zeebe.util.micrometer.MicrometerUtil.PartitionKeyNames;
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.core.instrument.Meter.Type;
+import java.time.Duration;
+
+@SuppressWarnings("NullableProblems")
+public enum GroupCommitMetricsDoc implements ExtendedMeterDocumentation {
+  /** Number of entries made durable by a single flush of the log */
+  FLUSH_BATCH_SIZE {
+    @Override
+    public String getName() {
+      return "atomix.log.flush.batch.size";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.DISTRIBUTION_SUMMARY;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of entries made durable by a single flush of the log";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+
+    @Override
+    public double[] getDistributionSLOs() {
+      return new double[] {1, 2, 4, 8, 16, 32, 64, 128, 256, 512, 1024};
+    }
+  },
+
+  /** Time it takes to flush the log when committing a group of entries */
+  FLUSH_LATENCY {
+    @Override
+    public String getName() {
+      return "atomix.log.flush.latency";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Time it takes to flush the log when committing a group of entries";
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "ms";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return new Duration[] {
+        Duration.ofNanos(100_000),
+        Duration.ofNanos(250_000),
+        Duration.ofNanos(500_000),
+        Duration.ofMillis(1),
+        Duration.ofMillis(2),
+        Duration.ofMillis(5),
+        Duration.ofMillis(10),
+        Duration.ofMillis(25),
+        Duration.ofMillis(50),
+        Duration.ofMillis(100),
+        Duration.ofMillis(250)
+      };
+    }
+  }
+}
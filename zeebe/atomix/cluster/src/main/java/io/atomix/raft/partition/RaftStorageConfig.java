@@ -19,6 +19,7 @@ package io.atomix.raft.partition;
 import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.utils.concurrent.ThreadContext;
+import io.camunda.zeebe.journal.record.RecordCompression;
 
 /** Raft storage configuration. */
 public class RaftStorageConfig {
@@ -35,6 +36,7 @@ public class RaftStorageConfig {
   private RaftLogFlusher.Factory flusherFactory = DEFAULT_FLUSHER_FACTORY;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
+  private RecordCompression recordCompression = RecordCompression.NONE;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
 
   /**
@@ -108,6 +110,15 @@ public class RaftStorageConfig {
     return this;
   }
 
+  public RecordCompression getRecordCompression() {
+    return recordCompression;
+  }
+
+  public RaftStorageConfig setRecordCompression(final RecordCompression recordCompression) {
+    this.recordCompression = recordCompression;
+    return this;
+  }
+
   /**
    * @return true to preallocate segment files, false otherwise
    */
@@ -136,6 +147,8 @@ public class RaftStorageConfig {
         + freeDiskSpace
         + ", journalIndexDensity="
         + journalIndexDensity
+        + ", recordCompression="
+        + recordCompression
         + ", preallocateSegmentFiles="
         + preallocateSegmentFiles
         + '}';
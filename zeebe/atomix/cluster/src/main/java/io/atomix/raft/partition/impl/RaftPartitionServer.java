@@ -315,6 +315,7 @@ public class RaftPartitionServer implements HealthMonitorable {
         .withFreeDiskSpace(storageConfig.getFreeDiskSpace())
         .withSnapshotStore(persistedSnapshotStore)
         .withJournalIndexDensity(storageConfig.getJournalIndexDensity())
+        .withRecordCompression(storageConfig.getRecordCompression())
         .withPreallocateSegmentFiles(storageConfig.isPreallocateSegmentFiles())
         .build();
   }
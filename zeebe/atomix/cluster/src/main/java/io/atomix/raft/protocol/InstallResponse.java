@@ -20,33 +20,53 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import io.atomix.raft.RaftError;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Snapshot installation response.
  *
  * <p>Install responses are sent once a snapshot installation request has been received and
- * processed. Install responses provide no additional metadata aside from indicating whether or not
- * the request was successful.
+ * processed. Install responses indicate whether or not the request was successful. The response to
+ * the initial request additionally contains the checksums of the files of the receiver's latest
+ * snapshot, so the leader does not have to send files which the receiver already has.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
   protected int preferredChunkSize;
+  protected HashMap<String, Long> snapshotFileChecksums;
 
-  public InstallResponse(final Status status, final RaftError error, final int preferredChunkSize) {
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final HashMap<String, Long> snapshotFileChecksums) {
     super(status, error);
     this.preferredChunkSize = preferredChunkSize;
+    this.snapshotFileChecksums = snapshotFileChecksums;
   }
 
   public int preferredChunkSize() {
     return preferredChunkSize;
   }
 
+  /**
+   * Returns the checksums of the files which the receiver already has, by file name.
+   *
+   * @return the receiver's snapshot file checksums; empty if the receiver did not send any, e.g.
+   *     because it runs an older version
+   */
+  public Map<String, Long> snapshotFileChecksums() {
+    return snapshotFileChecksums == null ? Map.of() : snapshotFileChecksums;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
         .add("status", status)
         .add("error", error)
         .add("preferredChunkSize", preferredChunkSize)
+        .add("snapshotFiles", snapshotFileChecksums().size())
         .toString();
   }
 
@@ -62,17 +82,23 @@ public class InstallResponse extends AbstractRaftResponse {
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
     protected int preferredChunkSize;
+    protected HashMap<String, Long> snapshotFileChecksums = new HashMap<>();
 
     @Override
     public InstallResponse build() {
       validate();
       checkArgument(preferredChunkSize >= 0, "preferred chunk size must be positive");
-      return new InstallResponse(status, error, preferredChunkSize);
+      return new InstallResponse(status, error, preferredChunkSize, snapshotFileChecksums);
     }
 
     public Builder withPreferredChunkSize(final int preferredChunkSize) {
       this.preferredChunkSize = preferredChunkSize;
       return this;
     }
+
+    public Builder withSnapshotFileChecksums(final Map<String, Long> snapshotFileChecksums) {
+      this.snapshotFileChecksums = new HashMap<>(snapshotFileChecksums);
+      return this;
+    }
   }
 }
@@ -46,6 +46,7 @@ import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
@@ -64,11 +65,14 @@ import org.slf4j.Logger;
 final class LeaderAppender {
 
   private static final int MIN_BACKOFF_FAILURE_COUNT = 5;
+  private static final int RECORD_CACHE_CAPACITY = 1024;
+  private static final int RECORD_CACHE_BATCHES = 8;
 
   private final int maxBatchSizePerAppend;
   private final Logger log;
   private final RaftContext raft;
   private boolean open = true;
+  private boolean groupCommitScheduled;
 
   private final LeaderMetrics metrics;
   private final long leaderTime;
@@ -79,6 +83,7 @@ final class LeaderAppender {
   private final long heartbeatTime;
   private final int minStepDownFailureCount;
   private final long maxQuorumResponseTimeout;
+  private final ReplicatableRecordCache recordCache;
 
   LeaderAppender(final LeaderRole leader) {
     raft = checkNotNull(leader.raft, "context cannot be null");
@@ -87,6 +92,9 @@ final class LeaderAppender {
             getClass(), LoggerContext.builder(RaftServer.class).addValue(raft.getName()).build());
     metrics = new LeaderMetrics(raft.getName(), raft.getMeterRegistry());
     maxBatchSizePerAppend = raft.getMaxAppendBatchSize();
+    recordCache =
+        new ReplicatableRecordCache(
+            RECORD_CACHE_CAPACITY, (long) RECORD_CACHE_BATCHES * maxBatchSizePerAppend);
     leaderTime = System.currentTimeMillis();
     leaderIndex =
         raft.getLog().isEmpty() ? raft.getLog().getFirstIndex() : raft.getLog().getLastIndex() + 1;
@@ -183,9 +191,10 @@ final class LeaderAppender {
 
     // Iterate through the log until the last index or the end of the log is reached.
     while (hasMoreEntries(member)) {
-      // Otherwise, read the next entry and add it to the batch.
+      // Otherwise, read the next entry and add it to the batch. The record is shared with the
+      // requests to other followers, so its bytes are only copied out of the log once.
       final IndexedRaftLogEntry entry = member.nextEntry();
-      final var replicatableRecord = entry.getReplicatableJournalRecord();
+      final var replicatableRecord = recordCache.get(entry);
       entries.add(replicatableRecord);
       size += replicatableRecord.approximateSize();
       if (entry.index() == lastIndex || size >= maxBatchSizePerAppend) {
@@ -506,6 +515,10 @@ final class LeaderAppender {
     if (response.preferredChunkSize() > 0) {
       member.getSnapshotChunkReader().setMaximumChunkSize(response.preferredChunkSize());
     }
+    // the member tells us with the first response which files it already has
+    if (!response.snapshotFileChecksums().isEmpty()) {
+      member.getSnapshotChunkReader().setReceiverFiles(response.snapshotFileChecksums());
+    }
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
     if (request.complete()) {
@@ -561,6 +574,10 @@ final class LeaderAppender {
     // commit.
     // The updated commit index will be sent to passive/reserve members on heartbeats.
     if (raft.getCluster().isSingleMemberCluster()) {
+      if (raft.getLog().commitsInGroups()) {
+        return appendGroupCommitted(index);
+      }
+
       try {
         raft.setCommitIndex(index);
         completeCommits(index);
@@ -586,6 +603,21 @@ final class LeaderAppender {
         });
   }
 
+  /**
+   * Registers a commit handler for the given index, which is completed by the next group commit.
+   * Used when there are no other members in the cluster and the log commits in groups.
+   */
+  private CompletableFuture<Long> appendGroupCommitted(final long index) {
+    if (!open) {
+      return CompletableFuture.failedFuture(
+          new NoLeader("Cannot replicate entries on closed leader"));
+    }
+
+    final var future = appendFutures.computeIfAbsent(index, i -> new CompletableFuture<>());
+    scheduleGroupCommit();
+    return future;
+  }
+
   /**
    * Triggers a heartbeat to a majority of the cluster.
    *
@@ -864,6 +896,7 @@ final class LeaderAppender {
 
   public void close() {
     open = false;
+    recordCache.clear();
     completeCommits(raft.getCommitIndex());
     appendFutures
         .values()
@@ -1010,6 +1043,48 @@ final class LeaderAppender {
   private void commitEntries() {
     raft.checkThread();
 
+    if (raft.getLog().commitsInGroups()) {
+      scheduleGroupCommit();
+    } else {
+      commitQuorumEntries();
+    }
+  }
+
+  /**
+   * Schedules a commit of all entries which are replicated by then, unless one is already
+   * scheduled. The commit is delayed by what the log flusher suggests, so that entries appended in
+   * the meantime are committed by the same flush.
+   */
+  private void scheduleGroupCommit() {
+    if (groupCommitScheduled) {
+      return;
+    }
+
+    groupCommitScheduled = true;
+    final Duration delay = raft.getLog().nextGroupCommitDelay();
+    if (delay.isZero()) {
+      raft.getThreadContext().execute(this::runGroupCommit);
+    } else {
+      raft.getThreadContext().schedule(delay, this::runGroupCommit);
+    }
+  }
+
+  private void runGroupCommit() {
+    groupCommitScheduled = false;
+    if (!open) {
+      return;
+    }
+
+    try {
+      commitQuorumEntries();
+    } catch (final CommitFailedException e) {
+      log.debug("Failed to commit group of entries", e);
+      appendFutures.values().forEach(future -> future.completeExceptionally(e));
+      appendFutures.clear();
+    }
+  }
+
+  private void commitQuorumEntries() {
     final long commitIndex =
         raft.getCluster()
             .getQuorumFor(RaftMemberContext::getMatchIndex)
@@ -60,7 +60,9 @@ import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -266,12 +268,22 @@ public class PassiveRole extends InactiveRole {
       previouslyReceivedSnapshotChunkId = request.chunkId();
     }
 
-    return CompletableFuture.completedFuture(
-        logResponse(
-            InstallResponse.builder()
-                .withStatus(RaftResponse.Status.OK)
-                .withPreferredChunkSize(snapshotChunkSize)
-                .build()));
+    final var response =
+        InstallResponse.builder()
+            .withStatus(RaftResponse.Status.OK)
+            .withPreferredChunkSize(snapshotChunkSize);
+    if (request.isInitial() && !request.complete()) {
+      // let the leader know which files we already have, so it does not have to send them again
+      response.withSnapshotFileChecksums(getLatestSnapshotFileChecksums());
+    }
+    return CompletableFuture.completedFuture(logResponse(response.build()));
+  }
+
+  private Map<String, Long> getLatestSnapshotFileChecksums() {
+    return raft.getPersistedSnapshotStore()
+        .getLatestSnapshot()
+        .map(snapshot -> snapshot.getChecksums().getChecksums())
+        .orElse(Collections.emptySortedMap());
   }
 
   @Override
@@ -0,0 +1,99 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.roles;
+
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.storage.log.IndexedRaftLogEntry;
+import java.util.Arrays;
+import org.agrona.BitUtil;
+
+/**
+ * Caches the most recently replicated records of the leader, so that the serialized bytes of an
+ * entry are copied out of the log once, no matter to how many followers the entry is sent. The
+ * records of the leader's log cannot change while it is leader, so a cached record can be shared by
+ * all append requests which contain it.
+ *
+ * <p>The cache holds a contiguous range of indexes, bounded by a number of records and a number of
+ * bytes. Followers which are up-to-date read the same, most recent entries and extend the range;
+ * followers which lag behind read entries before the range, which are not cached so as to not evict
+ * the entries the other followers are about to read.
+ *
+ * <p>NOTE: this class is not thread safe, and is expected to be used from the Raft thread.
+ */
+final class ReplicatableRecordCache {
+
+  private final ReplicatableJournalRecord[] records;
+  private final int mask;
+  private final long maxSizeInBytes;
+
+  private long firstIndex;
+  private long lastIndex;
+  private int count;
+  private long sizeInBytes;
+
+  ReplicatableRecordCache(final int capacity, final long maxSizeInBytes) {
+    records = new ReplicatableJournalRecord[BitUtil.findNextPositivePowerOfTwo(capacity)];
+    mask = records.length - 1;
+    this.maxSizeInBytes = maxSizeInBytes;
+  }
+
+  /**
+   * Returns the replicatable record of the given entry, copying it out of the log only if it is not
+   * cached yet.
+   *
+   * @param entry the entry to replicate
+   * @return the record of the entry, which may be shared with other append requests
+   */
+  ReplicatableJournalRecord get(final IndexedRaftLogEntry entry) {
+    final long index = entry.index();
+    if (count > 0 && index >= firstIndex && index <= lastIndex) {
+      return records[(int) (index & mask)];
+    }
+
+    final var record = entry.getReplicatableJournalRecord();
+    if (count > 0 && index > lastIndex + 1) {
+      clear();
+    }
+
+    if (count == 0 || index == lastIndex + 1) {
+      add(record);
+    }
+
+    return record;
+  }
+
+  void clear() {
+    Arrays.fill(records, null);
+    count = 0;
+    sizeInBytes = 0;
+  }
+
+  private void add(final ReplicatableJournalRecord record) {
+    final int size = record.approximateSize();
+    while (count == records.length || (count > 0 && sizeInBytes + size > maxSizeInBytes)) {
+      evictFirst();
+    }
+
+    if (count == 0) {
+      firstIndex = record.index();
+    }
+
+    records[(int) (record.index() & mask)] = record;
+    lastIndex = record.index();
+    sizeInBytes += size;
+    count++;
+  }
+
+  private void evictFirst() {
+    final int slot = (int) (firstIndex & mask);
+    sizeInBytes -= records[slot].approximateSize();
+    records[slot] = null;
+    firstIndex++;
+    count--;
+  }
+}
@@ -25,6 +25,7 @@ import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.raft.storage.system.MetaStore;
 import io.atomix.utils.concurrent.ThreadContext;
 import io.atomix.utils.concurrent.ThreadContextFactory;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.camunda.zeebe.snapshots.PersistedSnapshotStore;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
 import io.camunda.zeebe.util.FileUtil;
@@ -64,6 +65,7 @@ public final class RaftStorage {
   private final long freeDiskSpace;
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final int journalIndexDensity;
+  private final RecordCompression recordCompression;
   private final boolean preallocateSegmentFiles;
   private final MeterRegistry meterRegistry;
   private final RaftLogFlusher.Factory flusherFactory;
@@ -77,6 +79,7 @@ public final class RaftStorage {
       final RaftLogFlusher.Factory flusherFactory,
       final ReceivableSnapshotStore persistedSnapshotStore,
       final int journalIndexDensity,
+      final RecordCompression recordCompression,
       final boolean preallocateSegmentFiles,
       final MeterRegistry meterRegistry) {
     this.prefix = prefix;
@@ -87,6 +90,7 @@ public final class RaftStorage {
     this.flusherFactory = flusherFactory;
     this.persistedSnapshotStore = persistedSnapshotStore;
     this.journalIndexDensity = journalIndexDensity;
+    this.recordCompression = recordCompression;
     this.preallocateSegmentFiles = preallocateSegmentFiles;
     this.meterRegistry = meterRegistry;
 
@@ -196,9 +200,10 @@ public final class RaftStorage {
         .withMaxSegmentSize(maxSegmentSize)
         .withFreeDiskSpace(freeDiskSpace)
         .withJournalIndexDensity(journalIndexDensity)
+        .withRecordCompression(recordCompression)
         .withPreallocateSegmentFiles(preallocateSegmentFiles)
         .withMetaStore(metaStore)
-        .withFlusher(flusherFactory.createFlusher(threadFactory))
+        .withFlusher(flusherFactory.createFlusher(threadFactory, meterRegistry))
         .build();
   }
 
@@ -264,6 +269,7 @@ public final class RaftStorage {
     private RaftLogFlusher.Factory flusherFactory = DEFAULT_FLUSHER_FACTORY;
     private ReceivableSnapshotStore persistedSnapshotStore;
     private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
+    private RecordCompression recordCompression = RecordCompression.NONE;
     private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
     private int partitionId = DEFAULT_PARTITION_ID;
     private final MeterRegistry meterRegistry;
@@ -359,6 +365,18 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets the compression applied to records written to the log. Compressed records are replicated
+     * as they are stored, so this also reduces the replication traffic.
+     *
+     * @param recordCompression the compression algorithm
+     * @return this builder for chaining
+     */
+    public Builder withRecordCompression(final RecordCompression recordCompression) {
+      this.recordCompression = checkNotNull(recordCompression, "recordCompression");
+      return this;
+    }
+
     /**
      * Sets whether segment files are pre-allocated at creation. If true, segment files are
      * pre-allocated to the maximum segment size (see {@link #withMaxSegmentSize(int)}}) at creation
@@ -399,6 +417,7 @@ public final class RaftStorage {
           flusherFactory,
           persistedSnapshotStore,
           journalIndexDensity,
+          recordCompression,
           preallocateSegmentFiles,
           meterRegistry);
     }
@@ -0,0 +1,141 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import io.atomix.raft.metrics.GroupCommitMetrics;
+import io.atomix.utils.concurrent.ThreadContextFactory;
+import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
+import io.camunda.zeebe.journal.Journal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * An implementation of {@link RaftLogFlusher} which flushes immediately, like the {@link
+ * DirectFlusher}, but lets the leader group the commit of concurrently appended entries into a
+ * single flush.
+ *
+ * <p>Every call to {@link #flush(Journal)} is synchronous, so any entry written before the call is
+ * on disk once it returns, and nothing is acknowledged before it is durable. In addition, the
+ * flusher observes how many entries each flush made durable and how long the flush took. Based on
+ * this, {@link #nextGroupCommitDelay(Journal)} tells the leader how long it may wait for more
+ * entries before committing:
+ *
+ * <ul>
+ *   <li>if the previous flush only covered a single entry, the load is low and the commit should
+ *       happen immediately, as waiting would only add latency;
+ *   <li>if at least as many entries as in the previous flush are already pending, the group is
+ *       complete and the commit should happen immediately;
+ *   <li>otherwise, the commit may be delayed by half of the average flush latency, but at most by
+ *       the configured maximum delay, to let more entries join the group.
+ * </ul>
+ *
+ * <p>NOTE: this class is not thread safe, and is expected to run from the same thread as the
+ * journal write path, e.g. the Raft thread.
+ */
+public final class GroupCommitFlusher implements RaftLogFlusher {
+
+  private static final double LATENCY_SMOOTHING_FACTOR = 0.2;
+
+  private final Duration maxDelay;
+  private final GroupCommitMetrics metrics;
+  private final LongSupplier nanoClock;
+
+  private long lastFlushedIndex;
+  private long lastBatchSize;
+  private double averageLatencyNanos = -1;
+
+  public GroupCommitFlusher(final Duration maxDelay, final MeterRegistry meterRegistry) {
+    this(maxDelay, meterRegistry, System::nanoTime);
+  }
+
+  GroupCommitFlusher(
+      final Duration maxDelay, final MeterRegistry meterRegistry, final LongSupplier nanoClock) {
+    this.maxDelay = Objects.requireNonNull(maxDelay, "must specify a maximum group commit delay");
+    metrics = new GroupCommitMetrics(meterRegistry);
+    this.nanoClock = Objects.requireNonNull(nanoClock, "must specify a clock");
+  }
+
+  /**
+   * Returns a factory which creates group commit flushers with the given maximum delay.
+   *
+   * @param maxDelay the maximum time the leader may wait for more entries before committing
+   * @return a factory for group commit flushers
+   */
+  public static Factory factory(final Duration maxDelay) {
+    return new Factory() {
+      @Override
+      public RaftLogFlusher createFlusher(final ThreadContextFactory threadFactory) {
+        return createFlusher(threadFactory, new SimpleMeterRegistry());
+      }
+
+      @Override
+      public RaftLogFlusher createFlusher(
+          final ThreadContextFactory threadFactory, final MeterRegistry meterRegistry) {
+        return new GroupCommitFlusher(maxDelay, meterRegistry);
+      }
+    };
+  }
+
+  @Override
+  public void flush(final Journal journal) throws FlushException {
+    final long lastIndex = journal.getLastIndex();
+    final long startTime = nanoClock.getAsLong();
+    journal.flush();
+    final long latencyNanos = nanoClock.getAsLong() - startTime;
+
+    lastBatchSize = Math.max(0, lastIndex - lastFlushedIndex);
+    lastFlushedIndex = lastIndex;
+    averageLatencyNanos =
+        averageLatencyNanos < 0
+            ? latencyNanos
+            : averageLatencyNanos + LATENCY_SMOOTHING_FACTOR * (latencyNanos - averageLatencyNanos);
+    metrics.observeFlush(lastBatchSize, latencyNanos);
+  }
+
+  @Override
+  public boolean isDirect() {
+    return true;
+  }
+
+  @Override
+  public boolean isGroupCommit() {
+    return true;
+  }
+
+  @Override
+  public Duration nextGroupCommitDelay(final Journal journal) {
+    if (maxDelay.isZero() || lastBatchSize <= 1 || averageLatencyNanos <= 0) {
+      return Duration.ZERO;
+    }
+
+    final long pendingEntries = journal.getLastIndex() - lastFlushedIndex;
+    if (pendingEntries >= lastBatchSize) {
+      return Duration.ZERO;
+    }
+
+    final long delayNanos = Math.min(maxDelay.toNanos(), (long) (averageLatencyNanos / 2));
+    return Duration.ofNanos(delayNanos);
+  }
+
+  @Override
+  public String toString() {
+    return "GroupCommitFlusher{"
+        + "maxDelay="
+        + maxDelay
+        + ", lastFlushedIndex="
+        + lastFlushedIndex
+        + ", lastBatchSize="
+        + lastBatchSize
+        + ", averageLatencyNanos="
+        + averageLatencyNanos
+        + '}';
+  }
+}
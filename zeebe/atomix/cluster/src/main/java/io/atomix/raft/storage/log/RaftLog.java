@@ -30,6 +30,7 @@ import io.camunda.zeebe.journal.JournalRecord;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.Closeable;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.SortedMap;
 import org.agrona.CloseHelper;
 import org.slf4j.Logger;
@@ -115,6 +116,22 @@ public final class RaftLog implements Closeable {
     return flusher.isDirect();
   }
 
+  /**
+   * Returns true if the leader may group the commit of concurrently appended entries. See {@link
+   * RaftLogFlusher#isGroupCommit()}.
+   */
+  public boolean commitsInGroups() {
+    return flusher.isGroupCommit();
+  }
+
+  /**
+   * Returns how long the leader may wait for more entries before committing the pending ones. See
+   * {@link RaftLogFlusher#nextGroupCommitDelay(Journal)}.
+   */
+  public Duration nextGroupCommitDelay() {
+    return flusher.nextGroupCommitDelay(journal);
+  }
+
   public long getFirstIndex() {
     return journal.getFirstIndex();
   }
@@ -21,6 +21,7 @@ import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.journal.JournalMetaStore;
 import io.camunda.zeebe.journal.file.SegmentedJournal;
 import io.camunda.zeebe.journal.file.SegmentedJournalBuilder;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
 
@@ -116,6 +117,18 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets the compression applied to records written to the journal. Records are always readable
+   * regardless of this setting, so it can be changed between restarts.
+   *
+   * @param compression the compression algorithm, defaults to {@link RecordCompression#NONE}
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withRecordCompression(final RecordCompression compression) {
+    journalBuilder.withRecordCompression(compression);
+    return this;
+  }
+
   /**
    * Sets whether segment files are pre-allocated at creation. If true, segment files are
    * pre-allocated to the maximum segment size (see {@link #withMaxSegmentSize(int)}}) at creation
@@ -11,6 +11,8 @@ import io.atomix.utils.concurrent.ThreadContextFactory;
 import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
 import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.util.CloseableSilently;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 
 /**
  * Configurable flush strategy for the {@link io.atomix.raft.storage.log.RaftLog}. You can use its
@@ -28,6 +30,9 @@ import io.camunda.zeebe.util.CloseableSilently;
  * you still wish a lower likelihood of corruption issues than with {@link NoopFlusher}. The
  * recommended configuration would be to find the smallest possible delay with which you achieve
  * your performance goals.
+ *
+ * <p>{@link GroupCommitFlusher} is as safe as {@link DirectFlusher}, but lets the leader group the
+ * commit of concurrently appended entries into a single flush. See its documentation for more.
  */
 @FunctionalInterface
 public interface RaftLogFlusher extends CloseableSilently {
@@ -49,6 +54,26 @@ public interface RaftLogFlusher extends CloseableSilently {
     return false;
   }
 
+  /**
+   * If this returns true, the leader may delay committing appended entries by {@link
+   * #nextGroupCommitDelay(Journal)}, such that entries appended in the meantime are made durable by
+   * the same flush. Implies {@link #isDirect()}.
+   */
+  default boolean isGroupCommit() {
+    return false;
+  }
+
+  /**
+   * Returns how long the leader may wait for more entries before committing the pending ones. Only
+   * used if {@link #isGroupCommit()} returns true.
+   *
+   * @param journal the journal which contains the pending entries
+   * @return the delay before the next commit, or {@link Duration#ZERO} to commit immediately
+   */
+  default Duration nextGroupCommitDelay(final Journal journal) {
+    return Duration.ZERO;
+  }
+
   @Override
   default void close() {}
 
@@ -103,6 +128,19 @@ public interface RaftLogFlusher extends CloseableSilently {
      */
     RaftLogFlusher createFlusher(final ThreadContextFactory threadFactory);
 
+    /**
+     * Creates a new {@link RaftLogFlusher} like {@link #createFlusher(ThreadContextFactory)}, which
+     * may additionally register its metrics with the given registry.
+     *
+     * @param threadFactory the thread context factory for asynchronous operations
+     * @param meterRegistry the registry of the partition the log belongs to
+     * @return a configured Flusher
+     */
+    default RaftLogFlusher createFlusher(
+        final ThreadContextFactory threadFactory, final MeterRegistry meterRegistry) {
+      return createFlusher(threadFactory);
+    }
+
     /** Preset factory method which returns a shared {@link DirectFlusher} instance. */
     static DirectFlusher direct(final ThreadContextFactory ignored) {
       return DIRECT;
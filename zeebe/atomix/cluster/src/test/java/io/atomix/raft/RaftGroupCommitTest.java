@@ -0,0 +1,85 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftRule.Configurator;
+import io.atomix.raft.RaftRule.TestAppendListener;
+import io.atomix.raft.RaftServer.Builder;
+import io.atomix.raft.storage.RaftStorage;
+import io.atomix.raft.storage.log.GroupCommitFlusher;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Objects;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class RaftGroupCommitTest {
+
+  @Rule @Parameter public RaftRule raftRule;
+
+  @Parameters(name = "{index}: {0}")
+  public static Object[][] raftConfigurations() {
+    return new Object[][] {
+      new Object[] {RaftRule.withBootstrappedNodes(1, new GroupCommitConfigurator())},
+      new Object[] {RaftRule.withBootstrappedNodes(3, new GroupCommitConfigurator())}
+    };
+  }
+
+  @Test
+  public void shouldCommitSequentialEntries() throws Throwable {
+    // when
+    final var lastIndex = raftRule.appendEntries(16);
+
+    // then
+    raftRule.awaitCommit(lastIndex);
+    raftRule.awaitSameLogSizeOnAllNodes(lastIndex);
+  }
+
+  @Test
+  public void shouldCommitConcurrentEntries() throws Throwable {
+    // given
+    final var listeners = new ArrayList<TestAppendListener>();
+
+    // when
+    for (int i = 0; i < 128; i++) {
+      listeners.add(raftRule.appendEntryAsync());
+    }
+
+    // then
+    long lastIndex = 0;
+    for (final var listener : listeners) {
+      final long commitIndex = listener.awaitCommit();
+      assertThat(commitIndex).isGreaterThan(lastIndex);
+      lastIndex = commitIndex;
+    }
+    raftRule.awaitSameLogSizeOnAllNodes(lastIndex);
+  }
+
+  private static final class GroupCommitConfigurator implements Configurator {
+
+    @Override
+    public void configure(final MemberId id, final Builder builder) {
+      final var storage = builder.storage;
+      Objects.requireNonNull(storage);
+      builder.withStorage(
+          RaftStorage.builder(builder.meterRegistry)
+              .withDirectory(storage.directory())
+              .withSnapshotStore(storage.getPersistedSnapshotStore())
+              .withFlusherFactory(GroupCommitFlusher.factory(Duration.ofMillis(1)))
+              .build());
+    }
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.roles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.storage.log.IndexedRaftLogEntry;
+import org.junit.jupiter.api.Test;
+
+final class ReplicatableRecordCacheTest {
+
+  private final ReplicatableRecordCache cache = new ReplicatableRecordCache(4, 1024);
+
+  @Test
+  void shouldCopyRecordOnlyOnce() {
+    // given
+    final var entry = entry(1, 16);
+
+    // when
+    final var first = cache.get(entry);
+    final var second = cache.get(entry);
+
+    // then
+    assertThat(second).isSameAs(first);
+    verify(entry, times(1)).getReplicatableJournalRecord();
+  }
+
+  @Test
+  void shouldEvictOldestRecordWhenFull() {
+    // given
+    final var oldest = entry(1, 16);
+    cache.get(oldest);
+    for (int index = 2; index <= 5; index++) {
+      cache.get(entry(index, 16));
+    }
+
+    // when
+    cache.get(oldest);
+
+    // then
+    verify(oldest, times(2)).getReplicatableJournalRecord();
+  }
+
+  @Test
+  void shouldEvictOldestRecordWhenExceedingSizeLimit() {
+    // given
+    final var oldest = entry(1, 500);
+    final var newest = entry(2, 500);
+    cache.get(oldest);
+    cache.get(newest);
+
+    // when
+    cache.get(oldest);
+    cache.get(newest);
+
+    // then
+    verify(oldest, times(2)).getReplicatableJournalRecord();
+    verify(newest, times(1)).getReplicatableJournalRecord();
+  }
+
+  @Test
+  void shouldNotEvictRecentRecordsForLaggingReader() {
+    // given
+    final var recent = entry(10, 16);
+    cache.get(recent);
+
+    // when
+    cache.get(entry(3, 16));
+    cache.get(recent);
+
+    // then
+    verify(recent, times(1)).getReplicatableJournalRecord();
+  }
+
+  @Test
+  void shouldRestartRangeAfterGap() {
+    // given
+    final var old = entry(1, 16);
+    final var next = entry(10, 16);
+    cache.get(old);
+
+    // when
+    cache.get(next);
+    cache.get(next);
+    cache.get(old);
+
+    // then
+    verify(next, times(1)).getReplicatableJournalRecord();
+    verify(old, times(2)).getReplicatableJournalRecord();
+  }
+
+  @Test
+  void shouldNotReturnRecordsAfterClear() {
+    // given
+    final var entry = entry(1, 16);
+    cache.get(entry);
+
+    // when
+    cache.clear();
+    cache.get(entry);
+
+    // then
+    verify(entry, times(2)).getReplicatableJournalRecord();
+  }
+
+  private IndexedRaftLogEntry entry(final long index, final int size) {
+    final var entry = mock(IndexedRaftLogEntry.class);
+    when(entry.index()).thenReturn(index);
+    when(entry.getReplicatableJournalRecord())
+        .thenAnswer(ignored -> new ReplicatableJournalRecord(1, index, 0, new byte[size]));
+    return entry;
+  }
+}
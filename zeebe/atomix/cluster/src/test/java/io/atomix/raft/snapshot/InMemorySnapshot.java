@@ -30,6 +30,7 @@ import io.camunda.zeebe.util.StringUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
@@ -131,6 +132,9 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
       @Override
       public void setMaximumChunkSize(final int maximumChunkSize) {}
 
+      @Override
+      public void setReceiverFiles(final Map<String, Long> fileChecksums) {}
+
       @Override
       public void close() {
         iterator = null;
@@ -0,0 +1,134 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.journal.CheckedJournalException;
+import io.camunda.zeebe.journal.Journal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+final class GroupCommitFlusherTest {
+  private final AtomicLong nanoClock = new AtomicLong();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final Journal journal = Mockito.mock(Journal.class);
+  private final GroupCommitFlusher flusher =
+      new GroupCommitFlusher(Duration.ofMillis(5), meterRegistry, nanoClock::get);
+
+  @Test
+  void shouldFlushImmediately() throws CheckedJournalException {
+    // when
+    flusher.flush(journal);
+
+    // then
+    Mockito.verify(journal, Mockito.times(1)).flush();
+    assertThat(flusher.isDirect()).isTrue();
+    assertThat(flusher.isGroupCommit()).isTrue();
+  }
+
+  @Test
+  void shouldCommitImmediatelyIfLastFlushCoveredSingleEntry() throws CheckedJournalException {
+    // given
+    flushEntries(1, Duration.ofMillis(2));
+    Mockito.when(journal.getLastIndex()).thenReturn(2L);
+
+    // when
+    final var delay = flusher.nextGroupCommitDelay(journal);
+
+    // then
+    assertThat(delay).isZero();
+  }
+
+  @Test
+  void shouldDelayCommitByHalfTheFlushLatency() throws CheckedJournalException {
+    // given
+    flushEntries(10, Duration.ofMillis(2));
+    Mockito.when(journal.getLastIndex()).thenReturn(12L);
+
+    // when
+    final var delay = flusher.nextGroupCommitDelay(journal);
+
+    // then
+    assertThat(delay).isEqualTo(Duration.ofMillis(1));
+  }
+
+  @Test
+  void shouldNotDelayCommitLongerThanMaxDelay() throws CheckedJournalException {
+    // given
+    flushEntries(10, Duration.ofMillis(20));
+    Mockito.when(journal.getLastIndex()).thenReturn(12L);
+
+    // when
+    final var delay = flusher.nextGroupCommitDelay(journal);
+
+    // then
+    assertThat(delay).isEqualTo(Duration.ofMillis(5));
+  }
+
+  @Test
+  void shouldCommitImmediatelyIfGroupIsComplete() throws CheckedJournalException {
+    // given
+    flushEntries(10, Duration.ofMillis(2));
+    Mockito.when(journal.getLastIndex()).thenReturn(20L);
+
+    // when
+    final var delay = flusher.nextGroupCommitDelay(journal);
+
+    // then
+    assertThat(delay).isZero();
+  }
+
+  @Test
+  void shouldCommitImmediatelyWithoutMaxDelay() throws CheckedJournalException {
+    // given
+    final var flusher = new GroupCommitFlusher(Duration.ZERO, meterRegistry, nanoClock::get);
+    Mockito.when(journal.getLastIndex()).thenReturn(10L);
+    flusher.flush(journal);
+    Mockito.when(journal.getLastIndex()).thenReturn(12L);
+
+    // when
+    final var delay = flusher.nextGroupCommitDelay(journal);
+
+    // then
+    assertThat(delay).isZero();
+  }
+
+  @Test
+  void shouldRecordBatchSizeAndLatencyOfFlushes() throws CheckedJournalException {
+    // when
+    flushEntries(10, Duration.ofMillis(2));
+    flushEntries(4, Duration.ofMillis(4));
+
+    // then
+    final var batchSize = meterRegistry.get("atomix.log.flush.batch.size").summary();
+    assertThat(batchSize.count()).isEqualTo(2);
+    assertThat(batchSize.totalAmount()).isEqualTo(14);
+    final var latency = meterRegistry.get("atomix.log.flush.latency").timer();
+    assertThat(latency.count()).isEqualTo(2);
+    assertThat(latency.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(6);
+  }
+
+  private void flushEntries(final long count, final Duration latency)
+      throws CheckedJournalException {
+    final long lastIndex = journal.getLastIndex() + count;
+    Mockito.when(journal.getLastIndex()).thenReturn(lastIndex);
+    Mockito.doAnswer(
+            invocation -> {
+              nanoClock.addAndGet(latency.toNanos());
+              return null;
+            })
+        .when(journal)
+        .flush();
+    flusher.flush(journal);
+  }
+}
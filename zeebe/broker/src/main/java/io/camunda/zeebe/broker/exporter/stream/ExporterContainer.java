@@ -11,12 +11,15 @@ import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.exporter.context.ExporterContext;
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirector.ExporterInitializationInfo;
+import io.camunda.zeebe.exporter.api.BatchExporter;
 import io.camunda.zeebe.exporter.api.Exporter;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.exporter.api.context.ScheduledTask;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -24,6 +27,9 @@ import io.camunda.zeebe.util.jar.ThreadContextUtil;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
@@ -38,6 +44,10 @@ final class ExporterContainer implements Controller {
 
   private final ExporterContext context;
   private final Exporter exporter;
+  private final BatchExporter batchExporter;
+  private final List<Record<?>> acceptedRecords = new ArrayList<>();
+  private final List<Record<?>> acceptedRecordsView = Collections.unmodifiableList(acceptedRecords);
+  private int batchProgress;
   private long position;
   private boolean exporterIsSoftPaused = false;
   private long lastUnacknowledgedPosition;
@@ -64,6 +74,7 @@ final class ExporterContainer implements Controller {
             clock);
 
     exporter = descriptor.newInstance();
+    batchExporter = exporter instanceof final BatchExporter e ? e : null;
   }
 
   void initContainer(
@@ -203,10 +214,9 @@ final class ExporterContainer implements Controller {
     return context.getConfiguration().getId();
   }
 
-  private boolean acceptRecord(final RecordMetadata metadata) {
+  private boolean acceptRecord(final RecordType recordType, final ValueType valueType) {
     final Context.RecordFilter filter = context.getFilter();
-    return filter.acceptType(metadata.getRecordType())
-        && filter.acceptValue(metadata.getValueType());
+    return filter.acceptType(recordType) && filter.acceptValue(valueType);
   }
 
   void configureExporter() throws Exception {
@@ -216,9 +226,90 @@ final class ExporterContainer implements Controller {
   }
 
   boolean exportRecord(final RecordMetadata rawMetadata, final TypedRecord typedEvent) {
+    return exportRecord(rawMetadata.getRecordType(), rawMetadata.getValueType(), typedEvent);
+  }
+
+  /** Starts a new batch, such that the next call to {@link #exportBatch(List)} starts over. */
+  void startBatch() {
+    batchProgress = 0;
+  }
+
+  /**
+   * Exports the given batch of records. A {@link BatchExporter} receives all accepted records at
+   * once, any other exporter receives them one by one. Records which were already exported
+   * successfully are not exported again when the batch is retried, until {@link #startBatch()} is
+   * called.
+   *
+   * @param records the records of the batch, ordered by position
+   * @return true if the whole batch was exported, false if it needs to be retried
+   */
+  boolean exportBatch(final List<? extends TypedRecord> records) {
+    if (batchExporter != null) {
+      return exportBatchAtOnce(records);
+    }
+
+    while (batchProgress < records.size()) {
+      final var record = records.get(batchProgress);
+      try (final var timer = metrics.startExporterExportingTimer(record.getValueType(), getId())) {
+        if (!exportRecord(record.getRecordType(), record.getValueType(), record)) {
+          return false;
+        }
+      }
+      batchProgress++;
+    }
+
+    return true;
+  }
+
+  private boolean exportBatchAtOnce(final List<? extends TypedRecord> records) {
+    if (batchProgress == records.size()) {
+      return true;
+    }
+
+    acceptedRecords.clear();
+    try {
+      for (final var record : records) {
+        if (position < record.getPosition()) {
+          if (acceptRecord(record.getRecordType(), record.getValueType())) {
+            acceptedRecords.add(record);
+          } else if (acceptedRecords.isEmpty()) {
+            // records after an accepted one can't be skipped, as they are not acknowledged yet
+            updatePositionOnSkipIfUpToDate(record.getPosition());
+          }
+        }
+      }
+
+      // the exporting duration is tracked per value type, which a batch doesn't have, so it is
+      // only tracked for exporters which export the records one by one
+      if (!acceptedRecords.isEmpty()) {
+        ThreadContextUtil.runWithClassLoader(
+            () -> batchExporter.exportBatch(acceptedRecordsView),
+            exporter.getClass().getClassLoader());
+        lastUnacknowledgedPosition = acceptedRecords.get(acceptedRecords.size() - 1).getPosition();
+      }
+
+      batchProgress = records.size();
+      return true;
+    } catch (final Exception ex) {
+      context
+          .getLogger()
+          .warn(
+              "Error on exporting batch of {} records, from position {} to {}",
+              acceptedRecords.size(),
+              records.get(0).getPosition(),
+              records.get(records.size() - 1).getPosition(),
+              ex);
+      return false;
+    } finally {
+      acceptedRecords.clear();
+    }
+  }
+
+  private boolean exportRecord(
+      final RecordType recordType, final ValueType valueType, final TypedRecord typedEvent) {
     try {
       if (position < typedEvent.getPosition()) {
-        if (acceptRecord(rawMetadata)) {
+        if (acceptRecord(recordType, valueType)) {
           export(typedEvent);
         } else {
           updatePositionOnSkipIfUpToDate(typedEvent.getPosition());
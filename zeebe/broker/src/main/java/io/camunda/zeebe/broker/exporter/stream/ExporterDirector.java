@@ -53,7 +53,7 @@ import org.slf4j.Logger;
 public final class ExporterDirector extends Actor implements HealthMonitorable, LogRecordAwaiter {
 
   private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
-      "Expected to export record '{}' successfully, but exception was thrown.";
+      "Expected to export records up to position '{}' successfully, but exception was thrown.";
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final String EXPORTER_STATE_TOPIC_FORMAT = "exporterState-%d";
@@ -70,6 +70,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private final String name;
   private final RetryStrategy exportingRetryStrategy;
   private final RetryStrategy recordWrapStrategy;
+  private final RecordMetadata skippedRecordMetadata = new RecordMetadata();
+  private final int maxBatchSize;
   private final Set<FailureListener> listeners = new HashSet<>();
   private LogStreamReader logStreamReader;
   private EventFilter eventFilter;
@@ -124,6 +126,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterMode = context.getExporterMode();
     distributionInterval = context.getDistributionInterval();
     positionsToSkipFilter = context.getPositionsToSkipFilter();
+    maxBatchSize = context.getMaxBatchSize();
 
     // needs name to be initialized
     healthReport = HealthReport.healthy(this);
@@ -235,9 +238,6 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     container.close();
     containers.remove(container);
     state.removeExporterState(exporterId);
-    // After removing this exporter, the exporter index has changed. Reset it so that we don't
-    // miss to export the record to any of the exporters whose index has changed.
-    recordExporter.resetExporterIndex();
     LOG.debug("Exporter '{}' is removed.", exporterId);
 
     if (containers.isEmpty()) {
@@ -599,31 +599,52 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void skipRecord(final LoggedEvent currentEvent) {
-    final RecordMetadata metadata = new RecordMetadata();
-    final long eventPosition = currentEvent.getPosition();
-
-    currentEvent.readMetadata(metadata);
-    metrics.eventSkipped(metadata.getValueType());
+    currentEvent.readMetadata(skippedRecordMetadata);
+    metrics.eventSkipped(skippedRecordMetadata.getValueType());
+  }
 
+  private void updatePositionsOnSkip(final long skippedPosition) {
     // increase position of all up to date exporters - an up to date exporter is one which has
     // acknowledged the last record we passed to it
     for (final ExporterContainer container : containers) {
-      container.updatePositionOnSkipIfUpToDate(eventPosition);
+      container.updatePositionOnSkipIfUpToDate(skippedPosition);
     }
-
-    actor.submit(this::readNextEvent);
   }
 
   private void readNextEvent() {
-    if (shouldExport()) {
+    if (!shouldExport()) {
+      return;
+    }
+
+    recordExporter.reset();
+    long lastSkippedPosition = -1L;
+    int readLength = 0;
+
+    // reads events until the batch is full; skipped events count as well, to bound the time spent
+    // in a single actor job
+    while (readLength < maxBatchSize && logStreamReader.hasNext()) {
       final LoggedEvent currentEvent = logStreamReader.next();
+      readLength += currentEvent.getLength();
+
       if (eventFilter == null || eventFilter.applies(currentEvent)) {
-        inExportingPhase = true;
-        exportEvent(currentEvent);
+        recordExporter.add(currentEvent);
       } else {
         skipRecord(currentEvent);
+        if (recordExporter.isEmpty()) {
+          updatePositionsOnSkip(currentEvent.getPosition());
+        } else {
+          // the exporters can only skip it once the preceding records are exported
+          lastSkippedPosition = currentEvent.getPosition();
+        }
       }
     }
+
+    if (recordExporter.isEmpty()) {
+      actor.submit(this::readNextEvent);
+    } else {
+      inExportingPhase = true;
+      exportBatch(lastSkippedPosition);
+    }
   }
 
   private boolean shouldExport() {
@@ -634,11 +655,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         && !exporterPhase.equals(ExporterPhase.PAUSED);
   }
 
-  private void exportEvent(final LoggedEvent event) {
+  private void exportBatch(final long lastSkippedPosition) {
     final ActorFuture<Boolean> wrapRetryFuture =
         recordWrapStrategy.runWithRetry(
             () -> {
-              recordExporter.wrap(event);
+              recordExporter.wrap();
               return true;
             },
             this::isClosed);
@@ -655,13 +676,17 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
               retryFuture,
               (bool, throwable) -> {
                 if (throwable != null) {
-                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
+                  LOG.error(
+                      ERROR_MESSAGE_EXPORTING_ABORTED, recordExporter.getLastPosition(), throwable);
                   onFailure();
                 } else {
-                  logStream
-                      .getFlowControl()
-                      .onExported(recordExporter.getTypedEvent().getPosition());
-                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
+                  logStream.getFlowControl().onExported(recordExporter.getLastPosition());
+                  for (final var record : recordExporter.getRecords()) {
+                    metrics.eventExported(record.getValueType());
+                  }
+                  if (lastSkippedPosition > -1L) {
+                    updatePositionsOnSkip(lastSkippedPosition);
+                  }
                   inExportingPhase = false;
                   actor.submit(this::readNextEvent);
                 }
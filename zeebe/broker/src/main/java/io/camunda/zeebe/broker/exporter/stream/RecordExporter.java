@@ -7,91 +7,162 @@
  */
 package io.camunda.zeebe.broker.exporter.stream;
 
+import static io.camunda.zeebe.stream.impl.TypedEventRegistry.EVENT_REGISTRY;
+
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.ValueType;
-import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
+import io.camunda.zeebe.util.ReflectUtil;
 import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
-
+import java.util.Map;
+import org.agrona.ExpandableArrayBuffer;
+
+/**
+ * Collects a batch of events read from the log and exports them to all exporters. The events are
+ * copied into a single buffer, as the reader may reuse its buffers on the next read, and each event
+ * is wrapped into its own {@link TypedRecordImpl} so that the whole batch can be handed to the
+ * exporters at once.
+ */
 final class RecordExporter {
 
-  private final RecordValues recordValues = new RecordValues();
-  private final RecordMetadata rawMetadata = new RecordMetadata();
+  private final ExpandableArrayBuffer batchBuffer = new ExpandableArrayBuffer(64 * 1024);
+  private final List<BatchedRecord> batchedRecords = new ArrayList<>();
+  private final List<TypedRecordImpl> records = new ArrayList<>();
   private final List<ExporterContainer> containers;
-  private final TypedRecordImpl typedEvent;
   private final ExporterMetrics exporterMetrics;
-
-  private boolean shouldExport;
-  private int exporterIndex;
+  private final int partitionId;
   private final InstantSource clock;
 
+  private int batchSize;
+  private int batchLength;
+  private long lastPosition = -1L;
+
   RecordExporter(
       final ExporterMetrics exporterMetrics,
       final List<ExporterContainer> containers,
       final int partitionId,
       final InstantSource clock) {
     this.containers = containers;
-    typedEvent = new TypedRecordImpl(partitionId);
     this.exporterMetrics = exporterMetrics;
+    this.partitionId = partitionId;
     this.clock = clock;
   }
 
-  void wrap(final LoggedEvent rawEvent) {
-    rawEvent.readMetadata(rawMetadata);
+  /** Starts a new, empty batch. Any records of the previous batch must not be used afterwards. */
+  void reset() {
+    batchSize = 0;
+    batchLength = 0;
+    lastPosition = -1L;
+    records.clear();
+    containers.forEach(ExporterContainer::startBatch);
+  }
+
+  void add(final LoggedEvent event) {
+    final int length = event.getLength();
+    event.write(batchBuffer, batchLength);
 
-    final UnifiedRecordValue recordValue =
-        recordValues.readRecordValue(rawEvent, rawMetadata.getValueType());
+    if (batchSize == batchedRecords.size()) {
+      batchedRecords.add(new BatchedRecord(partitionId));
+    }
+    batchedRecords.get(batchSize).event.wrap(batchBuffer, batchLength);
+
+    batchSize++;
+    batchLength += length;
+    lastPosition = event.getPosition();
+  }
 
-    shouldExport = recordValue != null;
-    if (shouldExport) {
-      typedEvent.wrap(rawEvent, rawMetadata, recordValue);
-      exporterIndex = 0;
+  /**
+   * Reads the metadata and the values of all events in the batch. Events for which no value type
+   * is registered are not exported. Can be called again if it failed before.
+   */
+  void wrap() {
+    records.clear();
+
+    for (int i = 0; i < batchSize; i++) {
+      final var batchedRecord = batchedRecords.get(i);
+      if (batchedRecord.wrap()) {
+        records.add(batchedRecord.record);
+      }
     }
   }
 
   boolean export() {
-    if (!shouldExport) {
+    if (records.isEmpty()) {
       return true;
     }
 
-    final ValueType valueType = typedEvent.getValueType();
     // exporting latency tracks time
     // from record written to exporting of record started
     final long currentMillis = clock.millis();
     // we track this here already, even if it is not successful as otherwise
     // we might get no metric at all when exporting is not possible
     // this allows us to observe that exporting latency is increasing
-    exporterMetrics.exportingLatency(valueType, typedEvent.getTimestamp(), currentMillis);
-
-    final int exportersCount = containers.size();
-
-    // current error handling strategy is simply to repeat forever until the record can be
-    // successfully exported.
-    while (exporterIndex < exportersCount) {
-      final ExporterContainer container = containers.get(exporterIndex);
-
-      try (final var timer =
-          exporterMetrics.startExporterExportingTimer(valueType, container.getId())) {
-        if (container.exportRecord(rawMetadata, typedEvent)) {
-          exporterIndex++;
-          exporterMetrics.setLastExportedPosition(container.getId(), typedEvent.getPosition());
-        } else {
-          return false;
-        }
+    for (final var record : records) {
+      exporterMetrics.exportingLatency(record.getValueType(), record.getTimestamp(), currentMillis);
+    }
+
+    final long lastRecordPosition = records.get(records.size() - 1).getPosition();
+
+    // current error handling strategy is simply to repeat forever until the batch can be
+    // successfully exported; every container keeps track of how far it got within the batch, so
+    // a retry continues where it failed
+    for (final ExporterContainer container : containers) {
+      if (!container.exportBatch(records)) {
+        return false;
       }
+      exporterMetrics.setLastExportedPosition(container.getId(), lastRecordPosition);
     }
 
     return true;
   }
 
-  TypedRecordImpl getTypedEvent() {
-    return typedEvent;
+  List<TypedRecordImpl> getRecords() {
+    return records;
   }
 
-  public void resetExporterIndex() {
-    exporterIndex = 0;
+  boolean isEmpty() {
+    return batchSize == 0;
+  }
+
+  int getBatchLength() {
+    return batchLength;
+  }
+
+  long getLastPosition() {
+    return lastPosition;
+  }
+
+  private static final class BatchedRecord {
+    private final LoggedEventImpl event = new LoggedEventImpl();
+    private final RecordMetadata metadata = new RecordMetadata();
+    private final Map<ValueType, UnifiedRecordValue> values = new EnumMap<>(ValueType.class);
+    private final TypedRecordImpl record;
+
+    private BatchedRecord(final int partitionId) {
+      record = new TypedRecordImpl(partitionId);
+    }
+
+    private boolean wrap() {
+      event.readMetadata(metadata);
+
+      final var valueType = metadata.getValueType();
+      final var valueClass = EVENT_REGISTRY.get(valueType);
+      if (valueClass == null) {
+        return false;
+      }
+
+      final var value =
+          values.computeIfAbsent(valueType, type -> ReflectUtil.newInstance(valueClass));
+      value.reset();
+      event.readValue(value);
+      record.wrap(event, metadata, value);
+      return true;
+    }
   }
 }
@@ -12,6 +12,7 @@ import io.atomix.raft.partition.RaftPartition;
 import io.atomix.raft.partition.RaftPartitionConfig;
 import io.atomix.raft.partition.RaftStorageConfig;
 import io.atomix.raft.storage.log.DelayedFlusher;
+import io.atomix.raft.storage.log.GroupCommitFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.raft.ZeebeEntryValidator;
@@ -81,6 +82,7 @@ public final class RaftPartitionFactory {
     storageConfig.setFreeDiskSpace(
         brokerCfg.getData().getDisk().getFreeSpace().getReplication().toBytes());
     storageConfig.setJournalIndexDensity(brokerCfg.getData().getLogIndexDensity());
+    storageConfig.setRecordCompression(brokerCfg.getData().getLogCompression());
     storageConfig.setPreallocateSegmentFiles(
         brokerCfg.getExperimental().getRaft().isPreallocateSegmentFiles());
 
@@ -116,7 +118,7 @@ public final class RaftPartitionFactory {
       final FlushConfig config, final ExperimentalCfg experimental) {
     // for backwards compatibility; remove this and flatten when this is removed
     if (experimental.isDisableExplicitRaftFlush()) {
-      return createFlusherFactory(new FlushConfig(false, Duration.ZERO));
+      return createFlusherFactory(new FlushConfig(false, Duration.ZERO, false, null));
     }
 
     return createFlusherFactory(config);
@@ -126,7 +128,16 @@ public final class RaftPartitionFactory {
     if (config.enabled()) {
       final Duration delayTime = config.delayTime();
       if (delayTime.isZero()) {
-        return RaftLogFlusher.Factory::direct;
+        return config.groupCommit()
+            ? GroupCommitFlusher.factory(config.maxGroupCommitDelay())
+            : RaftLogFlusher.Factory::direct;
+      }
+
+      if (config.groupCommit()) {
+        Loggers.RAFT.warn(
+            "Raft group commit is enabled together with a flush delay of {}; group commit is only"
+                + " applied without a delay, and will be ignored",
+            delayTime);
       }
 
       return threadFactory -> new DelayedFlusher(threadFactory.createContext(), delayTime);
@@ -53,6 +53,8 @@ import io.camunda.zeebe.dynamic.config.state.DynamicPartitionConfig;
 import io.camunda.zeebe.engine.processing.EngineProcessors;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
+import io.camunda.zeebe.engine.state.deployment.ExecutableProcessCache;
+import io.camunda.zeebe.engine.state.deployment.ParsedDrgCache;
 import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
@@ -107,6 +109,8 @@ public final class ZeebePartitionFactory {
   private final FeatureFlags featureFlags;
   private final List<PartitionRaftListener> partitionRaftListeners;
   private final SecurityConfiguration securityConfig;
+  private final ExecutableProcessCache executableProcessCache;
+  private final ParsedDrgCache parsedDrgCache;
 
   public ZeebePartitionFactory(
       final ActorSchedulingService actorSchedulingService,
@@ -137,6 +141,17 @@ public final class ZeebePartitionFactory {
     this.topologyManager = topologyManager;
     this.featureFlags = featureFlags;
     this.securityConfig = securityConfig;
+    executableProcessCache =
+        new ExecutableProcessCache(
+            brokerCfg
+                .getExperimental()
+                .getEngine()
+                .getCaches()
+                .getExecutableProcessCacheSize()
+                .toBytes());
+    parsedDrgCache =
+        new ParsedDrgCache(
+            brokerCfg.getExperimental().getEngine().getCaches().getParsedDrgCacheSize().toBytes());
   }
 
   public ZeebePartition constructPartition(
@@ -175,6 +190,8 @@ public final class ZeebePartitionFactory {
             topologyManager,
             brokerHealthCheckService,
             securityConfig,
+            executableProcessCache,
+            parsedDrgCache,
             partitionMeterRegistry);
     context.setDynamicPartitionConfig(initialPartitionConfig);
 
@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.system.configuration.backup.BackupStoreCfg;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import java.io.File;
 import java.time.Duration;
 import java.util.Optional;
@@ -31,6 +32,8 @@ public final class DataCfg implements ConfigurationEntry {
 
   private int logIndexDensity = 100;
 
+  private RecordCompression logCompression = RecordCompression.NONE;
+
   // diskUsageMonitoring and watermark configs are deprecated and replaced by DiskCfg
   private Boolean diskUsageMonitoringEnabled;
   private Double diskUsageReplicationWatermark;
@@ -132,6 +135,14 @@ public final class DataCfg implements ConfigurationEntry {
     this.logIndexDensity = logIndexDensity;
   }
 
+  public RecordCompression getLogCompression() {
+    return logCompression;
+  }
+
+  public void setLogCompression(final RecordCompression logCompression) {
+    this.logCompression = logCompression;
+  }
+
   public void setDiskUsageMonitoringEnabled(final boolean diskUsageMonitoringEnabled) {
     this.diskUsageMonitoringEnabled = diskUsageMonitoringEnabled;
   }
@@ -179,6 +190,8 @@ public final class DataCfg implements ConfigurationEntry {
         + snapshotPeriod
         + ", logIndexDensity="
         + logIndexDensity
+        + ", logCompression="
+        + logCompression
         + ", diskUsageMonitoringEnabled="
         + diskUsageMonitoringEnabled
         + ", diskUsageReplicationWatermark="
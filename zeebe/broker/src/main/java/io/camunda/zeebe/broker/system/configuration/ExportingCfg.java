@@ -9,13 +9,17 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import java.util.Objects;
 import java.util.Set;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Exporting component configuration. This configuration pertains to configurations that are common
  * to all exporters.
  */
 public final class ExportingCfg implements ConfigurationEntry {
+  private static final DataSize DEFAULT_MAX_BATCH_SIZE = DataSize.ofKilobytes(256);
+
   private Set<Long> skipRecords;
+  private DataSize maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
 
   public Set<Long> getSkipRecords() {
     return skipRecords != null ? skipRecords : Set.of();
@@ -25,9 +29,29 @@ public final class ExportingCfg implements ConfigurationEntry {
     this.skipRecords = skipRecords;
   }
 
+  /**
+   * @return the maximum size of the records which are read from the log and handed to the
+   *     exporters as one batch; a batch always contains at least one record
+   */
+  public DataSize getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public void setMaxBatchSize(final DataSize maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    if (maxBatchSize.toBytes() <= 0) {
+      throw new IllegalArgumentException(
+          "maxBatchSize must be positive but was %s".formatted(maxBatchSize));
+    }
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(skipRecords);
+    return Objects.hash(skipRecords, maxBatchSize);
   }
 
   @Override
@@ -39,11 +63,17 @@ public final class ExportingCfg implements ConfigurationEntry {
       return false;
     }
     final ExportingCfg that = (ExportingCfg) o;
-    return Objects.equals(skipRecords, that.skipRecords);
+    return Objects.equals(skipRecords, that.skipRecords)
+        && Objects.equals(maxBatchSize, that.maxBatchSize);
   }
 
   @Override
   public String toString() {
-    return "ExporterCfg{" + "skipRecords='" + skipRecords + '}';
+    return "ExporterCfg{"
+        + "skipRecords='"
+        + skipRecords
+        + ", maxBatchSize="
+        + maxBatchSize
+        + '}';
   }
 }
@@ -13,7 +13,11 @@ import java.util.Set;
 public final class ProcessingCfg implements ConfigurationEntry {
 
   private static final int DEFAULT_PROCESSING_BATCH_LIMIT = 100;
+  private static final int DEFAULT_MAX_PIPELINED_COMMANDS = 1;
+  private static final int DEFAULT_MAX_BATCHES_IN_REPLAY_TRANSACTION = 1;
   private Integer maxCommandsInBatch = DEFAULT_PROCESSING_BATCH_LIMIT;
+  private Integer maxPipelinedCommands = DEFAULT_MAX_PIPELINED_COMMANDS;
+  private Integer maxBatchesInReplayTransaction = DEFAULT_MAX_BATCHES_IN_REPLAY_TRANSACTION;
   private boolean enableAsyncScheduledTasks = true;
   private Duration scheduledTaskCheckInterval = Duration.ofSeconds(1);
   private Set<Long> skipPositions;
@@ -24,6 +28,15 @@ public final class ProcessingCfg implements ConfigurationEntry {
       throw new IllegalArgumentException(
           "maxCommandsInBatch must be >= 1 but was %s".formatted(maxCommandsInBatch));
     }
+    if (maxPipelinedCommands < 1) {
+      throw new IllegalArgumentException(
+          "maxPipelinedCommands must be >= 1 but was %s".formatted(maxPipelinedCommands));
+    }
+    if (maxBatchesInReplayTransaction < 1) {
+      throw new IllegalArgumentException(
+          "maxBatchesInReplayTransaction must be >= 1 but was %s"
+              .formatted(maxBatchesInReplayTransaction));
+    }
     if (!scheduledTaskCheckInterval.isPositive()) {
       throw new IllegalArgumentException(
           "scheduledTaskCheckInterval must be positive but was %s"
@@ -39,6 +52,22 @@ public final class ProcessingCfg implements ConfigurationEntry {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public int getMaxPipelinedCommands() {
+    return maxPipelinedCommands;
+  }
+
+  public void setMaxPipelinedCommands(final int maxPipelinedCommands) {
+    this.maxPipelinedCommands = maxPipelinedCommands;
+  }
+
+  public int getMaxBatchesInReplayTransaction() {
+    return maxBatchesInReplayTransaction;
+  }
+
+  public void setMaxBatchesInReplayTransaction(final int maxBatchesInReplayTransaction) {
+    this.maxBatchesInReplayTransaction = maxBatchesInReplayTransaction;
+  }
+
   public boolean isEnableAsyncScheduledTasks() {
     return enableAsyncScheduledTasks;
   }
@@ -60,6 +89,10 @@ public final class ProcessingCfg implements ConfigurationEntry {
     return "ProcessingCfg{"
         + "maxCommandsInBatch="
         + maxCommandsInBatch
+        + ", maxPipelinedCommands="
+        + maxPipelinedCommands
+        + ", maxBatchesInReplayTransaction="
+        + maxBatchesInReplayTransaction
         + ", enableAsyncScheduledTasks="
         + enableAsyncScheduledTasks
         + ", scheduledTaskCheckInterval="
@@ -11,7 +11,8 @@ import java.time.Duration;
 
 public final class RaftCfg implements ConfigurationEntry {
   public static final boolean DEFAULT_ENABLE_PRIORITY_ELECTION = true;
-  private static final FlushConfig DEFAULT_FLUSH_CONFIG = new FlushConfig(true, Duration.ZERO);
+  private static final FlushConfig DEFAULT_FLUSH_CONFIG =
+      new FlushConfig(true, Duration.ZERO, false, null);
 
   private boolean enablePriorityElection = DEFAULT_ENABLE_PRIORITY_ELECTION;
 
@@ -43,10 +44,20 @@ public final class RaftCfg implements ConfigurationEntry {
         + '}';
   }
 
-  public record FlushConfig(boolean enabled, Duration delayTime) {
-    public FlushConfig(final boolean enabled, final Duration delayTime) {
+  public record FlushConfig(
+      boolean enabled, Duration delayTime, boolean groupCommit, Duration maxGroupCommitDelay) {
+    private static final Duration DEFAULT_MAX_GROUP_COMMIT_DELAY = Duration.ofMillis(1);
+
+    public FlushConfig(
+        final boolean enabled,
+        final Duration delayTime,
+        final boolean groupCommit,
+        final Duration maxGroupCommitDelay) {
       this.enabled = enabled;
       this.delayTime = delayTime == null ? Duration.ZERO : delayTime;
+      this.groupCommit = groupCommit;
+      this.maxGroupCommitDelay =
+          maxGroupCommitDelay == null ? DEFAULT_MAX_GROUP_COMMIT_DELAY : maxGroupCommitDelay;
     }
   }
 }
@@ -9,15 +9,27 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionMode;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.regex.Pattern;
 import org.springframework.util.unit.DataSize;
 
 public final class RocksdbCfg implements ConfigurationEntry {
 
   private Properties columnFamilyOptions;
+  private Map<String, Properties> dedicatedColumnFamilies = new HashMap<>();
+  private Set<String> cachedColumnFamilies = new HashSet<>();
+  private DataSize valueCacheSize =
+      DataSize.ofBytes(RocksDbConfiguration.DEFAULT_VALUE_CACHE_SIZE);
   private boolean enableStatistics = RocksDbConfiguration.DEFAULT_STATISTICS_ENABLED;
   private AccessMetricsConfiguration.Kind accessMetrics = AccessMetricsConfiguration.Kind.NONE;
   private DataSize memoryLimit = DataSize.ofBytes(RocksDbConfiguration.DEFAULT_MEMORY_LIMIT);
@@ -28,6 +40,7 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private TransactionMode transactionMode = RocksDbConfiguration.DEFAULT_TRANSACTION_MODE;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -39,6 +52,21 @@ public final class RocksdbCfg implements ConfigurationEntry {
       // we must do some transformations on the entries of this properties object.
       columnFamilyOptions = initColumnFamilyOptions(columnFamilyOptions);
     }
+
+    final var unknownColumnFamilies = new TreeSet<>(dedicatedColumnFamilies.keySet());
+    Arrays.stream(ZbColumnFamilies.values()).map(Enum::name).forEach(unknownColumnFamilies::remove);
+    if (!unknownColumnFamilies.isEmpty()) {
+      throw new IllegalArgumentException(
+          "dedicatedColumnFamilies must only contain names of ZbColumnFamilies, but contained %s"
+              .formatted(unknownColumnFamilies));
+    }
+
+    final var initializedDedicatedColumnFamilies = new HashMap<String, Properties>();
+    dedicatedColumnFamilies.forEach(
+        (name, options) ->
+            initializedDedicatedColumnFamilies.put(
+                name, options == null ? new Properties() : initColumnFamilyOptions(options)));
+    dedicatedColumnFamilies = initializedDedicatedColumnFamilies;
   }
 
   private static Properties initColumnFamilyOptions(final Properties original) {
@@ -57,6 +85,30 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.columnFamilyOptions = columnFamilyOptions;
   }
 
+  public Map<String, Properties> getDedicatedColumnFamilies() {
+    return dedicatedColumnFamilies;
+  }
+
+  public void setDedicatedColumnFamilies(final Map<String, Properties> dedicatedColumnFamilies) {
+    this.dedicatedColumnFamilies = dedicatedColumnFamilies;
+  }
+
+  public Set<String> getCachedColumnFamilies() {
+    return cachedColumnFamilies;
+  }
+
+  public void setCachedColumnFamilies(final Set<String> cachedColumnFamilies) {
+    this.cachedColumnFamilies = cachedColumnFamilies;
+  }
+
+  public DataSize getValueCacheSize() {
+    return valueCacheSize;
+  }
+
+  public void setValueCacheSize(final DataSize valueCacheSize) {
+    this.valueCacheSize = valueCacheSize;
+  }
+
   public boolean isEnableStatistics() {
     return enableStatistics;
   }
@@ -121,6 +173,14 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public TransactionMode getTransactionMode() {
+    return transactionMode;
+  }
+
+  public void setTransactionMode(final TransactionMode transactionMode) {
+    this.transactionMode = transactionMode;
+  }
+
   public AccessMetricsConfiguration.Kind getAccessMetrics() {
     return accessMetrics;
   }
@@ -132,6 +192,9 @@ public final class RocksdbCfg implements ConfigurationEntry {
   public RocksDbConfiguration createRocksDbConfiguration() {
     return new RocksDbConfiguration()
         .setColumnFamilyOptions(columnFamilyOptions)
+        .setDedicatedColumnFamilies(dedicatedColumnFamilies)
+        .setCachedColumnFamilies(cachedColumnFamilies)
+        .setValueCacheSize(valueCacheSize.toBytes())
         .setMaxOpenFiles(maxOpenFiles)
         .setMaxWriteBufferNumber(maxWriteBufferNumber)
         .setMemoryLimit(memoryLimit.toBytes())
@@ -139,7 +202,8 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setTransactionMode(transactionMode);
   }
 
   @Override
@@ -147,6 +211,12 @@ public final class RocksdbCfg implements ConfigurationEntry {
     return "RocksdbCfg{"
         + "columnFamilyOptions="
         + columnFamilyOptions
+        + ", dedicatedColumnFamilies="
+        + dedicatedColumnFamilies
+        + ", cachedColumnFamilies="
+        + cachedColumnFamilies
+        + ", valueCacheSize="
+        + valueCacheSize
         + ", enableStatistics="
         + enableStatistics
         + ", accessMetrics="
@@ -165,6 +235,8 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", transactionMode="
+        + transactionMode
         + '}';
   }
 
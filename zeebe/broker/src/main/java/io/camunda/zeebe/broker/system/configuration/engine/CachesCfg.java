@@ -9,12 +9,21 @@ package io.camunda.zeebe.broker.system.configuration.engine;
 
 import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
 import io.camunda.zeebe.engine.EngineConfiguration;
+import org.springframework.util.unit.DataSize;
 
 public final class CachesCfg implements ConfigurationEntry {
   private int drgCacheCapacity = EngineConfiguration.DEFAULT_DRG_CACHE_CAPACITY;
+  private DataSize parsedDrgCacheSize =
+      DataSize.ofBytes(EngineConfiguration.DEFAULT_PARSED_DRG_CACHE_SIZE);
   private int formCacheCapacity = EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
+  private DataSize executableProcessCacheSize =
+      DataSize.ofBytes(EngineConfiguration.DEFAULT_EXECUTABLE_PROCESS_CACHE_SIZE);
   private int resourceCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
+  private int authorizationsCacheCapacity =
+      EngineConfiguration.DEFAULT_AUTHORIZATIONS_CACHE_CAPACITY;
+  private int timerDueDateIndexCapacity =
+      EngineConfiguration.DEFAULT_TIMER_DUE_DATE_INDEX_CAPACITY;
 
   public int getDrgCacheCapacity() {
     return drgCacheCapacity;
@@ -24,6 +33,14 @@ public final class CachesCfg implements ConfigurationEntry {
     this.drgCacheCapacity = drgCacheCapacity;
   }
 
+  public DataSize getParsedDrgCacheSize() {
+    return parsedDrgCacheSize;
+  }
+
+  public void setParsedDrgCacheSize(final DataSize parsedDrgCacheSize) {
+    this.parsedDrgCacheSize = parsedDrgCacheSize;
+  }
+
   public int getFormCacheCapacity() {
     return formCacheCapacity;
   }
@@ -40,6 +57,14 @@ public final class CachesCfg implements ConfigurationEntry {
     this.processCacheCapacity = processCacheCapacity;
   }
 
+  public DataSize getExecutableProcessCacheSize() {
+    return executableProcessCacheSize;
+  }
+
+  public void setExecutableProcessCacheSize(final DataSize executableProcessCacheSize) {
+    this.executableProcessCacheSize = executableProcessCacheSize;
+  }
+
   public int getResourceCacheCapacity() {
     return resourceCacheCapacity;
   }
@@ -48,17 +73,41 @@ public final class CachesCfg implements ConfigurationEntry {
     this.resourceCacheCapacity = resourceCacheCapacity;
   }
 
+  public int getAuthorizationsCacheCapacity() {
+    return authorizationsCacheCapacity;
+  }
+
+  public void setAuthorizationsCacheCapacity(final int authorizationsCacheCapacity) {
+    this.authorizationsCacheCapacity = authorizationsCacheCapacity;
+  }
+
+  public int getTimerDueDateIndexCapacity() {
+    return timerDueDateIndexCapacity;
+  }
+
+  public void setTimerDueDateIndexCapacity(final int timerDueDateIndexCapacity) {
+    this.timerDueDateIndexCapacity = timerDueDateIndexCapacity;
+  }
+
   @Override
   public String toString() {
     return "CachesCfg{"
         + "drgCacheCapacity="
         + drgCacheCapacity
+        + ", parsedDrgCacheSize="
+        + parsedDrgCacheSize
         + ", formCacheCapacity="
         + formCacheCapacity
         + ", processCacheCapacity="
         + processCacheCapacity
+        + ", executableProcessCacheSize="
+        + executableProcessCacheSize
         + ", resourceCacheCapacity="
         + resourceCacheCapacity
+        + ", authorizationsCacheCapacity="
+        + authorizationsCacheCapacity
+        + ", timerDueDateIndexCapacity="
+        + timerDueDateIndexCapacity
         + '}';
   }
 }
@@ -77,9 +77,13 @@ public final class EngineCfg implements ConfigurationEntry {
         .setMessagesTtlCheckerBatchLimit(messages.getTtlCheckerBatchLimit())
         .setMessagesTtlCheckerInterval(messages.getTtlCheckerInterval())
         .setDrgCacheCapacity(caches.getDrgCacheCapacity())
+        .setParsedDrgCacheSize(caches.getParsedDrgCacheSize().toBytes())
         .setFormCacheCapacity(caches.getFormCacheCapacity())
         .setResourceCacheCapacity(caches.getResourceCacheCapacity())
         .setProcessCacheCapacity(caches.getProcessCacheCapacity())
+        .setExecutableProcessCacheSize(caches.getExecutableProcessCacheSize().toBytes())
+        .setAuthorizationsCacheCapacity(caches.getAuthorizationsCacheCapacity())
+        .setTimerDueDateIndexCapacity(caches.getTimerDueDateIndexCapacity())
         .setJobsTimeoutCheckerPollingInterval(jobs.getTimeoutCheckerPollingInterval())
         .setJobsTimeoutCheckerBatchLimit(jobs.getTimeoutCheckerBatchLimit())
         .setValidatorsResultsOutputMaxSize(validators.getResultsOutputMaxSize());
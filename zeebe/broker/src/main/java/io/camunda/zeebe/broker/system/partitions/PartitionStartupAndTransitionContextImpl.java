@@ -38,6 +38,8 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.dynamic.config.state.DynamicPartitionConfig;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessorFactory;
 import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.engine.state.deployment.ExecutableProcessCache;
+import io.camunda.zeebe.engine.state.deployment.ParsedDrgCache;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
@@ -110,6 +112,8 @@ public class PartitionStartupAndTransitionContextImpl
   private final HealthTreeMetrics healthGraphMetrics;
   private final BrokerHealthCheckService brokerHealthCheckService;
   private final SecurityConfiguration securityConfig;
+  private final ExecutableProcessCache executableProcessCache;
+  private final ParsedDrgCache parsedDrgCache;
   private final MeterRegistry startupMeterRegistry;
   private MeterRegistry transitionMeterRegistry;
 
@@ -134,6 +138,8 @@ public class PartitionStartupAndTransitionContextImpl
       final TopologyManager topologyManager,
       final BrokerHealthCheckService brokerHealthCheckService,
       final SecurityConfiguration securityConfig,
+      final ExecutableProcessCache executableProcessCache,
+      final ParsedDrgCache parsedDrgCache,
       final MeterRegistry startupMeterRegistry) {
     this.nodeId = nodeId;
     this.partitionCount = partitionCount;
@@ -157,6 +163,8 @@ public class PartitionStartupAndTransitionContextImpl
     this.topologyManager = topologyManager;
     this.brokerHealthCheckService = brokerHealthCheckService;
     this.securityConfig = securityConfig;
+    this.executableProcessCache = executableProcessCache;
+    this.parsedDrgCache = parsedDrgCache;
     this.startupMeterRegistry = startupMeterRegistry;
     healthGraphMetrics = new HealthTreeMetrics(startupMeterRegistry);
   }
@@ -314,6 +322,16 @@ public class PartitionStartupAndTransitionContextImpl
     return securityConfig;
   }
 
+  @Override
+  public ExecutableProcessCache getExecutableProcessCache() {
+    return executableProcessCache;
+  }
+
+  @Override
+  public ParsedDrgCache getParsedDrgCache() {
+    return parsedDrgCache;
+  }
+
   @Override
   public QueryService getQueryService() {
     return queryService;
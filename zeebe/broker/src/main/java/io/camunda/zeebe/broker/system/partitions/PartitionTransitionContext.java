@@ -28,6 +28,8 @@ import io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSende
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessorFactory;
 import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.engine.state.deployment.ExecutableProcessCache;
+import io.camunda.zeebe.engine.state.deployment.ParsedDrgCache;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
@@ -106,6 +108,16 @@ public interface PartitionTransitionContext extends PartitionContext {
 
   SecurityConfiguration getSecurityConfig();
 
+  /**
+   * @return the cache of executable processes, which is shared by all partitions of the broker
+   */
+  ExecutableProcessCache getExecutableProcessCache();
+
+  /**
+   * @return the cache of parsed DRGs, which is shared by all partitions of the broker
+   */
+  ParsedDrgCache getParsedDrgCache();
+
   QueryService getQueryService();
 
   void setQueryService(QueryService queryService);
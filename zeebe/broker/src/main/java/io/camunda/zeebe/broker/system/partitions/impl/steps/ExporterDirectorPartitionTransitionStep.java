@@ -14,6 +14,7 @@ import io.camunda.zeebe.broker.exporter.stream.ExporterDirector.ExporterInitiali
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.ExporterMode;
 import io.camunda.zeebe.broker.exporter.stream.ExporterPhase;
+import io.camunda.zeebe.broker.system.configuration.ExportingCfg;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionContext;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionStep;
 import io.camunda.zeebe.dynamic.config.state.ExporterState;
@@ -25,7 +26,6 @@ import io.camunda.zeebe.stream.impl.SkipPositionsFilter;
 import io.camunda.zeebe.util.VisibleForTesting;
 import java.util.Collection;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -106,11 +106,9 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
   private ActorFuture<Void> openExporter(
       final PartitionTransitionContext context, final Role targetRole) {
     final var exporterDescriptors = getEnabledExporterDescriptors(context);
-    final var exporterFilter =
-        SkipPositionsFilter.of(
-            context.getBrokerCfg() != null
-                ? context.getBrokerCfg().getExporting().getSkipRecords()
-                : Set.of());
+    final var exportingCfg =
+        context.getBrokerCfg() != null ? context.getBrokerCfg().getExporting() : new ExportingCfg();
+    final var exporterFilter = SkipPositionsFilter.of(exportingCfg.getSkipRecords());
     final ExporterMode exporterMode =
         targetRole == Role.LEADER ? ExporterMode.ACTIVE : ExporterMode.PASSIVE;
     final ExporterDirectorContext exporterCtx =
@@ -124,6 +122,7 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
             .descriptors(exporterDescriptors)
             .exporterMode(exporterMode)
             .positionsToSkipFilter(exporterFilter)
+            .maxBatchSize((int) exportingCfg.getMaxBatchSize().toBytes())
             .meterRegistry(context.getPartitionTransitionMeterRegistry());
 
     final ExporterDirector director =
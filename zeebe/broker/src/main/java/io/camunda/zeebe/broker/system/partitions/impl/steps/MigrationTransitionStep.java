@@ -11,6 +11,7 @@ import io.atomix.raft.RaftServer.Role;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionContext;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionStep;
 import io.camunda.zeebe.engine.state.ProcessingDbState;
+import io.camunda.zeebe.engine.state.instance.TransientTimerDueDateIndex;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
 import io.camunda.zeebe.engine.state.migration.DbMigratorImpl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
@@ -37,6 +38,10 @@ public class MigrationTransitionStep implements PartitionTransitionStep {
     // migration
     final var transientMessageSubscriptionState = new TransientPendingSubscriptionState();
     final var transientProcessMessageSubscriptionState = new TransientPendingSubscriptionState();
+    final var engineConfiguration =
+        context.getBrokerCfg().getExperimental().getEngine().createEngineConfiguration();
+    final var timerDueDateIndex =
+        new TransientTimerDueDateIndex(engineConfiguration.getTimerDueDateIndexCapacity());
     final var zeebeDb = context.getZeebeDb();
     final var zeebeDbContext = zeebeDb.createContext();
     final var processingState =
@@ -47,7 +52,9 @@ public class MigrationTransitionStep implements PartitionTransitionStep {
             new DbKeyGenerator(context.getPartitionId(), zeebeDb, zeebeDbContext),
             transientMessageSubscriptionState,
             transientProcessMessageSubscriptionState,
-            context.getBrokerCfg().getExperimental().getEngine().createEngineConfiguration(),
+            timerDueDateIndex,
+            engineConfiguration,
+            context.getPartitionTransitionMeterRegistry(),
             InstantSource.system());
 
     final var dbMigrator =
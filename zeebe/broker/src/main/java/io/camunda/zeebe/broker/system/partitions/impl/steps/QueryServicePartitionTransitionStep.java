@@ -45,7 +45,11 @@ public final class QueryServicePartitionTransitionStep implements PartitionTrans
     if (targetRole != Role.INACTIVE
         && (currentRole == Role.LEADER || context.getQueryService() == null)) {
       try {
-        final var service = new StateQueryService(context.getZeebeDb(), InstantSource.system());
+        final var service =
+            new StateQueryService(
+                context.getZeebeDb(),
+                context.getPartitionTransitionMeterRegistry(),
+                InstantSource.system());
         context.setQueryService(service);
         return CompletableActorFuture.completed(null);
       } catch (final Exception e) {
@@ -133,7 +133,12 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         targetRole == Role.LEADER ? StreamProcessorMode.PROCESSING : StreamProcessorMode.REPLAY;
 
     final var experimentalCfg = context.getBrokerCfg().getExperimental();
-    final var engineCfg = experimentalCfg.getEngine().createEngineConfiguration();
+    final var engineCfg =
+        experimentalCfg
+            .getEngine()
+            .createEngineConfiguration()
+            .setExecutableProcessCache(context.getExecutableProcessCache())
+            .setParsedDrgCache(context.getParsedDrgCache());
 
     final var engine =
         new Engine(
@@ -159,6 +164,9 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .nodeId(context.getNodeId())
         .commandResponseWriter(context.getCommandApiService().newCommandResponseWriter())
         .maxCommandsInBatch(context.getBrokerCfg().getProcessing().getMaxCommandsInBatch())
+        .maxPipelinedCommands(context.getBrokerCfg().getProcessing().getMaxPipelinedCommands())
+        .maxBatchesInReplayTransaction(
+            context.getBrokerCfg().getProcessing().getMaxBatchesInReplayTransaction())
         .setEnableAsyncScheduledTasks(
             context.getBrokerCfg().getProcessing().isEnableAsyncScheduledTasks())
         .setScheduledTaskCheckInterval(
@@ -14,6 +14,7 @@ import static org.mockito.Mockito.when;
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.repo.ExporterLoadException;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirector.ExporterInitializationInfo;
+import io.camunda.zeebe.exporter.api.BatchExporter;
 import io.camunda.zeebe.exporter.api.Exporter;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
@@ -26,6 +27,8 @@ import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.BeforeEach;
@@ -99,6 +102,31 @@ final class ExporterContainerTest {
     }
   }
 
+  public static final class FakeBatchExporter extends FakeExporter implements BatchExporter {
+
+    private final List<List<Long>> batches = new ArrayList<>();
+    private int failures;
+
+    /** @return the positions of the records of each exported batch */
+    public List<List<Long>> getBatches() {
+      return batches;
+    }
+
+    public void failNextBatches(final int failures) {
+      this.failures = failures;
+    }
+
+    @Override
+    public void exportBatch(final List<Record<?>> records) {
+      if (failures > 0) {
+        failures--;
+        throw new IllegalStateException("expected");
+      }
+
+      batches.add(records.stream().map(Record::getPosition).toList());
+    }
+  }
+
   private static final class AlwaysRejectingFilter implements Context.RecordFilter {
 
     @Override
@@ -546,6 +574,102 @@ final class ExporterContainerTest {
     }
   }
 
+  @Nested
+  class WithBatchExporter {
+
+    private FakeBatchExporter batchExporter;
+
+    @BeforeEach
+    void beforeEach(final @TempDir Path storagePath) throws Exception {
+      runtime = new ExporterContainerRuntime(storagePath);
+
+      final var descriptor =
+          runtime
+              .getRepository()
+              .validateAndAddExporterDescriptor(
+                  EXPORTER_ID, FakeBatchExporter.class, Map.of("key", "value"));
+      exporterContainer = runtime.newContainer(descriptor, PARTITION_ID);
+      batchExporter = (FakeBatchExporter) exporterContainer.getExporter();
+      exporterContainer.configureExporter();
+      runtime.getState().setPosition(EXPORTER_ID, 1);
+      exporterContainer.initMetadata();
+    }
+
+    @Test
+    void shouldExportRecordsAsOneBatch() {
+      // given
+      final var records = List.of(mockRecord(1L), mockRecord(2L), mockRecord(3L));
+      exporterContainer.startBatch();
+
+      // when
+      final var exported = exporterContainer.exportBatch(records);
+
+      // then - the already exported record is left out
+      assertThat(exported).isTrue();
+      assertThat(batchExporter.getBatches()).containsExactly(List.of(2L, 3L));
+      assertThat(batchExporter.getRecord()).isNull();
+      assertThat(exporterContainer.getLastUnacknowledgedPosition()).isEqualTo(3);
+      assertThat(exporterContainer.getPosition()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotExportBatchAgainUntilNextBatchStarts() {
+      // given
+      final var records = List.of(mockRecord(2L), mockRecord(3L));
+      exporterContainer.startBatch();
+      exporterContainer.exportBatch(records);
+
+      // when
+      final var exported = exporterContainer.exportBatch(records);
+
+      // then
+      assertThat(exported).isTrue();
+      assertThat(batchExporter.getBatches()).hasSize(1);
+    }
+
+    @Test
+    void shouldRetryWholeBatchIfExportFails() {
+      // given
+      final var records = List.of(mockRecord(2L), mockRecord(3L));
+      exporterContainer.startBatch();
+      batchExporter.failNextBatches(1);
+
+      // when
+      final var firstAttempt = exporterContainer.exportBatch(records);
+      final var secondAttempt = exporterContainer.exportBatch(records);
+
+      // then
+      assertThat(firstAttempt).isFalse();
+      assertThat(secondAttempt).isTrue();
+      assertThat(batchExporter.getBatches()).containsExactly(List.of(2L, 3L));
+      assertThat(exporterContainer.getLastUnacknowledgedPosition()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldSkipFilteredBatch() {
+      // given
+      final var records = List.of(mockRecord(2L), mockRecord(3L));
+      exporterContainer.startBatch();
+      batchExporter.getContext().setFilter(new AlwaysRejectingFilter());
+
+      // when
+      final var exported = exporterContainer.exportBatch(records);
+
+      // then
+      assertThat(exported).isTrue();
+      assertThat(batchExporter.getBatches()).isEmpty();
+      assertThat(exporterContainer.getPosition()).isEqualTo(3);
+    }
+
+    private TypedRecord<?> mockRecord(final long position) {
+      final var record = mock(TypedRecord.class);
+      when(record.getPosition()).thenReturn(position);
+      when(record.getRecordType()).thenReturn(RecordType.EVENT);
+      when(record.getValueType()).thenReturn(ValueType.JOB);
+      return record;
+    }
+  }
+
   @Nested
   class WithInitializationInfo {
     private static final String OTHER_EXPORTER_ID = "otherExporter";
@@ -24,6 +24,7 @@ import io.camunda.zeebe.broker.exporter.util.ControlledTestExporter;
 import io.camunda.zeebe.broker.exporter.util.PojoConfigurationExporter;
 import io.camunda.zeebe.broker.exporter.util.PojoConfigurationExporter.PojoExporterConfiguration;
 import io.camunda.zeebe.engine.Loggers;
+import io.camunda.zeebe.exporter.api.BatchExporter;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
@@ -43,6 +44,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -774,6 +776,31 @@ public final class ExporterDirectorTest {
     assertThat(rule.getExportersState().getPosition(EXPORTER_ID_2)).isEqualTo(-1);
   }
 
+  @Test
+  public void shouldExportReadRecordsAsOneBatch() {
+    // given
+    final List<List<Long>> exportedBatches = new CopyOnWriteArrayList<>();
+    final BatchExporter batchExporter =
+        records -> exportedBatches.add(records.stream().map(Record::getPosition).toList());
+    final ExporterDescriptor descriptor =
+        spy(new ExporterDescriptor("batch-exporter", batchExporter.getClass(), Map.of()));
+    doAnswer(c -> batchExporter).when(descriptor).newInstance();
+
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+    final long eventPosition3 = writeEvent();
+
+    // when
+    startExporterDirector(List.of(descriptor));
+
+    // then
+    Awaitility.await("batch exporter has exported all records")
+        .untilAsserted(
+            () ->
+                assertThat(exportedBatches)
+                    .containsExactly(List.of(eventPosition1, eventPosition2, eventPosition3)));
+  }
+
   private long writeEvent() {
     final DeploymentRecord event = new DeploymentRecord();
     return rule.writeEvent(DeploymentIntent.CREATED, event);
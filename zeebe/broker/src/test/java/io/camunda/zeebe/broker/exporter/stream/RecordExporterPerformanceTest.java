@@ -0,0 +1,209 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.exporter.api.BatchExporter;
+import io.camunda.zeebe.exporter.api.Exporter;
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.util.ListLogStorage;
+import io.camunda.zeebe.logstreams.util.TestLogStream;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput (records per second) of exporting a batch of records read from the log,
+ * once to an exporter which receives the records one by one, and once to a {@link BatchExporter}.
+ * Both exporters do nothing with the records, so the score reflects the overhead of the exporter
+ * stream itself.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class RecordExporterPerformanceTest {
+
+  private static final int PARTITION_ID = 1;
+  private static final int RECORDS_PER_BATCH = 100;
+
+  private final List<LoggedEvent> events = new ArrayList<>();
+  private Path storagePath;
+  private ExporterContainerRuntime runtime;
+  private RecordExporter recordExporter;
+  private RecordExporter batchRecordExporter;
+
+  @Setup
+  public void setup() throws Exception {
+    storagePath = Files.createTempDirectory("exporter-perf");
+    runtime = new ExporterContainerRuntime(storagePath);
+    recordExporter = newRecordExporter("exporter", NoopExporter.class);
+    batchRecordExporter = newRecordExporter("batch-exporter", NoopBatchExporter.class);
+    readEvents();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    runtime.close();
+    FileUtil.deleteFolderIfExists(storagePath);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS_PER_BATCH)
+  public long measureExport() {
+    return export(recordExporter);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS_PER_BATCH)
+  public long measureBatchExport() {
+    return export(batchRecordExporter);
+  }
+
+  @JMHTest("measureExport")
+  void shouldExportWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 1_000_000;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @JMHTest("measureBatchExport")
+  void shouldExportBatchWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 1_500_000;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private long export(final RecordExporter exporter) {
+    exporter.reset();
+    for (final var event : events) {
+      exporter.add(event);
+    }
+    exporter.wrap();
+    exporter.export();
+
+    return exporter.getLastPosition();
+  }
+
+  private RecordExporter newRecordExporter(
+      final String exporterId, final Class<? extends Exporter> exporterClass) throws Exception {
+    final var descriptor =
+        runtime
+            .getRepository()
+            .validateAndAddExporterDescriptor(exporterId, exporterClass, Map.of());
+    final var container = runtime.newContainer(descriptor, PARTITION_ID);
+    container.configureExporter();
+    container.initMetadata();
+    container.openExporter();
+
+    return new RecordExporter(
+        new ExporterMetrics(new SimpleMeterRegistry()),
+        List.of(container),
+        PARTITION_ID,
+        InstantSource.system());
+  }
+
+  private void readEvents() {
+    final var logStorage = new ListLogStorage();
+    final var logStream =
+        TestLogStream.builder()
+            .withLogName("exporter-perf")
+            .withLogStorage(logStorage)
+            .withClock(InstantSource.system())
+            .withPartitionId(PARTITION_ID)
+            .withMeterRegistry(new SimpleMeterRegistry())
+            .build();
+    logStorage.setPositionListener(logStream::setLastWrittenPosition);
+
+    final var metadata =
+        new RecordMetadata()
+            .recordType(RecordType.EVENT)
+            .valueType(ValueType.JOB)
+            .intent(JobIntent.CREATED);
+    final var value = new JobRecord().setType("benchmark").setWorker("worker");
+    final var writer = logStream.newBlockingLogStreamWriter();
+    for (int i = 0; i < RECORDS_PER_BATCH; i++) {
+      writer.tryWrite(WriteContext.internal(), LogAppendEntry.of(metadata, value));
+    }
+
+    final var reader = logStream.newLogStreamReader();
+    reader.seekToFirstEvent();
+    while (reader.hasNext()) {
+      final var event = (LoggedEventImpl) reader.next();
+      final var copy = new LoggedEventImpl();
+      copy.wrap(
+          BufferUtil.cloneBuffer(event.getBuffer(), event.getFragmentOffset(), event.getLength()),
+          0);
+      events.add(copy);
+    }
+
+    logStream.close();
+  }
+
+  public static final class NoopExporter implements Exporter {
+    private long lastPosition;
+
+    @Override
+    public void export(final Record<?> record) {
+      lastPosition = record.getPosition();
+    }
+  }
+
+  public static final class NoopBatchExporter implements BatchExporter {
+    private long lastPosition;
+
+    @Override
+    public void exportBatch(final List<Record<?>> records) {
+      lastPosition = records.get(records.size() - 1).getPosition();
+    }
+  }
+}
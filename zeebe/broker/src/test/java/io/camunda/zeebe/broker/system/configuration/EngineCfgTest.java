@@ -38,6 +38,10 @@ final class EngineCfgTest {
         .isEqualTo(EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY);
     assertThat(configuration.getProcessCacheCapacity())
         .isEqualTo(EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY);
+    assertThat(configuration.getAuthorizationsCacheCapacity())
+        .isEqualTo(EngineConfiguration.DEFAULT_AUTHORIZATIONS_CACHE_CAPACITY);
+    assertThat(configuration.getTimerDueDateIndexCapacity())
+        .isEqualTo(EngineConfiguration.DEFAULT_TIMER_DUE_DATE_INDEX_CAPACITY);
     assertThat(configuration.getValidatorsResultsOutputMaxSize())
         .isEqualTo(EngineConfiguration.DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE);
   }
@@ -59,6 +63,8 @@ final class EngineCfgTest {
     assertThat(configuration.getJobsTimeoutCheckerBatchLimit()).isEqualTo(1000);
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(2000L);
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(2000L);
+    assertThat(configuration.getAuthorizationsCacheCapacity()).isEqualTo(2000);
+    assertThat(configuration.getTimerDueDateIndexCapacity()).isEqualTo(2000);
     assertThat(configuration.getValidatorsResultsOutputMaxSize()).isEqualTo(2000);
   }
 }
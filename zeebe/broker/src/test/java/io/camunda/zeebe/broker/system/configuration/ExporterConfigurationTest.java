@@ -8,10 +8,12 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.HashMap;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
 
 class ExporterConfigurationTest {
 
@@ -62,4 +64,41 @@ class ExporterConfigurationTest {
     // then
     assertThat(exportingCfg.getSkipRecords()).isEqualTo(Set.of(1L, 2L, 3L));
   }
+
+  @Test
+  void shouldUseDefaultMaxBatchSize() {
+    // given
+    final var environment = new HashMap<String, String>();
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("exporters", environment);
+
+    // then
+    assertThat(cfg.getExporting().getMaxBatchSize()).isEqualTo(DataSize.ofKilobytes(256));
+  }
+
+  @Test
+  void shouldSetMaxBatchSizeFromEnvironment() {
+    // given
+    final var environment = new HashMap<String, String>();
+    environment.put("zeebe.broker.exporting.maxBatchSize", "1MB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("exporters", environment);
+
+    // then
+    assertThat(cfg.getExporting().getMaxBatchSize()).isEqualTo(DataSize.ofMegabytes(1));
+  }
+
+  @Test
+  void shouldRejectNonPositiveMaxBatchSize() {
+    // given
+    final ExportingCfg exportingCfg = new ExportingCfg();
+    exportingCfg.setMaxBatchSize(DataSize.ofBytes(0));
+
+    // when - then
+    assertThatThrownBy(() -> exportingCfg.init(new BrokerCfg(), "/base"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxBatchSize");
+  }
 }
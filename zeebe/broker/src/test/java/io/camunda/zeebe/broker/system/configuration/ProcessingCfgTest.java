@@ -80,6 +80,108 @@ final class ProcessingCfgTest {
         .hasMessageContaining("maxCommandsInBatch must be >= 1");
   }
 
+  @Test
+  void shouldDisablePipeliningByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final int limit = cfg.getMaxPipelinedCommands();
+
+    // then
+    assertThat(limit).isEqualTo(1);
+  }
+
+  @Test
+  void shouldSetMaxPipelinedCommandsFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final int limit = cfg.getMaxPipelinedCommands();
+
+    // then
+    assertThat(limit).isEqualTo(10);
+  }
+
+  @Test
+  void shouldSetMaxPipelinedCommandsFromEnvironment() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxPipelinedCommands", "20");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // when
+    final var limit = cfg.getMaxPipelinedCommands();
+
+    // then
+    assertThat(limit).isEqualTo(20);
+  }
+
+  @Test
+  void shouldRejectInvalidMaxPipelinedCommands() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxPipelinedCommands", "0");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxPipelinedCommands must be >= 1");
+  }
+
+  @Test
+  void shouldCommitEveryReplayedBatchByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final int limit = cfg.getMaxBatchesInReplayTransaction();
+
+    // then
+    assertThat(limit).isEqualTo(1);
+  }
+
+  @Test
+  void shouldSetMaxBatchesInReplayTransactionFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final int limit = cfg.getMaxBatchesInReplayTransaction();
+
+    // then
+    assertThat(limit).isEqualTo(50);
+  }
+
+  @Test
+  void shouldSetMaxBatchesInReplayTransactionFromEnvironment() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxBatchesInReplayTransaction", "20");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // when
+    final var limit = cfg.getMaxBatchesInReplayTransaction();
+
+    // then
+    assertThat(limit).isEqualTo(20);
+  }
+
+  @Test
+  void shouldRejectInvalidMaxBatchesInReplayTransaction() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxBatchesInReplayTransaction", "0");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxBatchesInReplayTransaction must be >= 1");
+  }
+
   @Test
   void shouldEnableAsyncScheduledTasksByDefault() {
     // given
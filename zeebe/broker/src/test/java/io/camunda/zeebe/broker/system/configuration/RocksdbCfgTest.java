@@ -8,7 +8,9 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionMode;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
@@ -69,6 +71,9 @@ public final class RocksdbCfgTest {
 
     // then
     assertThat(rocksDbConfiguration.getColumnFamilyOptions()).isEmpty();
+    assertThat(rocksDbConfiguration.getDedicatedColumnFamilies()).isEmpty();
+    assertThat(rocksDbConfiguration.getCachedColumnFamilies()).isEmpty();
+    assertThat(rocksDbConfiguration.getValueCacheSize()).isZero();
     assertThat(rocksDbConfiguration.isStatisticsEnabled()).isFalse();
     assertThat(rocksDbConfiguration.getMemoryLimit())
         .isEqualTo(DataSize.ofMegabytes(512).toBytes());
@@ -77,6 +82,7 @@ public final class RocksdbCfgTest {
     assertThat(rocksDbConfiguration.getMinWriteBufferNumberToMerge()).isEqualTo(3);
     assertThat(rocksDbConfiguration.getIoRateBytesPerSecond()).isZero();
     assertThat(rocksDbConfiguration.isWalDisabled()).isTrue();
+    assertThat(rocksDbConfiguration.getTransactionMode()).isEqualTo(TransactionMode.OPTIMISTIC);
   }
 
   @Test
@@ -110,6 +116,61 @@ public final class RocksdbCfgTest {
         .containsEntry("write_buffer_size", "67108864");
   }
 
+  @Test
+  public void shouldSetDedicatedColumnFamiliesConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    final var dedicatedColumnFamilies =
+        rocksdb.createRocksDbConfiguration().getDedicatedColumnFamilies();
+    assertThat(dedicatedColumnFamilies).containsOnlyKeys("VARIABLES", "JOBS");
+    assertThat(dedicatedColumnFamilies.get("VARIABLES"))
+        .containsEntry("write_buffer_size", "33554432");
+    assertThat(dedicatedColumnFamilies.get("JOBS"))
+        .containsEntry("compaction_pri", "kOldestSmallestSeqFirst");
+  }
+
+  @Test
+  public void shouldRejectUnknownDedicatedColumnFamily() {
+    // given
+    environment.put(
+        "zeebe.broker.experimental.rocksdb.dedicatedColumnFamilies.UNKNOWN.write_buffer_size",
+        "33554432");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("rocksdb-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("dedicatedColumnFamilies must only contain names of ZbColumnFamilies")
+        .hasMessageContaining("[UNKNOWN]");
+  }
+
+  @Test
+  public void shouldSetValueCacheConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    final var rocksDbConfiguration = rocksdb.createRocksDbConfiguration();
+    assertThat(rocksDbConfiguration.getCachedColumnFamilies())
+        .containsExactlyInAnyOrder("ELEMENT_INSTANCE_KEY", "VARIABLES");
+    assertThat(rocksDbConfiguration.getValueCacheSize())
+        .isEqualTo(DataSize.ofMegabytes(16).toBytes());
+  }
+
+  @Test
+  public void shouldSetTransactionModeViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.createRocksDbConfiguration().getTransactionMode())
+        .isEqualTo(TransactionMode.WRITE_BATCH);
+  }
+
   @Test
   public void shouldEnableStatisticsViaConfig() {
     // when
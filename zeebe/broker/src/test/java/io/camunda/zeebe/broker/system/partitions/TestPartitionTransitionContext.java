@@ -34,6 +34,8 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.dynamic.config.state.DynamicPartitionConfig;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessorFactory;
 import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.engine.state.deployment.ExecutableProcessCache;
+import io.camunda.zeebe.engine.state.deployment.ParsedDrgCache;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
@@ -264,6 +266,16 @@ public class TestPartitionTransitionContext implements PartitionTransitionContex
     return securityConfig;
   }
 
+  @Override
+  public ExecutableProcessCache getExecutableProcessCache() {
+    return null;
+  }
+
+  @Override
+  public ParsedDrgCache getParsedDrgCache() {
+    return null;
+  }
+
   @Override
   public QueryService getQueryService() {
     return queryService;
@@ -98,8 +98,8 @@ public class ConfigurationChangeAppliersImpl implements ConfigurationChangeAppli
       case final DeleteHistoryOperation deleteHistoryOperation ->
           new DeleteHistoryApplier(deleteHistoryOperation.memberId(), clusterChangeExecutor);
       case StartPartitionScaleUpOperation(
-              final var ignoredMemberId,
-              final var desiredPartitionCount) ->
+              var ignoredMemberId,
+              var desiredPartitionCount) ->
           new StartPartitionScaleUpApplier(partitionScalingChangeExecutor, desiredPartitionCount);
     };
   }
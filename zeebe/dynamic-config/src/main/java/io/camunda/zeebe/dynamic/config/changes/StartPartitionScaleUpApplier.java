@@ -80,7 +80,7 @@ final class StartPartitionScaleUpApplier implements ClusterOperationApplier {
     final var requestHandling = routing.requestHandling();
 
     return switch (requestHandling) {
-      case AllPartitions(final var currentPartitionCount) -> {
+      case AllPartitions(var currentPartitionCount) -> {
         if (desiredPartitionCount <= currentPartitionCount) {
           yield new Left<>(
               new IllegalStateException(
@@ -132,7 +132,7 @@ final class StartPartitionScaleUpApplier implements ClusterOperationApplier {
 
   private RequestHandling updateRequestHandling(final RequestHandling requestHandling) {
     return switch (requestHandling) {
-      case AllPartitions(final var currentPartitionCount) -> {
+      case AllPartitions(var currentPartitionCount) -> {
         final var newPartitions =
             IntStream.rangeClosed(currentPartitionCount + 1, desiredPartitionCount)
                 .boxed()
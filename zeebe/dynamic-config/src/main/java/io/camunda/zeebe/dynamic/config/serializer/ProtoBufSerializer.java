@@ -430,8 +430,8 @@ public class ProtoBufSerializer
       case final DeleteHistoryOperation deleteHistoryOperation ->
           builder.setDeleteHistory(Topology.DeleteHistoryOperation.newBuilder().build());
       case StartPartitionScaleUpOperation(
-              final var ignoredMemberId,
-              final var desiredPartitionCount) ->
+              var ignoredMemberId,
+              var desiredPartitionCount) ->
           builder.setInitiateScaleUpPartitions(
               Topology.StartPartitionScaleUpOperation.newBuilder()
                   .setDesiredPartitionCount(desiredPartitionCount)
@@ -537,9 +537,9 @@ public class ProtoBufSerializer
   private Topology.RequestHandling encodeRequestHandling(final RequestHandling requestHandling) {
     return switch (requestHandling) {
       case RequestHandling.ActivePartitions(
-              final var basePartitionCount,
-              final var additionalActivePartitions,
-              final var inactivePartitions) ->
+              var basePartitionCount,
+              var additionalActivePartitions,
+              var inactivePartitions) ->
           Topology.RequestHandling.newBuilder()
               .setActivePartitions(
                   Topology.RequestHandling.ActivePartitions.newBuilder()
@@ -548,7 +548,7 @@ public class ProtoBufSerializer
                       .addAllInactivePartitions(inactivePartitions)
                       .build())
               .build();
-      case RequestHandling.AllPartitions(final var partitionCount) ->
+      case RequestHandling.AllPartitions(var partitionCount) ->
           Topology.RequestHandling.newBuilder()
               .setAllPartitions(
                   Topology.RequestHandling.AllPartitions.newBuilder()
@@ -561,7 +561,7 @@ public class ProtoBufSerializer
   private Topology.MessageCorrelation encodeMessageCorrelation(
       final MessageCorrelation correlation) {
     return switch (correlation) {
-      case MessageCorrelation.HashMod(final var partitionCount) ->
+      case MessageCorrelation.HashMod(var partitionCount) ->
           Topology.MessageCorrelation.newBuilder()
               .setHashMod(
                   Topology.MessageCorrelation.HashMod.newBuilder()
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.engine;
 
+import io.camunda.zeebe.engine.state.deployment.ExecutableProcessCache;
+import io.camunda.zeebe.engine.state.deployment.ParsedDrgCache;
 import java.time.Duration;
 
 public final class EngineConfiguration {
@@ -21,8 +23,12 @@ public final class EngineConfiguration {
   public static final int BATCH_SIZE_CALCULATION_BUFFER = 1024 * 8;
 
   public static final int DEFAULT_DRG_CACHE_CAPACITY = 1000;
+  public static final long DEFAULT_PARSED_DRG_CACHE_SIZE = 64L * 1024 * 1024;
   public static final int DEFAULT_FORM_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_PROCESS_CACHE_CAPACITY = 1000;
+  public static final long DEFAULT_EXECUTABLE_PROCESS_CACHE_SIZE = 128L * 1024 * 1024;
+  public static final int DEFAULT_AUTHORIZATIONS_CACHE_CAPACITY = 10_000;
+  public static final int DEFAULT_TIMER_DUE_DATE_INDEX_CAPACITY = 100_000;
   public static final Duration DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL = Duration.ofSeconds(1);
   public static final int DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
   public static final int DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE = 12 * 1024;
@@ -31,9 +37,17 @@ public final class EngineConfiguration {
   private int messagesTtlCheckerBatchLimit = DEFAULT_MESSAGES_TTL_CHECKER_BATCH_LIMIT;
   private Duration messagesTtlCheckerInterval = DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL;
   private int drgCacheCapacity = DEFAULT_DRG_CACHE_CAPACITY;
+  private long parsedDrgCacheSize = DEFAULT_PARSED_DRG_CACHE_SIZE;
+  // shared between the partitions of a broker; when null, each partition creates its own cache
+  private ParsedDrgCache parsedDrgCache;
   private int formCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
   private int resourceCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
+  private long executableProcessCacheSize = DEFAULT_EXECUTABLE_PROCESS_CACHE_SIZE;
+  // shared between the partitions of a broker; when null, each partition creates its own cache
+  private ExecutableProcessCache executableProcessCache;
+  private int authorizationsCacheCapacity = DEFAULT_AUTHORIZATIONS_CACHE_CAPACITY;
+  private int timerDueDateIndexCapacity = DEFAULT_TIMER_DUE_DATE_INDEX_CAPACITY;
 
   private Duration jobsTimeoutCheckerPollingInterval = DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int jobsTimeoutCheckerBatchLimit = DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
@@ -71,6 +85,24 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public long getParsedDrgCacheSize() {
+    return parsedDrgCacheSize;
+  }
+
+  public EngineConfiguration setParsedDrgCacheSize(final long parsedDrgCacheSize) {
+    this.parsedDrgCacheSize = parsedDrgCacheSize;
+    return this;
+  }
+
+  public ParsedDrgCache getParsedDrgCache() {
+    return parsedDrgCache;
+  }
+
+  public EngineConfiguration setParsedDrgCache(final ParsedDrgCache parsedDrgCache) {
+    this.parsedDrgCache = parsedDrgCache;
+    return this;
+  }
+
   public int getFormCacheCapacity() {
     return formCacheCapacity;
   }
@@ -98,6 +130,43 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public long getExecutableProcessCacheSize() {
+    return executableProcessCacheSize;
+  }
+
+  public EngineConfiguration setExecutableProcessCacheSize(final long executableProcessCacheSize) {
+    this.executableProcessCacheSize = executableProcessCacheSize;
+    return this;
+  }
+
+  public ExecutableProcessCache getExecutableProcessCache() {
+    return executableProcessCache;
+  }
+
+  public EngineConfiguration setExecutableProcessCache(
+      final ExecutableProcessCache executableProcessCache) {
+    this.executableProcessCache = executableProcessCache;
+    return this;
+  }
+
+  public int getAuthorizationsCacheCapacity() {
+    return authorizationsCacheCapacity;
+  }
+
+  public EngineConfiguration setAuthorizationsCacheCapacity(final int authorizationsCacheCapacity) {
+    this.authorizationsCacheCapacity = authorizationsCacheCapacity;
+    return this;
+  }
+
+  public int getTimerDueDateIndexCapacity() {
+    return timerDueDateIndexCapacity;
+  }
+
+  public EngineConfiguration setTimerDueDateIndexCapacity(final int timerDueDateIndexCapacity) {
+    this.timerDueDateIndexCapacity = timerDueDateIndexCapacity;
+    return this;
+  }
+
   public Duration getJobsTimeoutCheckerPollingInterval() {
     return jobsTimeoutCheckerPollingInterval;
   }
@@ -0,0 +1,43 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.camunda.zeebe.engine.metrics.AuthorizationCacheMetricsDoc.AuthorizationCacheKeyNames;
+import io.camunda.zeebe.engine.metrics.AuthorizationCacheMetricsDoc.LookupResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Objects;
+
+public final class AuthorizationCacheMetrics {
+
+  private final MeterRegistry registry;
+  private final Counter hits;
+  private final Counter misses;
+
+  public AuthorizationCacheMetrics(final MeterRegistry registry) {
+    this.registry = Objects.requireNonNull(registry, "must specify a registry");
+    hits = registerLookups(LookupResult.HIT);
+    misses = registerLookups(LookupResult.MISS);
+  }
+
+  public void cacheHit() {
+    hits.increment();
+  }
+
+  public void cacheMiss() {
+    misses.increment();
+  }
+
+  private Counter registerLookups(final LookupResult result) {
+    final var meterDoc = AuthorizationCacheMetricsDoc.LOOKUPS;
+    return Counter.builder(meterDoc.getName())
+        .description(meterDoc.getDescription())
+        .tag(AuthorizationCacheKeyNames.RESULT.asString(), result.toString())
+        .register(registry);
+  }
+}
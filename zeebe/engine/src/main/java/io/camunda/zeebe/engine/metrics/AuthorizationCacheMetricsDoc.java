@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.camunda.zeebe.util.micrometer.ExtendedMeterDocumentation;
+import io.camunda.zeebe.util.micrometer.MicrometerUtil.PartitionKeyNames;
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.core.instrument.Meter.Type;
+
+/** Documents the metrics of the authorization cache, see {@link AuthorizationCacheMetrics}. */
+@SuppressWarnings("NullableProblems")
+public enum AuthorizationCacheMetricsDoc implements ExtendedMeterDocumentation {
+  /** Number of authorization cache lookups, by result (hit or miss) */
+  LOOKUPS {
+    @Override
+    public String getName() {
+      return "zeebe.authorization.cache.lookups.total";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of authorization cache lookups, by result (hit or miss)";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return AuthorizationCacheKeyNames.values();
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  };
+
+  @SuppressWarnings("NullableProblems")
+  public enum AuthorizationCacheKeyNames implements KeyName {
+    /**
+     * Whether the lookup found the resource identifiers in the cache; see {@link LookupResult} for
+     * values
+     */
+    RESULT {
+      @Override
+      public String asString() {
+        return "result";
+      }
+    }
+  }
+
+  public enum LookupResult {
+    HIT,
+    MISS;
+
+    @Override
+    public String toString() {
+      return name().toLowerCase();
+    }
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.camunda.zeebe.engine.metrics.DrgCacheMetricsDoc.DrgCacheKeyNames;
+import io.camunda.zeebe.engine.metrics.DrgCacheMetricsDoc.LookupResult;
+import io.camunda.zeebe.util.CloseableSilently;
+import io.camunda.zeebe.util.micrometer.MicrometerUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Objects;
+
+/**
+ * Metrics of the cache of parsed DRGs. The cache is shared by all partitions of a broker, but each
+ * partition records its own lookups.
+ */
+public final class DrgCacheMetrics {
+
+  private final MeterRegistry registry;
+  private final Counter hits;
+  private final Counter misses;
+  private final Timer parseLatency;
+
+  public DrgCacheMetrics(final MeterRegistry registry) {
+    this.registry = Objects.requireNonNull(registry, "must specify a registry");
+    hits = registerLookups(LookupResult.HIT);
+    misses = registerLookups(LookupResult.MISS);
+    parseLatency = MicrometerUtil.buildTimer(DrgCacheMetricsDoc.PARSE_LATENCY).register(registry);
+  }
+
+  public void cacheHit() {
+    hits.increment();
+  }
+
+  public void cacheMiss() {
+    misses.increment();
+  }
+
+  public CloseableSilently startParseTimer() {
+    return MicrometerUtil.timer(parseLatency, Timer.start(registry.config().clock()));
+  }
+
+  private Counter registerLookups(final LookupResult result) {
+    final var meterDoc = DrgCacheMetricsDoc.LOOKUPS;
+    return Counter.builder(meterDoc.getName())
+        .description(meterDoc.getDescription())
+        .tag(DrgCacheKeyNames.RESULT.asString(), result.toString())
+        .register(registry);
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.camunda.zeebe.util.micrometer.ExtendedMeterDocumentation;
+import io.camunda.zeebe.util.micrometer.MicrometerUtil;
+import io.camunda.zeebe.util.micrometer.MicrometerUtil.PartitionKeyNames;
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.core.instrument.Meter.Type;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+/** Documents the metrics of the cache of parsed DRGs, see {@link DrgCacheMetrics}. */
+@SuppressWarnings("NullableProblems")
+public enum DrgCacheMetricsDoc implements ExtendedMeterDocumentation {
+  /** Number of lookups in the shared cache of parsed DRGs, by result (hit or miss) */
+  LOOKUPS {
+    @Override
+    public String getName() {
+      return "zeebe.drg.cache.lookups.total";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of lookups in the shared cache of parsed DRGs, by result (hit or miss)";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return DrgCacheKeyNames.values();
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Time to parse the DMN resource of a DRG on a cache miss */
+  PARSE_LATENCY {
+    private static final Duration[] BUCKETS =
+        MicrometerUtil.exponentialBucketDuration(100, 2, 15, ChronoUnit.MICROS);
+
+    @Override
+    public String getName() {
+      return "zeebe.drg.parse.latency";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Time to parse the DMN resource of a DRG on a cache miss";
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return BUCKETS;
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  };
+
+  @SuppressWarnings("NullableProblems")
+  public enum DrgCacheKeyNames implements KeyName {
+    /** Whether the lookup found a parsed DRG in the cache; see {@link LookupResult} for values */
+    RESULT {
+      @Override
+      public String asString() {
+        return "result";
+      }
+    }
+  }
+
+  public enum LookupResult {
+    HIT,
+    MISS;
+
+    @Override
+    public String toString() {
+      return name().toLowerCase();
+    }
+  }
+}
@@ -269,18 +269,18 @@ public class DeploymentReconstructProcessor implements TypedRecordProcessor<Depl
   private void attachResourceMetadataToDeployment(
       final DeploymentRecord deploymentRecord, final Resource resource) {
     switch (resource) {
-      case ProcessResource(final var process) -> {
+      case ProcessResource(var process) -> {
         final var metadata = deploymentRecord.processesMetadata().add();
         resourceUtil.applyProcessMetadata(process, metadata);
       }
-      case FormResource(final var form) -> {
+      case FormResource(var form) -> {
         final var metadata = deploymentRecord.formMetadata().add();
         resourceUtil.applyFormMetadata(form, metadata);
       }
       case DecisionRequirementsResource(
-              final var deploymentKey,
-              final var decisionRequirements,
-              final var decisions) -> {
+              var deploymentKey,
+              var decisionRequirements,
+              var decisions) -> {
         final var requirementsMetadata = deploymentRecord.decisionRequirementsMetadata().add();
         resourceUtil.applyDecisionRequirementsMetadata(decisionRequirements, requirementsMetadata);
         decisions.forEach(
@@ -11,27 +11,52 @@ import io.camunda.zeebe.engine.state.immutable.ElementInstanceState;
 import io.camunda.zeebe.engine.state.immutable.ProcessingState;
 import io.camunda.zeebe.engine.state.immutable.UserTaskState;
 import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.msgpack.spec.MsgPackDocumentBuilder;
 import io.camunda.zeebe.msgpack.value.DocumentValue;
-import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.Collection;
-import java.util.Map;
-import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
 
+/**
+ * Collects the variables of a job, i.e. the variables which are visible from the job's element
+ * instance. The variable documents are built by copying the encoded values of the variables,
+ * without decoding them.
+ *
+ * <p>Between {@link #beginBatch()} and {@link #endBatch()}, the collector caches the variables of
+ * the parent scopes, such that jobs of the same process instance, e.g. of a multi-instance
+ * activity, don't read the same variables again. The variables must not be modified during a batch.
+ */
 public class JobVariablesCollector {
 
   private final VariableState variableState;
   private final UserTaskState userTaskState;
   private final ElementInstanceState elementInstanceState;
 
+  private final MsgPackDocumentBuilder documentBuilder = new MsgPackDocumentBuilder();
+  // (scope key) => (variables visible from the scope), only used during a batch
+  private final Long2ObjectHashMap<DirectBuffer> scopeVariablesCache = new Long2ObjectHashMap<>();
+  private boolean isBatchActive;
+
   public JobVariablesCollector(final ProcessingState processingState) {
     variableState = processingState.getVariableState();
     userTaskState = processingState.getUserTaskState();
     elementInstanceState = processingState.getElementInstanceState();
   }
 
+  /** Starts caching the variables of parent scopes, until {@link #endBatch()} is called. */
+  public void beginBatch() {
+    scopeVariablesCache.clear();
+    isBatchActive = true;
+  }
+
+  /** Stops caching the variables of parent scopes, and clears the cache. */
+  public void endBatch() {
+    isBatchActive = false;
+    scopeVariablesCache.clear();
+  }
+
   public void setJobVariables(
       final Collection<DirectBuffer> requestedVariables, final JobRecord jobRecord) {
     final long elementInstanceKey = jobRecord.getElementInstanceKey();
@@ -39,7 +64,7 @@ public class JobVariablesCollector {
     if (elementInstanceKey < 0) {
       processVariables = DocumentValue.EMPTY_DOCUMENT;
     } else if (requestedVariables.isEmpty()) {
-      processVariables = variableState.getVariablesAsDocument(elementInstanceKey);
+      processVariables = getVariablesAsDocument(elementInstanceKey);
     } else {
       processVariables =
           variableState.getVariablesAsDocument(elementInstanceKey, requestedVariables);
@@ -48,41 +73,73 @@ public class JobVariablesCollector {
     final DirectBuffer jobVariables =
         switch (jobRecord.getJobKind()) {
           case BPMN_ELEMENT, EXECUTION_LISTENER -> processVariables;
-          case TASK_LISTENER -> {
-            final var taskVariablesMap = getTaskVariables(requestedVariables, elementInstanceKey);
-
-            // merge the two variables maps favoring the task variables over process variables
-            final Map<String, Object> taskListenersVariables =
-                MsgPackConverter.convertToMap(processVariables);
-            taskListenersVariables.putAll(taskVariablesMap);
-            yield BufferUtil.wrapArray(MsgPackConverter.convertToMsgPack(taskListenersVariables));
-          }
+          case TASK_LISTENER ->
+              mergeTaskVariables(requestedVariables, elementInstanceKey, processVariables);
         };
 
     jobRecord.setVariables(jobVariables);
   }
 
-  private Map<String, Object> getTaskVariables(
-      final Collection<DirectBuffer> requestedVariables, final long elementInstanceKey) {
+  private DirectBuffer getVariablesAsDocument(final long scopeKey) {
+    if (!isBatchActive) {
+      return variableState.getVariablesAsDocument(scopeKey);
+    }
+
+    final var parentScopeKey = variableState.getParentScopeKey(scopeKey);
+    final var parentVariables =
+        parentScopeKey < 0 ? DocumentValue.EMPTY_DOCUMENT : getCachedVariables(parentScopeKey);
+
+    documentBuilder.reset();
+    documentBuilder.putAllIfAbsent(variableState.getVariablesLocalAsDocument(scopeKey));
+    documentBuilder.putAllIfAbsent(parentVariables);
+    return documentBuilder.build();
+  }
+
+  private DirectBuffer getCachedVariables(final long scopeKey) {
+    final var cachedVariables = scopeVariablesCache.get(scopeKey);
+    if (cachedVariables != null) {
+      return cachedVariables;
+    }
+
+    // the variables of the parent scope are collected first, as this reuses the document builder
+    final var variables = BufferUtil.cloneBuffer(getVariablesAsDocument(scopeKey));
+    scopeVariablesCache.put(scopeKey, variables);
+    return variables;
+  }
+
+  /** Merges the variables favoring the task variables over the process variables. */
+  private DirectBuffer mergeTaskVariables(
+      final Collection<DirectBuffer> requestedVariables,
+      final long elementInstanceKey,
+      final DirectBuffer processVariables) {
+    final var taskVariables = getTaskVariables(elementInstanceKey);
+    if (taskVariables.capacity() == 0) {
+      return processVariables;
+    }
+
+    // the process variables may be the result of the document builder
+    final var processVariablesCopy = BufferUtil.cloneBuffer(processVariables);
+    documentBuilder.reset();
+    if (requestedVariables.isEmpty()) {
+      documentBuilder.putAllIfAbsent(taskVariables);
+    } else {
+      documentBuilder.putAllIfAbsent(taskVariables, requestedVariables::contains);
+    }
+    documentBuilder.putAllIfAbsent(processVariablesCopy);
+    return documentBuilder.build();
+  }
+
+  private DirectBuffer getTaskVariables(final long elementInstanceKey) {
     final var elementInstance = elementInstanceState.getInstance(elementInstanceKey);
     if (elementInstance == null) {
-      return Map.of();
+      return DocumentValue.EMPTY_DOCUMENT;
     }
     final var userTaskIntermediateState =
         userTaskState.getIntermediateState(elementInstance.getUserTaskKey());
     if (userTaskIntermediateState == null) {
-      return Map.of();
+      return DocumentValue.EMPTY_DOCUMENT;
     }
     final var taskVariables = userTaskIntermediateState.getRecord().getVariablesBuffer();
-    if (taskVariables.capacity() <= 0) {
-      return Map.of();
-    }
-    final Map<String, Object> taskVariablesMap = MsgPackConverter.convertToMap(taskVariables);
-    if (requestedVariables.isEmpty()) {
-      return taskVariablesMap;
-    }
-    return taskVariablesMap.entrySet().stream()
-        .filter(e -> requestedVariables.contains(BufferUtil.wrapString(e.getKey())))
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    return taskVariables.capacity() <= 0 ? DocumentValue.EMPTY_DOCUMENT : taskVariables;
   }
 }
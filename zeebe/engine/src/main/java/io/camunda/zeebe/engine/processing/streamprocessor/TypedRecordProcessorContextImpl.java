@@ -14,6 +14,7 @@ import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
 import io.camunda.zeebe.engine.state.ProcessingDbState;
 import io.camunda.zeebe.engine.state.ScheduledTaskDbState;
 import io.camunda.zeebe.engine.state.immutable.ScheduledTaskState;
+import io.camunda.zeebe.engine.state.instance.TransientTimerDueDateIndex;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
@@ -35,6 +36,7 @@ public class TypedRecordProcessorContextImpl implements TypedRecordProcessorCont
   private final EngineConfiguration config;
   private final TransientPendingSubscriptionState transientMessageSubscriptionState;
   private final TransientPendingSubscriptionState transientProcessMessageSubscriptionState;
+  private final TransientTimerDueDateIndex timerDueDateIndex;
   private final ControllableStreamClock clock;
   private final SecurityConfiguration securityConfig;
   private final MeterRegistry meterRegistry;
@@ -49,7 +51,9 @@ public class TypedRecordProcessorContextImpl implements TypedRecordProcessorCont
     zeebeDb = context.getZeebeDb();
     transientMessageSubscriptionState = new TransientPendingSubscriptionState();
     transientProcessMessageSubscriptionState = new TransientPendingSubscriptionState();
+    timerDueDateIndex = new TransientTimerDueDateIndex(config.getTimerDueDateIndexCapacity());
     clock = Objects.requireNonNull(context.getClock());
+    meterRegistry = context.getMeterRegistry();
     processingState =
         new ProcessingDbState(
             partitionId,
@@ -58,13 +62,14 @@ public class TypedRecordProcessorContextImpl implements TypedRecordProcessorCont
             context.getKeyGenerator(),
             transientMessageSubscriptionState,
             transientProcessMessageSubscriptionState,
+            timerDueDateIndex,
             config,
+            meterRegistry,
             clock);
     this.writers = writers;
     partitionCommandSender = context.getPartitionCommandSender();
     this.config = config;
     this.securityConfig = securityConfig;
-    meterRegistry = context.getMeterRegistry();
   }
 
   @Override
@@ -101,6 +106,7 @@ public class TypedRecordProcessorContextImpl implements TypedRecordProcessorCont
             partitionId,
             transientMessageSubscriptionState,
             transientProcessMessageSubscriptionState,
+            timerDueDateIndex,
             clock);
   }
 
@@ -136,7 +136,7 @@ public final class RedistributionBehavior {
     for (final var redistribution : redistributions) {
       for (final var resource : redistribution.containedResources()) {
         switch (resource) {
-          case Deployment(final var deploymentKey) -> progress.claimDeploymentKey(deploymentKey);
+          case Deployment(var deploymentKey) -> progress.claimDeploymentKey(deploymentKey);
         }
       }
     }
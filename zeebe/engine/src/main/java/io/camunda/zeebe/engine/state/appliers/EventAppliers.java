@@ -64,8 +64,9 @@ import io.camunda.zeebe.protocol.record.intent.VariableDocumentIntent;
 import io.camunda.zeebe.protocol.record.intent.VariableIntent;
 import io.camunda.zeebe.protocol.record.intent.scaling.RedistributionIntent;
 import io.camunda.zeebe.protocol.record.intent.scaling.ScaleIntent;
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -73,13 +74,31 @@ import java.util.Objects;
  * Applies state changes from events to the {@link MutableProcessingState}.
  *
  * <p>Finds the correct {@link TypedEventApplier} and delegates.
+ *
+ * <p>The registered appliers are compiled into a dense dispatch table on first use, indexed by the
+ * intent class, the intent's ordinal and the record version. This avoids boxing and hashing when
+ * looking up the applier of each applied event. Intents which are not one of the {@link
+ * Intent#INTENT_CLASSES} are looked up in the registration map instead.
  */
 public final class EventAppliers implements EventApplier {
 
   public static final TypedEventApplier<Intent, RecordValue> NOOP_EVENT_APPLIER =
       (key, value) -> {};
 
+  private static final List<Class<? extends Intent>> INTENT_CLASSES =
+      List.copyOf(Intent.INTENT_CLASSES);
+  // the index of an intent class in INTENT_CLASSES, or -1 if it is none of them
+  private static final ClassValue<Integer> INTENT_CLASS_INDEX =
+      new ClassValue<>() {
+        @Override
+        protected Integer computeValue(final Class<?> type) {
+          return INTENT_CLASSES.indexOf(type);
+        }
+      };
+
   private final Map<Intent, Map<Integer, TypedEventApplier>> mapping = new HashMap<>();
+  // (intent class index) => (intent ordinal) => (version) => applier; null until compiled
+  private TypedEventApplier[][][] dispatchTable;
 
   public EventAppliers registerEventAppliers(final MutableProcessingState state) {
     registerProcessInstanceEventAppliers(state);
@@ -576,19 +595,54 @@ public final class EventAppliers implements EventApplier {
           String.format(
               "Applier for intent '%s' and version '%d' is already registered", intent, version));
     }
+
+    // compiled again on next use
+    dispatchTable = null;
   }
 
   @Override
   public int getLatestVersion(final Intent intent) {
-    return mapping.getOrDefault(intent, new HashMap<>()).keySet().stream()
-        .max(Comparator.naturalOrder())
-        .orElse(-1);
+    final var appliersForIntent = findCompiledAppliers(intent);
+    if (appliersForIntent != null) {
+      return appliersForIntent.length > 0 ? appliersForIntent.length - 1 : -1;
+    }
+
+    final var applierForIntent = mapping.get(intent);
+    if (applierForIntent == null) {
+      return -1;
+    }
+
+    int latestVersion = -1;
+    for (final int version : applierForIntent.keySet()) {
+      latestVersion = Math.max(latestVersion, version);
+    }
+    return latestVersion;
   }
 
   @Override
   public void applyState(
       final long key, final Intent intent, final RecordValue value, final int recordVersion)
       throws NoSuchEventApplier {
+    final var applierForVersion = findApplier(intent, recordVersion);
+    applierForVersion.applyState(key, value);
+  }
+
+  private TypedEventApplier findApplier(final Intent intent, final int recordVersion) {
+    final var appliersForIntent = findCompiledAppliers(intent);
+    if (appliersForIntent != null) {
+      if (appliersForIntent.length == 0) {
+        throw new NoApplierForIntent(intent);
+      }
+      final var applierForVersion =
+          recordVersion >= 0 && recordVersion < appliersForIntent.length
+              ? appliersForIntent[recordVersion]
+              : null;
+      if (applierForVersion == null) {
+        throw new NoApplierForVersion(intent, recordVersion, getLatestVersion(intent));
+      }
+      return applierForVersion;
+    }
+
     final var applierForIntent = mapping.get(intent);
     if (applierForIntent == null) {
       throw new NoApplierForIntent(intent);
@@ -597,7 +651,55 @@ public final class EventAppliers implements EventApplier {
     if (applierForVersion == null) {
       throw new NoApplierForVersion(intent, recordVersion, getLatestVersion(intent));
     }
+    return applierForVersion;
+  }
+
+  /**
+   * Returns the appliers of the given intent from the dispatch table, indexed by version. The array
+   * is empty if no applier is registered for an intent of the known intent classes.
+   *
+   * @return the appliers of the intent, or null if the intent is not one of the known intent
+   *     classes
+   */
+  private TypedEventApplier[] findCompiledAppliers(final Intent intent) {
+    if (!(intent instanceof final Enum<?> intentEnum)) {
+      return null;
+    }
 
-    applierForVersion.applyState(key, value);
+    final int classIndex = INTENT_CLASS_INDEX.get(intentEnum.getDeclaringClass());
+    if (classIndex < 0) {
+      return null;
+    }
+
+    if (dispatchTable == null) {
+      dispatchTable = compileDispatchTable();
+    }
+    return dispatchTable[classIndex][intentEnum.ordinal()];
+  }
+
+  private TypedEventApplier[][][] compileDispatchTable() {
+    final var table = new TypedEventApplier[INTENT_CLASSES.size()][][];
+    for (int classIndex = 0; classIndex < table.length; classIndex++) {
+      final var intents = INTENT_CLASSES.get(classIndex).getEnumConstants();
+      final var appliersByIntent = new TypedEventApplier[intents.length][];
+      for (final Intent intent : intents) {
+        appliersByIntent[((Enum<?>) intent).ordinal()] = compileAppliers(intent);
+      }
+      table[classIndex] = appliersByIntent;
+    }
+    return table;
+  }
+
+  private TypedEventApplier[] compileAppliers(final Intent intent) {
+    final var appliersByVersion = mapping.getOrDefault(intent, Map.of());
+    final var appliers = new ArrayList<TypedEventApplier>();
+    appliersByVersion.forEach(
+        (version, applier) -> {
+          while (appliers.size() <= version) {
+            appliers.add(null);
+          }
+          appliers.set(version, applier);
+        });
+    return appliers.toArray(TypedEventApplier[]::new);
   }
 }
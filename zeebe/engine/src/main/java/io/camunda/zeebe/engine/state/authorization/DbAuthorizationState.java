@@ -7,18 +7,24 @@
  */
 package io.camunda.zeebe.engine.state.authorization;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.AuthorizationCacheMetrics;
 import io.camunda.zeebe.engine.state.mutable.MutableAuthorizationState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.authorization.AuthorizationRecord;
 import io.camunda.zeebe.protocol.record.value.AuthorizationOwnerType;
 import io.camunda.zeebe.protocol.record.value.AuthorizationResourceType;
 import io.camunda.zeebe.protocol.record.value.PermissionType;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
@@ -47,8 +53,18 @@ public class DbAuthorizationState implements MutableAuthorizationState {
   private final ColumnFamily<DbCompositeKey<DbString, DbString>, AuthorizationKeys>
       authorizationKeysByOwnerColumnFamily;
 
+  // owner type + owner id + resource type + permission type -> resource identifiers
+  private final Cache<AuthorizationCacheKey, Set<String>> resourceIdentifiersCache;
+  private final AuthorizationCacheMetrics cacheMetrics;
+  // while authorizations are modified in a transaction which is neither committed nor rolled back,
+  // resource identifiers are not cached, so the cache never contains uncommitted state
+  private boolean isModifiedInTransaction;
+
   public DbAuthorizationState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final EngineConfiguration config,
+      final MeterRegistry meterRegistry) {
     ownerType = new DbString();
     ownerId = new DbString();
     resourceType = new DbString();
@@ -75,6 +91,23 @@ public class DbAuthorizationState implements MutableAuthorizationState {
             transactionContext,
             ownerTypeAndOwnerId,
             new AuthorizationKeys());
+
+    resourceIdentifiersCache =
+        CacheBuilder.newBuilder().maximumSize(config.getAuthorizationsCacheCapacity()).build();
+    cacheMetrics = new AuthorizationCacheMetrics(meterRegistry);
+
+    transactionContext.addTransactionListener(
+        new TransactionListener() {
+          @Override
+          public void onCommit() {
+            isModifiedInTransaction = false;
+          }
+
+          @Override
+          public void onRollback() {
+            isModifiedInTransaction = false;
+          }
+        });
   }
 
   @Override
@@ -84,6 +117,9 @@ public class DbAuthorizationState implements MutableAuthorizationState {
     authorizationByAuthorizationKeyColumnFamily.insert(
         this.authorizationKey, persistedAuthorization);
 
+    invalidateCache(
+        authorization.getOwnerType(), authorization.getOwnerId(), authorization.getResourceType());
+
     ownerId.wrapString(authorization.getOwnerId());
     ownerType.wrapString(authorization.getOwnerType().name());
     resourceType.wrapString(authorization.getResourceType().name());
@@ -123,6 +159,11 @@ public class DbAuthorizationState implements MutableAuthorizationState {
     final var persistedAuthorization =
         authorizationByAuthorizationKeyColumnFamily.get(this.authorizationKey);
 
+    invalidateCache(
+        persistedAuthorization.getOwnerType(),
+        persistedAuthorization.getOwnerId(),
+        persistedAuthorization.getResourceType());
+
     // remove the old permissions
     persistedAuthorization
         .getPermissionTypes()
@@ -161,17 +202,23 @@ public class DbAuthorizationState implements MutableAuthorizationState {
       final String ownerId,
       final AuthorizationResourceType resourceType,
       final PermissionType permissionType) {
-    this.ownerType.wrapString(ownerType.name());
-    this.ownerId.wrapString(ownerId);
-    this.resourceType.wrapString(resourceType.name());
+    if (isModifiedInTransaction) {
+      return lookupResourceIdentifiers(ownerType, ownerId, resourceType, permissionType);
+    }
 
-    final var persistedPermissions = permissionsColumnFamily.get(ownerTypeOwnerIdAndResourceType);
+    final var cacheKey =
+        new AuthorizationCacheKey(ownerType, ownerId, resourceType, permissionType);
+    final var cachedResourceIdentifiers = resourceIdentifiersCache.getIfPresent(cacheKey);
+    if (cachedResourceIdentifiers != null) {
+      cacheMetrics.cacheHit();
+      return cachedResourceIdentifiers;
+    }
 
-    return persistedPermissions == null
-        ? Collections.emptySet()
-        : persistedPermissions
-            .getPermissions()
-            .getOrDefault(permissionType, Collections.emptySet());
+    cacheMetrics.cacheMiss();
+    final var resourceIdentifiers =
+        lookupResourceIdentifiers(ownerType, ownerId, resourceType, permissionType);
+    resourceIdentifiersCache.put(cacheKey, resourceIdentifiers);
+    return resourceIdentifiers;
   }
 
   @Override
@@ -183,6 +230,36 @@ public class DbAuthorizationState implements MutableAuthorizationState {
     return keys == null ? Collections.emptySet() : keys.getAuthorizationKeys();
   }
 
+  private Set<String> lookupResourceIdentifiers(
+      final AuthorizationOwnerType ownerType,
+      final String ownerId,
+      final AuthorizationResourceType resourceType,
+      final PermissionType permissionType) {
+    this.ownerType.wrapString(ownerType.name());
+    this.ownerId.wrapString(ownerId);
+    this.resourceType.wrapString(resourceType.name());
+
+    final var persistedPermissions = permissionsColumnFamily.get(ownerTypeOwnerIdAndResourceType);
+
+    return persistedPermissions == null
+        ? Collections.emptySet()
+        : Set.copyOf(
+            persistedPermissions
+                .getPermissions()
+                .getOrDefault(permissionType, Collections.emptySet()));
+  }
+
+  private void invalidateCache(
+      final AuthorizationOwnerType ownerType,
+      final String ownerId,
+      final AuthorizationResourceType resourceType) {
+    isModifiedInTransaction = true;
+    for (final PermissionType permissionType : PermissionType.values()) {
+      resourceIdentifiersCache.invalidate(
+          new AuthorizationCacheKey(ownerType, ownerId, resourceType, permissionType));
+    }
+  }
+
   private void removePermission(
       final AuthorizationOwnerType ownerType,
       final String ownerId,
@@ -202,4 +279,10 @@ public class DbAuthorizationState implements MutableAuthorizationState {
       permissionsColumnFamily.update(ownerTypeOwnerIdAndResourceType, permissions);
     }
   }
+
+  private record AuthorizationCacheKey(
+      AuthorizationOwnerType ownerType,
+      String ownerId,
+      AuthorizationResourceType resourceType,
+      PermissionType permissionType) {}
 }
@@ -25,17 +25,20 @@ import io.camunda.zeebe.dmn.DecisionEngine;
 import io.camunda.zeebe.dmn.DecisionEngineFactory;
 import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
 import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.DrgCacheMetrics;
 import io.camunda.zeebe.engine.state.mutable.MutableDecisionState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DecisionRecord;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DecisionRequirementsRecord;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import org.agrona.DirectBuffer;
@@ -120,11 +123,14 @@ public final class DbDecisionState implements MutableDecisionState {
       decisionKeyByDecisionIdAndVersionTag;
 
   private final LoadingCache<TenantIdAndDrgKey, DeployedDrg> drgCache;
+  private final ParsedDrgCache parsedDrgCache;
+  private final DrgCacheMetrics drgCacheMetrics;
 
   public DbDecisionState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
-      final EngineConfiguration config) {
+      final EngineConfiguration config,
+      final MeterRegistry meterRegistry) {
     tenantIdKey = new DbString();
     dbDecisionKey = new DbLong();
     tenantAwareDecisionKey =
@@ -226,6 +232,10 @@ public final class DbDecisionState implements MutableDecisionState {
             tenantAwareDecisionIdAndVersionTag,
             fkDecision);
 
+    parsedDrgCache =
+        Objects.requireNonNullElseGet(
+            config.getParsedDrgCache(), () -> new ParsedDrgCache(config.getParsedDrgCacheSize()));
+    drgCacheMetrics = new DrgCacheMetrics(meterRegistry);
     drgCache =
         CacheBuilder.newBuilder()
             .maximumSize(config.getDrgCacheCapacity())
@@ -364,13 +374,18 @@ public final class DbDecisionState implements MutableDecisionState {
 
     final PersistedDecisionRequirements copiedDrg = persistedDrg.copy();
 
-    final var resourceBytes = BufferUtil.bufferAsArray(copiedDrg.getResource());
     final ParsedDecisionRequirementsGraph parsedDrg =
-        decisionEngine.parse(new ByteArrayInputStream(resourceBytes));
+        parsedDrgCache.computeIfAbsent(
+            copiedDrg, this::parseDecisionRequirements, drgCacheMetrics);
 
     return new DeployedDrg(parsedDrg, copiedDrg);
   }
 
+  private ParsedDecisionRequirementsGraph parseDecisionRequirements(final DirectBuffer resource) {
+    final var resourceBytes = BufferUtil.bufferAsArray(resource);
+    return decisionEngine.parse(new ByteArrayInputStream(resourceBytes));
+  }
+
   private Optional<DeployedDrg> findDeployedDrg(
       final long decisionRequirementsKey, final String tenantId) {
     try {
@@ -39,6 +39,7 @@ import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.time.InstantSource;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
@@ -50,6 +51,7 @@ public final class DbProcessState implements MutableProcessState {
   private static final int DEFAULT_VERSION_VALUE = 0;
 
   private final BpmnTransformer transformer;
+  private final ExecutableProcessCache executableProcessCache;
   private final ProcessRecord processRecordForDeployments = new ProcessRecord();
   private final Cache<TenantIdAndProcessIdAndVersion, DeployedProcess>
       processesByTenantAndProcessIdAndVersionCache;
@@ -115,6 +117,10 @@ public final class DbProcessState implements MutableProcessState {
       final EngineConfiguration config,
       final InstantSource clock) {
     transformer = BpmnFactory.createTransformer(clock);
+    executableProcessCache =
+        Objects.requireNonNullElseGet(
+            config.getExecutableProcessCache(),
+            () -> new ExecutableProcessCache(config.getExecutableProcessCacheSize()));
     processDefinitionKey = new DbLong();
     persistedProcess = new PersistedProcess();
     tenantIdKey = new DbString();
@@ -338,22 +344,8 @@ public final class DbProcessState implements MutableProcessState {
     final PersistedProcess copiedProcess = new PersistedProcess();
     copiedProcess.wrap(buffer, 0, persistedProcess.getLength());
 
-    final BpmnModelInstance modelInstance =
-        readModelInstanceFromBuffer(copiedProcess.getResource());
-    final List<ExecutableProcess> definitions = transformer.transformDefinitions(modelInstance);
-
     final ExecutableProcess executableProcess =
-        definitions.stream()
-            .filter(
-                process -> BufferUtil.equals(persistedProcess.getBpmnProcessId(), process.getId()))
-            .findFirst()
-            .orElseThrow(
-                () ->
-                    new NoSuchElementException(
-                        String.format(
-                            "Expected to find executable process in persisted process with key '%s',"
-                                + " but after transformation no such executable process could be found.",
-                            persistedProcess.getKey())));
+        executableProcessCache.computeIfAbsent(copiedProcess, this::transformProcess);
 
     final DeployedProcess deployedProcess = new DeployedProcess(executableProcess, copiedProcess);
 
@@ -362,6 +354,23 @@ public final class DbProcessState implements MutableProcessState {
     return deployedProcess;
   }
 
+  private ExecutableProcess transformProcess(final PersistedProcess persistedProcess) {
+    final BpmnModelInstance modelInstance =
+        readModelInstanceFromBuffer(persistedProcess.getResource());
+    final List<ExecutableProcess> definitions = transformer.transformDefinitions(modelInstance);
+
+    return definitions.stream()
+        .filter(process -> BufferUtil.equals(persistedProcess.getBpmnProcessId(), process.getId()))
+        .findFirst()
+        .orElseThrow(
+            () ->
+                new NoSuchElementException(
+                    String.format(
+                        "Expected to find executable process in persisted process with key '%s',"
+                            + " but after transformation no such executable process could be found.",
+                        persistedProcess.getKey())));
+  }
+
   private BpmnModelInstance readModelInstanceFromBuffer(final DirectBuffer buffer) {
     try (final DirectBufferInputStream stream = new DirectBufferInputStream(buffer)) {
       return Bpmn.readModelFromStream(stream);
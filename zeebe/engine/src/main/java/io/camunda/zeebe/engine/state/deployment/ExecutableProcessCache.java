@@ -0,0 +1,85 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.function.Function;
+import org.agrona.DirectBuffer;
+
+/**
+ * A thread-safe cache of transformed processes, which can be shared by all partitions of a broker.
+ *
+ * <p>Deployed processes are distributed to every partition with the same key. Without sharing, each
+ * partition parses the BPMN XML and transforms it into an {@link ExecutableProcess} on its own, for
+ * example after a fail-over or when the partition's process cache was too small to hold all active
+ * definitions. With this cache, only the first partition does the work and the others reuse the
+ * result, since executable processes are not modified after their transformation.
+ *
+ * <p>The entries are identified by the process definition key and the content of the resource, so
+ * an entry is never returned for a different resource, even if a key is reused after a rolled back
+ * deployment. The size of the cache is bounded by the total length of the cached resources, which
+ * is a good estimate of the memory used by the executable processes transformed from them.
+ */
+public final class ExecutableProcessCache {
+
+  private final Cache<CacheKey, ExecutableProcess> cache;
+
+  /**
+   * @param maxSizeInBytes the maximum total length of the resources of the cached processes
+   */
+  public ExecutableProcessCache(final long maxSizeInBytes) {
+    cache =
+        CacheBuilder.newBuilder()
+            .maximumWeight(maxSizeInBytes)
+            .<CacheKey, ExecutableProcess>weigher((key, process) -> key.resourceLength())
+            .build();
+  }
+
+  /**
+   * Returns the executable process of the given persisted process, transforming it with the given
+   * function if it is not cached yet. Concurrent calls for the same process wait for the first
+   * transformation to complete instead of transforming the process again.
+   *
+   * @param process the persisted process to look up
+   * @param transformer transforms the persisted process if the cache holds no executable process
+   * @return the executable process
+   */
+  ExecutableProcess computeIfAbsent(
+      final PersistedProcess process,
+      final Function<PersistedProcess, ExecutableProcess> transformer) {
+    return cache.asMap().computeIfAbsent(CacheKey.of(process), key -> transformer.apply(process));
+  }
+
+  /**
+   * @return the approximate number of cached processes
+   */
+  long size() {
+    return cache.size();
+  }
+
+  private record CacheKey(
+      String tenantId,
+      long processDefinitionKey,
+      DirectBuffer bpmnProcessId,
+      int resourceLength,
+      int resourceHash) {
+
+    private static CacheKey of(final PersistedProcess process) {
+      final DirectBuffer resource = process.getResource();
+      return new CacheKey(
+          process.getTenantId(),
+          process.getKey(),
+          BufferUtil.cloneBuffer(process.getBpmnProcessId()),
+          resource.capacity(),
+          resource.hashCode());
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
+import io.camunda.zeebe.engine.metrics.DrgCacheMetrics;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.function.Function;
+import org.agrona.DirectBuffer;
+
+/**
+ * A thread-safe cache of parsed decision requirements graphs (DRGs), which can be shared by all
+ * partitions of a broker.
+ *
+ * <p>Deployed DRGs are distributed to every partition. Without sharing, each partition parses the
+ * same DMN XML on its own whenever its DRG cache misses. With this cache, only the first partition
+ * parses the resource and the others reuse the result, since a parsed DRG is not modified after
+ * parsing and can be evaluated concurrently.
+ *
+ * <p>The entries are addressed by the content of the DMN resource, i.e. its checksum and length, so
+ * identical resources deployed by different tenants or deployments share the same entry. The size
+ * of the cache is bounded by the total length of the cached resources, which is used as an estimate
+ * of the memory used by the parsed DRGs.
+ */
+public final class ParsedDrgCache {
+
+  private final Cache<CacheKey, ParsedDecisionRequirementsGraph> cache;
+
+  /**
+   * @param maxSizeInBytes the maximum total length of the resources of the cached DRGs
+   */
+  public ParsedDrgCache(final long maxSizeInBytes) {
+    cache =
+        CacheBuilder.newBuilder()
+            .maximumWeight(maxSizeInBytes)
+            .<CacheKey, ParsedDecisionRequirementsGraph>weigher((key, drg) -> key.resourceLength())
+            .build();
+  }
+
+  /**
+   * Returns the parsed DRG of the given persisted DRG, parsing its resource with the given function
+   * if it is not cached yet. Concurrent calls for the same resource wait for the first parsing to
+   * complete instead of parsing the resource again.
+   *
+   * @param drg the persisted DRG to look up
+   * @param parser parses the DMN resource if the cache holds no parsed DRG for it
+   * @param metrics the metrics of the partition which looks up the DRG
+   * @return the parsed DRG
+   */
+  ParsedDecisionRequirementsGraph computeIfAbsent(
+      final PersistedDecisionRequirements drg,
+      final Function<DirectBuffer, ParsedDecisionRequirementsGraph> parser,
+      final DrgCacheMetrics metrics) {
+    final DirectBuffer checksum = drg.getChecksum();
+    final DirectBuffer resource = drg.getResource();
+    if (checksum.capacity() == 0) {
+      // without a checksum, the resource can't be addressed by its content
+      metrics.cacheMiss();
+      return parse(resource, parser, metrics);
+    }
+
+    final var cacheKey = new CacheKey(BufferUtil.cloneBuffer(checksum), resource.capacity());
+    final var cachedDrg = cache.getIfPresent(cacheKey);
+    if (cachedDrg != null) {
+      metrics.cacheHit();
+      return cachedDrg;
+    }
+
+    metrics.cacheMiss();
+    return cache.asMap().computeIfAbsent(cacheKey, key -> parse(resource, parser, metrics));
+  }
+
+  /**
+   * @return the approximate number of cached DRGs
+   */
+  long size() {
+    return cache.size();
+  }
+
+  private ParsedDecisionRequirementsGraph parse(
+      final DirectBuffer resource,
+      final Function<DirectBuffer, ParsedDecisionRequirementsGraph> parser,
+      final DrgCacheMetrics metrics) {
+    try (final var ignored = metrics.startParseTimer()) {
+      return parser.apply(resource);
+    }
+  }
+
+  private record CacheKey(DirectBuffer checksum, int resourceLength) {}
+}
@@ -9,14 +9,22 @@ package io.camunda.zeebe.engine.state.instance;
 
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbForeignKey;
 import io.camunda.zeebe.db.impl.DbForeignKey.MatchType;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.engine.state.instance.TransientTimerDueDateIndex.DueDateVisitor;
+import io.camunda.zeebe.engine.state.instance.TransientTimerDueDateIndex.TimerDueDate;
 import io.camunda.zeebe.engine.state.mutable.MutableTimerInstanceState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.function.Consumer;
 
 public final class DbTimerInstanceState implements MutableTimerInstanceState {
@@ -35,10 +43,19 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
   private final DbCompositeKey<DbLong, DbCompositeKey<DbForeignKey<DbLong>, DbLong>>
       dueDateCompositeKey;
 
+  private final TransientTimerDueDateIndex dueDateIndex;
+  // changes to the due date index made in the current transaction, applied once it is committed
+  private final List<DueDateIndexChange> pendingIndexChanges = new ArrayList<>();
+  // the number of pending index changes at each savepoint of the current transaction
+  private final Deque<Integer> savepointIndexChanges = new ArrayDeque<>();
+
   private long nextDueDate;
 
   public DbTimerInstanceState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final TransientTimerDueDateIndex dueDateIndex) {
+    this.dueDateIndex = dueDateIndex;
     timerInstance = new TimerInstance();
     timerKey = new DbLong();
     elementInstanceKey =
@@ -60,6 +77,8 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
             transactionContext,
             dueDateCompositeKey,
             DbNil.INSTANCE);
+
+    transactionContext.addTransactionListener(new DueDateIndexUpdater());
   }
 
   @Override
@@ -69,6 +88,8 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     timerInstanceColumnFamily.insert(elementAndTimerKey, timer);
 
+    // recorded before the write, so that it is applied when the write commits implicitly
+    addPendingIndexChange(timer, true);
     dueDate.wrapLong(timer.getDueDate());
     dueDateColumnFamily.insert(dueDateCompositeKey, DbNil.INSTANCE);
   }
@@ -79,6 +100,7 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
     timerKey.wrapLong(timer.getKey());
     timerInstanceColumnFamily.deleteExisting(elementAndTimerKey);
 
+    addPendingIndexChange(timer, false);
     dueDate.wrapLong(timer.getDueDate());
     dueDateColumnFamily.deleteExisting(dueDateCompositeKey);
   }
@@ -90,14 +112,89 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
     timerInstanceColumnFamily.update(elementAndTimerKey, timer);
   }
 
+  @Override
+  public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    rebuildDueDateIndex();
+  }
+
+  @Override
+  public void rebuildDueDateIndex() {
+    dueDateIndex.rebuild(visitor -> visitPersistedDueDates(null, visitor));
+  }
+
   @Override
   public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
+    // refilled here rather than on commit, to keep the scan out of the processing path
+    dueDateIndex.refillIfDrained(this::visitPersistedDueDates);
+    final var window = dueDateIndex.window();
+    if (window == null) {
+      return processPersistedTimersWithDueDateBefore(null, timestamp, consumer);
+    }
+
+    for (final var indexedDueDate : window.dueDates()) {
+      final var dueDate = indexedDueDate.dueDate();
+      if (dueDate > timestamp) {
+        return dueDate;
+      }
+
+      final var timerInstance = get(indexedDueDate.elementInstanceKey(), indexedDueDate.timerKey());
+      if (timerInstance == null) {
+        // The index is updated right after the processing transaction is committed, so it may
+        // still contain timers which were just removed. They can be ignored here, see the data
+        // race described in processPersistedTimersWithDueDateBefore.
+        continue;
+      }
+
+      if (!consumer.visit(timerInstance)) {
+        return dueDate;
+      }
+    }
+
+    final var highWater = window.highWater();
+    if (highWater == null) {
+      return -1L;
+    }
+
+    // all timers of the window are due, the next ones are only persisted
+    return processPersistedTimersWithDueDateBefore(highWater, timestamp, consumer);
+  }
+
+  /**
+   * Visits the persisted due dates after the given one, or all of them if it is {@code null}, until
+   * the visitor returns {@code false}.
+   */
+  private void visitPersistedDueDates(final TimerDueDate startAfter, final DueDateVisitor visitor) {
+    dueDateColumnFamily.whileTrue(
+        dueDateStartKey(startAfter),
+        (key, nil) -> {
+          final var dueDate = key.first().getValue();
+          final var elementInstanceKey = key.second().first().inner().getValue();
+          final var timerKey = key.second().second().getValue();
+          return isSameDueDate(startAfter, dueDate, elementInstanceKey, timerKey)
+              || visitor.visit(dueDate, elementInstanceKey, timerKey);
+        });
+  }
+
+  /**
+   * Visits the timers of the persisted due dates after the given one, or of all of them if it is
+   * {@code null}.
+   */
+  private long processPersistedTimersWithDueDateBefore(
+      final TimerDueDate startAfter, final long timestamp, final TimerVisitor consumer) {
     nextDueDate = -1L;
 
     dueDateColumnFamily.whileTrue(
+        dueDateStartKey(startAfter),
         (key, nil) -> {
           final var dueDate = key.first().getValue();
           final var elementAndTimerKey = key.second();
+          if (isSameDueDate(
+              startAfter,
+              dueDate,
+              elementAndTimerKey.first().inner().getValue(),
+              elementAndTimerKey.second().getValue())) {
+            return true;
+          }
 
           boolean consumed = false;
           if (dueDate <= timestamp) {
@@ -122,6 +219,55 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
     return nextDueDate;
   }
 
+  private DbCompositeKey<DbLong, DbCompositeKey<DbForeignKey<DbLong>, DbLong>> dueDateStartKey(
+      final TimerDueDate startAfter) {
+    if (startAfter == null) {
+      return null;
+    }
+
+    dueDate.wrapLong(startAfter.dueDate());
+    elementInstanceKey.inner().wrapLong(startAfter.elementInstanceKey());
+    timerKey.wrapLong(startAfter.timerKey());
+    return dueDateCompositeKey;
+  }
+
+  private static boolean isSameDueDate(
+      final TimerDueDate timerDueDate,
+      final long dueDate,
+      final long elementInstanceKey,
+      final long timerKey) {
+    return timerDueDate != null
+        && timerDueDate.dueDate() == dueDate
+        && timerDueDate.elementInstanceKey() == elementInstanceKey
+        && timerDueDate.timerKey() == timerKey;
+  }
+
+  private void addPendingIndexChange(final TimerInstance timer, final boolean isAdded) {
+    pendingIndexChanges.add(
+        new DueDateIndexChange(
+            new TimerDueDate(timer.getDueDate(), timer.getElementInstanceKey(), timer.getKey()),
+            isAdded));
+  }
+
+  private void applyPendingIndexChanges() {
+    if (pendingIndexChanges.isEmpty()) {
+      return;
+    }
+
+    for (final var change : pendingIndexChanges) {
+      final var timerDueDate = change.timerDueDate();
+      if (change.isAdded()) {
+        dueDateIndex.add(
+            timerDueDate.dueDate(), timerDueDate.elementInstanceKey(), timerDueDate.timerKey());
+      } else {
+        dueDateIndex.remove(
+            timerDueDate.dueDate(), timerDueDate.elementInstanceKey(), timerDueDate.timerKey());
+      }
+    }
+    pendingIndexChanges.clear();
+    savepointIndexChanges.clear();
+  }
+
   @Override
   public void forEachTimerForElementInstance(
       final long elementInstanceKey, final Consumer<TimerInstance> action) {
@@ -141,4 +287,34 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     return timerInstanceColumnFamily.get(elementAndTimerKey);
   }
+
+  private record DueDateIndexChange(TimerDueDate timerDueDate, boolean isAdded) {}
+
+  /** Applies the changes to the due date index only once they are committed. */
+  private final class DueDateIndexUpdater implements TransactionListener {
+
+    @Override
+    public void onSavepoint() {
+      savepointIndexChanges.push(pendingIndexChanges.size());
+    }
+
+    @Override
+    public void onRollbackToSavepoint() {
+      final var savepointSize = savepointIndexChanges.poll();
+      if (savepointSize != null) {
+        pendingIndexChanges.subList(savepointSize, pendingIndexChanges.size()).clear();
+      }
+    }
+
+    @Override
+    public void onCommit() {
+      applyPendingIndexChanges();
+    }
+
+    @Override
+    public void onRollback() {
+      pendingIndexChanges.clear();
+      savepointIndexChanges.clear();
+    }
+  }
 }
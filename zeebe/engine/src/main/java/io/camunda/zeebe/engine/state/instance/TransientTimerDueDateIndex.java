@@ -0,0 +1,199 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import java.util.Comparator;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.agrona.collections.MutableBoolean;
+
+/**
+ * In-memory index of the earliest due dates of the timers of a partition, ordered by due date. It
+ * is used by {@link DbTimerInstanceState} to find due timers without iterating over the {@code
+ * TIMER_DUE_DATES} column family.
+ *
+ * <p>The index is only usable once it has been built from the column family via {@link
+ * #rebuild(Consumer)}. To bound its memory footprint, it holds at most {@code capacity} due dates.
+ * If there are more timers, the index is a window of the earliest ones: it contains every due date
+ * up to and including its {@link Window#highWater() high-water} due date, and none after it. New
+ * due dates after the high-water mark are not indexed, and if the window overflows, its latest due
+ * dates are evicted, lowering the high-water mark. Once all due dates of a truncated window were
+ * removed, the window is {@link #isDrained() drained} and has to be refilled from the column
+ * family, starting after the previous high-water mark, see {@link #refillIfDrained(BiConsumer)}.
+ *
+ * <p>Only timer due dates are indexed. The job deadlines, job backoffs and message deadlines
+ * checked by {@code JobTimeoutChecker}, {@code JobBackoffChecker} and {@code
+ * MessageTimeToLiveChecker} are still found by iterating the {@code JOB_DEADLINES}, {@code
+ * JOB_BACKOFF} and {@code MESSAGE_DEADLINES} column families.
+ *
+ * <p>The index must only contain committed due dates, as it is not rolled back with the
+ * transaction. {@link DbTimerInstanceState} therefore applies its changes only after the
+ * transaction is committed.
+ *
+ * <p>This class is thread safe. Its intended use is that one thread (the stream processor) is
+ * adding, removing and rebuilding entries, while another thread (the timer checker) is observing
+ * the entries by calling {@link #window()} and refilling a drained window. As changes are applied
+ * right after the commit, the observer may still see due dates of timers which were removed just
+ * now, so it has to verify each entry against the persisted state. Changes and rebuilds are
+ * mutually exclusive, so a change committed while the window is refilled is applied to the refilled
+ * window.
+ */
+public final class TransientTimerDueDateIndex {
+
+  private static final Comparator<TimerDueDate> DUE_DATE_ORDER =
+      Comparator.comparingLong(TimerDueDate::dueDate)
+          .thenComparingLong(TimerDueDate::elementInstanceKey)
+          .thenComparingLong(TimerDueDate::timerKey);
+
+  private final int capacity;
+
+  // null until the index is built; only replaced while holding the lock
+  private volatile Window window;
+  // only accessed while holding the lock
+  private int size;
+
+  /**
+   * @param capacity the maximum number of indexed due dates; the index is disabled if it is not
+   *     positive
+   */
+  public TransientTimerDueDateIndex(final int capacity) {
+    this.capacity = capacity;
+  }
+
+  public synchronized void add(
+      final long dueDate, final long elementInstanceKey, final long timerKey) {
+    final var currentWindow = window;
+    if (currentWindow == null) {
+      return;
+    }
+
+    final var timerDueDate = new TimerDueDate(dueDate, elementInstanceKey, timerKey);
+    final var highWater = currentWindow.highWater;
+    if (highWater != null && DUE_DATE_ORDER.compare(timerDueDate, highWater) > 0) {
+      // the due date is after the window, it is indexed when the window is refilled
+      return;
+    }
+
+    if (!currentWindow.dueDates.add(timerDueDate)) {
+      return;
+    }
+
+    if (size < capacity) {
+      size++;
+    } else {
+      // the window overflows, so it only covers the due dates up to its new last one
+      currentWindow.dueDates.pollLast();
+      currentWindow.highWater = currentWindow.dueDates.last();
+    }
+  }
+
+  public synchronized void remove(
+      final long dueDate, final long elementInstanceKey, final long timerKey) {
+    final var currentWindow = window;
+    if (currentWindow != null
+        && currentWindow.dueDates.remove(new TimerDueDate(dueDate, elementInstanceKey, timerKey))) {
+      size--;
+    }
+  }
+
+  /**
+   * @return {@code true} if the window was truncated and all of its due dates were removed, which
+   *     means it has to be refilled via {@link #rebuild(Consumer)}
+   */
+  public synchronized boolean isDrained() {
+    final var currentWindow = window;
+    return currentWindow != null && currentWindow.highWater != null && size == 0;
+  }
+
+  /**
+   * Replaces the content of the index with the first due dates presented by the given source, which
+   * is expected to visit the persisted due dates in ascending order until the visitor returns
+   * {@code false}. If the source presents more due dates than the capacity allows, the index is
+   * truncated after the last indexed due date.
+   */
+  public synchronized void rebuild(final Consumer<DueDateVisitor> persistedDueDates) {
+    if (capacity <= 0) {
+      return;
+    }
+
+    final var rebuiltWindow = new Window();
+    final var isTruncated = new MutableBoolean();
+    persistedDueDates.accept(
+        (dueDate, elementInstanceKey, timerKey) -> {
+          if (rebuiltWindow.dueDates.size() >= capacity) {
+            isTruncated.set(true);
+            return false;
+          }
+          rebuiltWindow.dueDates.add(new TimerDueDate(dueDate, elementInstanceKey, timerKey));
+          return true;
+        });
+
+    if (isTruncated.get()) {
+      rebuiltWindow.highWater = rebuiltWindow.dueDates.last();
+    }
+    size = rebuiltWindow.dueDates.size();
+    window = rebuiltWindow;
+  }
+
+  /**
+   * Refills the window if it is {@link #isDrained() drained}, with the persisted due dates after
+   * its high-water mark.
+   *
+   * @param persistedDueDatesAfter visits the persisted due dates after the given one in ascending
+   *     order, see {@link #rebuild(Consumer)}
+   */
+  public synchronized void refillIfDrained(
+      final BiConsumer<TimerDueDate, DueDateVisitor> persistedDueDatesAfter) {
+    if (isDrained()) {
+      final var highWater = window.highWater;
+      rebuild(visitor -> persistedDueDatesAfter.accept(highWater, visitor));
+    }
+  }
+
+  /**
+   * @return the current window of indexed due dates, or {@code null} if the index is not built
+   */
+  Window window() {
+    return window;
+  }
+
+  public record TimerDueDate(long dueDate, long elementInstanceKey, long timerKey) {}
+
+  /** A window of the earliest due dates; replaced as a whole when the index is rebuilt. */
+  static final class Window {
+    private final NavigableSet<TimerDueDate> dueDates = new ConcurrentSkipListSet<>(DUE_DATE_ORDER);
+    // null if the window contains all due dates
+    private volatile TimerDueDate highWater;
+
+    /**
+     * @return the indexed due dates in ascending order
+     */
+    Iterable<TimerDueDate> dueDates() {
+      return dueDates;
+    }
+
+    /**
+     * @return the last due date up to which the window contains all due dates, or {@code null} if
+     *     it contains all due dates
+     */
+    TimerDueDate highWater() {
+      return highWater;
+    }
+  }
+
+  @FunctionalInterface
+  public interface DueDateVisitor {
+
+    /**
+     * @return {@code true} if the next due date should be visited, {@code false} otherwise
+     */
+    boolean visit(long dueDate, long elementInstanceKey, long timerKey);
+  }
+}
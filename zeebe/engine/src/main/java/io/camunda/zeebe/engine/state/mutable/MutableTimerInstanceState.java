@@ -9,12 +9,21 @@ package io.camunda.zeebe.engine.state.mutable;
 
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
 import io.camunda.zeebe.engine.state.instance.TimerInstance;
+import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
 
-public interface MutableTimerInstanceState extends TimerInstanceState {
+public interface MutableTimerInstanceState
+    extends TimerInstanceState, StreamProcessorLifecycleAware {
 
   void store(TimerInstance timer);
 
   void remove(TimerInstance timer);
 
   void update(TimerInstance timer);
+
+  /**
+   * Rebuilds the in-memory due date index from the persisted due dates. Changes to the timers are
+   * applied to the index when the transaction is committed, so this is only required once the
+   * persisted state was restored, e.g. after recovery.
+   */
+  void rebuildDueDateIndex();
 }
@@ -14,12 +14,14 @@ import io.camunda.zeebe.engine.state.QueryService;
 import io.camunda.zeebe.engine.state.deployment.DeployedProcess;
 import io.camunda.zeebe.engine.state.immutable.ProcessingState;
 import io.camunda.zeebe.engine.state.instance.ElementInstance;
+import io.camunda.zeebe.engine.state.instance.TransientTimerDueDateIndex;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.InstantSource;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
@@ -29,10 +31,15 @@ public final class StateQueryService implements QueryService {
   private volatile boolean isClosed;
   private ProcessingState state;
   private final ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private final MeterRegistry meterRegistry;
   private final InstantSource clock;
 
-  public StateQueryService(final ZeebeDb<ZbColumnFamilies> zeebeDb, final InstantSource clock) {
+  public StateQueryService(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final MeterRegistry meterRegistry,
+      final InstantSource clock) {
     this.zeebeDb = zeebeDb;
+    this.meterRegistry = meterRegistry;
     this.clock = clock;
   }
 
@@ -86,7 +93,10 @@ public final class StateQueryService implements QueryService {
               },
               new TransientPendingSubscriptionState(),
               new TransientPendingSubscriptionState(),
+              new TransientTimerDueDateIndex(
+                  EngineConfiguration.DEFAULT_TIMER_DUE_DATE_INDEX_CAPACITY),
               new EngineConfiguration(),
+              meterRegistry,
               clock);
     }
   }
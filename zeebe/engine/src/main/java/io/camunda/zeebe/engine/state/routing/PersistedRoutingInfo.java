@@ -55,7 +55,7 @@ final class PersistedRoutingInfo extends UnpackedObject implements DbValue {
 
   public void setMessageCorrelation(final MessageCorrelation messageCorrelation) {
     switch (messageCorrelation) {
-      case HashMod(final int partitionCount) -> {
+      case HashMod(int partitionCount) -> {
         messageCorrelationStrategy.setValue(MessageCorrelationStrategy.HASH_MOD);
         hashModPartitionCount.setValue(partitionCount);
       }
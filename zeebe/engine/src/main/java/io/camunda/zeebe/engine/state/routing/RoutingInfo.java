@@ -94,7 +94,7 @@ public interface RoutingInfo {
       }
 
       switch (routingState.messageCorrelation()) {
-        case HashMod(final var partitionCount) -> {
+        case HashMod(var partitionCount) -> {
           return SubscriptionUtil.getSubscriptionPartitionId(correlationKey, partitionCount);
         }
       }
@@ -15,6 +15,7 @@ import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.engine.state.instance.ParentScopeKey;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
+import io.camunda.zeebe.msgpack.spec.MsgPackDocumentBuilder;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -26,7 +27,6 @@ import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
-import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.MutableInteger;
 import org.agrona.collections.ObjectHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -34,6 +34,7 @@ import org.agrona.concurrent.UnsafeBuffer;
 public class DbVariableState implements MutableVariableState {
 
   private final MsgPackWriter writer = new MsgPackWriter();
+  private final MsgPackDocumentBuilder documentBuilder = new MsgPackDocumentBuilder();
   private final ExpandableArrayBuffer documentResultBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer resultView = new UnsafeBuffer(0, 0);
 
@@ -53,7 +54,6 @@ public class DbVariableState implements MutableVariableState {
   private final DirectBuffer variableNameView = new UnsafeBuffer(0, 0);
 
   // collecting variables
-  private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
 
   public DbVariableState(
@@ -195,30 +195,15 @@ public class DbVariableState implements MutableVariableState {
   @Override
   public DirectBuffer getVariablesAsDocument(final long scopeKey) {
 
-    collectedVariables.clear();
-    writer.wrap(documentResultBuffer, 0);
-
-    writer.reserveMapHeader();
-
+    // the variables of the inner scopes are visited first and shadow the ones of the outer scopes
+    documentBuilder.reset();
     visitVariables(
         scopeKey,
-        name -> !collectedVariables.contains(name.getBuffer()),
-        (name, value) -> {
-          final DirectBuffer variableNameBuffer = name.getBuffer();
-          writer.writeString(variableNameBuffer);
-          writer.writeRaw(value.getValue());
-
-          // must create a new name wrapper, because we keep them all in the hashset at the same
-          // time
-          final MutableDirectBuffer nameView = new UnsafeBuffer(variableNameBuffer);
-          collectedVariables.add(nameView);
-        },
+        name -> true,
+        (name, value) -> documentBuilder.putIfAbsent(name.getBuffer(), value.getValue()),
         () -> false);
 
-    writer.writeReservedMapHeader(0, collectedVariables.size());
-
-    resultView.wrap(documentResultBuffer, 0, writer.getOffset());
-    return resultView;
+    return documentBuilder.build();
   }
 
   @Override
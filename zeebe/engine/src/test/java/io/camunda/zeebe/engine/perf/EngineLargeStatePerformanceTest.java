@@ -7,9 +7,13 @@
  */
 package io.camunda.zeebe.engine.perf;
 
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionMode;
 import io.camunda.zeebe.engine.perf.TestEngine.TestContext;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
 import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
 import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.protocol.record.value.JobRecordValue;
@@ -20,6 +24,7 @@ import io.camunda.zeebe.test.util.jmh.JMHTestCase;
 import io.camunda.zeebe.test.util.junit.JMHTest;
 import io.camunda.zeebe.test.util.record.RecordingExporter;
 import java.io.IOException;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import org.junit.rules.TemporaryFolder;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -28,6 +33,7 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
@@ -47,6 +53,20 @@ public class EngineLargeStatePerformanceTest {
   public static final Logger LOG =
       LoggerFactory.getLogger(EngineLargeStatePerformanceTest.class.getName());
 
+  /** Caches the values which are read repeatedly when creating and completing instances */
+  private static final Set<String> CACHED_COLUMN_FAMILIES =
+      Set.of(
+          ZbColumnFamilies.ELEMENT_INSTANCE_KEY.name(),
+          ZbColumnFamilies.VARIABLES.name(),
+          ZbColumnFamilies.JOBS.name(),
+          ZbColumnFamilies.JOB_STATES.name());
+
+  @Param({"false", "true"})
+  public boolean valueCacheEnabled;
+
+  @Param({"OPTIMISTIC", "WRITE_BATCH"})
+  public TransactionMode transactionMode;
+
   private long count;
   private ProcessInstanceClient processInstanceClient;
   private TestEngine.TestContext testContext;
@@ -56,7 +76,15 @@ public class EngineLargeStatePerformanceTest {
   public void setup() throws Throwable {
     testContext = createTestContext();
 
-    singlePartitionEngine = TestEngine.createSinglePartitionEngine(testContext);
+    final var rocksDbConfiguration = new RocksDbConfiguration().setTransactionMode(transactionMode);
+    if (valueCacheEnabled) {
+      rocksDbConfiguration
+          .setCachedColumnFamilies(CACHED_COLUMN_FAMILIES)
+          .setValueCacheSize(64 * 1024 * 1024L);
+    }
+    singlePartitionEngine =
+        TestEngine.createSinglePartitionEngine(
+            testContext, DefaultZeebeDbFactory.defaultFactory(rocksDbConfiguration));
 
     setupState(singlePartitionEngine);
   }
@@ -138,7 +166,55 @@ public class EngineLargeStatePerformanceTest {
     final var referenceScore = 1000;
 
     // when
-    final var assertResult = testCase.run();
+    final var assertResult =
+        testCase
+            .withOptions(
+                options ->
+                    options
+                        .param("valueCacheEnabled", "false")
+                        .param("transactionMode", "OPTIMISTIC"))
+            .run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @JMHTest("measureProcessExecutionTime")
+  void shouldProcessWithinExpectedDeviationWithValueCache(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 1000;
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(
+                options ->
+                    options
+                        .param("valueCacheEnabled", "true")
+                        .param("transactionMode", "OPTIMISTIC"))
+            .run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @JMHTest("measureProcessExecutionTime")
+  void shouldProcessWithinExpectedDeviationWithWriteBatchTransactions(
+      final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 1000;
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(
+                options ->
+                    options
+                        .param("valueCacheEnabled", "false")
+                        .param("transactionMode", "WRITE_BATCH"))
+            .run();
 
     // then
     assertResult.isAtLeast(referenceScore, 0.25);
@@ -0,0 +1,141 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.engine.perf.TestEngine.TestContext;
+import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
+import io.camunda.zeebe.test.util.AutoCloseableRule;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.junit.rules.TemporaryFolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures how fast a follower replays a recorded log. The log is recorded once, by creating
+ * process instances on a leader. Each operation then replays the complete log on a new, empty
+ * state, the way a follower or a restarted leader does through the {@code ReplayStateMachine}.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class EngineReplayPerformanceTest {
+  public static final Logger LOG =
+      LoggerFactory.getLogger(EngineReplayPerformanceTest.class.getName());
+
+  private static final int PROCESS_INSTANCE_COUNT = 1_000;
+
+  private TestEngine.TestContext testContext;
+  private TestEngine singlePartitionEngine;
+  private long lastEventPosition;
+
+  @Setup
+  public void setup() throws Throwable {
+    testContext = createTestContext();
+    singlePartitionEngine = TestEngine.createSinglePartitionEngine(testContext);
+
+    recordLog(singlePartitionEngine);
+  }
+
+  /** Records the log which is replayed by the benchmark */
+  private void recordLog(final TestEngine singlePartitionEngine) {
+    singlePartitionEngine
+        .createDeploymentClient()
+        .withXmlResource(
+            Bpmn.createExecutableProcess("process")
+                .startEvent()
+                .serviceTask("task", (t) -> t.zeebeJobType("task").done())
+                .endEvent()
+                .done())
+        .deploy();
+
+    final ProcessInstanceClient processInstanceClient =
+        singlePartitionEngine.createProcessInstanceClient();
+    long processInstanceKey = -1;
+    for (int i = 0; i < PROCESS_INSTANCE_COUNT; i++) {
+      processInstanceKey = processInstanceClient.ofBpmnProcessId("process").create();
+    }
+
+    RecordingExporter.jobRecords()
+        .withIntent(JobIntent.CREATED)
+        .withProcessInstanceKey(processInstanceKey)
+        .await();
+    RecordingExporter.reset();
+
+    lastEventPosition = singlePartitionEngine.getLastWrittenPosition();
+    LOG.info(
+        "Recorded the log of {} process instances, up to position {}.",
+        PROCESS_INSTANCE_COUNT,
+        lastEventPosition);
+  }
+
+  private TestEngine.TestContext createTestContext() throws IOException {
+    final var autoCloseableRule = new AutoCloseableRule();
+    final var temporaryFolder = new TemporaryFolder();
+    temporaryFolder.create();
+
+    // scheduler
+    final var builder =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setActorClock(new DefaultActorClock());
+
+    final var actorScheduler = builder.build();
+    autoCloseableRule.manage(actorScheduler);
+    actorScheduler.start();
+    return new TestContext(actorScheduler, temporaryFolder, autoCloseableRule);
+  }
+
+  @TearDown
+  public void tearDown() {
+    testContext.autoCloseableRule().after();
+  }
+
+  @Benchmark
+  public long measureReplayThroughput() throws Exception {
+    singlePartitionEngine.replay(lastEventPosition);
+    return lastEventPosition;
+  }
+
+  @JMHTest("measureReplayThroughput")
+  void shouldReplayWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured locally; each operation replays the events of
+    // all process instances
+    // when running this test on a different machine, you're likely to have a different score
+    final var referenceScore = 1.5;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
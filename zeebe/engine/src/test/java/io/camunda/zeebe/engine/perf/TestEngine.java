@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.perf;
 
+import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.engine.processing.EngineProcessors;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
@@ -17,7 +18,9 @@ import io.camunda.zeebe.engine.util.TestInterPartitionCommandSender;
 import io.camunda.zeebe.engine.util.TestStreams;
 import io.camunda.zeebe.engine.util.client.DeploymentClient;
 import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.stream.impl.StreamProcessor;
 import io.camunda.zeebe.stream.impl.StreamProcessorBuilder;
 import io.camunda.zeebe.stream.impl.StreamProcessorMode;
 import io.camunda.zeebe.test.util.AutoCloseableRule;
@@ -34,14 +37,23 @@ public final class TestEngine {
 
   private final StreamProcessingComposite streamProcessingComposite;
   private final TestStreams testStreams;
+  private final int partitionId;
   private final int partitionCount;
+  private final TestContext testContext;
+  private final Consumer<StreamProcessorBuilder> processorConfiguration;
+  private final FeatureFlags featureFlags = FeatureFlags.createDefaultForTests();
+  private final TestInterPartitionCommandSender interPartitionCommandSender;
 
   private TestEngine(
       final int partitionId,
       final int partitionCount,
       final TestContext testContext,
+      final ZeebeDbFactory<ZbColumnFamilies> zeebeDbFactory,
       final Consumer<StreamProcessorBuilder> processorConfiguration) {
+    this.partitionId = partitionId;
     this.partitionCount = partitionCount;
+    this.testContext = testContext;
+    this.processorConfiguration = processorConfiguration;
 
     testStreams =
         new TestStreams(
@@ -61,40 +73,38 @@ public final class TestEngine {
 
     streamProcessingComposite =
         new StreamProcessingComposite(
-            testStreams,
-            partitionId,
-            DefaultZeebeDbFactory.defaultFactory(),
-            testContext.actorScheduler());
+            testStreams, partitionId, zeebeDbFactory, testContext.actorScheduler());
 
     final var interPartitionCommandSenders = new ArrayList<TestInterPartitionCommandSender>();
-    final var featureFlags = FeatureFlags.createDefaultForTests();
 
-    final var interPartitionCommandSender =
+    interPartitionCommandSender =
         new TestInterPartitionCommandSender(streamProcessingComposite::newLogStreamWriter);
     interPartitionCommandSenders.add(interPartitionCommandSender);
-    testContext
-        .autoCloseableRule()
-        .manage(
-            streamProcessingComposite.startTypedStreamProcessor(
-                partitionId,
-                (recordProcessorContext) ->
-                    EngineProcessors.createEngineProcessors(
-                            recordProcessorContext,
-                            partitionCount,
-                            new SubscriptionCommandSender(partitionId, interPartitionCommandSender),
-                            interPartitionCommandSender,
-                            featureFlags,
-                            JobStreamer.noop())
-                        .withListener(
-                            new ProcessingExporterTransistor(
-                                testStreams.getLogStream(
-                                    StreamProcessingComposite.getLogName(partitionId)))),
-                Optional.empty(),
-                processorConfiguration,
-                true));
+    testContext.autoCloseableRule().manage(startStreamProcessor(processorConfiguration, true));
     interPartitionCommandSenders.forEach(s -> s.initializeWriters(partitionCount));
   }
 
+  private StreamProcessor startStreamProcessor(
+      final Consumer<StreamProcessorBuilder> processorConfiguration, final boolean awaitRecovery) {
+    return streamProcessingComposite.startTypedStreamProcessor(
+        partitionId,
+        (recordProcessorContext) ->
+            EngineProcessors.createEngineProcessors(
+                    recordProcessorContext,
+                    partitionCount,
+                    new SubscriptionCommandSender(partitionId, interPartitionCommandSender),
+                    interPartitionCommandSender,
+                    featureFlags,
+                    JobStreamer.noop())
+                .withListener(
+                    new ProcessingExporterTransistor(
+                        testStreams.getLogStream(
+                            StreamProcessingComposite.getLogName(partitionId)))),
+        Optional.empty(),
+        processorConfiguration,
+        awaitRecovery);
+  }
+
   public DeploymentClient createDeploymentClient() {
     return new DeploymentClient(streamProcessingComposite, (p) -> p.accept(1), partitionCount);
   }
@@ -104,7 +114,12 @@ public final class TestEngine {
   }
 
   public static TestEngine createSinglePartitionEngine(final TestContext testContext) {
-    return new TestEngine(1, 1, testContext, cfg -> {});
+    return createSinglePartitionEngine(testContext, DefaultZeebeDbFactory.defaultFactory());
+  }
+
+  public static TestEngine createSinglePartitionEngine(
+      final TestContext testContext, final ZeebeDbFactory<ZbColumnFamilies> zeebeDbFactory) {
+    return new TestEngine(1, 1, testContext, zeebeDbFactory, cfg -> {});
   }
 
   public void reset() {
@@ -112,6 +127,37 @@ public final class TestEngine {
     testStreams.resetLog();
   }
 
+  /**
+   * @return the position of the last event written by the stream processor
+   */
+  public long getLastWrittenPosition() {
+    final var logName = StreamProcessingComposite.getLogName(partitionId);
+    return testStreams.getStreamProcessor(logName).getLastWrittenPositionAsync().join();
+  }
+
+  /**
+   * Closes the current stream processor and deletes its state. Afterwards, replays the complete log
+   * on a new, empty state with a stream processor in replay mode, until the event at the given
+   * position was replayed.
+   *
+   * @param lastEventPosition the position of the last event to replay
+   */
+  public void replay(final long lastEventPosition) throws Exception {
+    final var logName = StreamProcessingComposite.getLogName(partitionId);
+    testStreams.closeProcessor(logName);
+
+    // a stream processor in replay mode is never recovered, as it replays continuously
+    final var streamProcessor =
+        startStreamProcessor(
+            processorConfiguration.andThen(
+                builder -> builder.streamProcessorMode(StreamProcessorMode.REPLAY)),
+            false);
+
+    while (streamProcessor.getLastWrittenPositionAsync().join() < lastEventPosition) {
+      Thread.sleep(1);
+    }
+  }
+
   /**
    * Containing infrastructure related dependencies which might be shared between TestEngines.
    *
@@ -134,6 +134,35 @@ final class JobBatchCollectorTest {
             });
   }
 
+  @Test
+  void shouldCollectVariablesOfSharedParentScope() {
+    // given - multiple jobs in child scopes of the same parent scope, e.g. a multi-instance body
+    final TypedRecord<JobBatchRecord> record = createRecord();
+    final long parentScopeKey = state.getKeyGenerator().nextKey();
+    final long firstScopeKey = state.getKeyGenerator().nextKey();
+    final long secondScopeKey = state.getKeyGenerator().nextKey();
+    state.getVariableState().createScope(firstScopeKey, parentScopeKey);
+    state.getVariableState().createScope(secondScopeKey, parentScopeKey);
+    setVariables(parentScopeKey, Map.of("foo", "bar", "baz", "buz"));
+    createJobWithVariables(firstScopeKey, Map.of("baz", "first"));
+    createJobWithVariables(secondScopeKey, Map.of("fizz", "buzz"));
+
+    // when
+    collector.collectJobs(record);
+
+    // then
+    final JobBatchRecord batchRecord = record.getValue();
+    JobBatchRecordValueAssert.assertThat(batchRecord)
+        .satisfies(
+            batch -> {
+              final List<JobRecordValue> activatedJobs = batch.getJobs();
+              RecordValueWithVariablesAssert.assertThat(activatedJobs.get(0))
+                  .hasVariables(Map.of("foo", "bar", "baz", "first"));
+              RecordValueWithVariablesAssert.assertThat(activatedJobs.get(1))
+                  .hasVariables(Map.of("foo", "bar", "baz", "buz", "fizz", "buzz"));
+            });
+  }
+
   @Test
   void shouldAppendJobKeyToBatchRecord() {
     // given - multiple jobs to ensure variables are collected based on the scope
@@ -18,11 +18,14 @@ import io.camunda.zeebe.protocol.ZbColumnFamilies;
 public final class DefaultZeebeDbFactory {
 
   public static ZeebeDbFactory<ZbColumnFamilies> defaultFactory() {
+    return defaultFactory(new RocksDbConfiguration());
+  }
+
+  public static ZeebeDbFactory<ZbColumnFamilies> defaultFactory(
+      final RocksDbConfiguration rocksDbConfiguration) {
     // enable consistency checks for tests
     final var consistencyChecks = new ConsistencyChecksSettings(true, true);
     return new ZeebeRocksDbFactory<>(
-        new RocksDbConfiguration(),
-        consistencyChecks,
-        new AccessMetricsConfiguration(Kind.NONE, 1));
+        rocksDbConfiguration, consistencyChecks, new AccessMetricsConfiguration(Kind.NONE, 1));
   }
 }
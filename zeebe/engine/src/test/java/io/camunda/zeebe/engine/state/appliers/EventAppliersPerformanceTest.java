@@ -0,0 +1,96 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.appliers;
+
+import static org.mockito.Mockito.mock;
+
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how fast {@link EventAppliers} finds the applier of an event. The registered intents and
+ * versions are the ones of the engine, but every applier is a no-op, such that only the lookup is
+ * measured.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class EventAppliersPerformanceTest {
+
+  private final EventAppliers eventAppliers = new EventAppliers();
+  private Intent[] intents;
+  private int[] versions;
+  private int next;
+
+  @Setup
+  public void setup() {
+    final var engineAppliers = new EventAppliers();
+    engineAppliers.registerEventAppliers(mock(MutableProcessingState.class));
+
+    final var registeredIntents = new ArrayList<Intent>();
+    final var registeredVersions = new ArrayList<Integer>();
+    Intent.INTENT_CLASSES.stream()
+        .flatMap(intentClass -> Arrays.stream(intentClass.getEnumConstants()))
+        .filter(Intent::isEvent)
+        .forEach(
+            intent -> {
+              final int latestVersion = engineAppliers.getLatestVersion(intent);
+              for (int version = 1; version <= latestVersion; version++) {
+                eventAppliers.register(intent, version, EventAppliers.NOOP_EVENT_APPLIER);
+                registeredIntents.add(intent);
+                registeredVersions.add(version);
+              }
+            });
+
+    intents = registeredIntents.toArray(Intent[]::new);
+    versions = registeredVersions.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  @Benchmark
+  public int measureApplyState() {
+    final int index = next;
+    next = index + 1 == intents.length ? 0 : index + 1;
+
+    final var intent = intents[index];
+    eventAppliers.applyState(index, intent, null, versions[index]);
+    return eventAppliers.getLatestVersion(intent);
+  }
+
+  @JMHTest("measureApplyState")
+  void shouldApplyStateWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured locally
+    // when running this test on a different machine, you're likely to have a different score
+    final var referenceScore = 30_000_000;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.state.authorization;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.engine.state.mutable.MutableAuthorizationState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.util.ProcessingStateExtension;
@@ -25,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 @ExtendWith(ProcessingStateExtension.class)
 public class AuthorizationStateTest {
   private MutableProcessingState processingState;
+  private TransactionContext transactionContext;
   private MutableAuthorizationState authorizationState;
 
   @BeforeEach
@@ -479,4 +481,94 @@ public class AuthorizationStateTest {
     final var keys2 = authorizationState.getAuthorizationKeysForOwner(ownerType2, ownerId2);
     assertThat(keys2).containsExactly(authorizationKey2);
   }
+
+  @Test
+  void shouldNotReturnStaleResourceIdentifiersAfterCreate() {
+    // given -- a lookup caches that the owner has no permissions
+    final var ownerType = AuthorizationOwnerType.USER;
+    final var resourceType = AuthorizationResourceType.RESOURCE;
+    assertThat(
+            authorizationState.getResourceIdentifiers(
+                ownerType, "ownerId", resourceType, PermissionType.CREATE))
+        .isEmpty();
+
+    // when
+    authorizationState.create(
+        1L,
+        new AuthorizationRecord()
+            .setAuthorizationKey(1L)
+            .setOwnerId("ownerId")
+            .setOwnerType(ownerType)
+            .setResourceId("resourceId")
+            .setResourceType(resourceType)
+            .setPermissionTypes(Set.of(PermissionType.CREATE)));
+
+    // then
+    assertThat(
+            authorizationState.getResourceIdentifiers(
+                ownerType, "ownerId", resourceType, PermissionType.CREATE))
+        .containsExactly("resourceId");
+  }
+
+  @Test
+  void shouldNotReturnStaleResourceIdentifiersAfterDelete() {
+    // given -- a lookup caches the permissions of the owner
+    final var ownerType = AuthorizationOwnerType.ROLE;
+    final var resourceType = AuthorizationResourceType.PROCESS_DEFINITION;
+    authorizationState.create(
+        1L,
+        new AuthorizationRecord()
+            .setAuthorizationKey(1L)
+            .setOwnerId("1")
+            .setOwnerType(ownerType)
+            .setResourceId("*")
+            .setResourceType(resourceType)
+            .setPermissionTypes(Set.of(PermissionType.READ_PROCESS_INSTANCE)));
+    assertThat(
+            authorizationState.getResourceIdentifiers(
+                ownerType, "1", resourceType, PermissionType.READ_PROCESS_INSTANCE))
+        .containsExactly("*");
+
+    // when
+    authorizationState.delete(1L);
+
+    // then
+    assertThat(
+            authorizationState.getResourceIdentifiers(
+                ownerType, "1", resourceType, PermissionType.READ_PROCESS_INSTANCE))
+        .isEmpty();
+  }
+
+  @Test
+  void shouldNotCacheUncommittedResourceIdentifiers() throws Exception {
+    // given -- an authorization is created and looked up in a transaction which is rolled back
+    final var ownerType = AuthorizationOwnerType.USER;
+    final var resourceType = AuthorizationResourceType.RESOURCE;
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          authorizationState.create(
+              1L,
+              new AuthorizationRecord()
+                  .setAuthorizationKey(1L)
+                  .setOwnerId("ownerId")
+                  .setOwnerType(ownerType)
+                  .setResourceId("resourceId")
+                  .setResourceType(resourceType)
+                  .setPermissionTypes(Set.of(PermissionType.CREATE)));
+          assertThat(
+                  authorizationState.getResourceIdentifiers(
+                      ownerType, "ownerId", resourceType, PermissionType.CREATE))
+              .containsExactly("resourceId");
+        });
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(
+            authorizationState.getResourceIdentifiers(
+                ownerType, "ownerId", resourceType, PermissionType.CREATE))
+        .isEmpty();
+  }
 }
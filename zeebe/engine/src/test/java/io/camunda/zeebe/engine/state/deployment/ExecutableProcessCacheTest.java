@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+final class ExecutableProcessCacheTest {
+
+  private final AtomicInteger transformations = new AtomicInteger();
+  private final Function<PersistedProcess, ExecutableProcess> transformer =
+      process -> {
+        transformations.incrementAndGet();
+        return new ExecutableProcess("process");
+      };
+
+  @Test
+  void shouldTransformProcessOnlyOnce() {
+    // given
+    final var cache = new ExecutableProcessCache(1024 * 1024);
+    final var firstPartitionProcess = persistedProcess(1L, "<definitions/>");
+    final var secondPartitionProcess = persistedProcess(1L, "<definitions/>");
+
+    // when
+    final var first = cache.computeIfAbsent(firstPartitionProcess, transformer);
+    final var second = cache.computeIfAbsent(secondPartitionProcess, transformer);
+
+    // then
+    assertThat(second).isSameAs(first);
+    assertThat(transformations).hasValue(1);
+  }
+
+  @Test
+  void shouldNotReturnProcessOfDifferentResourceWithSameKey() {
+    // given
+    final var cache = new ExecutableProcessCache(1024 * 1024);
+    final var first = cache.computeIfAbsent(persistedProcess(1L, "<definitions/>"), transformer);
+
+    // when
+    final var second =
+        cache.computeIfAbsent(persistedProcess(1L, "<definitions id=\"other\"/>"), transformer);
+
+    // then
+    assertThat(second).isNotSameAs(first);
+    assertThat(transformations).hasValue(2);
+  }
+
+  @Test
+  void shouldNotReturnProcessOfDifferentKey() {
+    // given
+    final var cache = new ExecutableProcessCache(1024 * 1024);
+    final var first = cache.computeIfAbsent(persistedProcess(1L, "<definitions/>"), transformer);
+
+    // when
+    final var second = cache.computeIfAbsent(persistedProcess(2L, "<definitions/>"), transformer);
+
+    // then
+    assertThat(second).isNotSameAs(first);
+    assertThat(transformations).hasValue(2);
+  }
+
+  @Test
+  void shouldEvictProcessesWhenResourcesExceedSize() {
+    // given
+    final var resource = "x".repeat(100);
+    final var cache = new ExecutableProcessCache(250);
+
+    // when
+    for (long key = 1; key <= 10; key++) {
+      cache.computeIfAbsent(persistedProcess(key, resource), transformer);
+    }
+
+    // then
+    assertThat(cache.size()).isLessThanOrEqualTo(2);
+  }
+
+  private static PersistedProcess persistedProcess(final long key, final String resource) {
+    final var record =
+        new ProcessRecord()
+            .setBpmnProcessId("process")
+            .setResourceName("process.bpmn")
+            .setResource(wrapString(resource))
+            .setVersion(1)
+            .setKey(key);
+    final var process = new PersistedProcess();
+    process.wrap(record, key);
+    return process;
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
+import io.camunda.zeebe.dmn.impl.ParseFailureMessage;
+import io.camunda.zeebe.engine.metrics.DrgCacheMetrics;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DecisionRequirementsRecord;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.Test;
+
+final class ParsedDrgCacheTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final DrgCacheMetrics metrics = new DrgCacheMetrics(meterRegistry);
+  private final AtomicInteger parsings = new AtomicInteger();
+  private final Function<DirectBuffer, ParsedDecisionRequirementsGraph> parser =
+      resource -> {
+        parsings.incrementAndGet();
+        return new ParseFailureMessage("parsed");
+      };
+
+  @Test
+  void shouldParseResourceOnlyOnce() {
+    // given - the same DRG on two partitions
+    final var cache = new ParsedDrgCache(1024 * 1024);
+    final var firstPartitionDrg = persistedDrg(1L, "tenant", "checksum", "<definitions/>");
+    final var secondPartitionDrg = persistedDrg(1L, "tenant", "checksum", "<definitions/>");
+
+    // when
+    final var first = lookup(cache, firstPartitionDrg);
+    final var second = lookup(cache, secondPartitionDrg);
+
+    // then
+    assertThat(second).isSameAs(first);
+    assertThat(parsings).hasValue(1);
+  }
+
+  @Test
+  void shouldShareParsedDrgOfSameResource() {
+    // given
+    final var cache = new ParsedDrgCache(1024 * 1024);
+    final var first = lookup(cache, persistedDrg(1L, "tenant", "checksum", "<definitions/>"));
+
+    // when - the same resource is deployed again by another tenant
+    final var second = lookup(cache, persistedDrg(2L, "other", "checksum", "<definitions/>"));
+
+    // then
+    assertThat(second).isSameAs(first);
+    assertThat(parsings).hasValue(1);
+  }
+
+  @Test
+  void shouldNotReturnParsedDrgOfDifferentResource() {
+    // given
+    final var cache = new ParsedDrgCache(1024 * 1024);
+    final var first = lookup(cache, persistedDrg(1L, "tenant", "checksum", "<definitions/>"));
+
+    // when
+    final var second = lookup(cache, persistedDrg(1L, "tenant", "other", "<definitions/>"));
+
+    // then
+    assertThat(second).isNotSameAs(first);
+    assertThat(parsings).hasValue(2);
+  }
+
+  @Test
+  void shouldNotCacheDrgWithoutChecksum() {
+    // given
+    final var cache = new ParsedDrgCache(1024 * 1024);
+
+    // when
+    lookup(cache, persistedDrg(1L, "tenant", "", "<definitions/>"));
+    lookup(cache, persistedDrg(1L, "tenant", "", "<definitions/>"));
+
+    // then
+    assertThat(parsings).hasValue(2);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void shouldEvictDrgsWhenResourcesExceedSize() {
+    // given
+    final var resource = "x".repeat(100);
+    final var cache = new ParsedDrgCache(250);
+
+    // when
+    for (long key = 1; key <= 10; key++) {
+      lookup(cache, persistedDrg(key, "tenant", "checksum-" + key, resource));
+    }
+
+    // then
+    assertThat(cache.size()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void shouldRecordLookupsOfPartition() {
+    // given
+    final var cache = new ParsedDrgCache(1024 * 1024);
+
+    // when
+    lookup(cache, persistedDrg(1L, "tenant", "checksum", "<definitions/>"));
+    lookup(cache, persistedDrg(1L, "tenant", "checksum", "<definitions/>"));
+
+    // then
+    assertThat(meterRegistry.get("zeebe.drg.cache.lookups.total").tag("result", "hit").counter())
+        .returns(1.0, Counter::count);
+    assertThat(meterRegistry.get("zeebe.drg.cache.lookups.total").tag("result", "miss").counter())
+        .returns(1.0, Counter::count);
+    assertThat(meterRegistry.get("zeebe.drg.parse.latency").timer()).returns(1L, Timer::count);
+  }
+
+  private ParsedDecisionRequirementsGraph lookup(
+      final ParsedDrgCache cache, final PersistedDecisionRequirements drg) {
+    return cache.computeIfAbsent(drg, parser, metrics);
+  }
+
+  private static PersistedDecisionRequirements persistedDrg(
+      final long key, final String tenantId, final String checksum, final String resource) {
+    final var record =
+        new DecisionRequirementsRecord()
+            .setDecisionRequirementsId("drg")
+            .setDecisionRequirementsName("drg")
+            .setDecisionRequirementsVersion(1)
+            .setDecisionRequirementsKey(key)
+            .setResourceName("drg.dmn")
+            .setChecksum(wrapString(checksum))
+            .setResource(wrapString(resource))
+            .setTenantId(tenantId);
+    final var drg = new PersistedDecisionRequirements();
+    drg.wrap(record);
+    return drg;
+  }
+}
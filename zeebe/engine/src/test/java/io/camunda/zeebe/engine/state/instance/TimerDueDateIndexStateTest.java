@@ -0,0 +1,157 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.state.instance.TransientTimerDueDateIndex.TimerDueDate;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+final class TimerDueDateIndexStateTest {
+
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+  private MutableProcessingState processingState;
+
+  private TransientTimerDueDateIndex dueDateIndex;
+  private DbTimerInstanceState state;
+
+  @BeforeEach
+  void setUp() {
+    dueDateIndex = new TransientTimerDueDateIndex(2);
+    state = new DbTimerInstanceState(zeebeDb, transactionContext, dueDateIndex);
+    state.rebuildDueDateIndex();
+  }
+
+  @Test
+  void shouldIndexTimerOnlyOnceCommitted() throws Exception {
+    // given
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> createTimerInstance(1, 1, 1000L));
+    assertThat(dueDateIndex.window().dueDates()).isEmpty();
+
+    // when
+    transaction.commit();
+
+    // then
+    assertThat(dueDateIndex.window().dueDates()).containsExactly(new TimerDueDate(1000L, 1L, 1L));
+  }
+
+  @Test
+  void shouldNotIndexTimerOfRolledBackTransaction() throws Exception {
+    // given
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> createTimerInstance(1, 1, 1000L));
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(dueDateIndex.window().dueDates()).isEmpty();
+  }
+
+  @Test
+  void shouldKeepRemovedTimerIfTransactionIsRolledBack() throws Exception {
+    // given
+    final var timer = createTimerInstance(1, 1, 1000L);
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> state.remove(timer));
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(dueDateIndex.window().dueDates()).containsExactly(new TimerDueDate(1000L, 1L, 1L));
+  }
+
+  @Test
+  void shouldNotIndexTimerRolledBackToSavepoint() throws Exception {
+    // given
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> createTimerInstance(1, 1, 1000L));
+    transaction.setSavepoint();
+    transaction.run(() -> createTimerInstance(2, 2, 2000L));
+
+    // when
+    transaction.rollbackToSavepoint();
+    transaction.commit();
+
+    // then
+    assertThat(dueDateIndex.window().dueDates()).containsExactly(new TimerDueDate(1000L, 1L, 1L));
+  }
+
+  @Test
+  void shouldRefillDrainedWindow() {
+    // given -- a window of the first two timers
+    final var timer1 = createTimerInstance(1, 1, 1000L);
+    final var timer2 = createTimerInstance(2, 2, 2000L);
+    createTimerInstance(3, 3, 3000L);
+    createTimerInstance(4, 4, 4000L);
+    createTimerInstance(5, 5, 5000L);
+    assertThat(dueDateIndex.window().highWater()).isEqualTo(new TimerDueDate(2000L, 2L, 2L));
+
+    state.remove(timer1);
+    state.remove(timer2);
+    assertThat(dueDateIndex.isDrained()).isTrue();
+
+    // when
+    state.processTimersWithDueDateBefore(0L, t -> true);
+
+    // then
+    assertThat(dueDateIndex.window().dueDates())
+        .containsExactly(new TimerDueDate(3000L, 3L, 3L), new TimerDueDate(4000L, 4L, 4L));
+    assertThat(dueDateIndex.window().highWater()).isEqualTo(new TimerDueDate(4000L, 4L, 4L));
+  }
+
+  @Test
+  void shouldFindDueTimersAfterHighWater() {
+    // given
+    createTimerInstance(1, 1, 1000L);
+    createTimerInstance(2, 2, 2000L);
+    createTimerInstance(3, 3, 3000L);
+    createTimerInstance(4, 4, 4000L);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        state.processTimersWithDueDateBefore(3000L, t -> keys.add(t.getElementInstanceKey()));
+
+    // then
+    assertThat(keys).containsExactly(1L, 2L, 3L);
+    assertThat(nextDueDate).isEqualTo(4000L);
+  }
+
+  private TimerInstance createTimerInstance(
+      final long elementInstanceKey, final long timerKey, final long dueDate) {
+    processingState
+        .getElementInstanceState()
+        .createInstance(
+            new ElementInstance(
+                elementInstanceKey,
+                ProcessInstanceIntent.ELEMENT_ACTIVATED,
+                new ProcessInstanceRecord()));
+    final TimerInstance timer = new TimerInstance();
+    timer.setElementInstanceKey(elementInstanceKey);
+    timer.setKey(timerKey);
+    timer.setDueDate(dueDate);
+    state.store(timer);
+    return timer;
+  }
+}
@@ -20,17 +20,32 @@ import org.assertj.core.api.Assertions;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
 
+@RunWith(Parameterized.class)
 public final class TimerInstanceStateTest {
 
   @Rule public final ProcessingStateRule stateRule = new ProcessingStateRule();
 
+  @Parameter public boolean useDueDateIndex;
+
   private MutableTimerInstanceState state;
 
+  @Parameters(name = "useDueDateIndex: {0}")
+  public static Object[] parameters() {
+    return new Object[] {false, true};
+  }
+
   @Before
   public void setUp() {
     final MutableProcessingState processingState = stateRule.getProcessingState();
     state = processingState.getTimerState();
+    if (useDueDateIndex) {
+      state.rebuildDueDateIndex();
+    }
   }
 
   @Test
@@ -170,6 +185,22 @@ public final class TimerInstanceStateTest {
     assertThat(nextDueDate).isEqualTo(timer1.getDueDate());
   }
 
+  @Test
+  public void shouldFindTimersStoredBeforeDueDateIndexWasRebuilt() {
+    // given
+    createTimerInstance(1, 1, 1000L);
+    createTimerInstance(2, 2, 2000L);
+    state.rebuildDueDateIndex();
+    createTimerInstance(3, 3, 1500L);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    state.processTimersWithDueDateBefore(2000L, t -> keys.add(t.getElementInstanceKey()));
+
+    // then
+    assertThat(keys).containsExactly(1L, 3L, 2L);
+  }
+
   @Test
   public void shouldListAllTimersByElementInstanceKey() {
     // given
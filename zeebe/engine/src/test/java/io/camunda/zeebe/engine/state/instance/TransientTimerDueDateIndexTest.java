@@ -0,0 +1,209 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.state.instance.TransientTimerDueDateIndex.TimerDueDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class TransientTimerDueDateIndexTest {
+
+  private final TransientTimerDueDateIndex sut = new TransientTimerDueDateIndex(3);
+
+  @Test
+  void shouldNotBeUsableUntilRebuilt() {
+    // when
+    sut.add(1000L, 1L, 1L);
+
+    // then
+    assertThat(sut.window()).isNull();
+  }
+
+  @Test
+  void shouldReturnEntriesOrderedByDueDate() {
+    // given
+    sut.rebuild(visitor -> visitor.visit(2000L, 1L, 1L));
+
+    // when
+    sut.add(3000L, 2L, 2L);
+    sut.add(1000L, 3L, 3L);
+
+    // then
+    assertThat(sut.window().dueDates())
+        .containsExactly(
+            new TimerDueDate(1000L, 3L, 3L),
+            new TimerDueDate(2000L, 1L, 1L),
+            new TimerDueDate(3000L, 2L, 2L));
+    assertThat(sut.window().highWater()).isNull();
+  }
+
+  @Test
+  void shouldRemoveEntry() {
+    // given
+    sut.rebuild(visitor -> {});
+    sut.add(1000L, 1L, 1L);
+    sut.add(2000L, 2L, 2L);
+
+    // when
+    sut.remove(1000L, 1L, 1L);
+
+    // then
+    assertThat(sut.window().dueDates()).containsExactly(new TimerDueDate(2000L, 2L, 2L));
+  }
+
+  @Test
+  void shouldEvictLatestDueDateWhenCapacityIsExceeded() {
+    // given
+    sut.rebuild(visitor -> {});
+    sut.add(1000L, 1L, 1L);
+    sut.add(2000L, 2L, 2L);
+    sut.add(4000L, 4L, 4L);
+
+    // when
+    sut.add(3000L, 3L, 3L);
+
+    // then
+    assertThat(sut.window().dueDates())
+        .containsExactly(
+            new TimerDueDate(1000L, 1L, 1L),
+            new TimerDueDate(2000L, 2L, 2L),
+            new TimerDueDate(3000L, 3L, 3L));
+    assertThat(sut.window().highWater()).isEqualTo(new TimerDueDate(3000L, 3L, 3L));
+  }
+
+  @Test
+  void shouldNotIndexDueDateAfterHighWater() {
+    // given
+    sut.rebuild(visitor -> {});
+    sut.add(1000L, 1L, 1L);
+    sut.add(2000L, 2L, 2L);
+    sut.add(3000L, 3L, 3L);
+    sut.add(4000L, 4L, 4L);
+    sut.remove(1000L, 1L, 1L);
+
+    // when
+    sut.add(5000L, 5L, 5L);
+
+    // then
+    assertThat(sut.window().dueDates())
+        .containsExactly(new TimerDueDate(2000L, 2L, 2L), new TimerDueDate(3000L, 3L, 3L));
+  }
+
+  @Test
+  void shouldTruncateIfRebuildExceedsCapacity() {
+    // given
+    final var persisted =
+        List.of(
+            new TimerDueDate(1000L, 1L, 1L),
+            new TimerDueDate(2000L, 2L, 2L),
+            new TimerDueDate(3000L, 3L, 3L),
+            new TimerDueDate(4000L, 4L, 4L));
+
+    // when
+    sut.rebuild(
+        visitor -> {
+          for (final var dueDate : persisted) {
+            if (!visitor.visit(
+                dueDate.dueDate(), dueDate.elementInstanceKey(), dueDate.timerKey())) {
+              return;
+            }
+          }
+        });
+
+    // then
+    assertThat(sut.window().dueDates()).containsExactlyElementsOf(persisted.subList(0, 3));
+    assertThat(sut.window().highWater()).isEqualTo(new TimerDueDate(3000L, 3L, 3L));
+  }
+
+  @Test
+  void shouldBeDrainedOnceAllDueDatesOfTruncatedWindowAreRemoved() {
+    // given
+    sut.rebuild(visitor -> {});
+    sut.add(1000L, 1L, 1L);
+    sut.add(2000L, 2L, 2L);
+    sut.add(3000L, 3L, 3L);
+    sut.add(4000L, 4L, 4L);
+    sut.remove(1000L, 1L, 1L);
+    sut.remove(2000L, 2L, 2L);
+    assertThat(sut.isDrained()).isFalse();
+
+    // when
+    sut.remove(3000L, 3L, 3L);
+
+    // then
+    assertThat(sut.isDrained()).isTrue();
+  }
+
+  @Test
+  void shouldNotBeDrainedIfWindowContainsAllDueDates() {
+    // given
+    sut.rebuild(visitor -> {});
+    sut.add(1000L, 1L, 1L);
+
+    // when
+    sut.remove(1000L, 1L, 1L);
+
+    // then
+    assertThat(sut.isDrained()).isFalse();
+  }
+
+  @Test
+  void shouldRefillDrainedWindowAfterHighWater() {
+    // given
+    sut.rebuild(visitor -> {});
+    sut.add(1000L, 1L, 1L);
+    sut.add(2000L, 2L, 2L);
+    sut.add(3000L, 3L, 3L);
+    sut.add(4000L, 4L, 4L);
+    sut.remove(1000L, 1L, 1L);
+    sut.remove(2000L, 2L, 2L);
+    sut.remove(3000L, 3L, 3L);
+    final List<TimerDueDate> startAfter = new ArrayList<>();
+
+    // when
+    sut.refillIfDrained(
+        (after, visitor) -> {
+          startAfter.add(after);
+          visitor.visit(4000L, 4L, 4L);
+        });
+
+    // then
+    assertThat(startAfter).containsExactly(new TimerDueDate(3000L, 3L, 3L));
+    assertThat(sut.window().dueDates()).containsExactly(new TimerDueDate(4000L, 4L, 4L));
+    assertThat(sut.isDrained()).isFalse();
+  }
+
+  @Test
+  void shouldNotRefillWindowWhichIsNotDrained() {
+    // given
+    sut.rebuild(visitor -> visitor.visit(1000L, 1L, 1L));
+    final var window = sut.window();
+
+    // when
+    sut.refillIfDrained((after, visitor) -> visitor.visit(2000L, 2L, 2L));
+
+    // then
+    assertThat(sut.window()).isSameAs(window);
+    assertThat(sut.window().dueDates()).containsExactly(new TimerDueDate(1000L, 1L, 1L));
+  }
+
+  @Test
+  void shouldNotBeUsableIfCapacityIsNotPositive() {
+    // given
+    final var disabledIndex = new TransientTimerDueDateIndex(0);
+
+    // when
+    disabledIndex.rebuild(visitor -> visitor.visit(1000L, 1L, 1L));
+
+    // then
+    assertThat(disabledIndex.window()).isNull();
+  }
+}
@@ -62,6 +62,7 @@ import io.camunda.zeebe.protocol.record.Assertions;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.camunda.zeebe.stream.impl.ClusterContextImpl;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.InstantSource;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -258,7 +259,8 @@ public class MultiTenancyMigrationTest {
     void setup() {
       final var cfg = new EngineConfiguration();
       legacyState = new LegacyDecisionState(zeebeDb, transactionContext, cfg);
-      decisionState = new DbDecisionState(zeebeDb, transactionContext, cfg);
+      decisionState =
+          new DbDecisionState(zeebeDb, transactionContext, cfg, new SimpleMeterRegistry());
     }
 
     @Test
@@ -20,6 +20,7 @@ import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.InstantSource;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -41,7 +42,7 @@ final class StateQueryServiceTest {
 
   @BeforeEach
   void setup() {
-    sut = new StateQueryService(db, InstantSource.system());
+    sut = new StateQueryService(db, new SimpleMeterRegistry(), InstantSource.system());
   }
 
   @ParameterizedTest(name = "[{index}] should throw ClosedServiceException when closed")
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.exporter.api;
+
+import io.camunda.zeebe.exporter.api.context.Controller;
+import io.camunda.zeebe.protocol.record.Record;
+import java.util.List;
+
+/**
+ * An exporter which receives records in batches of consecutive records, instead of one record at a
+ * time. This allows implementations to amortize the cost of exporting, e.g. by sending a single
+ * request for all records of a batch.
+ *
+ * <p>Records which are not accepted by the exporter's {@link
+ * io.camunda.zeebe.exporter.api.context.Context.RecordFilter} are left out of the batches.
+ */
+public interface BatchExporter extends Exporter {
+
+  /**
+   * Called at least once for every batch of records to be exported. The records are ordered by
+   * position. Once the records are guaranteed to have been exported, implementations should call
+   * {@link Controller#updateLastExportedRecordPosition(long)} with the position of the last record
+   * of the batch.
+   *
+   * <p>Should the method throw an unexpected {@link RuntimeException}, it will be called again with
+   * the same records until it terminates without any exception. It is up to the implementation to
+   * handle errors properly, to implement retry strategies, etc.
+   *
+   * <p>The given list and its records only wrap the underlying internal buffers, and are only valid
+   * for the duration of the call. If the implementation needs to keep records, it either has to
+   * call {@link Record#toJson()} to get the serialized version of a record or {@link
+   * Record#clone()} to get a deep copy.
+   *
+   * @param records the records to export, never empty
+   */
+  void exportBatch(List<Record<?>> records);
+
+  /**
+   * Exports a single record as a batch of one record. The exporter director always calls {@link
+   * #exportBatch(List)} for batch exporters.
+   *
+   * @param record the record to export
+   */
+  @Override
+  default void export(final Record<?> record) {
+    exportBatch(List.of(record));
+  }
+}
@@ -36,6 +36,7 @@ import io.camunda.exporter.schema.SchemaManager;
 import io.camunda.exporter.schema.SearchEngineClient;
 import io.camunda.exporter.store.BatchRequest;
 import io.camunda.exporter.store.ExporterBatchWriter;
+import io.camunda.exporter.store.PipelinedBatchFlusher;
 import io.camunda.exporter.tasks.BackgroundTaskManager;
 import io.camunda.exporter.tasks.BackgroundTaskManagerFactory;
 import io.camunda.webapps.schema.descriptors.operate.index.ImportPositionIndex;
@@ -52,6 +53,7 @@ import io.camunda.zeebe.util.SemanticVersion;
 import io.camunda.zeebe.util.VisibleForTesting;
 import java.time.Duration;
 import java.util.Set;
+import java.util.concurrent.Executors;
 import org.agrona.CloseHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -63,6 +65,7 @@ public class CamundaExporter implements Exporter {
   private ExporterConfiguration configuration;
   private ClientAdapter clientAdapter;
   private ExporterBatchWriter writer;
+  private PipelinedBatchFlusher flusher;
   private long lastPosition = -1;
   private final ExporterResourceProvider provider;
   private CamundaExporterMetrics metrics;
@@ -72,6 +75,7 @@ public class CamundaExporter implements Exporter {
   private boolean zeebeIndicesExist = false;
   private SearchEngineClient searchEngineClient;
   private int partitionId;
+  private String exporterId;
 
   public CamundaExporter() {
     // the metadata will be initialized on open
@@ -100,6 +104,7 @@ public class CamundaExporter implements Exporter {
       metadata = new ExporterMetadata(clientAdapter.objectMapper());
     }
     partitionId = context.getPartitionId();
+    exporterId = context.getConfiguration().getId().toLowerCase();
     provider.init(
         configuration,
         clientAdapter.getExporterEntityCacheProvider(),
@@ -110,7 +115,7 @@ public class CamundaExporter implements Exporter {
     taskManager =
         new BackgroundTaskManagerFactory(
                 context.getPartitionId(),
-                context.getConfiguration().getId().toLowerCase(),
+                exporterId,
                 configuration,
                 provider,
                 metrics,
@@ -135,6 +140,9 @@ public class CamundaExporter implements Exporter {
     schemaManager.startup();
 
     writer = createBatchWriter();
+    if (flusher == null && configuration.getBulk().getMaxInFlight() > 0) {
+      flusher = createFlusher();
+    }
 
     checkImportersCompletedAndReschedule();
     controller.readMetadata().ifPresent(metadata::deserialize);
@@ -149,6 +157,9 @@ public class CamundaExporter implements Exporter {
 
     if (writer != null) {
       try {
+        if (flusher != null) {
+          flusher.awaitAll();
+        }
         flush();
         updateLastExportedPosition(lastPosition);
       } catch (final Exception e) {
@@ -164,6 +175,7 @@ public class CamundaExporter implements Exporter {
       }
     }
 
+    CloseHelper.close(error -> LOG.warn("Failed to close bulk flusher", error), flusher);
     CloseHelper.close(error -> LOG.warn("Failed to close background tasks", error), taskManager);
     LOG.info("Exporter closed");
   }
@@ -182,6 +194,11 @@ public class CamundaExporter implements Exporter {
       return;
     }
 
+    if (flusher != null) {
+      // acknowledge the batches flushed in the meantime as early as possible
+      acknowledgeFlushedBatches();
+    }
+
     if (configuration.getIndex().shouldWaitForImporters() && !exporterCanFlush) {
       ensureCachedRecordsLessThanBulkSize(record);
 
@@ -202,7 +219,9 @@ public class CamundaExporter implements Exporter {
 
     lastPosition = record.getPosition();
 
-    if (shouldFlush()) {
+    if (shouldFlush() && flusher != null) {
+      flushInBackground();
+    } else if (shouldFlush()) {
       try (final var ignored = metrics.measureFlushDuration()) {
         flush();
         metrics.stopFlushLatencyMeasurement();
@@ -255,6 +274,15 @@ public class CamundaExporter implements Exporter {
     return builder.build();
   }
 
+  private PipelinedBatchFlusher createFlusher() {
+    final var threadFactory =
+        Thread.ofPlatform().name("exporter-" + exporterId + "-p" + partitionId + "-flush").factory();
+    return new PipelinedBatchFlusher(
+        clientAdapter::createBatchRequest,
+        Executors.newSingleThreadExecutor(threadFactory),
+        configuration.getBulk().getMaxInFlight());
+  }
+
   private void scheduleDelayedFlush() {
     controller.scheduleCancellableTask(
         Duration.ofSeconds(configuration.getBulk().getDelay()), this::flushAndReschedule);
@@ -262,8 +290,12 @@ public class CamundaExporter implements Exporter {
 
   private void flushAndReschedule() {
     try {
-      flush();
-      updateLastExportedPosition(lastPosition);
+      if (flusher == null) {
+        flush();
+        updateLastExportedPosition(lastPosition);
+      } else {
+        flushInBackgroundIfPossible();
+      }
     } catch (final Exception e) {
       LOG.warn("Unexpected exception occurred on periodically flushing bulk, will retry later.", e);
     }
@@ -323,6 +355,58 @@ public class CamundaExporter implements Exporter {
     }
   }
 
+  /**
+   * Hands over the current batch to the flusher, and continues aggregating the next one while it is
+   * flushed. If there are already too many batches in flight, blocks until the oldest one is
+   * flushed. The exported position is only updated once the batch was flushed.
+   */
+  private void flushInBackground() {
+    try {
+      if (flusher.isFull()) {
+        flusher.awaitOldest();
+      }
+
+      metrics.recordBulkSize(writer.getBatchSize());
+      metrics.stopFlushLatencyMeasurement();
+      final var flushDuration = metrics.measureFlushDuration();
+      // the metadata must be the one at the time the batch was aggregated, as it may refer to
+      // records which are only part of later batches
+      final var batchPosition = lastPosition;
+      final var batchMetadata = metadata.serialize();
+      flusher.submit(
+          writer.detachBatch(),
+          () -> {
+            flushDuration.close();
+            controller.updateLastExportedRecordPosition(batchPosition, batchMetadata);
+          });
+    } catch (final PersistenceException e) {
+      metrics.recordFailedFlush();
+      throw new ExporterException(e.getMessage(), e);
+    }
+  }
+
+  private void flushInBackgroundIfPossible() {
+    acknowledgeFlushedBatches();
+
+    if (writer.getBatchSize() > 0) {
+      if (!flusher.isFull()) {
+        flushInBackground();
+      }
+    } else if (flusher.isEmpty()) {
+      // the last records did not result in any updates, so nothing else is waiting for them
+      updateLastExportedPosition(lastPosition);
+    }
+  }
+
+  private void acknowledgeFlushedBatches() {
+    try {
+      flusher.poll();
+    } catch (final PersistenceException e) {
+      metrics.recordFailedFlush();
+      throw new ExporterException(e.getMessage(), e);
+    }
+  }
+
   private void updateLastExportedPosition(final long lastPosition) {
     final var serialized = metadata.serialize();
     controller.updateLastExportedRecordPosition(lastPosition, serialized);
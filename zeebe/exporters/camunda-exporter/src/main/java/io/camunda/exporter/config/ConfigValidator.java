@@ -106,6 +106,25 @@ public final class ConfigValidator {
               + delayBetweenRuns);
     }
 
+    final int maxInFlight = configuration.getBulk().getMaxInFlight();
+    if (maxInFlight < 0) {
+      throw new ExporterException(
+          "CamundaExporter bulk.maxInFlight must be >= 0. Current value: " + maxInFlight);
+    }
+
+    final int requestsPerSecond = configuration.getArchiver().getRequestsPerSecond();
+    if (requestsPerSecond < 0) {
+      throw new ExporterException(
+          "CamundaExporter archiver.requestsPerSecond must be >= 0. Current value: "
+              + requestsPerSecond);
+    }
+
+    final int slices = configuration.getArchiver().getSlices();
+    if (slices < 0) {
+      throw new ExporterException(
+          "CamundaExporter archiver.slices must be >= 0. Current value: " + slices);
+    }
+
     final int processCacheMaxCacheSize = configuration.getProcessCache().getMaxCacheSize();
     if (processCacheMaxCacheSize < 1) {
       throw new ExporterException(
@@ -267,6 +267,9 @@ public class ExporterConfiguration {
     private int delay = 5;
     // bulk size before flush
     private int size = 1_000;
+    // number of bulks which may be flushed in the background while the next one is aggregated; if
+    // 0, bulks are flushed synchronously
+    private int maxInFlight = 0;
 
     public int getDelay() {
       return delay;
@@ -284,9 +287,24 @@ public class ExporterConfiguration {
       this.size = size;
     }
 
+    public int getMaxInFlight() {
+      return maxInFlight;
+    }
+
+    public void setMaxInFlight(final int maxInFlight) {
+      this.maxInFlight = maxInFlight;
+    }
+
     @Override
     public String toString() {
-      return "BulkConfiguration{" + "delay=" + delay + ", size=" + size + '}';
+      return "BulkConfiguration{"
+          + "delay="
+          + delay
+          + ", size="
+          + size
+          + ", maxInFlight="
+          + maxInFlight
+          + '}';
     }
   }
 
@@ -298,6 +316,11 @@ public class ExporterConfiguration {
     private String waitPeriodBeforeArchiving = "1h";
     private int delayBetweenRuns = 2000;
     private int maxDelayBetweenRuns = 60000;
+    // max number of documents per second each reindex and delete request processes; 0 means
+    // unthrottled
+    private int requestsPerSecond = 0;
+    // number of slices each reindex and delete request is split into; 0 means automatic
+    private int slices = 0;
     private RetentionConfiguration retention = new RetentionConfiguration();
 
     public boolean isRolloverEnabled() {
@@ -368,6 +391,22 @@ public class ExporterConfiguration {
       this.maxDelayBetweenRuns = maxDelayBetweenRuns;
     }
 
+    public int getRequestsPerSecond() {
+      return requestsPerSecond;
+    }
+
+    public void setRequestsPerSecond(final int requestsPerSecond) {
+      this.requestsPerSecond = requestsPerSecond;
+    }
+
+    public int getSlices() {
+      return slices;
+    }
+
+    public void setSlices(final int slices) {
+      this.slices = slices;
+    }
+
     @Override
     public String toString() {
       return "ArchiverConfiguration{"
@@ -388,6 +427,10 @@ public class ExporterConfiguration {
           + delayBetweenRuns
           + ", maxDelayBetweenRuns="
           + maxDelayBetweenRuns
+          + ", requestsPerSecond="
+          + requestsPerSecond
+          + ", slices="
+          + slices
           + ", retention="
           + retention
           + '}';
@@ -28,6 +28,8 @@ public class CamundaExporterMetrics {
   private final Timer archiverSearchTimer;
   private final Timer archiverDeleteTimer;
   private final Timer archiverReindexTimer;
+  private final Counter archiverReindexedDocuments;
+  private final Counter archiverDeletedDocuments;
   private Timer.Sample flushLatencyMeasurement;
 
   public CamundaExporterMetrics(final MeterRegistry meterRegistry) {
@@ -44,6 +46,14 @@ public class CamundaExporterMetrics {
     archiverSearchTimer = meterRegistry.timer(meterName("archiver.query"));
     archiverDeleteTimer = meterRegistry.timer(meterName("archiver.delete.query"));
     archiverReindexTimer = meterRegistry.timer(meterName("archiver.reindex.query"));
+    archiverReindexedDocuments =
+        Counter.builder(meterName("archiver.reindexed.documents"))
+            .description("Number of documents copied into archive indices by the archiver")
+            .register(meterRegistry);
+    archiverDeletedDocuments =
+        Counter.builder(meterName("archiver.deleted.documents"))
+            .description("Number of documents deleted from the main indices by the archiver")
+            .register(meterRegistry);
   }
 
   public ResourceSample measureFlushDuration() {
@@ -109,4 +119,12 @@ public class CamundaExporterMetrics {
   public void measureArchiverReindex(final Sample timer) {
     timer.stop(archiverReindexTimer);
   }
+
+  public void recordArchiverReindexedDocuments(final long count) {
+    archiverReindexedDocuments.increment(count);
+  }
+
+  public void recordArchiverDeletedDocuments(final long count) {
+    archiverDeletedDocuments.increment(count);
+  }
 }
@@ -15,6 +15,7 @@ import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordValue;
 import io.camunda.zeebe.protocol.record.ValueType;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
@@ -72,16 +73,21 @@ public class ExporterBatchWriter {
       return;
     }
 
-    for (final var entityAndHandler : cachedEntities.values()) {
-      final ExporterEntity entity = entityAndHandler.entity();
-      for (final var handler : entityAndHandler.handlers()) {
-        handler.flush(entity, batchRequest);
-      }
-    }
+    writeEntities(cachedEntities.values(), batchRequest);
     batchRequest.execute(customErrorHandlers);
     reset();
   }
 
+  /**
+   * Hands over all cached entities as a {@link Batch}, which can be flushed independently of the
+   * entities cached afterwards. The writer is empty afterwards.
+   */
+  public Batch detachBatch() {
+    final var batch = new Batch(List.copyOf(cachedEntities.values()), customErrorHandlers);
+    reset();
+    return batch;
+  }
+
   public void reset() {
     cachedEntities.clear();
   }
@@ -90,6 +96,17 @@ public class ExporterBatchWriter {
     return cachedEntities.size();
   }
 
+  private static void writeEntities(
+      final Collection<EntityAndHandlers> entities, final BatchRequest batchRequest)
+      throws PersistenceException {
+    for (final var entityAndHandler : entities) {
+      final ExporterEntity entity = entityAndHandler.entity();
+      for (final var handler : entityAndHandler.handlers()) {
+        handler.flush(entity, batchRequest);
+      }
+    }
+  }
+
   public static class Builder {
     private ExporterBatchWriter writer;
 
@@ -118,6 +135,40 @@ public class ExporterBatchWriter {
     }
   }
 
+  /**
+   * The entities of a batch detached from the writer. The entities are not modified anymore, so the
+   * batch can be written to a new request as often as needed, e.g. to retry a failed flush.
+   */
+  public static final class Batch {
+    private final List<EntityAndHandlers> entities;
+    private final BiConsumer<String, Error> customErrorHandlers;
+
+    private Batch(
+        final List<EntityAndHandlers> entities,
+        final BiConsumer<String, Error> customErrorHandlers) {
+      this.entities = entities;
+      this.customErrorHandlers = customErrorHandlers;
+    }
+
+    /** Adds the updates of all entities of this batch to the given request. */
+    public void write(final BatchRequest batchRequest) throws PersistenceException {
+      writeEntities(entities, batchRequest);
+    }
+
+    /** Executes a request to which this batch was written. */
+    public void execute(final BatchRequest batchRequest) throws PersistenceException {
+      batchRequest.execute(customErrorHandlers);
+    }
+
+    public int size() {
+      return entities.size();
+    }
+
+    public boolean isEmpty() {
+      return entities.isEmpty();
+    }
+  }
+
   private record EntityIdAndEntityType(String entityId, Class<?> entityType) {}
 
   private record EntityAndHandlers(ExporterEntity entity, Set<ExportHandler> handlers) {}
@@ -0,0 +1,170 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.exporter.store;
+
+import io.camunda.exporter.exceptions.PersistenceException;
+import io.camunda.exporter.store.ExporterBatchWriter.Batch;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Flushes detached batches on a separate thread, so that the exporter can aggregate the next batch
+ * while the search engine processes the previous ones. At most {@code maxInFlight} batches are
+ * outstanding at any time.
+ *
+ * <p>The requests are executed one after another, in the order in which the batches were
+ * submitted, so updates to the same entity are applied in order. If a request fails, none of the
+ * requests submitted after it are executed; on the next {@link #poll()}, all outstanding batches
+ * are written to new requests and resubmitted in the same order.
+ *
+ * <p>Batches are only acknowledged from {@link #poll()}, and only in submission order, so the
+ * callers can safely advance their exported position from the acknowledgement callback. Except for
+ * the execution of the requests, everything happens on the caller's thread, which must always be
+ * the same one.
+ */
+public final class PipelinedBatchFlusher implements AutoCloseable {
+  private final Deque<InFlightBatch> inFlight = new ArrayDeque<>();
+  private final Supplier<BatchRequest> requestFactory;
+  private final ExecutorService executor;
+  private final int maxInFlight;
+  private CompletableFuture<Void> lastSubmitted = CompletableFuture.completedFuture(null);
+
+  public PipelinedBatchFlusher(
+      final Supplier<BatchRequest> requestFactory,
+      final ExecutorService executor,
+      final int maxInFlight) {
+    this.requestFactory = requestFactory;
+    this.executor = executor;
+    this.maxInFlight = maxInFlight;
+  }
+
+  /**
+   * Submits the batch for flushing. The caller must make sure that there is room for another
+   * batch, see {@link #isFull()}.
+   *
+   * @param batch the batch to flush
+   * @param onAcknowledged called from {@link #poll()} once the batch and all batches submitted
+   *     before it were flushed
+   */
+  public void submit(final Batch batch, final Runnable onAcknowledged) {
+    if (isFull()) {
+      throw new IllegalStateException(
+          "Expected to submit a batch, but there are already %d batches in flight"
+              .formatted(inFlight.size()));
+    }
+
+    final var inFlightBatch = new InFlightBatch(batch, onAcknowledged);
+    execute(inFlightBatch);
+    inFlight.addLast(inFlightBatch);
+  }
+
+  /**
+   * Acknowledges all flushed batches, in submission order, up to the first one which is still in
+   * flight.
+   *
+   * @throws PersistenceException if the oldest outstanding batch failed to flush; all outstanding
+   *     batches were resubmitted in that case
+   */
+  public void poll() throws PersistenceException {
+    while (!inFlight.isEmpty() && inFlight.peekFirst().result.isDone()) {
+      final var oldest = inFlight.peekFirst();
+      if (oldest.result.isCompletedExceptionally()) {
+        final var failure = oldest.result.exceptionNow();
+        resubmitAll();
+        throw new PersistenceException(
+            "Failed to flush batch of %d entities".formatted(oldest.batch.size()), failure);
+      }
+
+      inFlight.removeFirst();
+      oldest.onAcknowledged.run();
+    }
+  }
+
+  /**
+   * Blocks until the oldest outstanding batch is flushed, then acknowledges all flushed batches.
+   *
+   * @throws PersistenceException if the oldest outstanding batch failed to flush
+   */
+  public void awaitOldest() throws PersistenceException {
+    if (inFlight.isEmpty()) {
+      return;
+    }
+
+    awaitCompletion(inFlight.peekFirst());
+    poll();
+  }
+
+  /**
+   * Blocks until all outstanding batches are flushed and acknowledged.
+   *
+   * @throws PersistenceException if any outstanding batch failed to flush
+   */
+  public void awaitAll() throws PersistenceException {
+    if (inFlight.isEmpty()) {
+      return;
+    }
+
+    awaitCompletion(inFlight.peekLast());
+    poll();
+  }
+
+  public boolean isFull() {
+    return inFlight.size() >= maxInFlight;
+  }
+
+  public boolean isEmpty() {
+    return inFlight.isEmpty();
+  }
+
+  public int getInFlightCount() {
+    return inFlight.size();
+  }
+
+  @Override
+  public void close() {
+    // the outstanding batches were not acknowledged, so they will be exported again
+    executor.shutdownNow();
+    inFlight.clear();
+  }
+
+  private void resubmitAll() {
+    lastSubmitted = CompletableFuture.completedFuture(null);
+    inFlight.forEach(this::execute);
+  }
+
+  private void execute(final InFlightBatch inFlightBatch) {
+    // the request is built on the caller's thread, as the export handlers are not thread-safe
+    final var request = requestFactory.get();
+    inFlightBatch.batch.write(request);
+
+    // chaining the requests ensures they are executed in order, and none is executed after a
+    // previous one failed
+    inFlightBatch.result =
+        lastSubmitted.thenRunAsync(() -> inFlightBatch.batch.execute(request), executor);
+    lastSubmitted = inFlightBatch.result;
+  }
+
+  private void awaitCompletion(final InFlightBatch inFlightBatch) {
+    // failures are handled when polling
+    inFlightBatch.result.exceptionally(error -> null).join();
+  }
+
+  private static final class InFlightBatch {
+    private final Batch batch;
+    private final Runnable onAcknowledged;
+    private CompletableFuture<Void> result;
+
+    private InFlightBatch(final Batch batch, final Runnable onAcknowledged) {
+      this.batch = batch;
+      this.onAcknowledged = onAcknowledged;
+    }
+  }
+}
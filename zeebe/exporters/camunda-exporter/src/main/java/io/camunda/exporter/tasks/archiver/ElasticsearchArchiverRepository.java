@@ -24,6 +24,7 @@ import co.elastic.clients.elasticsearch._types.query_dsl.TermsQuery;
 import co.elastic.clients.elasticsearch.core.DeleteByQueryRequest;
 import co.elastic.clients.elasticsearch.core.DeleteByQueryResponse;
 import co.elastic.clients.elasticsearch.core.ReindexRequest;
+import co.elastic.clients.elasticsearch.core.ReindexResponse;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.reindex.Source;
@@ -68,6 +69,8 @@ public final class ElasticsearchArchiverRepository extends ElasticsearchReposito
   private final CamundaExporterMetrics metrics;
 
   private final CalendarInterval rolloverInterval;
+  private final Slices slices;
+  private final Float requestsPerSecond;
 
   public ElasticsearchArchiverRepository(
       final int partitionId,
@@ -90,6 +93,9 @@ public final class ElasticsearchArchiverRepository extends ElasticsearchReposito
     this.metrics = metrics;
 
     rolloverInterval = mapCalendarInterval(config.getRolloverInterval());
+    slices = config.getSlices() > 0 ? Slices.of(s -> s.value(config.getSlices())) : AUTO_SLICES;
+    requestsPerSecond =
+        config.getRequestsPerSecond() > 0 ? (float) config.getRequestsPerSecond() : null;
   }
 
   @Override
@@ -147,7 +153,8 @@ public final class ElasticsearchArchiverRepository extends ElasticsearchReposito
     final var request =
         new DeleteByQueryRequest.Builder()
             .index(sourceIndexName)
-            .slices(AUTO_SLICES)
+            .slices(slices)
+            .requestsPerSecond(requestsPerSecond)
             .conflicts(Conflicts.Proceed)
             .query(q -> q.terms(termsQuery))
             .build();
@@ -156,8 +163,8 @@ public final class ElasticsearchArchiverRepository extends ElasticsearchReposito
     return client
         .deleteByQuery(request)
         .whenCompleteAsync((ignored, error) -> metrics.measureArchiverDelete(timer), executor)
-        .thenApplyAsync(DeleteByQueryResponse::total, executor)
-        .thenApplyAsync(ok -> null, executor);
+        .thenApplyAsync(DeleteByQueryResponse::deleted, executor)
+        .thenApplyAsync(this::recordDeletedDocuments, executor);
   }
 
   @Override
@@ -177,14 +184,30 @@ public final class ElasticsearchArchiverRepository extends ElasticsearchReposito
             .dest(dest -> dest.index(destinationIndexName))
             .conflicts(Conflicts.Proceed)
             .scroll(REINDEX_SCROLL_TIMEOUT)
-            .slices(AUTO_SLICES)
+            .slices(slices)
+            .requestsPerSecond(requestsPerSecond)
             .build();
 
     final var timer = Timer.start();
     return client
         .reindex(request)
         .whenCompleteAsync((ignored, error) -> metrics.measureArchiverReindex(timer), executor)
-        .thenApplyAsync(ignored -> null, executor);
+        .thenApplyAsync(ReindexResponse::total, executor)
+        .thenApplyAsync(this::recordReindexedDocuments, executor);
+  }
+
+  private Void recordReindexedDocuments(final Long count) {
+    if (count != null) {
+      metrics.recordArchiverReindexedDocuments(count);
+    }
+    return null;
+  }
+
+  private Void recordDeletedDocuments(final Long count) {
+    if (count != null) {
+      metrics.recordArchiverDeletedDocuments(count);
+    }
+    return null;
   }
 
   private CompletableFuture<List<String>> fetchMatchingIndexes(final String indexWildcard) {
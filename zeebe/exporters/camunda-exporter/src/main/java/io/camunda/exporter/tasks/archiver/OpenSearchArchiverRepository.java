@@ -42,6 +42,7 @@ import org.opensearch.client.opensearch.cat.indices.IndicesRecord;
 import org.opensearch.client.opensearch.core.DeleteByQueryRequest;
 import org.opensearch.client.opensearch.core.DeleteByQueryResponse;
 import org.opensearch.client.opensearch.core.ReindexRequest;
+import org.opensearch.client.opensearch.core.ReindexResponse;
 import org.opensearch.client.opensearch.core.SearchRequest;
 import org.opensearch.client.opensearch.core.SearchResponse;
 import org.opensearch.client.opensearch.core.reindex.Source;
@@ -68,6 +69,8 @@ public final class OpenSearchArchiverRepository extends OpensearchRepository
   private final CamundaExporterMetrics metrics;
   private final OpenSearchGenericClient genericClient;
   private final CalendarInterval rolloverInterval;
+  private final long slices;
+  private final Long requestsPerSecond;
 
   public OpenSearchArchiverRepository(
       final int partitionId,
@@ -91,6 +94,9 @@ public final class OpenSearchArchiverRepository extends OpensearchRepository
 
     genericClient = new OpenSearchGenericClient(client._transport(), client._transportOptions());
     rolloverInterval = mapCalendarInterval(config.getRolloverInterval());
+    slices = config.getSlices() > 0 ? config.getSlices() : AUTO_SLICES;
+    requestsPerSecond =
+        config.getRequestsPerSecond() > 0 ? (long) config.getRequestsPerSecond() : null;
   }
 
   @Override
@@ -155,7 +161,8 @@ public final class OpenSearchArchiverRepository extends OpensearchRepository
     final var request =
         new DeleteByQueryRequest.Builder()
             .index(sourceIndexName)
-            .slices(AUTO_SLICES)
+            .slices(slices)
+            .requestsPerSecond(requestsPerSecond)
             .conflicts(Conflicts.Proceed)
             .query(q -> q.terms(termsQuery))
             .build();
@@ -163,8 +170,8 @@ public final class OpenSearchArchiverRepository extends OpensearchRepository
     final var timer = Timer.start();
     return sendRequestAsync(() -> client.deleteByQuery(request))
         .whenCompleteAsync((ignored, error) -> metrics.measureArchiverDelete(timer), executor)
-        .thenApplyAsync(DeleteByQueryResponse::total, executor)
-        .thenApplyAsync(ok -> null, executor);
+        .thenApplyAsync(DeleteByQueryResponse::deleted, executor)
+        .thenApplyAsync(this::recordDeletedDocuments, executor);
   }
 
   @Override
@@ -184,13 +191,29 @@ public final class OpenSearchArchiverRepository extends OpensearchRepository
             .dest(dest -> dest.index(destinationIndexName))
             .conflicts(Conflicts.Proceed)
             .scroll(REINDEX_SCROLL_TIMEOUT)
-            .slices(AUTO_SLICES)
+            .slices(slices)
+            .requestsPerSecond(requestsPerSecond)
             .build();
 
     final var timer = Timer.start();
     return sendRequestAsync(() -> client.reindex(request))
         .whenCompleteAsync((ignored, error) -> metrics.measureArchiverReindex(timer), executor)
-        .thenApplyAsync(ignored -> null, executor);
+        .thenApplyAsync(ReindexResponse::total, executor)
+        .thenApplyAsync(this::recordReindexedDocuments, executor);
+  }
+
+  private Void recordReindexedDocuments(final Long count) {
+    if (count != null) {
+      metrics.recordArchiverReindexedDocuments(count);
+    }
+    return null;
+  }
+
+  private Void recordDeletedDocuments(final Long count) {
+    if (count != null) {
+      metrics.recordArchiverDeletedDocuments(count);
+    }
+    return null;
   }
 
   private CompletableFuture<List<String>> fetchIndexMatchingIndexes(final String indexWildCard)
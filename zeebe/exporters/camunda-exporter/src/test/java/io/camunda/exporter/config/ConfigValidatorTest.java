@@ -117,6 +117,29 @@ public class ConfigValidatorTest {
             "CamundaExporter archiver.rolloverBatchSize must be >= 1. Current value: 0");
   }
 
+  @Test
+  void shouldForbidNegativeArchiverRequestsPerSecond() {
+    // given
+    config.getArchiver().setRequestsPerSecond(-1);
+
+    // when - then
+    assertThatCode(() -> ConfigValidator.validate(config))
+        .isInstanceOf(ExporterException.class)
+        .hasMessageContaining(
+            "CamundaExporter archiver.requestsPerSecond must be >= 0. Current value: -1");
+  }
+
+  @Test
+  void shouldForbidNegativeArchiverSlices() {
+    // given
+    config.getArchiver().setSlices(-1);
+
+    // when - then
+    assertThatCode(() -> ConfigValidator.validate(config))
+        .isInstanceOf(ExporterException.class)
+        .hasMessageContaining("CamundaExporter archiver.slices must be >= 0. Current value: -1");
+  }
+
   @Test
   void shouldForbidDelayBetweenRunsToBeLessThanOne() {
     // given
@@ -129,6 +152,17 @@ public class ConfigValidatorTest {
             "CamundaExporter archiver.delayBetweenRuns must be >= 1. Current value: 0");
   }
 
+  @Test
+  void shouldForbidNegativeMaxInFlightBulks() {
+    // given
+    config.getBulk().setMaxInFlight(-1);
+
+    // when - then
+    assertThatCode(() -> ConfigValidator.validate(config))
+        .isInstanceOf(ExporterException.class)
+        .hasMessageContaining("CamundaExporter bulk.maxInFlight must be >= 0. Current value: -1");
+  }
+
   @ParameterizedTest(name = "{0}")
   @ValueSource(ints = {-1, 0})
   void shouldForbidNonPositiveMaxCacheSize(final int maxCacheSize) {
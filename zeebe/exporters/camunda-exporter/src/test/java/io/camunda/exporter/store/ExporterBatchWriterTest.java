@@ -134,4 +134,27 @@ class ExporterBatchWriterTest {
     verify(batchRequest).execute(any());
     assertThat(batchWriter.getBatchSize()).isEqualTo(0);
   }
+
+  @Test
+  void shouldDetachCachedEntitiesAsBatch() throws PersistenceException {
+    // given
+    final TestRecord record = new TestRecord(0, NULL_VAL);
+    final String id = "1";
+    final TestExporterEntity entity = new TestExporterEntity().setId(id);
+    when(handler.handlesRecord(eq(record))).thenReturn(true);
+    when(handler.generateIds(eq(record))).thenReturn(List.of(id));
+    when(handler.createNewEntity(eq(id))).thenReturn(entity);
+    batchWriter.addRecord(record);
+
+    // when
+    final var batch = batchWriter.detachBatch();
+    final BatchRequest batchRequest = mock(BatchRequest.class);
+    batch.write(batchRequest);
+
+    // then
+    assertThat(batch.size()).isEqualTo(1);
+    assertThat(batchWriter.getBatchSize()).isEqualTo(0);
+    verify(handler).flush(entity, batchRequest);
+    verify(batchRequest, never()).execute(any());
+  }
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.exporter.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.exporter.exceptions.PersistenceException;
+import io.camunda.exporter.store.ExporterBatchWriter.Batch;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class PipelinedBatchFlusherTest {
+  private final List<BatchRequest> requests = new ArrayList<>();
+  private final List<BatchRequest> executedRequests = new CopyOnWriteArrayList<>();
+  private final List<String> acknowledged = new ArrayList<>();
+  private final CompletableFuture<Void> firstRequestGate = new CompletableFuture<>();
+  private final Batch batch = ExporterBatchWriter.Builder.begin().build().detachBatch();
+
+  private final PipelinedBatchFlusher flusher =
+      new PipelinedBatchFlusher(this::newRequest, Executors.newSingleThreadExecutor(), 2);
+
+  @AfterEach
+  void tearDown() {
+    firstRequestGate.complete(null);
+    flusher.close();
+  }
+
+  @Test
+  void shouldAcknowledgeBatchOnlyOnceFlushed() {
+    // given
+    flusher.submit(batch, () -> acknowledged.add("first"));
+
+    // when
+    flusher.poll();
+
+    // then
+    assertThat(acknowledged).isEmpty();
+    assertThat(flusher.isEmpty()).isFalse();
+
+    // when
+    firstRequestGate.complete(null);
+    flusher.awaitAll();
+
+    // then
+    assertThat(acknowledged).containsExactly("first");
+    assertThat(flusher.isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldFlushBatchesInSubmissionOrder() {
+    // given
+    flusher.submit(batch, () -> acknowledged.add("first"));
+    flusher.submit(batch, () -> acknowledged.add("second"));
+
+    // when
+    firstRequestGate.complete(null);
+    flusher.awaitAll();
+
+    // then
+    assertThat(executedRequests).containsExactlyElementsOf(requests);
+    assertThat(acknowledged).containsExactly("first", "second");
+  }
+
+  @Test
+  void shouldRejectBatchIfTooManyInFlight() {
+    // given
+    flusher.submit(batch, () -> {});
+    flusher.submit(batch, () -> {});
+
+    // when - then
+    assertThat(flusher.isFull()).isTrue();
+    assertThatThrownBy(() -> flusher.submit(batch, () -> {}))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void shouldMakeRoomWhenOldestBatchIsFlushed() {
+    // given
+    flusher.submit(batch, () -> acknowledged.add("first"));
+    flusher.submit(batch, () -> acknowledged.add("second"));
+
+    // when
+    firstRequestGate.complete(null);
+    flusher.awaitOldest();
+
+    // then
+    assertThat(acknowledged).startsWith("first");
+    assertThat(flusher.isFull()).isFalse();
+  }
+
+  @Test
+  void shouldNotFlushLaterBatchesAfterFailure() {
+    // given
+    firstRequestGate.completeExceptionally(new PersistenceException("expected"));
+    flusher.submit(batch, () -> acknowledged.add("first"));
+    flusher.submit(batch, () -> acknowledged.add("second"));
+
+    // when
+    assertThatThrownBy(flusher::awaitAll)
+        .isInstanceOf(PersistenceException.class)
+        .hasRootCauseMessage("expected");
+
+    // then
+    verify(requests.get(1), never()).execute(any());
+    assertThat(acknowledged).isEmpty();
+  }
+
+  @Test
+  void shouldResubmitAllOutstandingBatchesAfterFailure() {
+    // given
+    firstRequestGate.completeExceptionally(new PersistenceException("expected"));
+    flusher.submit(batch, () -> acknowledged.add("first"));
+    flusher.submit(batch, () -> acknowledged.add("second"));
+    assertThatThrownBy(flusher::awaitAll).isInstanceOf(PersistenceException.class);
+
+    // when
+    flusher.awaitAll();
+
+    // then
+    assertThat(requests).hasSize(4);
+    assertThat(executedRequests).containsExactly(requests.get(0), requests.get(2), requests.get(3));
+    assertThat(acknowledged).containsExactly("first", "second");
+  }
+
+  private BatchRequest newRequest() {
+    final var request = mock(BatchRequest.class);
+    final var isFirst = requests.isEmpty();
+    requests.add(request);
+
+    doAnswer(
+            invocation -> {
+              executedRequests.add(request);
+              if (isFirst) {
+                firstRequestGate.join();
+              }
+              return null;
+            })
+        .when(request)
+        .execute(any());
+
+    return request;
+  }
+}
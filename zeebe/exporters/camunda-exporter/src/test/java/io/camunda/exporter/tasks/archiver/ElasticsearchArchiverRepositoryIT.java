@@ -103,6 +103,8 @@ final class ElasticsearchArchiverRepositoryIT {
         .first()
         .extracting(Hit::id)
         .isEqualTo("3");
+    assertThat(meterRegistry.counter("zeebe.camunda.exporter.archiver.deleted.documents").count())
+        .isEqualTo(2);
   }
 
   @Test
@@ -241,6 +243,9 @@ final class ElasticsearchArchiverRepositoryIT {
         .hasSize(3)
         .extracting(Hit::id)
         .containsExactlyInAnyOrder("1", "2", "3");
+    assertThat(
+            meterRegistry.counter("zeebe.camunda.exporter.archiver.reindexed.documents").count())
+        .isEqualTo(2);
   }
 
   @Test
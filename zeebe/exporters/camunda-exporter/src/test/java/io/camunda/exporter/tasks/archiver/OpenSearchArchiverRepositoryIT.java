@@ -107,6 +107,8 @@ final class OpenSearchArchiverRepositoryIT {
         .first()
         .extracting(Hit::id)
         .isEqualTo("3");
+    assertThat(meterRegistry.counter("zeebe.camunda.exporter.archiver.deleted.documents").count())
+        .isEqualTo(2);
   }
 
   @Test
@@ -229,6 +231,9 @@ final class OpenSearchArchiverRepositoryIT {
         .hasSize(3)
         .extracting(Hit::id)
         .containsExactlyInAnyOrder("1", "2", "3");
+    assertThat(
+            meterRegistry.counter("zeebe.camunda.exporter.archiver.reindexed.documents").count())
+        .isEqualTo(2);
   }
 
   @Test
@@ -17,9 +17,15 @@ import org.camunda.feel.syntaxtree.Ref;
 public final class FeelExpression implements Expression {
 
   private final ParsedExpression expression;
+  private final SimpleFeelExpression simpleExpression;
 
   public FeelExpression(final ParsedExpression expression) {
+    this(expression, null);
+  }
+
+  FeelExpression(final ParsedExpression expression, final SimpleFeelExpression simpleExpression) {
     this.expression = expression;
+    this.simpleExpression = simpleExpression;
   }
 
   @Override
@@ -63,6 +69,14 @@ public final class FeelExpression implements Expression {
     return expression;
   }
 
+  /**
+   * @return the expression for the {@link SimpleFeelEvaluator}, or {@code null} if the expression
+   *     is not part of the subset it supports
+   */
+  SimpleFeelExpression getSimpleExpression() {
+    return simpleExpression;
+  }
+
   @Override
   public String toString() {
     return "FeelExpression{" + "expression=" + expression + '}';
@@ -41,9 +41,24 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
   private final FeelToMessagePackTransformer messagePackTransformer =
       new FeelToMessagePackTransformer();
 
+  private final SimpleFeelEvaluator simpleEvaluator = new SimpleFeelEvaluator();
+
   private final FeelEngine feelEngine;
+  private final boolean isSimpleEvaluationEnabled;
 
   public FeelExpressionLanguage(final FeelEngineClock clock) {
+    this(clock, true);
+  }
+
+  /**
+   * @param clock the clock of the FEEL engine
+   * @param isSimpleEvaluationEnabled if true, expressions of a simple subset of FEEL (e.g.
+   *     variables and comparisons) are evaluated without the FEEL engine, directly on the
+   *     MessagePack encoded variables; see {@link SimpleFeelParser}
+   */
+  public FeelExpressionLanguage(
+      final FeelEngineClock clock, final boolean isSimpleEvaluationEnabled) {
+    this.isSimpleEvaluationEnabled = isSimpleEvaluationEnabled;
     feelEngine =
         new FeelEngine.Builder()
             .customValueMapper(new MessagePackValueMapper())
@@ -98,7 +113,9 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
     } else {
       final var parsedExpression = parseResult.right().get();
-      return new FeelExpression(parsedExpression);
+      final var simpleExpression =
+          isSimpleEvaluationEnabled ? SimpleFeelParser.parse(expression) : null;
+      return new FeelExpression(parsedExpression, simpleExpression);
     }
   }
 
@@ -107,6 +124,14 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
       final EvaluationContext context,
       final FeelExpression feelExpression) {
 
+    final var simpleExpression = feelExpression.getSimpleExpression();
+    if (simpleExpression != null) {
+      final var result = simpleEvaluator.evaluate(simpleExpression, context);
+      if (result != null) {
+        return result;
+      }
+    }
+
     final var parsedExpression = feelExpression.getParsedExpression();
     final var feelContext = new FeelVariableContext(context);
 
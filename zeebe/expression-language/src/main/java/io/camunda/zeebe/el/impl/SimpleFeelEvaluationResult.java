@@ -0,0 +1,175 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.el.EvaluationWarning;
+import io.camunda.zeebe.el.ResultType;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.time.Duration;
+import java.time.Period;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import scala.math.BigDecimal;
+
+/**
+ * The result of a {@link SimpleFeelExpression}. It behaves like the result of the FEEL engine for
+ * the same expression, for example, numbers are returned as {@link BigDecimal}.
+ */
+final class SimpleFeelEvaluationResult implements EvaluationResult {
+
+  private final String expression;
+  private final ResultType type;
+  private final boolean booleanValue;
+  private final long numberValue;
+  // the UTF-8 encoded string, or the MessagePack encoded object
+  private final DirectBuffer bytesValue;
+
+  private SimpleFeelEvaluationResult(
+      final String expression,
+      final ResultType type,
+      final boolean booleanValue,
+      final long numberValue,
+      final DirectBuffer bytesValue) {
+    this.expression = expression;
+    this.type = type;
+    this.booleanValue = booleanValue;
+    this.numberValue = numberValue;
+    this.bytesValue = bytesValue;
+  }
+
+  static SimpleFeelEvaluationResult ofNull(final String expression) {
+    return new SimpleFeelEvaluationResult(expression, ResultType.NULL, false, 0, null);
+  }
+
+  static SimpleFeelEvaluationResult ofBoolean(final String expression, final boolean value) {
+    return new SimpleFeelEvaluationResult(expression, ResultType.BOOLEAN, value, 0, null);
+  }
+
+  static SimpleFeelEvaluationResult ofNumber(final String expression, final long value) {
+    return new SimpleFeelEvaluationResult(expression, ResultType.NUMBER, false, value, null);
+  }
+
+  /** Copies the given UTF-8 encoded string, as it may be overwritten after the evaluation. */
+  static SimpleFeelEvaluationResult ofString(final String expression, final DirectBuffer value) {
+    return new SimpleFeelEvaluationResult(
+        expression, ResultType.STRING, false, 0, BufferUtil.cloneBuffer(value));
+  }
+
+  /** Copies the given MessagePack encoded map, as it may be overwritten after the evaluation. */
+  static SimpleFeelEvaluationResult ofObject(final String expression, final DirectBuffer value) {
+    return new SimpleFeelEvaluationResult(
+        expression, ResultType.OBJECT, false, 0, BufferUtil.cloneBuffer(value));
+  }
+
+  @Override
+  public String getExpression() {
+    return expression;
+  }
+
+  @Override
+  public boolean isFailure() {
+    return false;
+  }
+
+  @Override
+  public String getFailureMessage() {
+    return null;
+  }
+
+  @Override
+  public List<EvaluationWarning> getWarnings() {
+    return Collections.emptyList();
+  }
+
+  @Override
+  public ResultType getType() {
+    return type;
+  }
+
+  @Override
+  public DirectBuffer toBuffer() {
+    if (type == ResultType.OBJECT) {
+      return bytesValue;
+    }
+
+    final var buffer = new ExpandableArrayBuffer();
+    final var writer = new MsgPackWriter().wrap(buffer, 0);
+    switch (type) {
+      case BOOLEAN -> writer.writeBoolean(booleanValue);
+      case NUMBER -> writer.writeInteger(numberValue);
+      case STRING -> writer.writeString(bytesValue);
+      default -> writer.writeNil();
+    }
+    return new UnsafeBuffer(buffer, 0, writer.getOffset());
+  }
+
+  @Override
+  public String getString() {
+    return type == ResultType.STRING ? BufferUtil.bufferAsString(bytesValue) : null;
+  }
+
+  @Override
+  public Boolean getBoolean() {
+    return type == ResultType.BOOLEAN ? booleanValue : null;
+  }
+
+  @Override
+  public Number getNumber() {
+    return type == ResultType.NUMBER
+        ? new BigDecimal(java.math.BigDecimal.valueOf(numberValue))
+        : null;
+  }
+
+  @Override
+  public Duration getDuration() {
+    return null;
+  }
+
+  @Override
+  public Period getPeriod() {
+    return null;
+  }
+
+  @Override
+  public ZonedDateTime getDateTime() {
+    return null;
+  }
+
+  @Override
+  public List<DirectBuffer> getList() {
+    return null;
+  }
+
+  @Override
+  public List<String> getListOfStrings() {
+    return null;
+  }
+
+  @Override
+  public String toString() {
+    return "SimpleFeelEvaluationResult{"
+        + "expression='"
+        + expression
+        + '\''
+        + ", type="
+        + type
+        + ", booleanValue="
+        + booleanValue
+        + ", numberValue="
+        + numberValue
+        + ", bytesValue="
+        + (bytesValue == null ? null : BufferUtil.bufferAsHexString(bytesValue))
+        + '}';
+  }
+}
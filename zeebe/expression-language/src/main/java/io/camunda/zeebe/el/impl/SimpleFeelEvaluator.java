@@ -0,0 +1,260 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import io.camunda.zeebe.el.EvaluationContext;
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.el.ResultType;
+import io.camunda.zeebe.el.impl.SimpleFeelExpression.Comparison;
+import io.camunda.zeebe.el.impl.SimpleFeelExpression.Conjunction;
+import io.camunda.zeebe.el.impl.SimpleFeelExpression.Disjunction;
+import io.camunda.zeebe.el.impl.SimpleFeelExpression.Literal;
+import io.camunda.zeebe.el.impl.SimpleFeelExpression.Negation;
+import io.camunda.zeebe.el.impl.SimpleFeelExpression.Node;
+import io.camunda.zeebe.el.impl.SimpleFeelExpression.Operator;
+import io.camunda.zeebe.el.impl.SimpleFeelExpression.Path;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Evaluates a {@link SimpleFeelExpression} directly on the MessagePack encoded variables. The
+ * variables are not transformed into FEEL values, and the evaluation doesn't allocate, except for
+ * results of type string, number, or object.
+ *
+ * <p>The evaluator only returns a result if the FEEL engine would return the same result without
+ * any warnings. Otherwise, for example, if a variable doesn't exist, or the operands of a
+ * comparison have different types, it returns {@code null} and the expression must be evaluated by
+ * the FEEL engine, which then reports the appropriate warnings.
+ *
+ * <p>The evaluator is not thread-safe.
+ */
+final class SimpleFeelEvaluator {
+
+  // marks that the expression can't be evaluated without the FEEL engine
+  private static final ResultType UNSUPPORTED = ResultType.UNKNOWN;
+
+  private final MsgPackReader reader = new MsgPackReader();
+  private final DirectBuffer valueView = new UnsafeBuffer();
+  private final MutableDirectBuffer leftStringBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer leftStringView = new UnsafeBuffer();
+
+  // the value of the last evaluated node, depending on its type
+  private boolean booleanValue;
+  private long numberValue;
+
+  /**
+   * @return the result of the expression, or {@code null} if it must be evaluated by the FEEL
+   *     engine
+   */
+  EvaluationResult evaluate(
+      final SimpleFeelExpression expression, final EvaluationContext context) {
+    final var resultType = evaluate(expression.getRoot(), context);
+
+    return switch (resultType) {
+      case NULL -> expression.nullResult();
+      case BOOLEAN -> expression.booleanResult(booleanValue);
+      case NUMBER -> SimpleFeelEvaluationResult.ofNumber(expression.getExpression(), numberValue);
+      case STRING -> SimpleFeelEvaluationResult.ofString(expression.getExpression(), valueView);
+      case OBJECT -> SimpleFeelEvaluationResult.ofObject(expression.getExpression(), valueView);
+      default -> null;
+    };
+  }
+
+  private ResultType evaluate(final Node node, final EvaluationContext context) {
+    return switch (node) {
+      case final Literal literal -> evaluateLiteral(literal);
+      case final Path path -> evaluatePath(path, context);
+      case final Comparison comparison -> evaluateComparison(comparison, context);
+      case final Conjunction conjunction ->
+          evaluateLogical(conjunction.left(), conjunction.right(), true, context);
+      case final Disjunction disjunction ->
+          evaluateLogical(disjunction.left(), disjunction.right(), false, context);
+      case final Negation negation -> evaluateNegation(negation, context);
+    };
+  }
+
+  private ResultType evaluateLiteral(final Literal literal) {
+    switch (literal.type()) {
+      case BOOLEAN -> booleanValue = literal.booleanValue();
+      case NUMBER -> numberValue = literal.numberValue();
+      case STRING -> valueView.wrap(literal.stringValue());
+      default -> {
+        // null has no value
+      }
+    }
+    return literal.type();
+  }
+
+  private ResultType evaluatePath(final Path path, final EvaluationContext context) {
+    final var variable = context.getVariable(path.variableName());
+    if (variable == null || variable.capacity() == 0) {
+      return UNSUPPORTED;
+    }
+
+    reader.wrap(variable, 0, variable.capacity());
+    for (final var key : path.keys()) {
+      if (!readToProperty(key)) {
+        return UNSUPPORTED;
+      }
+    }
+    return readValue();
+  }
+
+  /** Moves the reader to the value of the given property of the map at the current offset. */
+  private boolean readToProperty(final DirectBuffer key) {
+    final var token = reader.readToken();
+    if (token.getType() != MsgPackType.MAP) {
+      return false;
+    }
+
+    // the FEEL engine uses the last entry if a key is present more than once
+    var valueOffset = -1;
+    final var size = token.getSize();
+    for (int i = 0; i < size; i++) {
+      final var keyToken = reader.readToken();
+      if (keyToken.getType() != MsgPackType.STRING) {
+        return false;
+      }
+
+      if (BufferUtil.equals(keyToken.getValueBuffer(), key)) {
+        valueOffset = reader.getOffset();
+      }
+      reader.skipValue();
+    }
+
+    if (valueOffset < 0) {
+      return false;
+    }
+
+    final var buffer = reader.getBuffer();
+    reader.wrap(buffer, valueOffset, buffer.capacity() - valueOffset);
+    return true;
+  }
+
+  private ResultType readValue() {
+    final var valueOffset = reader.getOffset();
+    final var token = reader.readToken();
+
+    return switch (token.getType()) {
+      case NIL -> ResultType.NULL;
+      case BOOLEAN -> {
+        booleanValue = token.getBooleanValue();
+        yield ResultType.BOOLEAN;
+      }
+      case INTEGER -> {
+        numberValue = token.getIntegerValue();
+        yield ResultType.NUMBER;
+      }
+      case STRING -> {
+        valueView.wrap(token.getValueBuffer());
+        yield ResultType.STRING;
+      }
+      case MAP -> {
+        reader.skipValues(2L * token.getSize());
+        valueView.wrap(reader.getBuffer(), valueOffset, reader.getOffset() - valueOffset);
+        yield ResultType.OBJECT;
+      }
+      // floats and arrays are transformed by the FEEL engine, e.g. 1.0 to 1
+      default -> UNSUPPORTED;
+    };
+  }
+
+  private ResultType evaluateComparison(
+      final Comparison comparison, final EvaluationContext context) {
+    final var leftType = evaluate(comparison.left(), context);
+    if (leftType == UNSUPPORTED) {
+      return UNSUPPORTED;
+    }
+
+    final var leftBoolean = booleanValue;
+    final var leftNumber = numberValue;
+    if (leftType == ResultType.STRING) {
+      // the right operand may read another variable, which can overwrite the buffer of the left one
+      final var length = valueView.capacity();
+      leftStringBuffer.putBytes(0, valueView, 0, length);
+      leftStringView.wrap(leftStringBuffer, 0, length);
+    }
+
+    final var rightType = evaluate(comparison.right(), context);
+    if (rightType == UNSUPPORTED) {
+      return UNSUPPORTED;
+    }
+
+    final var operator = comparison.operator();
+    final var isEquality = operator == Operator.EQUAL || operator == Operator.NOT_EQUAL;
+    final int result;
+    if (leftType == ResultType.NULL || rightType == ResultType.NULL) {
+      // null is only equal to null, but not ordered
+      if (!isEquality) {
+        return UNSUPPORTED;
+      }
+      result = leftType == rightType ? 0 : 1;
+
+    } else if (leftType != rightType) {
+      return UNSUPPORTED;
+
+    } else if (leftType == ResultType.NUMBER) {
+      result = Long.compare(leftNumber, numberValue);
+
+    } else if (leftType == ResultType.BOOLEAN && isEquality) {
+      result = leftBoolean == booleanValue ? 0 : 1;
+
+    } else if (leftType == ResultType.STRING && isEquality) {
+      // strings are ordered by their UTF-16 code units, which is left to the FEEL engine
+      result = BufferUtil.equals(leftStringView, valueView) ? 0 : 1;
+
+    } else {
+      return UNSUPPORTED;
+    }
+
+    booleanValue =
+        switch (operator) {
+          case EQUAL -> result == 0;
+          case NOT_EQUAL -> result != 0;
+          case LESS_THAN -> result < 0;
+          case LESS_OR_EQUAL -> result <= 0;
+          case GREATER_THAN -> result > 0;
+          case GREATER_OR_EQUAL -> result >= 0;
+        };
+    return ResultType.BOOLEAN;
+  }
+
+  private ResultType evaluateLogical(
+      final Node leftNode,
+      final Node rightNode,
+      final boolean isConjunction,
+      final EvaluationContext context) {
+    // evaluate both operands, the FEEL engine reports warnings for the right one as well
+    if (evaluate(leftNode, context) != ResultType.BOOLEAN) {
+      return UNSUPPORTED;
+    }
+    final var left = booleanValue;
+
+    if (evaluate(rightNode, context) != ResultType.BOOLEAN) {
+      return UNSUPPORTED;
+    }
+    final var right = booleanValue;
+
+    booleanValue = isConjunction ? left && right : left || right;
+    return ResultType.BOOLEAN;
+  }
+
+  private ResultType evaluateNegation(final Negation negation, final EvaluationContext context) {
+    if (evaluate(negation.operand(), context) != ResultType.BOOLEAN) {
+      return UNSUPPORTED;
+    }
+
+    booleanValue = !booleanValue;
+    return ResultType.BOOLEAN;
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.el.ResultType;
+import java.util.List;
+import org.agrona.DirectBuffer;
+
+/**
+ * A FEEL expression of the subset which can be evaluated by the {@link SimpleFeelEvaluator}
+ * directly on the MessagePack encoded variables, without the FEEL engine. The subset consists of
+ * variables and their nested properties (e.g. {@code order.id}), string, integer, boolean and null
+ * literals, comparisons, conjunctions, disjunctions, and negations.
+ *
+ * <p>The expression is immutable and can be shared between threads. It holds the results which
+ * don't depend on the variables, to not allocate them on every evaluation.
+ *
+ * @see SimpleFeelParser
+ */
+final class SimpleFeelExpression {
+
+  private final String expression;
+  private final Node root;
+  private final EvaluationResult trueResult;
+  private final EvaluationResult falseResult;
+  private final EvaluationResult nullResult;
+
+  SimpleFeelExpression(final String expression, final Node root) {
+    this.expression = expression;
+    this.root = root;
+    trueResult = SimpleFeelEvaluationResult.ofBoolean(expression, true);
+    falseResult = SimpleFeelEvaluationResult.ofBoolean(expression, false);
+    nullResult = SimpleFeelEvaluationResult.ofNull(expression);
+  }
+
+  String getExpression() {
+    return expression;
+  }
+
+  Node getRoot() {
+    return root;
+  }
+
+  EvaluationResult booleanResult(final boolean value) {
+    return value ? trueResult : falseResult;
+  }
+
+  EvaluationResult nullResult() {
+    return nullResult;
+  }
+
+  @Override
+  public String toString() {
+    return "SimpleFeelExpression{" + "expression='" + expression + '\'' + ", root=" + root + '}';
+  }
+
+  sealed interface Node {}
+
+  /**
+   * A constant value. Depending on the type, the value is given by {@code booleanValue}, {@code
+   * numberValue}, or {@code stringValue} as UTF-8 encoded bytes.
+   */
+  record Literal(ResultType type, boolean booleanValue, long numberValue, DirectBuffer stringValue)
+      implements Node {}
+
+  /** A variable, or a nested property of a variable given by the keys. */
+  record Path(String variableName, List<DirectBuffer> keys) implements Node {}
+
+  record Comparison(Operator operator, Node left, Node right) implements Node {}
+
+  record Conjunction(Node left, Node right) implements Node {}
+
+  record Disjunction(Node left, Node right) implements Node {}
+
+  record Negation(Node operand) implements Node {}
+
+  enum Operator {
+    EQUAL,
+    NOT_EQUAL,
+    LESS_THAN,
+    LESS_OR_EQUAL,
+    GREATER_THAN,
+    GREATER_OR_EQUAL
+  }
+}
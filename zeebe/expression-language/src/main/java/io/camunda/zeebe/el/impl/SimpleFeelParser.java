@@ -0,0 +1,293 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import io.camunda.zeebe.el.ResultType;
+import io.camunda.zeebe.el.impl.SimpleFeelExpression.Comparison;
+import io.camunda.zeebe.el.impl.SimpleFeelExpression.Conjunction;
+import io.camunda.zeebe.el.impl.SimpleFeelExpression.Disjunction;
+import io.camunda.zeebe.el.impl.SimpleFeelExpression.Literal;
+import io.camunda.zeebe.el.impl.SimpleFeelExpression.Negation;
+import io.camunda.zeebe.el.impl.SimpleFeelExpression.Node;
+import io.camunda.zeebe.el.impl.SimpleFeelExpression.Operator;
+import io.camunda.zeebe.el.impl.SimpleFeelExpression.Path;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.agrona.DirectBuffer;
+
+/**
+ * Parses the subset of FEEL which is supported by the {@link SimpleFeelEvaluator}. The parser is
+ * deliberately strict: it only accepts expressions which the FEEL engine parses in the same way,
+ * and rejects anything else, such as names which are keywords, decimal numbers, or strings with
+ * escape sequences. Rejected expressions are evaluated by the FEEL engine.
+ *
+ * <pre>
+ * disjunction = conjunction { "or" conjunction }
+ * conjunction = comparison { "and" comparison }
+ * comparison  = operand [ ( "=" | "!=" | "&lt;" | "&lt;=" | "&gt;" | "&gt;=" ) operand ]
+ * operand     = "(" disjunction ")" | "not(" disjunction ")" | literal | name { "." name }
+ * literal     = "true" | "false" | "null" | integer | string
+ * </pre>
+ */
+final class SimpleFeelParser {
+
+  private static final Set<String> RESERVED_NAMES =
+      Set.of(
+          "and",
+          "or",
+          "not",
+          "true",
+          "false",
+          "null",
+          "if",
+          "then",
+          "else",
+          "for",
+          "in",
+          "return",
+          "some",
+          "every",
+          "satisfies",
+          "instance",
+          "of",
+          "between",
+          "function",
+          "external");
+  // avoids overflows when parsing, larger numbers are left to the FEEL engine
+  private static final int MAX_INTEGER_DIGITS = 18;
+
+  private final String expression;
+  private int position;
+
+  private SimpleFeelParser(final String expression) {
+    this.expression = expression;
+  }
+
+  /**
+   * @param expression the FEEL expression, without the leading {@code =}
+   * @return the parsed expression, or {@code null} if the expression is not part of the subset
+   */
+  static SimpleFeelExpression parse(final String expression) {
+    final var parser = new SimpleFeelParser(expression);
+    final var root = parser.parseDisjunction();
+    parser.skipWhitespace();
+
+    if (root == null || !parser.isAtEnd()) {
+      return null;
+    }
+    return new SimpleFeelExpression(expression, root);
+  }
+
+  private Node parseDisjunction() {
+    var left = parseConjunction();
+    while (left != null && acceptKeyword("or")) {
+      final var right = parseConjunction();
+      left = right == null ? null : new Disjunction(left, right);
+    }
+    return left;
+  }
+
+  private Node parseConjunction() {
+    var left = parseComparison();
+    while (left != null && acceptKeyword("and")) {
+      final var right = parseComparison();
+      left = right == null ? null : new Conjunction(left, right);
+    }
+    return left;
+  }
+
+  private Node parseComparison() {
+    final var left = parseOperand();
+    if (left == null) {
+      return null;
+    }
+
+    final var operator = acceptOperator();
+    if (operator == null) {
+      return left;
+    }
+
+    final var right = parseOperand();
+    return right == null ? null : new Comparison(operator, left, right);
+  }
+
+  private Node parseOperand() {
+    skipWhitespace();
+    if (isAtEnd()) {
+      return null;
+    }
+
+    final char c = expression.charAt(position);
+    if (c == '(') {
+      position++;
+      return parseParenthesized();
+    } else if (c == '"') {
+      return parseString();
+    } else if (isDigit(c)) {
+      return parseInteger();
+    } else if (isNameStart(c)) {
+      return parseNameOrKeyword();
+    }
+    return null;
+  }
+
+  private Node parseParenthesized() {
+    final var node = parseDisjunction();
+    skipWhitespace();
+    return node != null && accept(')') ? node : null;
+  }
+
+  private Node parseNameOrKeyword() {
+    final var name = readName();
+    switch (name) {
+      case "true":
+        return new Literal(ResultType.BOOLEAN, true, 0, null);
+      case "false":
+        return new Literal(ResultType.BOOLEAN, false, 0, null);
+      case "null":
+        return new Literal(ResultType.NULL, false, 0, null);
+      case "not":
+        // only the function invocation without whitespace, i.e. not(x)
+        if (accept('(')) {
+          final var operand = parseParenthesized();
+          return operand == null ? null : new Negation(operand);
+        }
+        return null;
+      default:
+        break;
+    }
+
+    if (RESERVED_NAMES.contains(name)) {
+      return null;
+    }
+
+    final List<DirectBuffer> keys = new ArrayList<>();
+    while (accept('.')) {
+      if (isAtEnd() || !isNameStart(expression.charAt(position))) {
+        return null;
+      }
+
+      final var key = readName();
+      if (RESERVED_NAMES.contains(key)) {
+        return null;
+      }
+      keys.add(BufferUtil.wrapString(key));
+    }
+    return new Path(name, List.copyOf(keys));
+  }
+
+  private Node parseString() {
+    final var end = expression.indexOf('"', position + 1);
+    if (end < 0) {
+      return null;
+    }
+
+    final var value = expression.substring(position + 1, end);
+    if (value.indexOf('\\') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+      // escape sequences and multi-line strings are left to the FEEL engine
+      return null;
+    }
+
+    position = end + 1;
+    return new Literal(ResultType.STRING, false, 0, BufferUtil.wrapString(value));
+  }
+
+  private Node parseInteger() {
+    final var start = position;
+    while (!isAtEnd() && isDigit(expression.charAt(position))) {
+      position++;
+    }
+
+    final var digits = position - start;
+    final var isLeadingZero = digits > 1 && expression.charAt(start) == '0';
+    if (digits > MAX_INTEGER_DIGITS || isLeadingZero) {
+      return null;
+    }
+
+    if (!isAtEnd()) {
+      final char next = expression.charAt(position);
+      if (next == '.' || isNamePart(next)) {
+        // decimal numbers are left to the FEEL engine
+        return null;
+      }
+    }
+
+    final var value = Long.parseLong(expression, start, position, 10);
+    return new Literal(ResultType.NUMBER, false, value, null);
+  }
+
+  private Operator acceptOperator() {
+    skipWhitespace();
+    if (accept('=')) {
+      return Operator.EQUAL;
+    } else if (accept('!')) {
+      return accept('=') ? Operator.NOT_EQUAL : null;
+    } else if (accept('<')) {
+      return accept('=') ? Operator.LESS_OR_EQUAL : Operator.LESS_THAN;
+    } else if (accept('>')) {
+      return accept('=') ? Operator.GREATER_OR_EQUAL : Operator.GREATER_THAN;
+    }
+    return null;
+  }
+
+  private boolean acceptKeyword(final String keyword) {
+    skipWhitespace();
+    final var end = position + keyword.length();
+    if (!expression.startsWith(keyword, position)
+        || (end < expression.length() && isNamePart(expression.charAt(end)))) {
+      return false;
+    }
+
+    position = end;
+    return true;
+  }
+
+  private boolean accept(final char expected) {
+    if (!isAtEnd() && expression.charAt(position) == expected) {
+      position++;
+      return true;
+    }
+    return false;
+  }
+
+  private String readName() {
+    final var start = position;
+    while (!isAtEnd() && isNamePart(expression.charAt(position))) {
+      position++;
+    }
+    return expression.substring(start, position);
+  }
+
+  private void skipWhitespace() {
+    while (!isAtEnd()) {
+      final char c = expression.charAt(position);
+      if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+        return;
+      }
+      position++;
+    }
+  }
+
+  private boolean isAtEnd() {
+    return position >= expression.length();
+  }
+
+  private static boolean isDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isNameStart(final char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+  }
+
+  private static boolean isNamePart(final char c) {
+    return isNameStart(c) || isDigit(c);
+  }
+}
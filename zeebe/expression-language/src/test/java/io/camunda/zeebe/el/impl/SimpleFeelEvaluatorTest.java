@@ -0,0 +1,227 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.el.EvaluationContext;
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.el.util.TestFeelEngineClock;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Verifies that the {@link SimpleFeelEvaluator} returns the same results as the FEEL engine, by
+ * evaluating every expression with and without it.
+ */
+final class SimpleFeelEvaluatorTest {
+
+  private static final Map<String, DirectBuffer> VARIABLES = new HashMap<>();
+
+  static {
+    final var customer = new HashMap<String, Object>();
+    customer.put("name", "Jane");
+    customer.put("vip", false);
+
+    final var order = new HashMap<String, Object>();
+    order.put("id", "order-1");
+    order.put("amount", 1500);
+    order.put("express", true);
+    order.put("customer", customer);
+    order.put("note", null);
+    order.put("price", 9.5);
+    order.put("items", List.of(1, 2, 3));
+
+    VARIABLES.put("order", asMsgPack(order));
+    VARIABLES.put("amount", asMsgPack("1500"));
+    VARIABLES.put("limit", asMsgPack("1000"));
+    VARIABLES.put("negative", asMsgPack("-42"));
+    VARIABLES.put("big", asMsgPack("9000000000"));
+    VARIABLES.put("price", asMsgPack("9.5"));
+    VARIABLES.put("status", asMsgPack("\"done\""));
+    VARIABLES.put("other_status", asMsgPack("\"done\""));
+    VARIABLES.put("name", asMsgPack("\"Zoë 🚀\""));
+    VARIABLES.put("approved", asMsgPack("true"));
+    VARIABLES.put("rejected", asMsgPack("false"));
+    VARIABLES.put("nothing", asMsgPack("null"));
+    VARIABLES.put("items", asMsgPack("[1, 2, 3]"));
+    VARIABLES.put("date", asMsgPack("true"));
+    VARIABLES.put("time", asMsgPack("true"));
+  }
+
+  private static final EvaluationContext CONTEXT = VARIABLES::get;
+
+  private final FeelExpressionLanguage expressionLanguage =
+      new FeelExpressionLanguage(new TestFeelEngineClock());
+  private final FeelExpressionLanguage feelEngineOnly =
+      new FeelExpressionLanguage(new TestFeelEngineClock(), false);
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "=amount",
+        "=status",
+        "=name",
+        "=approved",
+        "=nothing",
+        "=big",
+        "=negative",
+        "=order",
+        "=order.id",
+        "=order.amount",
+        "=order.customer",
+        "=order.customer.name",
+        "=order.note",
+        "=true",
+        "=false",
+        "=null",
+        "=42",
+        "=\"text\"",
+        "=amount > 1000",
+        "=amount >= 1500",
+        "=amount < limit",
+        "=amount <= 1499",
+        "=amount = 1500",
+        "=amount != 1500",
+        "=negative < 0",
+        "=big > amount",
+        "=order.amount > limit",
+        "=status = \"done\"",
+        "=status != \"open\"",
+        "=status = other_status",
+        "=name = \"Zoë 🚀\"",
+        "=approved = true",
+        "=approved != rejected",
+        "=nothing = null",
+        "=amount = null",
+        "=null != status",
+        "=order != null",
+        "=order.note = null",
+        "=approved and not(rejected)",
+        "=approved or rejected",
+        "=rejected or rejected",
+        "=amount > 1000 and status = \"done\" or order.express",
+        "=(amount > 1000 or rejected) and order.customer.vip = false",
+        "=not(amount > limit)",
+        "=date and time",
+        "= amount  >  1000 "
+      })
+  void shouldEvaluateWithoutFeelEngine(final String expression) {
+    // when
+    final var parsedExpression = (FeelExpression) expressionLanguage.parseExpression(expression);
+
+    // then
+    assertThat(parsedExpression.getSimpleExpression()).isNotNull();
+    assertThat(new SimpleFeelEvaluator().evaluate(parsedExpression.getSimpleExpression(), CONTEXT))
+        .describedAs("Expected '%s' to be evaluated without the FEEL engine", expression)
+        .isNotNull();
+    assertSameResultAsFeelEngine(expression);
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "=missing",
+        "=missing = null",
+        "=order.missing",
+        "=status.length",
+        "=price",
+        "=price > 5",
+        "=order.price",
+        "=items",
+        "=order.items",
+        "=amount = \"1500\"",
+        "=approved = 1",
+        "=status < \"open\"",
+        "=approved > rejected",
+        "=nothing < 1",
+        "=order = order",
+        "=amount and approved",
+        "=not(status)",
+        "=rejected and missing",
+        "=approved or missing"
+      })
+  void shouldFallBackToFeelEngine(final String expression) {
+    // when
+    final var parsedExpression = (FeelExpression) expressionLanguage.parseExpression(expression);
+
+    // then
+    assertThat(parsedExpression.getSimpleExpression()).isNotNull();
+    assertThat(new SimpleFeelEvaluator().evaluate(parsedExpression.getSimpleExpression(), CONTEXT))
+        .describedAs("Expected '%s' to be evaluated by the FEEL engine", expression)
+        .isNull();
+    assertSameResultAsFeelEngine(expression);
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "=amount + 1",
+        "=-1",
+        "=1.5",
+        "=amount > 1.5",
+        "=01",
+        "=\"a\\\"b\"",
+        "=items[1]",
+        "=count(items)",
+        "=not (approved)",
+        "=amount between 1 and 2000",
+        "=status in (\"done\")",
+        "=if approved then 1 else 2",
+        "=order . id",
+        "=order.if",
+        "=amount > 1000 // comment",
+        "=amount = 1 = true",
+        "=approved and",
+        "=\"unterminated",
+        "=9999999999999999999"
+      })
+  void shouldNotEvaluateWithoutFeelEngine(final String expression) {
+    // when
+    final var parsedExpression = expressionLanguage.parseExpression(expression);
+
+    // then
+    if (parsedExpression instanceof final FeelExpression feelExpression) {
+      assertThat(feelExpression.getSimpleExpression())
+          .describedAs("Expected '%s' not to be part of the subset", expression)
+          .isNull();
+      assertSameResultAsFeelEngine(expression);
+    }
+  }
+
+  private void assertSameResultAsFeelEngine(final String expression) {
+    final var result = evaluate(expressionLanguage, expression);
+    final var expected = evaluate(feelEngineOnly, expression);
+
+    assertThat(result.getExpression()).isEqualTo(expected.getExpression());
+    assertThat(result.isFailure()).isEqualTo(expected.isFailure());
+    assertThat(result.getFailureMessage()).isEqualTo(expected.getFailureMessage());
+    assertThat(result.getWarnings())
+        .extracting(w -> w.getType() + ": " + w.getMessage())
+        .containsExactlyElementsOf(
+            expected.getWarnings().stream().map(w -> w.getType() + ": " + w.getMessage()).toList());
+    assertThat(result.getType()).isEqualTo(expected.getType());
+    assertThat(result.getString()).isEqualTo(expected.getString());
+    assertThat(result.getBoolean()).isEqualTo(expected.getBoolean());
+    assertThat(result.getNumber()).isEqualTo(expected.getNumber());
+    if (!expected.isFailure()) {
+      assertThat(result.toBuffer()).isEqualTo(expected.toBuffer());
+    }
+  }
+
+  private static EvaluationResult evaluate(
+      final FeelExpressionLanguage expressionLanguage, final String expression) {
+    return expressionLanguage.evaluateExpression(
+        expressionLanguage.parseExpression(expression), CONTEXT);
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.perf;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+
+import io.camunda.zeebe.el.EvaluationContext;
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.impl.FeelExpressionLanguage;
+import io.camunda.zeebe.el.util.TestFeelEngineClock;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the evaluation of typical expressions by the FEEL engine with the evaluation of the
+ * simple FEEL subset directly on the MessagePack encoded variables: a condition of an exclusive
+ * gateway, an input or output mapping, and a message correlation key.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class FeelExpressionPerformanceTest {
+
+  private static final Map<String, DirectBuffer> VARIABLES =
+      Map.of(
+          "amount",
+          asMsgPack("1500"),
+          "status",
+          asMsgPack("\"approved\""),
+          "order",
+          asMsgPack(
+              Map.of(
+                  "id",
+                  "order-4711",
+                  "express",
+                  true,
+                  "customer",
+                  Map.of("id", "customer-42", "name", "Jane Doe", "vip", false),
+                  "total",
+                  1500)));
+
+  @Param({"true", "false"})
+  public boolean simpleEvaluationEnabled;
+
+  private final EvaluationContext context = VARIABLES::get;
+  private FeelExpressionLanguage expressionLanguage;
+  private Expression gatewayCondition;
+  private Expression variableMapping;
+  private Expression correlationKey;
+
+  @Setup
+  public void setup() {
+    expressionLanguage =
+        new FeelExpressionLanguage(new TestFeelEngineClock(), simpleEvaluationEnabled);
+    gatewayCondition =
+        expressionLanguage.parseExpression(
+            "=amount > 1000 and status = \"approved\" or order.express");
+    variableMapping = expressionLanguage.parseExpression("=order.customer");
+    correlationKey = expressionLanguage.parseExpression("=order.id");
+  }
+
+  @Benchmark
+  public Boolean measureGatewayCondition() {
+    return expressionLanguage.evaluateExpression(gatewayCondition, context).getBoolean();
+  }
+
+  @Benchmark
+  public DirectBuffer measureVariableMapping() {
+    return expressionLanguage.evaluateExpression(variableMapping, context).toBuffer();
+  }
+
+  @Benchmark
+  public String measureCorrelationKey() {
+    return expressionLanguage.evaluateExpression(correlationKey, context).getString();
+  }
+
+  @JMHTest("measureGatewayCondition")
+  void shouldEvaluateGatewayConditionWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 3_000_000;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("simpleEvaluationEnabled", "true")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @JMHTest("measureVariableMapping")
+  void shouldEvaluateVariableMappingWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 3_500_000;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("simpleEvaluationEnabled", "true")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @JMHTest("measureCorrelationKey")
+  void shouldEvaluateCorrelationKeyWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 3_500_000;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("simpleEvaluationEnabled", "true")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
@@ -366,7 +366,9 @@ public final class Gateway implements CloseableSilently {
           brokerClient,
           gatewayCfg.getNetwork().getMaxMessageSize().toBytes(),
           ResponseMapper::toActivateJobsResponse,
-          REQUEST_CANCELED_EXCEPTION_PROVIDER);
+          REQUEST_CANCELED_EXCEPTION_PROVIDER,
+          gatewayCfg.getLongPolling().getMaxConcurrentPartitionRequests(),
+          Duration.ZERO);
     }
   }
 
@@ -378,6 +380,9 @@ public final class Gateway implements CloseableSilently {
         .setLongPollingTimeout(gatewayCfg.getLongPolling().getTimeout())
         .setProbeTimeoutMillis(gatewayCfg.getLongPolling().getProbeTimeout())
         .setMinEmptyResponses(gatewayCfg.getLongPolling().getMinEmptyResponses())
+        .setMaxConcurrentPartitionRequests(
+            gatewayCfg.getLongPolling().getMaxConcurrentPartitionRequests())
+        .setPartitionHintTimeoutMillis(gatewayCfg.getLongPolling().getPartitionHintTimeout())
         .setActivationResultMapper(ResponseMapper::toActivateJobsResponse)
         .setNoJobsReceivedExceptionProvider(NO_JOBS_RECEIVED_EXCEPTION_PROVIDER)
         .setRequestCanceledExceptionProvider(REQUEST_CANCELED_EXCEPTION_PROVIDER)
@@ -16,6 +16,9 @@ public final class LongPollingCfg {
   private long probeTimeout = ConfigurationDefaults.DEFAULT_PROBE_TIMEOUT;
   private int minEmptyResponses =
       ConfigurationDefaults.DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD;
+  private int maxConcurrentPartitionRequests =
+      ConfigurationDefaults.DEFAULT_MAX_CONCURRENT_PARTITION_REQUESTS;
+  private long partitionHintTimeout = ConfigurationDefaults.DEFAULT_PARTITION_HINT_TIMEOUT;
 
   public long getTimeout() {
     return timeout;
@@ -41,6 +44,22 @@ public final class LongPollingCfg {
     this.minEmptyResponses = minEmptyResponses;
   }
 
+  public int getMaxConcurrentPartitionRequests() {
+    return maxConcurrentPartitionRequests;
+  }
+
+  public void setMaxConcurrentPartitionRequests(final int maxConcurrentPartitionRequests) {
+    this.maxConcurrentPartitionRequests = maxConcurrentPartitionRequests;
+  }
+
+  public long getPartitionHintTimeout() {
+    return partitionHintTimeout;
+  }
+
+  public void setPartitionHintTimeout(final long partitionHintTimeout) {
+    this.partitionHintTimeout = partitionHintTimeout;
+  }
+
   public boolean isEnabled() {
     return enabled;
   }
@@ -52,7 +71,13 @@ public final class LongPollingCfg {
 
   @Override
   public int hashCode() {
-    return Objects.hash(enabled, timeout, probeTimeout, minEmptyResponses);
+    return Objects.hash(
+        enabled,
+        timeout,
+        probeTimeout,
+        minEmptyResponses,
+        maxConcurrentPartitionRequests,
+        partitionHintTimeout);
   }
 
   @Override
@@ -67,7 +92,9 @@ public final class LongPollingCfg {
     return enabled == that.enabled
         && timeout == that.timeout
         && probeTimeout == that.probeTimeout
-        && minEmptyResponses == that.minEmptyResponses;
+        && minEmptyResponses == that.minEmptyResponses
+        && maxConcurrentPartitionRequests == that.maxConcurrentPartitionRequests
+        && partitionHintTimeout == that.partitionHintTimeout;
   }
 
   @Override
@@ -81,6 +108,10 @@ public final class LongPollingCfg {
         + probeTimeout
         + ", minEmptyResponses="
         + minEmptyResponses
+        + ", maxConcurrentPartitionRequests="
+        + maxConcurrentPartitionRequests
+        + ", partitionHintTimeout="
+        + partitionHintTimeout
         + '}';
   }
 }
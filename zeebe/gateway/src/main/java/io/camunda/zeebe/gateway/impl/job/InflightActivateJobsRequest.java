@@ -12,6 +12,7 @@ import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.scheduler.ScheduledTimer;
 import io.camunda.zeebe.util.Either;
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import org.slf4j.Logger;
 
@@ -24,6 +25,7 @@ public class InflightActivateJobsRequest<T> {
   private final String jobType;
   private final String worker;
   private final int maxJobsToActivate;
+  private final List<String> tenantIds;
   private final Duration longPollingTimeout;
 
   private ScheduledTimer scheduledTimer;
@@ -60,6 +62,7 @@ public class InflightActivateJobsRequest<T> {
     this.jobType = jobType;
     this.worker = worker;
     this.maxJobsToActivate = maxJobsToActivate;
+    tenantIds = request.getRequestWriter().getTenantIds();
     this.longPollingTimeout =
         longPollingTimeout == 0 ? null : Duration.ofMillis(longPollingTimeout);
   }
@@ -149,6 +152,10 @@ public class InflightActivateJobsRequest<T> {
     return maxJobsToActivate;
   }
 
+  public List<String> getTenantIds() {
+    return tenantIds;
+  }
+
   public void setScheduledTimer(final ScheduledTimer scheduledTimer) {
     this.scheduledTimer = scheduledTimer;
   }
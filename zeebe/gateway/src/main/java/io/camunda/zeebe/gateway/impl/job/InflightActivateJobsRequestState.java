@@ -7,54 +7,122 @@
  */
 package io.camunda.zeebe.gateway.impl.job;
 
-import io.camunda.zeebe.broker.client.impl.PartitionIdIterator;
+import java.util.ArrayDeque;
+import java.util.Deque;
 
+/**
+ * Tracks the progress of an activate jobs request, which may poll several partitions at the same
+ * time. The jobs left to activate are split between the in-flight partition requests, such that
+ * together they never activate more than the maximum number of jobs of the request.
+ */
 public class InflightActivateJobsRequestState {
 
-  private final PartitionIdIterator iterator;
+  private final Deque<Integer> partitions;
+  private final int maxConcurrentRequests;
   private int remainingAmount;
-  private boolean pollPrevPartition;
+  private int requestedAmount;
+  private int inflightRequests;
   private boolean resourceExhaustedWasPresent;
+  private boolean finished;
 
   public InflightActivateJobsRequestState(
-      final PartitionIdIterator iterator, final int remainingAmount) {
-    this.iterator = iterator;
+      final Deque<Integer> partitions, final int remainingAmount, final int maxConcurrentRequests) {
+    this.partitions = new ArrayDeque<>(partitions);
     this.remainingAmount = remainingAmount;
+    this.maxConcurrentRequests = maxConcurrentRequests;
   }
 
-  private boolean hasNextPartition() {
-    return iterator.hasNext();
+  /**
+   * @return true if another partition request can be sent now
+   */
+  public boolean shouldActivateJobs() {
+    return !finished
+        && inflightRequests < maxConcurrentRequests
+        && remainingAmount - requestedAmount > 0
+        && !partitions.isEmpty();
   }
 
-  public int getCurrentPartition() {
-    return iterator.getCurrentPartitionId();
+  public int getNextPartition() {
+    return partitions.poll();
   }
 
-  public int getNextPartition() {
-    return pollPrevPartition ? iterator.getCurrentPartitionId() : iterator.next();
+  /**
+   * Returns the number of jobs to request from the next partition. The jobs which are not requested
+   * yet are split evenly between the requests which can still be sent concurrently.
+   */
+  public int getNextRequestAmount() {
+    final int unrequestedAmount = remainingAmount - requestedAmount;
+    final int concurrentRequests =
+        Math.min(maxConcurrentRequests - inflightRequests, partitions.size());
+    return (unrequestedAmount + concurrentRequests - 1) / concurrentRequests;
   }
 
-  public int getRemainingAmount() {
-    return remainingAmount;
+  public void onRequestSent(final int amount) {
+    inflightRequests++;
+    requestedAmount += amount;
   }
 
-  public void setRemainingAmount(int remainingAmount) {
-    this.remainingAmount = remainingAmount;
+  /**
+   * @param requestedAmount the number of jobs which were requested from the partition
+   * @param activatedAmount the number of jobs which were activated on the partition
+   */
+  public void onResponse(final int requestedAmount, final int activatedAmount) {
+    inflightRequests--;
+    this.requestedAmount -= requestedAmount;
+    remainingAmount -= activatedAmount;
   }
 
-  public boolean wasResourceExhaustedPresent() {
-    return resourceExhaustedWasPresent;
+  /**
+   * Returns whether the partition should be polled again after it responded. This is the case if
+   * its response was truncated, or if it activated all jobs requested from it while there are still
+   * jobs left to activate, e.g. because other partitions activated fewer jobs than were requested
+   * from them.
+   *
+   * @param requestedAmount the number of jobs which were requested from the partition
+   * @param activatedAmount the number of jobs which were activated on the partition
+   * @param truncated true if the response of the partition was truncated
+   */
+  public boolean shouldPollAgain(
+      final int requestedAmount, final int activatedAmount, final boolean truncated) {
+    return truncated || (activatedAmount >= requestedAmount && remainingAmount > 0);
   }
 
-  public void setResourceExhaustedWasPresent(final boolean resourceExhaustedWasPresent) {
-    this.resourceExhaustedWasPresent = resourceExhaustedWasPresent;
+  /** Polls the given partition again, before any partition which was not polled yet. */
+  public void pollAgain(final int partitionId) {
+    partitions.addFirst(partitionId);
   }
 
-  public void setPollPrevPartition(boolean pollPrevPartition) {
-    this.pollPrevPartition = pollPrevPartition;
+  /**
+   * @return true if no partition request is in flight and no further request can be sent
+   */
+  public boolean isDone() {
+    return inflightRequests == 0 && !shouldActivateJobs();
   }
 
-  public boolean shouldActivateJobs() {
-    return remainingAmount > 0 && (pollPrevPartition || hasNextPartition());
+  /**
+   * Marks the request as finished, after which no further partition requests are sent.
+   *
+   * @return true if the request was not finished before
+   */
+  public boolean finish() {
+    final boolean wasFinished = finished;
+    finished = true;
+    return !wasFinished;
+  }
+
+  public boolean isFinished() {
+    return finished;
+  }
+
+  public int getRemainingAmount() {
+    return remainingAmount;
+  }
+
+  public boolean wasResourceExhaustedPresent() {
+    return resourceExhaustedWasPresent;
+  }
+
+  public void setResourceExhaustedWasPresent(final boolean resourceExhaustedWasPresent) {
+    this.resourceExhaustedWasPresent |= resourceExhaustedWasPresent;
   }
 }
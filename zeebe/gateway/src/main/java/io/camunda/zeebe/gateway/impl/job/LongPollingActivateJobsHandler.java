@@ -9,6 +9,8 @@ package io.camunda.zeebe.gateway.impl.job;
 
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_LONG_POLLING_TIMEOUT;
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_MAX_CONCURRENT_PARTITION_REQUESTS;
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_PARTITION_HINT_TIMEOUT;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_PROBE_TIMEOUT;
 import static io.camunda.zeebe.scheduler.clock.ActorClock.currentTimeMillis;
 
@@ -63,11 +65,18 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
       final Function<String, Exception> noJobsReceivedExceptionProvider,
       final Function<String, Throwable> requestCanceledExceptionProvider,
-      final LongPollingMetrics metrics) {
+      final LongPollingMetrics metrics,
+      final int maxConcurrentPartitionRequests,
+      final long partitionHintTimeoutMillis) {
     this.brokerClient = brokerClient;
     activateJobsHandler =
         new RoundRobinActivateJobsHandler<>(
-            brokerClient, maxMessageSize, activationResultMapper, requestCanceledExceptionProvider);
+            brokerClient,
+            maxMessageSize,
+            activationResultMapper,
+            requestCanceledExceptionProvider,
+            maxConcurrentPartitionRequests,
+            Duration.ofMillis(partitionHintTimeoutMillis));
     this.noJobsReceivedExceptionProvider = noJobsReceivedExceptionProvider;
     this.longPollingTimeout = Duration.ofMillis(longPollingTimeout);
     this.probeTimeoutMillis = probeTimeoutMillis;
@@ -162,7 +171,7 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
                   jobType,
                   type -> new InFlightLongPollingActivateJobsRequestsState<>(type, metrics));
 
-          tryToActivateJobsOnAllPartitions(state, longPollingRequest);
+          tryToActivateJobsOnAllPartitions(state, longPollingRequest, false);
         });
   }
 
@@ -179,7 +188,8 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
 
   private void tryToActivateJobsOnAllPartitions(
       final InFlightLongPollingActivateJobsRequestsState<T> state,
-      final InflightActivateJobsRequest<T> request) {
+      final InflightActivateJobsRequest<T> request,
+      final boolean ignorePartitionHints) {
 
     final BrokerClusterState topology = brokerClient.getTopologyManager().getTopology();
     if (topology != null) {
@@ -189,6 +199,7 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       activateJobsHandler.activateJobs(
           partitionsCount,
           request,
+          ignorePartitionHints,
           error ->
               actor.submit(
                   () -> {
@@ -280,7 +291,7 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
                   type -> new InFlightLongPollingActivateJobsRequestsState<>(type, metrics));
 
           if (state.shouldAttempt(failedAttemptThreshold)) {
-            tryToActivateJobsOnAllPartitions(state, request);
+            tryToActivateJobsOnAllPartitions(state, request, false);
           } else {
             completeOrResubmitRequest(request, false);
           }
@@ -289,6 +300,7 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
 
   private void onJobAvailableNotification(final String jobType) {
     LOG.trace("Received jobs available notification for type {}.", jobType);
+    activateJobsHandler.onJobsAvailable(jobType);
 
     // instead of calling #getJobTypeState(), do only a
     // get to avoid the creation of a state instance.
@@ -358,7 +370,8 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
           if (state.getLastUpdatedTime() < (now - probeTimeoutMillis)) {
             final InflightActivateJobsRequest<T> probeRequest = state.getNextPendingRequest();
             if (probeRequest != null) {
-              tryToActivateJobsOnAllPartitions(state, probeRequest);
+              // probes poll all partitions, in case a job available notification was missed
+              tryToActivateJobsOnAllPartitions(state, probeRequest, true);
             } else {
               // there are no blocked requests, so use next request as probe
               if (state.getFailedAttempts() >= failedAttemptThreshold) {
@@ -385,6 +398,8 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
     private Function<String, Exception> noJobsReceivedExceptionProvider;
     private Function<String, Throwable> requestCanceledExceptionProvider;
     private LongPollingMetrics metrics;
+    private int maxConcurrentPartitionRequests = DEFAULT_MAX_CONCURRENT_PARTITION_REQUESTS;
+    private long partitionHintTimeoutMillis = DEFAULT_PARTITION_HINT_TIMEOUT;
 
     public Builder<T> setBrokerClient(final BrokerClient brokerClient) {
       this.brokerClient = brokerClient;
@@ -434,6 +449,16 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       return this;
     }
 
+    public Builder<T> setMaxConcurrentPartitionRequests(final int maxConcurrentPartitionRequests) {
+      this.maxConcurrentPartitionRequests = maxConcurrentPartitionRequests;
+      return this;
+    }
+
+    public Builder<T> setPartitionHintTimeoutMillis(final long partitionHintTimeoutMillis) {
+      this.partitionHintTimeoutMillis = partitionHintTimeoutMillis;
+      return this;
+    }
+
     public LongPollingActivateJobsHandler<T> build() {
       Objects.requireNonNull(brokerClient, "brokerClient");
       return new LongPollingActivateJobsHandler<>(
@@ -445,7 +470,9 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
           activationResultMapper,
           noJobsReceivedExceptionProvider,
           requestCanceledExceptionProvider,
-          metrics);
+          metrics,
+          maxConcurrentPartitionRequests,
+          partitionHintTimeoutMillis);
     }
   }
 }
@@ -0,0 +1,143 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import org.agrona.collections.Long2LongHashMap;
+
+/**
+ * Remembers which partitions recently returned no jobs for a job type, such that activation
+ * requests for this type can skip them. A partition is only skipped for a limited time after it
+ * returned no jobs, or until a job available notification for the type is received, as such a
+ * notification does not tell which partition the job was created on.
+ *
+ * <p>The hints are kept per job type and set of tenant ids, as a partition may have jobs for one
+ * tenant but not for another. Except for {@link #onJobsAvailable(String)}, which may be called from
+ * any thread, all methods must be called from the actor of the handler.
+ */
+final class PartitionJobAvailability {
+
+  private static final long NO_HINT = -1L;
+
+  private final Map<String, Map<List<String>, Long2LongHashMap>> emptyPartitionsByType =
+      new ConcurrentHashMap<>();
+  private final long hintTimeoutMillis;
+  private final LongSupplier clock;
+  private long lastEvictionMillis;
+
+  PartitionJobAvailability(final Duration hintTimeout) {
+    this(hintTimeout, ActorClock::currentTimeMillis);
+  }
+
+  PartitionJobAvailability(final Duration hintTimeout, final LongSupplier clock) {
+    hintTimeoutMillis = hintTimeout.toMillis();
+    this.clock = clock;
+  }
+
+  boolean isKnownEmpty(final String jobType, final List<String> tenantIds, final int partitionId) {
+    final var emptyPartitions = emptyPartitions(jobType, tenantIds);
+    if (emptyPartitions == null) {
+      return false;
+    }
+
+    final long markedAt = emptyPartitions.get(partitionId);
+    if (markedAt == NO_HINT) {
+      return false;
+    }
+
+    if (isExpired(markedAt, clock.getAsLong())) {
+      removeHint(jobType, tenantIds, partitionId);
+      return false;
+    }
+    return true;
+  }
+
+  void markEmpty(final String jobType, final List<String> tenantIds, final int partitionId) {
+    final long now = clock.getAsLong();
+    evictExpiredHints(now);
+    emptyPartitionsByType
+        .computeIfAbsent(jobType, type -> new HashMap<>())
+        .computeIfAbsent(tenantIds, ids -> new Long2LongHashMap(NO_HINT))
+        .put(partitionId, now);
+  }
+
+  void markAvailable(final String jobType, final List<String> tenantIds, final int partitionId) {
+    removeHint(jobType, tenantIds, partitionId);
+  }
+
+  /** Forgets all hints for the given job type, as new jobs may be available on any partition. */
+  void onJobsAvailable(final String jobType) {
+    emptyPartitionsByType.remove(jobType);
+  }
+
+  /**
+   * @return true if no hints are kept
+   */
+  boolean isEmpty() {
+    return emptyPartitionsByType.isEmpty();
+  }
+
+  /**
+   * Removes the hint of the given partition, together with the entries of its job type and tenant
+   * ids if they hold no other hints, such that job types which are not requested anymore are not
+   * kept forever.
+   */
+  private void removeHint(
+      final String jobType, final List<String> tenantIds, final int partitionId) {
+    emptyPartitionsByType.computeIfPresent(
+        jobType,
+        (type, emptyPartitionsByTenants) -> {
+          final var emptyPartitions = emptyPartitionsByTenants.get(tenantIds);
+          if (emptyPartitions != null) {
+            emptyPartitions.remove(partitionId);
+            if (emptyPartitions.isEmpty()) {
+              emptyPartitionsByTenants.remove(tenantIds);
+            }
+          }
+          return emptyPartitionsByTenants.isEmpty() ? null : emptyPartitionsByTenants;
+        });
+  }
+
+  /**
+   * Removes all expired hints, at most once per hint timeout. Hints are otherwise only removed when
+   * their job type is requested again, which may never happen.
+   */
+  private void evictExpiredHints(final long now) {
+    if (now - lastEvictionMillis < hintTimeoutMillis) {
+      return;
+    }
+    lastEvictionMillis = now;
+
+    for (final var jobType : emptyPartitionsByType.keySet()) {
+      emptyPartitionsByType.computeIfPresent(
+          jobType,
+          (type, emptyPartitionsByTenants) -> {
+            for (final var emptyPartitions : emptyPartitionsByTenants.values()) {
+              emptyPartitions.entrySet().removeIf(hint -> isExpired(hint.getValue(), now));
+            }
+            emptyPartitionsByTenants.values().removeIf(Long2LongHashMap::isEmpty);
+            return emptyPartitionsByTenants.isEmpty() ? null : emptyPartitionsByTenants;
+          });
+    }
+  }
+
+  private boolean isExpired(final long markedAt, final long now) {
+    return now - markedAt >= hintTimeoutMillis;
+  }
+
+  private Long2LongHashMap emptyPartitions(final String jobType, final List<String> tenantIds) {
+    final var emptyPartitionsByTenants = emptyPartitionsByType.get(jobType);
+    return emptyPartitionsByTenants == null ? null : emptyPartitionsByTenants.get(tenantIds);
+  }
+}
@@ -22,6 +22,9 @@ import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import io.camunda.zeebe.protocol.record.ErrorCode;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.util.Either;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -32,6 +35,12 @@ import java.util.function.Function;
 /**
  * Iterates in round-robin fashion over partitions to activate jobs. Uses a map from job type to
  * partition-IDs to determine the next partition to use.
+ *
+ * <p>Up to {@code maxConcurrentRequests} partitions are polled at the same time. The jobs left to
+ * activate are split between the concurrent partition requests, such that a request never activates
+ * more than its maximum number of jobs. Optionally, partitions which recently returned no jobs for
+ * a job type are skipped, until the hint times out or a job available notification is received for
+ * that type.
  */
 public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandler<T> {
 
@@ -47,6 +56,8 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
   private final BrokerTopologyManager topologyManager;
   private final long maxMessageSize;
   private final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper;
+  private final int maxConcurrentRequests;
+  private final PartitionJobAvailability partitionJobAvailability;
 
   private ActorControl actor;
   private final Function<String, Throwable> requestCanceledExceptionProvider;
@@ -56,11 +67,43 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
       final long maxMessageSize,
       final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
       final Function<String, Throwable> requestCanceledExceptionProvider) {
+    this(
+        brokerClient,
+        maxMessageSize,
+        activationResultMapper,
+        requestCanceledExceptionProvider,
+        1,
+        Duration.ZERO);
+  }
+
+  /**
+   * @param maxConcurrentRequests the maximum number of partitions polled at the same time for a
+   *     single activate jobs request
+   * @param partitionHintTimeout how long a partition which returned no jobs for a job type is
+   *     skipped by further requests for that type; a zero duration disables skipping partitions
+   */
+  public RoundRobinActivateJobsHandler(
+      final BrokerClient brokerClient,
+      final long maxMessageSize,
+      final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
+      final Function<String, Throwable> requestCanceledExceptionProvider,
+      final int maxConcurrentRequests,
+      final Duration partitionHintTimeout) {
+    if (maxConcurrentRequests < 1) {
+      throw new IllegalArgumentException(
+          "Expected max concurrent requests to be at least 1, but was " + maxConcurrentRequests);
+    }
+
     this.brokerClient = brokerClient;
     topologyManager = brokerClient.getTopologyManager();
     this.maxMessageSize = maxMessageSize;
     this.activationResultMapper = activationResultMapper;
     this.requestCanceledExceptionProvider = requestCanceledExceptionProvider;
+    this.maxConcurrentRequests = maxConcurrentRequests;
+    partitionJobAvailability =
+        partitionHintTimeout.isZero() || partitionHintTimeout.isNegative()
+            ? null
+            : new PartitionJobAvailability(partitionHintTimeout);
   }
 
   @Override
@@ -95,17 +138,39 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
       final InflightActivateJobsRequest<T> request,
       final Consumer<Throwable> onError,
       final BiConsumer<Integer, Boolean> onCompleted) {
-    final var jobType = request.getType();
+    activateJobs(partitionsCount, request, false, onError, onCompleted);
+  }
+
+  /**
+   * @param ignoreHints if true, all partitions are polled, including the ones which recently
+   *     returned no jobs for the job type of the request
+   */
+  public void activateJobs(
+      final int partitionsCount,
+      final InflightActivateJobsRequest<T> request,
+      final boolean ignoreHints,
+      final Consumer<Throwable> onError,
+      final BiConsumer<Integer, Boolean> onCompleted) {
     final var maxJobsToActivate = request.getMaxJobsToActivate();
-    final var partitionIterator = partitionIdIteratorForType(jobType, partitionsCount);
+    final var partitions = partitionsToPoll(request, partitionsCount, ignoreHints);
 
     final var requestState =
-        new InflightActivateJobsRequestState(partitionIterator, maxJobsToActivate);
+        new InflightActivateJobsRequestState(partitions, maxJobsToActivate, maxConcurrentRequests);
     final var delegate = new ResponseObserverDelegate(onError, onCompleted);
 
     activateJobs(request, requestState, delegate);
   }
 
+  /**
+   * Called when jobs of the given type became available on any partition, such that the next
+   * requests for this type poll all partitions again.
+   */
+  public void onJobsAvailable(final String jobType) {
+    if (partitionJobAvailability != null) {
+      partitionJobAvailability.onJobsAvailable(jobType);
+    }
+  }
+
   private void activateJobs(
       final InflightActivateJobsRequest<T> request,
       final InflightActivateJobsRequestState requestState,
@@ -116,20 +181,25 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
             return;
           }
 
-          if (requestState.shouldActivateJobs()) {
-            final var brokerRequest = request.getRequest();
+          while (requestState.shouldActivateJobs()) {
+            // partitions to check and jobs to activate left
+            final var amount = requestState.getNextRequestAmount();
             final var partitionId = requestState.getNextPartition();
-            final var remainingAmount = requestState.getRemainingAmount();
+            // concurrent requests can't share the same request object, as it holds the response
+            final var brokerRequest =
+                maxConcurrentRequests == 1 ? request.getRequest() : request.getRequest().copy();
 
-            // partitions to check and jobs to activate left
             brokerRequest.setPartitionId(partitionId);
-            brokerRequest.setMaxJobsToActivate(remainingAmount);
+            brokerRequest.setMaxJobsToActivate(amount);
+            requestState.onRequestSent(amount);
 
             brokerClient
                 .sendRequest(brokerRequest)
-                .whenComplete(handleBrokerResponse(request, requestState, delegate));
+                .whenComplete(
+                    handleBrokerResponse(request, requestState, delegate, partitionId, amount));
+          }
 
-          } else {
+          if (requestState.isDone() && requestState.finish()) {
             // enough jobs activated or no more partitions left to check
             final var remainingAmount = requestState.getRemainingAmount();
             final var resourceExhaustedWasPresent = requestState.wasResourceExhaustedPresent();
@@ -141,12 +211,15 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
   private BiConsumer<BrokerResponse<JobBatchRecord>, Throwable> handleBrokerResponse(
       final InflightActivateJobsRequest<T> request,
       final InflightActivateJobsRequestState requestState,
-      final ResponseObserverDelegate delegate) {
+      final ResponseObserverDelegate delegate,
+      final int partitionId,
+      final int requestedAmount) {
     return (brokerResponse, error) -> {
       if (error == null) {
-        handleResponseSuccess(request, requestState, delegate, brokerResponse);
+        handleResponseSuccess(
+            request, requestState, delegate, partitionId, requestedAmount, brokerResponse);
       } else {
-        handleResponseError(request, requestState, delegate, error);
+        handleResponseError(request, requestState, delegate, partitionId, requestedAmount, error);
       }
     };
   }
@@ -155,6 +228,8 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
       final InflightActivateJobsRequest<T> request,
       final InflightActivateJobsRequestState requestState,
       final ResponseObserverDelegate delegate,
+      final int partitionId,
+      final int requestedAmount,
       final BrokerResponse<JobBatchRecord> brokerResponse) {
     actor.run(
         () -> {
@@ -176,6 +251,16 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
           final T activateJobsResponse = jobActivationResult.getActivateJobsResponse();
           final var jobsCount = jobActivationResult.getJobsCount();
           final var jobsActivated = jobsCount > 0;
+          requestState.onResponse(requestedAmount, jobsCount);
+
+          if (jobsActivated && requestState.isFinished()) {
+            // the request was already completed or failed by a concurrent partition request
+            final var jobKeys = response.getJobKeys();
+            logResponseNotSent(request.getType(), jobKeys, ACTIVATE_JOB_NOT_SENT_MSG);
+            reactivateJobs(jobActivationResult.getJobs(), ACTIVATE_JOB_NOT_SENT_MSG);
+            return;
+          }
+
           if (jobsActivated) {
             final var result = request.tryToSendActivatedJobs(activateJobsResponse);
             final var responseWasSent = result.getOrElse(false);
@@ -188,16 +273,19 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
 
               logResponseNotSent(jobType, jobKeys, reason);
               reactivateJobs(activatedJobsToReactivate, reason);
-              cancelActivateJobsRequest(reason, delegate);
+              cancelActivateJobsRequest(reason, requestState, delegate);
               return;
             }
           }
 
-          final var remainingJobsToActivate = requestState.getRemainingAmount() - jobsCount;
-          final var shouldPollCurrentPartitionAgain = response.getTruncated();
+          final var shouldPollCurrentPartitionAgain =
+              requestState.shouldPollAgain(requestedAmount, jobsCount, response.getTruncated());
+          updatePartitionJobAvailability(
+              request, partitionId, jobsActivated, shouldPollCurrentPartitionAgain);
 
-          requestState.setRemainingAmount(remainingJobsToActivate);
-          requestState.setPollPrevPartition(shouldPollCurrentPartitionAgain);
+          if (shouldPollCurrentPartitionAgain) {
+            requestState.pollAgain(partitionId);
+          }
           activateJobs(request, requestState, delegate);
         });
   }
@@ -237,27 +325,54 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
   }
 
   private void cancelActivateJobsRequest(
-      final String reason, final ResponseObserverDelegate delegate) {
-    delegate.onError(requestCanceledExceptionProvider.apply(reason));
+      final String reason,
+      final InflightActivateJobsRequestState requestState,
+      final ResponseObserverDelegate delegate) {
+    if (requestState.finish()) {
+      delegate.onError(requestCanceledExceptionProvider.apply(reason));
+    }
+  }
+
+  private void updatePartitionJobAvailability(
+      final InflightActivateJobsRequest<T> request,
+      final int partitionId,
+      final boolean jobsActivated,
+      final boolean mayHaveMoreJobs) {
+    if (partitionJobAvailability == null) {
+      return;
+    }
+
+    final var jobType = request.getType();
+    final var tenantIds = request.getTenantIds();
+    if (jobsActivated || mayHaveMoreJobs) {
+      partitionJobAvailability.markAvailable(jobType, tenantIds, partitionId);
+    } else {
+      partitionJobAvailability.markEmpty(jobType, tenantIds, partitionId);
+    }
   }
 
   private void handleResponseError(
       final InflightActivateJobsRequest<T> request,
       final InflightActivateJobsRequestState state,
       final ResponseObserverDelegate delegate,
+      final int partitionId,
+      final int requestedAmount,
       final Throwable error) {
     actor.run(
         () -> {
+          state.onResponse(requestedAmount, 0);
+
           final var wasResourceExhausted = wasResourceExhausted(error);
           if (isRejection(error)) {
-            delegate.onError(error);
+            if (state.finish()) {
+              delegate.onError(error);
+            }
             return;
           } else if (!wasResourceExhausted) {
-            logErrorResponse(state.getCurrentPartition(), request.getType(), error);
+            logErrorResponse(partitionId, request.getType(), error);
           }
 
           state.setResourceExhaustedWasPresent(wasResourceExhausted);
-          state.setPollPrevPartition(false);
           activateJobs(request, state, delegate);
         });
   }
@@ -289,6 +404,29 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
         reason);
   }
 
+  private Deque<Integer> partitionsToPoll(
+      final InflightActivateJobsRequest<T> request,
+      final int partitionsCount,
+      final boolean ignoreHints) {
+    final var jobType = request.getType();
+    final var partitionIterator = partitionIdIteratorForType(jobType, partitionsCount);
+    final Deque<Integer> partitions = new ArrayDeque<>(partitionsCount);
+
+    if (ignoreHints || partitionJobAvailability == null) {
+      partitionIterator.forEachRemaining(partitions::add);
+      return partitions;
+    }
+
+    final var tenantIds = request.getTenantIds();
+    partitionIterator.forEachRemaining(
+        partitionId -> {
+          if (!partitionJobAvailability.isKnownEmpty(jobType, tenantIds, partitionId)) {
+            partitions.add(partitionId);
+          }
+        });
+    return partitions;
+  }
+
   private PartitionIdIterator partitionIdIteratorForType(
       final String jobType, final int partitionsCount) {
     final var nextPartitionSupplier =
@@ -0,0 +1,184 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class InflightActivateJobsRequestStateTest {
+
+  @Test
+  void shouldSplitRemainingAmountBetweenConcurrentRequests() {
+    // given
+    final var state =
+        new InflightActivateJobsRequestState(new ArrayDeque<>(List.of(1, 2, 3)), 10, 2);
+
+    // when
+    final var firstAmount = sendNextRequest(state);
+    final var secondAmount = sendNextRequest(state);
+
+    // then
+    assertThat(firstAmount).isEqualTo(5);
+    assertThat(secondAmount).isEqualTo(5);
+    assertThat(state.shouldActivateJobs()).isFalse();
+    assertThat(state.isDone()).isFalse();
+  }
+
+  @Test
+  void shouldNotRequestMoreThanRemainingAmount() {
+    // given
+    final var state =
+        new InflightActivateJobsRequestState(new ArrayDeque<>(List.of(1, 2, 3)), 5, 3);
+
+    // when
+    final var firstAmount = sendNextRequest(state);
+    final var secondAmount = sendNextRequest(state);
+    final var thirdAmount = sendNextRequest(state);
+
+    // then
+    assertThat(firstAmount + secondAmount + thirdAmount).isEqualTo(5);
+    assertThat(state.shouldActivateJobs()).isFalse();
+  }
+
+  @Test
+  void shouldRequestUnusedAmountFromNextPartition() {
+    // given
+    final var state =
+        new InflightActivateJobsRequestState(new ArrayDeque<>(List.of(1, 2, 3)), 10, 2);
+    final var firstAmount = sendNextRequest(state);
+    sendNextRequest(state);
+
+    // when
+    state.onResponse(firstAmount, 1);
+
+    // then
+    assertThat(state.shouldActivateJobs()).isTrue();
+    assertThat(state.getNextRequestAmount()).isEqualTo(4);
+    assertThat(state.getNextPartition()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldBeDoneWhenAllPartitionsResponded() {
+    // given
+    final var state = new InflightActivateJobsRequestState(new ArrayDeque<>(List.of(1, 2)), 10, 2);
+    final var firstAmount = sendNextRequest(state);
+    final var secondAmount = sendNextRequest(state);
+
+    // when
+    state.onResponse(firstAmount, 0);
+    state.onResponse(secondAmount, 0);
+
+    // then
+    assertThat(state.isDone()).isTrue();
+    assertThat(state.getRemainingAmount()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldPollPartitionAgainFirst() {
+    // given
+    final var state = new InflightActivateJobsRequestState(new ArrayDeque<>(List.of(1, 2)), 10, 1);
+    final var amount = sendNextRequest(state);
+
+    // when
+    state.onResponse(amount, 4);
+    state.pollAgain(1);
+
+    // then
+    assertThat(state.getNextPartition()).isEqualTo(1);
+    assertThat(state.getRemainingAmount()).isEqualTo(6);
+  }
+
+  @Test
+  void shouldPollPartitionAgainIfItActivatedAllRequestedJobs() {
+    // given
+    final var state = new InflightActivateJobsRequestState(new ArrayDeque<>(List.of(1, 2)), 10, 2);
+    final var firstAmount = sendNextRequest(state);
+    final var secondAmount = sendNextRequest(state);
+
+    // when
+    state.onResponse(secondAmount, 0);
+    state.onResponse(firstAmount, firstAmount);
+
+    // then
+    assertThat(state.shouldPollAgain(secondAmount, 0, false)).isFalse();
+    assertThat(state.shouldPollAgain(firstAmount, firstAmount, false)).isTrue();
+  }
+
+  @Test
+  void shouldNotPollPartitionAgainIfNoJobsAreLeftToActivate() {
+    // given
+    final var state = new InflightActivateJobsRequestState(new ArrayDeque<>(List.of(1, 2)), 10, 1);
+    final var amount = sendNextRequest(state);
+
+    // when
+    state.onResponse(amount, amount);
+
+    // then
+    assertThat(state.shouldPollAgain(amount, amount, false)).isFalse();
+    assertThat(state.shouldPollAgain(amount, amount, true)).isTrue();
+  }
+
+  @Test
+  void shouldActivateAllJobsIfOnlyOnePartitionHasJobs() {
+    // given -- only partition 1 has jobs, but the request is split between all partitions
+    final var state =
+        new InflightActivateJobsRequestState(new ArrayDeque<>(List.of(1, 2, 3)), 10, 3);
+    final Deque<int[]> inflightRequests = new ArrayDeque<>();
+    int activatedJobs = 0;
+
+    // when -- the partitions respond in the order in which they were polled
+    do {
+      while (state.shouldActivateJobs()) {
+        final var amount = state.getNextRequestAmount();
+        final var partitionId = state.getNextPartition();
+        state.onRequestSent(amount);
+        inflightRequests.add(new int[] {partitionId, amount});
+      }
+
+      final var request = inflightRequests.poll();
+      final var partitionId = request[0];
+      final var requestedAmount = request[1];
+      final var activatedAmount = partitionId == 1 ? requestedAmount : 0;
+      activatedJobs += activatedAmount;
+      state.onResponse(requestedAmount, activatedAmount);
+      if (state.shouldPollAgain(requestedAmount, activatedAmount, false)) {
+        state.pollAgain(partitionId);
+      }
+    } while (!state.isDone());
+
+    // then
+    assertThat(activatedJobs).isEqualTo(10);
+    assertThat(state.getRemainingAmount()).isZero();
+  }
+
+  @Test
+  void shouldFinishOnlyOnce() {
+    // given
+    final var state = new InflightActivateJobsRequestState(new ArrayDeque<>(List.of(1)), 10, 1);
+
+    // when
+    final var firstFinish = state.finish();
+    final var secondFinish = state.finish();
+
+    // then
+    assertThat(firstFinish).isTrue();
+    assertThat(secondFinish).isFalse();
+    assertThat(state.shouldActivateJobs()).isFalse();
+  }
+
+  private int sendNextRequest(final InflightActivateJobsRequestState state) {
+    final var amount = state.getNextRequestAmount();
+    state.getNextPartition();
+    state.onRequestSent(amount);
+    return amount;
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+final class PartitionJobAvailabilityTest {
+
+  private static final String JOB_TYPE = "type";
+  private static final List<String> TENANT_IDS = List.of("<default>");
+
+  private final AtomicLong clock = new AtomicLong();
+  private final PartitionJobAvailability availability =
+      new PartitionJobAvailability(Duration.ofSeconds(1), clock::get);
+
+  @Test
+  void shouldSkipPartitionMarkedEmpty() {
+    // when
+    availability.markEmpty(JOB_TYPE, TENANT_IDS, 1);
+
+    // then
+    assertThat(availability.isKnownEmpty(JOB_TYPE, TENANT_IDS, 1)).isTrue();
+    assertThat(availability.isKnownEmpty(JOB_TYPE, TENANT_IDS, 2)).isFalse();
+    assertThat(availability.isKnownEmpty("other", TENANT_IDS, 1)).isFalse();
+    assertThat(availability.isKnownEmpty(JOB_TYPE, List.of("tenant"), 1)).isFalse();
+  }
+
+  @Test
+  void shouldExpireHintAfterTimeout() {
+    // given
+    availability.markEmpty(JOB_TYPE, TENANT_IDS, 1);
+
+    // when
+    clock.addAndGet(1_000);
+
+    // then
+    assertThat(availability.isKnownEmpty(JOB_TYPE, TENANT_IDS, 1)).isFalse();
+  }
+
+  @Test
+  void shouldForgetHintsWhenJobsAvailable() {
+    // given
+    availability.markEmpty(JOB_TYPE, TENANT_IDS, 1);
+    availability.markEmpty(JOB_TYPE, TENANT_IDS, 2);
+
+    // when
+    availability.onJobsAvailable(JOB_TYPE);
+
+    // then
+    assertThat(availability.isKnownEmpty(JOB_TYPE, TENANT_IDS, 1)).isFalse();
+    assertThat(availability.isKnownEmpty(JOB_TYPE, TENANT_IDS, 2)).isFalse();
+  }
+
+  @Test
+  void shouldForgetHintWhenPartitionHasJobs() {
+    // given
+    availability.markEmpty(JOB_TYPE, TENANT_IDS, 1);
+
+    // when
+    availability.markAvailable(JOB_TYPE, TENANT_IDS, 1);
+
+    // then
+    assertThat(availability.isKnownEmpty(JOB_TYPE, TENANT_IDS, 1)).isFalse();
+  }
+
+  @Test
+  void shouldNotKeepJobTypeWithoutHints() {
+    // given
+    availability.markEmpty(JOB_TYPE, TENANT_IDS, 1);
+    availability.markEmpty(JOB_TYPE, List.of("tenant"), 1);
+
+    // when
+    availability.markAvailable(JOB_TYPE, TENANT_IDS, 1);
+    clock.addAndGet(1_000);
+    availability.isKnownEmpty(JOB_TYPE, List.of("tenant"), 1);
+
+    // then
+    assertThat(availability.isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldEvictExpiredHintsOfJobTypesWhichAreNotRequestedAnymore() {
+    // given
+    availability.markEmpty("other", TENANT_IDS, 1);
+    availability.markEmpty("other", TENANT_IDS, 2);
+
+    // when
+    clock.addAndGet(1_000);
+    availability.markEmpty(JOB_TYPE, TENANT_IDS, 1);
+    availability.markAvailable(JOB_TYPE, TENANT_IDS, 1);
+
+    // then
+    assertThat(availability.isEmpty()).isTrue();
+  }
+}
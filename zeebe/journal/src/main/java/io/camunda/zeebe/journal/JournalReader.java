@@ -17,6 +17,11 @@ package io.camunda.zeebe.journal;
 
 import java.util.Iterator;
 
+/**
+ * Reads the records of a journal. The {@link JournalRecord#data()} of a returned record remains
+ * valid when further records are read, while its {@link JournalRecord#transientData()} may be
+ * overwritten by reading two more records.
+ */
 public interface JournalReader extends Iterator<JournalRecord>, AutoCloseable {
 
   /**
@@ -41,12 +41,25 @@ public interface JournalRecord {
   long checksum();
 
   /**
-   * Application provided data of the record
+   * Application provided data of the record. The returned buffer is owned by this record, so it
+   * remains valid when further records are read.
    *
    * @return data
    */
   DirectBuffer data();
 
+  /**
+   * Application provided data of the record, which may be decompressed into a buffer that is reused
+   * for other records of the same reader. The returned buffer is therefore only valid until two
+   * more records were read, and must not be held onto; use {@link #data()} for that. This avoids
+   * allocating a buffer for each compressed record that is processed right away.
+   *
+   * @return data, valid until two more records were read
+   */
+  default DirectBuffer transientData() {
+    return data();
+  }
+
   /**
    * Serialized journal record that includes index, asqn and data.
    *
@@ -31,6 +31,26 @@ interface JournalIndex {
    */
   void index(JournalRecord record, int position);
 
+  /**
+   * Adds an entry which was indexed before, e.g. one read from a persisted segment index. Unlike
+   * {@link #index(JournalRecord, int)}, the entry is added regardless of the index density.
+   *
+   * @param index the index of the entry
+   * @param position the position of the entry within its segment
+   * @param asqn the asqn of the entry, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+   */
+  void restore(long index, int position, long asqn);
+
+  /**
+   * Visits all indexed entries with an index between the given indexes (inclusive), in ascending
+   * order of their index.
+   *
+   * @param fromIndex the lowest index to visit
+   * @param toIndex the highest index to visit
+   * @param consumer the consumer of the indexed entries
+   */
+  void forEachIndexed(long fromIndex, long toIndex, IndexedEntryConsumer consumer);
+
   /**
    * Looks up the position of the given index.
    *
@@ -89,4 +109,9 @@ interface JournalIndex {
    * @return true if this index likely have been already indexed. false if otherwise.
    */
   boolean hasIndexed(long index);
+
+  @FunctionalInterface
+  interface IndexedEntryConsumer {
+    void accept(long index, int position, long asqn);
+  }
 }
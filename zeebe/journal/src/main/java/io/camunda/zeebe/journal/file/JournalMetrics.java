@@ -17,26 +17,36 @@ package io.camunda.zeebe.journal.file;
 
 import static io.camunda.zeebe.journal.file.JournalMetricsDoc.*;
 
+import io.camunda.zeebe.journal.record.CompressionObserver;
 import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
-final class JournalMetrics {
+final class JournalMetrics implements CompressionObserver {
   private final Timer segmentCreationTime;
   private final Timer segmentTruncateTime;
   private final Timer segmentFlushTime;
   private final Timer journalFlushTime;
   private final AtomicLong segmentCount;
   private final AtomicLong journalOpenDuration;
+  private final Map<OpenPhase, AtomicLong> journalOpenPhaseDurations =
+      new EnumMap<>(OpenPhase.class);
   private final Timer segmentAllocationTime;
   private final Timer appendLatency;
   private final Counter appendRate;
   private final Counter appendDataRate;
   private final Timer seekLatency;
+  private final DistributionSummary compressionRatio;
+  private final Timer compressionTime;
+  private final Timer decompressionTime;
   private final MeterRegistry registry;
 
   JournalMetrics(final MeterRegistry registry) {
@@ -56,6 +66,15 @@ final class JournalMetrics {
         .description(JOURNAL_OPERATION_DURATION.getDescription())
         .register(registry);
 
+    for (final var phase : OpenPhase.values()) {
+      final var duration = new AtomicLong(0L);
+      Gauge.builder(JOURNAL_OPEN_PHASE_DURATION.getName(), duration::get)
+          .description(JOURNAL_OPEN_PHASE_DURATION.getDescription())
+          .tag(OpenPhaseKeyNames.PHASE.asString(), phase.tagValue)
+          .register(registry);
+      journalOpenPhaseDurations.put(phase, duration);
+    }
+
     segmentAllocationTime = makeTimer(SEGMENT_ALLOCATION_TIME);
     appendLatency = makeTimer(APPEND_LATENCY);
     appendRate =
@@ -67,6 +86,9 @@ final class JournalMetrics {
             .description(APPEND_DATA_RATE.getDescription())
             .register(registry);
     seekLatency = makeTimer(SEEK_LATENCY);
+    compressionRatio = MicrometerUtil.buildSummary(COMPRESSION_RATIO).register(registry);
+    compressionTime = makeTimer(COMPRESSION_TIME);
+    decompressionTime = makeTimer(DECOMPRESSION_TIME);
   }
 
   void observeSegmentCreation(final Runnable segmentCreation) {
@@ -93,6 +115,23 @@ final class JournalMetrics {
     };
   }
 
+  void resetJournalOpenPhaseDurations() {
+    journalOpenPhaseDurations.values().forEach(duration -> duration.set(0L));
+  }
+
+  /**
+   * Starts measuring a step of the given phase of opening the journal. The durations of all steps
+   * of a phase are summed up, until {@link #resetJournalOpenPhaseDurations()} is called.
+   */
+  CloseableSilently observeJournalOpenPhase(final OpenPhase phase) {
+    final var duration = journalOpenPhaseDurations.get(phase);
+    final var now = registry.config().clock().monotonicTime();
+    return () -> {
+      final var end = registry.config().clock().monotonicTime();
+      duration.addAndGet(end - now);
+    };
+  }
+
   void incSegmentCount() {
     segmentCount.incrementAndGet();
   }
@@ -118,10 +157,33 @@ final class JournalMetrics {
     return MicrometerUtil.timer(seekLatency, Timer.start(registry));
   }
 
+  @Override
+  public void observeCompression(
+      final int uncompressedLength, final int compressedLength, final long durationNanos) {
+    compressionRatio.record((double) uncompressedLength / compressedLength);
+    compressionTime.record(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void observeDecompression(final int uncompressedLength, final long durationNanos) {
+    decompressionTime.record(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
   private Timer makeTimer(final JournalMetricsDoc meter) {
     return Timer.builder(meter.getName())
         .description(meter.getDescription())
         .serviceLevelObjectives(meter.getTimerSLOs())
         .register(registry);
   }
+
+  enum OpenPhase {
+    LOAD_SEGMENTS("load_segments"),
+    RESTORE_INDEX("restore_index");
+
+    private final String tagValue;
+
+    OpenPhase(final String tagValue) {
+      this.tagValue = tagValue;
+    }
+  }
 }
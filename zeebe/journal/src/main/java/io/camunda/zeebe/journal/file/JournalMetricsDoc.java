@@ -159,6 +159,28 @@ public enum JournalMetricsDoc implements ExtendedMeterDocumentation {
       return new KeyName[] {PartitionKeyNames.PARTITION};
     }
   },
+  /** Time taken by each phase of opening the journal */
+  JOURNAL_OPEN_PHASE_DURATION {
+    @Override
+    public String getName() {
+      return "atomix.journal.open.phase.time";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Time taken by each phase of opening the journal";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION, OpenPhaseKeyNames.PHASE};
+    }
+  },
   /** Time spent to allocate a new segment */
   SEGMENT_ALLOCATION_TIME {
     @Override
@@ -303,9 +325,109 @@ public enum JournalMetricsDoc implements ExtendedMeterDocumentation {
       return buckets;
     }
 
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+  /** Ratio of the uncompressed to the compressed size of compressed records */
+  COMPRESSION_RATIO {
+    @Override
+    public String getName() {
+      return "atomix.journal.compression.ratio";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.DISTRIBUTION_SUMMARY;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Ratio of the uncompressed to the compressed size of compressed records";
+    }
+
+    @Override
+    public double[] getDistributionSLOs() {
+      return new double[] {1.1, 1.25, 1.5, 2, 3, 4, 6, 8, 12, 16};
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+  /** Time spent compressing the data of a record */
+  COMPRESSION_TIME {
+    @Override
+    public String getName() {
+      return "atomix.journal.compression.time";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Time spent compressing the data of a record";
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return COMPRESSION_BUCKETS;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+  /** Time spent decompressing the data of a record */
+  DECOMPRESSION_TIME {
+    @Override
+    public String getName() {
+      return "atomix.journal.decompression.time";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Time spent decompressing the data of a record";
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return COMPRESSION_BUCKETS;
+    }
+
     @Override
     public KeyName[] getKeyNames() {
       return new KeyName[] {PartitionKeyNames.PARTITION};
     }
   };
+
+  private static final Duration[] COMPRESSION_BUCKETS =
+      Stream.of(1, 5, 10, 25, 50, 100, 250, 500, 1_000, 5_000)
+          .map(micros -> Duration.of(micros, ChronoUnit.MICROS))
+          .toArray(Duration[]::new);
+
+  /** The phase of opening the journal measured by {@link #JOURNAL_OPEN_PHASE_DURATION} */
+  public enum OpenPhaseKeyNames implements KeyName {
+    /**
+     * The phase of opening the journal: {@code load_segments} (mapping the segments and finding
+     * their last entries) or {@code restore_index} (reading the index files of sealed segments).
+     */
+    PHASE {
+      @Override
+      public String asString() {
+        return "phase";
+      }
+    }
+  }
 }
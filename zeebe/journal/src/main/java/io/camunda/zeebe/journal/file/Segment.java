@@ -22,6 +22,7 @@ import static com.google.common.base.Preconditions.checkState;
 import com.google.common.collect.Sets;
 import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
 import io.camunda.zeebe.journal.JournalException;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -29,6 +30,7 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.MappedByteBuffer;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Set;
 import org.agrona.IoUtil;
 import org.slf4j.Logger;
@@ -52,9 +54,15 @@ final class Segment implements AutoCloseable, FlushableSegment {
   private final Set<SegmentReader> readers = Sets.newConcurrentHashSet();
   private final MappedByteBuffer buffer;
   private final JournalMetrics metrics;
+  private final RecordCompression compression;
 
   // This needs to be volatile in case the flushing is asynchronous
   private volatile boolean open = true;
+  // false if the index of this sealed segment could not be restored when loading it; it is then
+  // rebuilt on the first seek into the segment
+  private volatile boolean indexed = true;
+  // set when the segment is sealed, until its index file is written after the next flush
+  private volatile boolean indexFilePending;
   // This need to be volatile because both the writer and the readers access it concurrently
   private volatile boolean markedForDeletion = false;
 
@@ -65,13 +73,15 @@ final class Segment implements AutoCloseable, FlushableSegment {
       final MappedByteBuffer buffer,
       final long lastWrittenAsqn,
       final JournalIndex index,
-      final JournalMetrics metrics) {
+      final JournalMetrics metrics,
+      final RecordCompression compression) {
     this.file = file;
     this.descriptor = descriptor;
     this.descriptorSerializer = descriptorSerializer;
     this.buffer = buffer;
     this.index = index;
     this.metrics = metrics;
+    this.compression = compression;
 
     writer = createWriter(lastWrittenAsqn, metrics);
   }
@@ -188,13 +198,14 @@ final class Segment implements AutoCloseable, FlushableSegment {
   SegmentReader createReader() {
     checkOpen();
     final SegmentReader reader =
-        new SegmentReader(buffer.asReadOnlyBuffer().position(0).order(ENDIANNESS), this, index);
+        new SegmentReader(
+            buffer.asReadOnlyBuffer().position(0).order(ENDIANNESS), this, index, metrics);
     readers.add(reader);
     return reader;
   }
 
   private SegmentWriter createWriter(final long lastWrittenAsqn, final JournalMetrics metrics) {
-    return new SegmentWriter(buffer, this, index, lastWrittenAsqn, metrics);
+    return new SegmentWriter(buffer, this, index, lastWrittenAsqn, metrics, compression);
   }
 
   /**
@@ -226,6 +237,14 @@ final class Segment implements AutoCloseable, FlushableSegment {
     return open;
   }
 
+  /**
+   * Returns whether the index of this segment is complete, i.e. it was restored when loading the
+   * segment or rebuilt since, see {@link #ensureIndexed()}.
+   */
+  boolean isIndexed() {
+    return indexed;
+  }
+
   /** Closes the segment. */
   @Override
   public void close() {
@@ -237,6 +256,8 @@ final class Segment implements AutoCloseable, FlushableSegment {
   /** Deletes the segment. */
   void delete() {
     open = false;
+    // delete the index file first, such that it never outlives its segment
+    deleteIndexFile();
     markForDeletion();
     if (readers.isEmpty()) {
       safeDelete();
@@ -288,9 +309,117 @@ final class Segment implements AutoCloseable, FlushableSegment {
   }
 
   void resetLastEntryInDescriptor() {
+    // the segment is not sealed anymore, so its index file may describe truncated entries
+    deleteIndexFile();
     descriptor = descriptor.reset();
     descriptorSerializer.writeTo(descriptor, buffer);
     // flush immediately to prevent inconsistencies between descriptor and actual last written entry
     buffer.force(0, descriptor.encodingLength());
   }
+
+  /**
+   * Marks this segment as sealed, i.e. no more entries are appended to it. Its index file is not
+   * written right away, but by {@link #writePendingIndexFile()} once the segment is flushed.
+   */
+  void seal() {
+    updateDescriptor();
+    indexFilePending = true;
+  }
+
+  /**
+   * Persists the index entries of this segment next to it if it was sealed since the last call,
+   * such that they can be restored instead of reading the segment when the journal is opened again.
+   * Must only be called once the segment is flushed, as the index file would otherwise describe
+   * entries which may not be durable.
+   */
+  void writePendingIndexFile() {
+    if (!indexFilePending) {
+      return;
+    }
+
+    indexFilePending = false;
+    // if the index is not complete, it is rebuilt on the next seek or after the next start anyway
+    if (indexed) {
+      writeIndexFile();
+    }
+  }
+
+  /**
+   * Restores the index entries of this sealed segment from its index file. If there is no valid
+   * index file, the index is rebuilt on the first seek into the segment, see {@link
+   * #ensureIndexed()}.
+   *
+   * @return true if the entries were restored, false if there is no valid index file
+   */
+  boolean restoreIndex() {
+    final var indexFile = indexFile();
+    try {
+      indexed =
+          SegmentIndexFile.restore(
+              indexFile, descriptor, lastIndex(), writer.getLastEntryPosition(), index);
+    } catch (final IOException e) {
+      LOG.warn(
+          "Failed to read index file {}, the index of the segment will be rebuilt when seeking into it",
+          indexFile,
+          e);
+      indexed = false;
+    }
+    return indexed;
+  }
+
+  /**
+   * Rebuilds the index of this segment by reading all of its entries, if it could not be restored
+   * when the segment was loaded. The rebuilt index is persisted if the segment is still sealed.
+   */
+  void ensureIndexed() {
+    if (indexed) {
+      return;
+    }
+
+    synchronized (this) {
+      if (indexed) {
+        return;
+      }
+
+      final var reader = createReader();
+      try {
+        reader.indexAll();
+      } finally {
+        reader.close();
+      }
+      indexed = true;
+
+      if (descriptor.lastPosition() > 0) {
+        writeIndexFile();
+      }
+    }
+  }
+
+  private void writeIndexFile() {
+    final var indexFile = indexFile();
+    try {
+      SegmentIndexFile.write(
+          indexFile, descriptor, lastIndex(), writer.getLastEntryPosition(), index);
+    } catch (final IOException e) {
+      LOG.warn(
+          "Failed to write index file {}, the segment will be read to rebuild its index on the next start",
+          indexFile,
+          e);
+    }
+  }
+
+  private Path indexFile() {
+    return SegmentIndexFile.of(file.file().toPath());
+  }
+
+  private void deleteIndexFile() {
+    indexFilePending = false;
+    final var indexFile = indexFile();
+    try {
+      SegmentIndexFile.delete(indexFile);
+    } catch (final IOException e) {
+      throw new JournalException(
+          String.format("Failed to delete index file %s of segment %s", indexFile, this), e);
+    }
+  }
 }
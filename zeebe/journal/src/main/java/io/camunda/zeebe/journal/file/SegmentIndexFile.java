@@ -0,0 +1,220 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.ChecksumGenerator;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import org.agrona.collections.IntArrayList;
+import org.agrona.collections.LongArrayList;
+
+/**
+ * The persisted index of a sealed segment, stored in a file next to the segment. It contains the
+ * entries of the {@link JournalIndex} which belong to the segment, such that the index does not
+ * have to be rebuilt by reading the segment when the journal is opened again.
+ *
+ * <p>The file describes the segment it was written for (id, first and last index, and the position
+ * of the last entry) and ends with a checksum over its content. It is only used if the checksum
+ * matches and the segment still ends with the same entry, as it would otherwise describe data which
+ * was truncated or never flushed. The file is written to a temporary file, which is flushed before
+ * it is moved into place, so that the index file is either complete or absent after a crash.
+ * Temporary files left behind by a crash are deleted when the journal is opened.
+ *
+ * <p>Layout (little endian): {@code version (int), segment id (long), first index (long), last
+ * index (long), last position (int), entry count (int), entries (index (long), position (int), asqn
+ * (long)), checksum (long)}.
+ */
+final class SegmentIndexFile {
+
+  static final String EXTENSION = ".idx";
+
+  private static final int VERSION = 1;
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final int HEADER_LENGTH =
+      Integer.BYTES + 3 * Long.BYTES + Integer.BYTES + Integer.BYTES;
+  private static final int ENTRY_LENGTH = Long.BYTES + Integer.BYTES + Long.BYTES;
+  private static final int CHECKSUM_LENGTH = Long.BYTES;
+  private static final String TEMPORARY_EXTENSION = ".tmp";
+
+  private SegmentIndexFile() {}
+
+  /**
+   * Returns the path of the index file of the given segment file.
+   *
+   * @param segmentFile the path of the segment file
+   * @return the path of its index file
+   */
+  static Path of(final Path segmentFile) {
+    return segmentFile.resolveSibling(segmentFile.getFileName() + EXTENSION);
+  }
+
+  /**
+   * Writes the entries of the given index which belong to the given sealed segment.
+   *
+   * @param path the path of the index file
+   * @param segment the descriptor of the segment
+   * @param lastIndex the last index of the segment
+   * @param lastPosition the position of the last entry of the segment
+   * @param index the journal index containing the entries of the segment
+   */
+  static void write(
+      final Path path,
+      final SegmentDescriptor segment,
+      final long lastIndex,
+      final int lastPosition,
+      final JournalIndex index)
+      throws IOException {
+    final var indexes = new LongArrayList();
+    final var positions = new IntArrayList();
+    final var asqns = new LongArrayList();
+    index.forEachIndexed(
+        segment.index(),
+        lastIndex,
+        (entryIndex, position, asqn) -> {
+          indexes.addLong(entryIndex);
+          positions.addInt(position);
+          asqns.addLong(asqn);
+        });
+
+    final int entryCount = indexes.size();
+    final var buffer =
+        ByteBuffer.allocate(HEADER_LENGTH + entryCount * ENTRY_LENGTH + CHECKSUM_LENGTH)
+            .order(ENDIANNESS);
+    buffer
+        .putInt(VERSION)
+        .putLong(segment.id())
+        .putLong(segment.index())
+        .putLong(lastIndex)
+        .putInt(lastPosition)
+        .putInt(entryCount);
+    for (int i = 0; i < entryCount; i++) {
+      buffer.putLong(indexes.getLong(i)).putInt(positions.getInt(i)).putLong(asqns.getLong(i));
+    }
+    buffer.putLong(new ChecksumGenerator().compute(buffer.array(), 0, buffer.position()));
+
+    final var temporaryFile = path.resolveSibling(path.getFileName() + TEMPORARY_EXTENSION);
+    try (final var channel =
+        FileChannel.open(
+            temporaryFile,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      buffer.flip();
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(true);
+    }
+    FileUtil.moveDurably(
+        temporaryFile, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  /**
+   * Returns true if the given file is a temporary index file of a segment of the given journal,
+   * which was left behind when {@link #write(Path, SegmentDescriptor, long, int, JournalIndex)} was
+   * interrupted.
+   *
+   * @param journalName the name of the journal
+   * @param fileName the name of the file
+   * @return true if the file is a temporary index file, false otherwise
+   */
+  static boolean isTemporaryFile(final String journalName, final String fileName) {
+    final var suffix = EXTENSION + TEMPORARY_EXTENSION;
+    return fileName.endsWith(suffix)
+        && SegmentFile.isSegmentFile(
+            journalName, fileName.substring(0, fileName.length() - suffix.length()));
+  }
+
+  /**
+   * Restores the entries of the given index file into the given journal index, if the file is valid
+   * and still describes the given segment.
+   *
+   * @param path the path of the index file
+   * @param segment the descriptor of the segment
+   * @param lastIndex the last index of the segment, as found when loading it
+   * @param lastPosition the position of the last entry of the segment, as found when loading it
+   * @param index the journal index to restore the entries into
+   * @return true if the entries were restored, false if the file does not exist or is not valid
+   */
+  static boolean restore(
+      final Path path,
+      final SegmentDescriptor segment,
+      final long lastIndex,
+      final int lastPosition,
+      final JournalIndex index)
+      throws IOException {
+    final byte[] content;
+    try {
+      content = Files.readAllBytes(path);
+    } catch (final NoSuchFileException e) {
+      return false;
+    }
+
+    if (content.length < HEADER_LENGTH + CHECKSUM_LENGTH) {
+      return false;
+    }
+
+    final var buffer = ByteBuffer.wrap(content).order(ENDIANNESS);
+    final int checksumOffset = content.length - CHECKSUM_LENGTH;
+    final long checksum = new ChecksumGenerator().compute(content, 0, checksumOffset);
+    if (buffer.getLong(checksumOffset) != checksum) {
+      return false;
+    }
+
+    if (buffer.getInt() != VERSION
+        || buffer.getLong() != segment.id()
+        || buffer.getLong() != segment.index()
+        || buffer.getLong() != lastIndex
+        || buffer.getInt() != lastPosition) {
+      return false;
+    }
+
+    final int entryCount = buffer.getInt();
+    if (entryCount < 0 || HEADER_LENGTH + (long) entryCount * ENTRY_LENGTH != checksumOffset) {
+      return false;
+    }
+
+    for (int i = 0; i < entryCount; i++) {
+      final int offset = HEADER_LENGTH + i * ENTRY_LENGTH;
+      final long entryIndex = buffer.getLong(offset);
+      final int position = buffer.getInt(offset + Long.BYTES);
+      if (entryIndex < segment.index()
+          || entryIndex > lastIndex
+          || position < segment.encodingLength()
+          || position > lastPosition) {
+        return false;
+      }
+    }
+
+    for (int i = 0; i < entryCount; i++) {
+      final int offset = HEADER_LENGTH + i * ENTRY_LENGTH;
+      index.restore(
+          buffer.getLong(offset),
+          buffer.getInt(offset + Long.BYTES),
+          buffer.getLong(offset + Long.BYTES + Integer.BYTES));
+    }
+    return true;
+  }
+
+  /**
+   * Deletes the index file, if it exists.
+   *
+   * @param path the path of the index file
+   */
+  static void delete(final Path path) throws IOException {
+    Files.deleteIfExists(path);
+  }
+}
@@ -18,7 +18,9 @@ package io.camunda.zeebe.journal.file;
 
 import com.google.common.base.Preconditions;
 import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.record.CompressionObserver;
 import io.camunda.zeebe.journal.record.JournalRecordReaderUtil;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.camunda.zeebe.journal.record.SBESerializer;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
@@ -34,11 +36,17 @@ final class SegmentReader implements Iterator<JournalRecord> {
   private final JournalRecordReaderUtil recordReader;
   private final int descriptorLength;
 
-  SegmentReader(final ByteBuffer buffer, final Segment segment, final JournalIndex index) {
+  SegmentReader(
+      final ByteBuffer buffer,
+      final Segment segment,
+      final JournalIndex index,
+      final CompressionObserver compressionObserver) {
     this.index = index;
     this.segment = segment;
     descriptorLength = segment.descriptor().encodingLength();
-    recordReader = new JournalRecordReaderUtil(new SBESerializer());
+    // readers only decompress, which does not depend on the configured compression
+    recordReader =
+        new JournalRecordReaderUtil(new SBESerializer(RecordCompression.NONE, compressionObserver));
     this.buffer = buffer;
     reset();
   }
@@ -77,6 +85,7 @@ final class SegmentReader implements Iterator<JournalRecord> {
 
   void seek(final long index) {
     checkSegmentOpen();
+    segment.ensureIndexed();
     final long firstIndex = segment.index();
     final long lastIndex = segment.lastIndex();
 
@@ -101,6 +110,17 @@ final class SegmentReader implements Iterator<JournalRecord> {
     }
   }
 
+  /** Reads all entries of the segment from the beginning, indexing them on the way. */
+  void indexAll() {
+    checkSegmentOpen();
+    reset();
+
+    while (hasNext()) {
+      final var position = buffer.position();
+      index.index(next(), position);
+    }
+  }
+
   void close() {
     segment.onReaderClosed(this);
   }
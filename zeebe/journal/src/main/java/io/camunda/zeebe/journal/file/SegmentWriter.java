@@ -26,7 +26,7 @@ import io.camunda.zeebe.journal.JournalException.SegmentFull;
 import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.journal.record.JournalRecordReaderUtil;
 import io.camunda.zeebe.journal.record.JournalRecordSerializer;
-import io.camunda.zeebe.journal.record.PersistedJournalRecord;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.camunda.zeebe.journal.record.RecordMetadata;
 import io.camunda.zeebe.journal.record.SBESerializer;
 import io.camunda.zeebe.journal.util.ChecksumGenerator;
@@ -55,7 +55,7 @@ final class SegmentWriter {
   private int lastEntryPosition;
   private final JournalRecordReaderUtil recordUtil;
   private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
-  private final JournalRecordSerializer serializer = new SBESerializer();
+  private final JournalRecordSerializer serializer;
   private final MutableDirectBuffer writeBuffer = new UnsafeBuffer();
   private final int descriptorLength;
   private final JournalMetrics metrics;
@@ -65,8 +65,10 @@ final class SegmentWriter {
       final Segment segment,
       final JournalIndex index,
       final long lastWrittenAsqn,
-      final JournalMetrics metrics) {
+      final JournalMetrics metrics,
+      final RecordCompression compression) {
     this.segment = segment;
+    serializer = new SBESerializer(compression, metrics);
     descriptorLength = segment.descriptor().encodingLength();
     recordUtil = new JournalRecordReaderUtil(serializer);
     this.index = index;
@@ -255,15 +257,17 @@ final class SegmentWriter {
       final int metadataLength,
       final int recordLength) {
     final var metadata = serializer.readMetadata(writeBuffer, startPosition + frameLength);
-    final var data = serializer.readData(writeBuffer, startPosition + frameLength + metadataLength);
-    verifyNoIndexGap(data.index(), getNextIndex());
-
-    lastEntry =
-        new PersistedJournalRecord(
+    // only reads the header of the record, compressed data is decompressed if it is ever accessed
+    final var record =
+        serializer.readRecord(
             metadata,
-            data,
+            writeBuffer,
+            startPosition + frameLength + metadataLength,
             new UnsafeBuffer(
                 writeBuffer, startPosition + frameLength + metadataLength, recordLength));
+    verifyNoIndexGap(record.index(), getNextIndex());
+
+    lastEntry = record;
     updateLastAsqn(lastEntry.asqn());
     index.index(lastEntry, startPosition);
     lastEntryPosition = startPosition;
@@ -271,6 +271,17 @@ public final class SegmentedJournal implements Journal {
     return segments.getSegment(index);
   }
 
+  /**
+   * Rebuilds the index of the segments which may contain the entry looked up for the given asqn, if
+   * it could not be restored when opening the journal.
+   *
+   * @param asqn the asqn to look up
+   * @param indexUpperBound the highest index the looked up entry may have
+   */
+  void ensureIndexedForAsqn(final long asqn, final long indexUpperBound) {
+    segments.ensureIndexedForAsqn(asqn, indexUpperBound);
+  }
+
   void closeReader(final SegmentedJournalReader segmentedJournalReader) {
     readers.remove(segmentedJournalReader);
   }
@@ -20,6 +20,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
 
@@ -45,6 +46,7 @@ public class SegmentedJournalBuilder {
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
   private int partitionId = DEFAULT_PARTITION_ID;
+  private RecordCompression compression = RecordCompression.NONE;
 
   private JournalMetaStore journalMetaStore;
   private final MeterRegistry meterRegistry;
@@ -157,6 +159,19 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets the compression of the data of records appended to the journal. Compressed records are
+   * always readable, regardless of this setting, so it can be changed at any time; it only applies
+   * to records written afterwards, including records replicated from this journal.
+   *
+   * @param compression the compression of newly written records
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withRecordCompression(final RecordCompression compression) {
+    this.compression = checkNotNull(compression, "compression cannot be null");
+    return this;
+  }
+
   /**
    * @param metaStore journal metastore to update lastFlushedIndex
    * @return this builder for chaining
@@ -171,7 +186,8 @@ public class SegmentedJournalBuilder {
     final var journalMetrics = new JournalMetrics(meterRegistry);
     final var segmentAllocator =
         preallocateSegmentFiles ? SegmentAllocator.fill() : SegmentAllocator.noop();
-    final var segmentLoader = new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator);
+    final var segmentLoader =
+        new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator, compression);
     final var segmentsManager =
         new SegmentsManager(
             journalIndex,
@@ -120,6 +120,7 @@ class SegmentedJournalReader implements JournalReader {
     try (final var ignored = metrics.observeSeekLatency()) {
       final var stamp = journal.acquireReadlock();
       try {
+        journal.ensureIndexedForAsqn(asqn, indexUpperBound);
         final var journalIndex = journal.getJournalIndex();
         final var index = journalIndex.lookupAsqn(asqn, indexUpperBound);
 
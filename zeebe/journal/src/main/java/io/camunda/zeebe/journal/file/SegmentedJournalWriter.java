@@ -22,12 +22,16 @@ import io.camunda.zeebe.journal.JournalException.SegmentSizeTooSmall;
 import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Function;
 
 final class SegmentedJournalWriter {
   private final SegmentsManager segments;
   private final SegmentsFlusher flusher;
   private final JournalMetrics journalMetrics;
+  // flushing may happen concurrently to appending, e.g. when it is delayed
+  private final Queue<Segment> sealedSegments = new ConcurrentLinkedQueue<>();
 
   private Segment currentSegment;
   private SegmentWriter currentWriter;
@@ -124,10 +128,18 @@ final class SegmentedJournalWriter {
     // segment if only to cover cases such as truncating the log, where the next flush index may not
     // have been written yet but we still want to flush that segment after modifying it
     flusher.flush(segments.getTailSegments(flusher.nextFlushIndex()).values());
+
+    // all sealed segments are flushed now, so their index files only describe durable entries
+    Segment sealedSegment;
+    while ((sealedSegment = sealedSegments.poll()) != null) {
+      sealedSegment.writePendingIndexFile();
+    }
   }
 
   private void createNewSegment() {
-    currentSegment.updateDescriptor();
+    // the index file is written on the next flush, to keep it off the append path
+    currentSegment.seal();
+    sealedSegments.add(currentSegment);
     currentSegment = segments.getNextSegment();
     currentWriter = currentSegment.writer();
   }
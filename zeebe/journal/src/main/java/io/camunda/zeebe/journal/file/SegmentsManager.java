@@ -12,6 +12,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import io.camunda.zeebe.journal.CorruptedJournalException;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.journal.file.JournalMetrics.OpenPhase;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.io.File;
 import java.io.IOException;
@@ -46,6 +47,9 @@ final class SegmentsManager implements AutoCloseable {
   private static final Logger THROTTLED_LOG = new ThrottledLogger(LOG, Duration.ofSeconds(5));
 
   private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+  // sealed segments whose index could not be restored when loading them, by their first index;
+  // segments indexed since are pruned when looking up an asqn
+  private final NavigableMap<Long, Segment> unindexedSegments = new ConcurrentSkipListMap<>();
   private CompletableFuture<UninitializedSegment> nextSegment = null;
 
   private final JournalMetrics journalMetrics;
@@ -168,6 +172,48 @@ final class SegmentsManager implements AutoCloseable {
     return getFirstSegment();
   }
 
+  /**
+   * Rebuilds the index of the sealed segments which may contain the last entry with an asqn lower
+   * than or equal to the given one, if it could not be restored when opening the journal. As the
+   * asqns are increasing, this is the first segment which ends with an asqn greater than or equal
+   * to the given one, or the segment before it.
+   *
+   * @param asqn the asqn to look up
+   * @param indexUpperBound the highest index the looked up entry may have
+   */
+  void ensureIndexedForAsqn(final long asqn, final long indexUpperBound) {
+    if (unindexedSegments.isEmpty()) {
+      return;
+    }
+
+    unindexedSegments.values().removeIf(Segment::isIndexed);
+    if (unindexedSegments.isEmpty()) {
+      return;
+    }
+
+    // segments starting after the upper bound cannot contain the looked up entry
+    Segment previousSegment = null;
+    for (final var segment : segments.headMap(indexUpperBound, true).values()) {
+      if (segment.lastAsqn() >= asqn || segment.lastIndex() >= indexUpperBound) {
+        if (previousSegment != null) {
+          ensureIndexed(previousSegment);
+        }
+        ensureIndexed(segment);
+        return;
+      }
+      previousSegment = segment;
+    }
+
+    if (previousSegment != null) {
+      ensureIndexed(previousSegment);
+    }
+  }
+
+  private void ensureIndexed(final Segment segment) {
+    segment.ensureIndexed();
+    unindexedSegments.remove(segment.index());
+  }
+
   private long getFirstIndex() {
     final var firstSegment = getFirstSegment();
     return firstSegment != null ? firstSegment.index() : 0;
@@ -202,6 +248,7 @@ final class SegmentsManager implements AutoCloseable {
     }
 
     // removes them from the segment map
+    unindexedSegments.headMap(segmentEntry.getValue().index()).clear();
     compactSegments.clear();
 
     journalIndex.deleteUntil(index);
@@ -236,6 +283,7 @@ final class SegmentsManager implements AutoCloseable {
       it.remove();
       journalMetrics.decSegmentCount();
     }
+    unindexedSegments.clear();
 
     final SegmentDescriptor descriptor =
         SegmentDescriptor.builder()
@@ -257,6 +305,7 @@ final class SegmentsManager implements AutoCloseable {
   void removeSegment(final Segment segment) {
     //noinspection resource
     segments.remove(segment.index());
+    unindexedSegments.remove(segment.index());
     journalMetrics.decSegmentCount();
     segment.delete();
     resetCurrentSegment();
@@ -285,6 +334,7 @@ final class SegmentsManager implements AutoCloseable {
   /** Loads existing segments from the disk */
   void open() {
     final var openDurationTimer = journalMetrics.startJournalOpenDurationTimer();
+    journalMetrics.resetJournalOpenPhaseDurations();
     // Load existing log segments from disk.
     for (final Segment segment : loadSegments()) {
       segments.put(segment.descriptor().index(), segment);
@@ -314,6 +364,7 @@ final class SegmentsManager implements AutoCloseable {
     // node was stopped. It is safe to delete it now since there are no readers opened for these
     // segments.
     deleteDeferredFiles();
+    deleteTemporaryIndexFiles();
   }
 
   private void prepareNextSegment() {
@@ -366,11 +417,14 @@ final class SegmentsManager implements AutoCloseable {
 
       try {
         LOG.debug("Found segment file: {}", file.getName());
-        final Segment segment =
-            segmentLoader.loadExistingSegment(
-                file.toPath(),
-                previousSegment != null ? previousSegment.lastAsqn() : INITIAL_ASQN,
-                journalIndex);
+        final Segment segment;
+        try (final var ignored = journalMetrics.observeJournalOpenPhase(OpenPhase.LOAD_SEGMENTS)) {
+          segment =
+              segmentLoader.loadExistingSegment(
+                  file.toPath(),
+                  previousSegment != null ? previousSegment.lastAsqn() : INITIAL_ASQN,
+                  journalIndex);
+        }
 
         if (i > 0) {
           // throws CorruptedJournalException if there is gap
@@ -384,6 +438,12 @@ final class SegmentsManager implements AutoCloseable {
                   .formatted(lastFlushedIndex, segment.lastIndex()));
         }
 
+        if (!isLastSegment) {
+          // the last segment was read completely when loading it, sealed segments are only read
+          // when seeking into them if their index cannot be restored
+          restoreIndex(segment);
+        }
+
         segments.add(segment);
         previousSegment = segment;
       } catch (final CorruptedJournalException e) {
@@ -398,6 +458,17 @@ final class SegmentsManager implements AutoCloseable {
     return segments;
   }
 
+  private void restoreIndex(final Segment segment) {
+    try (final var ignored = journalMetrics.observeJournalOpenPhase(OpenPhase.RESTORE_INDEX)) {
+      if (!segment.restoreIndex()) {
+        unindexedSegments.put(segment.index(), segment);
+        LOG.debug(
+            "Found no valid index file for segment {}, its index will be rebuilt on the first seek",
+            segment);
+      }
+    }
+  }
+
   private void checkForIndexGaps(final Segment prevSegment, final Segment segment) {
     if (prevSegment.lastIndex() != segment.index() - 1) {
       throw new CorruptedJournalException(
@@ -443,6 +514,7 @@ final class SegmentsManager implements AutoCloseable {
     for (int i = failedIndex; i < files.size(); i++) {
       final File file = files.get(i);
       try {
+        Files.deleteIfExists(SegmentIndexFile.of(file.toPath()));
         Files.delete(file.toPath());
       } catch (final IOException e) {
         throw new JournalException(
@@ -484,6 +556,28 @@ final class SegmentsManager implements AutoCloseable {
     }
   }
 
+  private void deleteTemporaryIndexFiles() {
+    try (final DirectoryStream<Path> temporaryFiles =
+        Files.newDirectoryStream(
+            directory.toPath(),
+            path -> SegmentIndexFile.isTemporaryFile(name, path.getFileName().toString()))) {
+      temporaryFiles.forEach(this::deleteTemporaryIndexFile);
+    } catch (final IOException e) {
+      LOG.warn(
+          "Could not delete temporary index files in {}. This can result in unnecessary disk usage.",
+          directory.toPath(),
+          e);
+    }
+  }
+
+  private void deleteTemporaryIndexFile(final Path temporaryFile) {
+    try {
+      Files.deleteIfExists(temporaryFile);
+    } catch (final IOException e) {
+      LOG.warn("Could not delete temporary index file {}.", temporaryFile, e);
+    }
+  }
+
   private void deleteDeferredFile(final Path segmentFileToDelete) {
     try {
       Files.deleteIfExists(segmentFileToDelete);
@@ -16,19 +16,30 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalRecord;
-import java.util.Map;
-import java.util.concurrent.ConcurrentNavigableMap;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.Arrays;
 
+/**
+ * A sparse index which keeps every {@code density}-th index in sorted primitive arrays.
+ *
+ * <p>Entries are almost always added in ascending order, in which case they are appended in place
+ * without any allocation. Lookups are lock-free binary searches over a snapshot of the arrays:
+ * entries are published by writing them before increasing the (volatile) entry count, and the
+ * arrays are never modified below the published count. Any other modification (out of order
+ * inserts, truncation and compaction) copies the arrays and publishes the copy. Modifications are
+ * serialized, as readers may index entries concurrently to the writer.
+ *
+ * <p>Application sequence numbers are expected to increase together with the index, which allows to
+ * look them up with a binary search as well.
+ */
 final class SparseJournalIndex implements JournalIndex {
 
+  private static final int INITIAL_CAPACITY = 64;
+
   private final int density;
-  private final ConcurrentNavigableMap<Long, Integer> indexToPosition =
-      new ConcurrentSkipListMap<>();
-  private final ConcurrentNavigableMap<Long, Long> asqnToIndex = new ConcurrentSkipListMap<>();
-  // This is added to make deleteAfter and deleteUntil easier.
-  // TODO: Check if this can be improved. https://github.com/zeebe-io/zeebe/issues/6220
-  private final ConcurrentNavigableMap<Long, Long> indexToAsqn = new ConcurrentSkipListMap<>();
+  // the value is the position of the indexed entry
+  private volatile Entries positions = new Entries(INITIAL_CAPACITY);
+  // the value is the asqn of the indexed entry
+  private volatile Entries asqns = new Entries(INITIAL_CAPACITY);
 
   SparseJournalIndex(final int density) {
     this.density = density;
@@ -38,19 +49,49 @@ final class SparseJournalIndex implements JournalIndex {
   public void index(final JournalRecord indexedEntry, final int position) {
     final long index = indexedEntry.index();
     if (index % density == 0) {
-      indexToPosition.put(index, position);
-      final long asqn = indexedEntry.asqn();
-      if (asqn != SegmentedJournal.ASQN_IGNORE) {
-        asqnToIndex.put(asqn, index);
-        indexToAsqn.put(index, asqn);
+      restore(index, position, indexedEntry.asqn());
+    }
+  }
+
+  @Override
+  public synchronized void restore(final long index, final int position, final long asqn) {
+    positions = positions.put(index, position);
+    if (asqn != SegmentedJournal.ASQN_IGNORE) {
+      asqns = asqns.put(index, asqn);
+    }
+  }
+
+  @Override
+  public void forEachIndexed(
+      final long fromIndex, final long toIndex, final IndexedEntryConsumer consumer) {
+    final var positionEntries = positions;
+    final int positionCount = positionEntries.count;
+    final var asqnEntries = asqns;
+    final int asqnCount = asqnEntries.count;
+
+    int asqnSlot = asqnEntries.floorSlot(fromIndex - 1, asqnCount) + 1;
+    for (int slot = positionEntries.floorSlot(fromIndex - 1, positionCount) + 1;
+        slot < positionCount && positionEntries.keys[slot] <= toIndex;
+        slot++) {
+      final long index = positionEntries.keys[slot];
+      while (asqnSlot < asqnCount && asqnEntries.keys[asqnSlot] < index) {
+        asqnSlot++;
       }
+
+      final long asqn =
+          asqnSlot < asqnCount && asqnEntries.keys[asqnSlot] == index
+              ? asqnEntries.values[asqnSlot]
+              : SegmentedJournal.ASQN_IGNORE;
+      consumer.accept(index, (int) positionEntries.values[slot], asqn);
     }
   }
 
   @Override
   public IndexInfo lookup(final long index) {
-    final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
-    return entry != null ? new IndexInfo(entry.getKey(), entry.getValue()) : null;
+    final var entries = positions;
+    final int count = entries.count;
+    final int slot = entries.floorSlot(index, count);
+    return slot >= 0 ? new IndexInfo(entries.keys[slot], (int) entries.values[slot]) : null;
   }
 
   @Override
@@ -60,46 +101,44 @@ final class SparseJournalIndex implements JournalIndex {
 
   @Override
   public Long lookupAsqn(final long asqn, final long indexUpperBound) {
-    final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
-    if (entry != null) {
-      if (entry.getValue() <= indexUpperBound) {
-        return entry.getValue();
-      } else {
-        return indexToAsqn.floorKey(indexUpperBound);
-      }
+    final var entries = asqns;
+    final int count = entries.count;
+    final int slot = entries.floorSlotByValue(asqn, count);
+    if (slot < 0) {
+      return null;
     }
-    return null;
+
+    if (entries.keys[slot] <= indexUpperBound) {
+      return entries.keys[slot];
+    }
+
+    final int boundedSlot = entries.floorSlot(indexUpperBound, count);
+    return boundedSlot >= 0 ? entries.keys[boundedSlot] : null;
   }
 
   @Override
-  public void deleteAfter(final long index) {
-    indexToPosition.tailMap(index, false).clear();
-    final var asqnEntryToDelete = indexToAsqn.ceilingEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.tailMap(index, false).clear();
-      final boolean include = asqnEntryToDelete.getKey() > index;
-      asqnToIndex.tailMap(asqnToDelete, include).clear();
-    }
+  public synchronized void deleteAfter(final long index) {
+    positions = positions.retainUntil(index);
+    asqns = asqns.retainUntil(index);
   }
 
   @Override
-  public void deleteUntil(final long index) {
-    indexToPosition.headMap(index, false).clear();
-
-    final var asqnEntryToDelete = indexToAsqn.floorEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.headMap(index, false).clear();
-      asqnToIndex.headMap(asqnToDelete, false).clear();
+  public synchronized void deleteUntil(final long index) {
+    positions = positions.retainFrom(index);
+
+    // keep the closest asqn entry below the given index, so that asqns which are still in the
+    // journal can be looked up
+    final var entries = asqns;
+    final int floorSlot = entries.floorSlot(index, entries.count);
+    if (floorSlot >= 0) {
+      asqns = entries.retainFrom(entries.keys[floorSlot]);
     }
   }
 
   @Override
-  public void clear() {
-    indexToPosition.clear();
-    indexToAsqn.clear();
-    asqnToIndex.clear();
+  public synchronized void clear() {
+    positions = new Entries(INITIAL_CAPACITY);
+    asqns = new Entries(INITIAL_CAPACITY);
   }
 
   @Override
@@ -111,4 +150,121 @@ final class SparseJournalIndex implements JournalIndex {
       return indexInfo.index() > index - density;
     }
   }
+
+  /**
+   * Sorted index to value mappings. Slots below {@link #count} are never modified once published,
+   * so readers can search them without synchronization.
+   */
+  private static final class Entries {
+    private final long[] keys;
+    private final long[] values;
+    private volatile int count;
+
+    private Entries(final int capacity) {
+      keys = new long[capacity];
+      values = new long[capacity];
+    }
+
+    private Entries(final long[] keys, final long[] values, final int count) {
+      this.keys = keys;
+      this.values = values;
+      this.count = count;
+    }
+
+    /**
+     * Adds or replaces the mapping of the given key. Returns the entries to publish, which may be
+     * this instance if the mapping could be appended in place.
+     */
+    private Entries put(final long key, final long value) {
+      final int size = count;
+      if (size == 0 || keys[size - 1] < key) {
+        if (size < keys.length) {
+          keys[size] = key;
+          values[size] = value;
+          count = size + 1;
+          return this;
+        }
+
+        final var grown =
+            new Entries(Arrays.copyOf(keys, size << 1), Arrays.copyOf(values, size << 1), size + 1);
+        grown.keys[size] = key;
+        grown.values[size] = value;
+        return grown;
+      }
+
+      final int slot = Arrays.binarySearch(keys, 0, size, key);
+      if (slot >= 0) {
+        if (values[slot] == value) {
+          return this;
+        }
+
+        final var copy = new Entries(keys.clone(), values.clone(), size);
+        copy.values[slot] = value;
+        return copy;
+      }
+
+      // insert out of order, e.g. when a reader indexes an entry before the writer
+      final int insertionSlot = -(slot + 1);
+      final int capacity = size < keys.length ? keys.length : keys.length << 1;
+      final var copy = new Entries(new long[capacity], new long[capacity], size + 1);
+      System.arraycopy(keys, 0, copy.keys, 0, insertionSlot);
+      System.arraycopy(values, 0, copy.values, 0, insertionSlot);
+      copy.keys[insertionSlot] = key;
+      copy.values[insertionSlot] = value;
+      System.arraycopy(keys, insertionSlot, copy.keys, insertionSlot + 1, size - insertionSlot);
+      System.arraycopy(values, insertionSlot, copy.values, insertionSlot + 1, size - insertionSlot);
+      return copy;
+    }
+
+    /** Returns the entries with a key less than or equal to the given key. */
+    private Entries retainUntil(final long key) {
+      final int size = count;
+      final int retained = floorSlot(key, size) + 1;
+      if (retained == size) {
+        return this;
+      }
+
+      // copy instead of lowering the count, as concurrent readers may still read the removed slots
+      // and appending in place afterwards would overwrite them
+      final int capacity = Math.max(INITIAL_CAPACITY, keys.length);
+      final var copy = new Entries(new long[capacity], new long[capacity], retained);
+      System.arraycopy(keys, 0, copy.keys, 0, retained);
+      System.arraycopy(values, 0, copy.values, 0, retained);
+      return copy;
+    }
+
+    /** Returns the entries with a key greater than or equal to the given key. */
+    private Entries retainFrom(final long key) {
+      final int size = count;
+      final int firstRetained = floorSlot(key - 1, size) + 1;
+      if (firstRetained == 0) {
+        return this;
+      }
+
+      final int retained = size - firstRetained;
+      final int capacity = Math.max(INITIAL_CAPACITY, Integer.highestOneBit(retained) << 1);
+      final var copy = new Entries(new long[capacity], new long[capacity], retained);
+      System.arraycopy(keys, firstRetained, copy.keys, 0, retained);
+      System.arraycopy(values, firstRetained, copy.values, 0, retained);
+      return copy;
+    }
+
+    /**
+     * @return the slot of the greatest key less than or equal to the given key, or -1 if there is
+     *     none
+     */
+    private int floorSlot(final long key, final int size) {
+      final int slot = Arrays.binarySearch(keys, 0, size, key);
+      return slot >= 0 ? slot : -(slot + 1) - 1;
+    }
+
+    /**
+     * @return the slot of the greatest value less than or equal to the given value, or -1 if there
+     *     is none
+     */
+    private int floorSlotByValue(final long value, final int size) {
+      final int slot = Arrays.binarySearch(values, 0, size, value);
+      return slot >= 0 ? slot : -(slot + 1) - 1;
+    }
+  }
 }
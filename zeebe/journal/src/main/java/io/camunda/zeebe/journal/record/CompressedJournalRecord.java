@@ -0,0 +1,126 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.record;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import java.util.Objects;
+import org.agrona.DirectBuffer;
+
+/**
+ * A JournalRecord stored in a buffer, whose data is compressed.
+ *
+ * <p>The index and asqn are read from the uncompressed header of the record, while the data is only
+ * decompressed when it is first accessed. {@link #data()} decompresses it into a buffer owned by
+ * this record, while {@link #transientData()} decompresses it into a buffer which is reused by the
+ * {@link RecordCompressor}, see {@link RecordCompressor#decompressReusing(RecordCompression,
+ * DirectBuffer, int)} for how long it remains valid.
+ */
+final class CompressedJournalRecord implements JournalRecord {
+
+  private final RecordMetadata metadata;
+  private final long index;
+  private final long asqn;
+  private final RecordCompression compression;
+  private final int uncompressedLength;
+  private final DirectBuffer compressedData;
+  private final DirectBuffer serializedRecord;
+  private final RecordCompressor compressor;
+  private DirectBuffer data;
+
+  CompressedJournalRecord(
+      final RecordMetadata metadata,
+      final long index,
+      final long asqn,
+      final RecordCompression compression,
+      final int uncompressedLength,
+      final DirectBuffer compressedData,
+      final DirectBuffer serializedRecord,
+      final RecordCompressor compressor) {
+    this.metadata = metadata;
+    this.index = index;
+    this.asqn = asqn;
+    this.compression = compression;
+    this.uncompressedLength = uncompressedLength;
+    this.compressedData = compressedData;
+    this.serializedRecord = serializedRecord;
+    this.compressor = compressor;
+  }
+
+  @Override
+  public long index() {
+    return index;
+  }
+
+  @Override
+  public long asqn() {
+    return asqn;
+  }
+
+  @Override
+  public long checksum() {
+    return metadata.checksum();
+  }
+
+  @Override
+  public DirectBuffer data() {
+    if (data == null) {
+      data = compressor.decompress(compression, compressedData, uncompressedLength);
+    }
+    return data;
+  }
+
+  @Override
+  public DirectBuffer transientData() {
+    if (data != null) {
+      return data;
+    }
+    return compressor.decompressReusing(compression, compressedData, uncompressedLength);
+  }
+
+  @Override
+  public DirectBuffer serializedRecord() {
+    return serializedRecord;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(metadata, index, asqn, serializedRecord);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    // the serialized record contains the compressed data, so there is no need to decompress it
+    final CompressedJournalRecord that = (CompressedJournalRecord) o;
+    return index == that.index
+        && asqn == that.asqn
+        && metadata.equals(that.metadata)
+        && serializedRecord.equals(that.serializedRecord);
+  }
+
+  @Override
+  public String toString() {
+    return "CompressedJournalRecord{"
+        + "metadata="
+        + metadata
+        + ", index="
+        + index
+        + ", asqn="
+        + asqn
+        + ", compression="
+        + compression
+        + ", uncompressedLength="
+        + uncompressedLength
+        + '}';
+  }
+}
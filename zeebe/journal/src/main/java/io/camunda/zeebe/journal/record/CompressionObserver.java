@@ -0,0 +1,40 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.record;
+
+/** Observes the compression and decompression of journal records, e.g. to export metrics. */
+public interface CompressionObserver {
+
+  /** An observer which ignores all observations. */
+  CompressionObserver NOOP =
+      new CompressionObserver() {
+        @Override
+        public void observeCompression(
+            final int uncompressedLength, final int compressedLength, final long durationNanos) {}
+
+        @Override
+        public void observeDecompression(final int uncompressedLength, final long durationNanos) {}
+      };
+
+  /**
+   * Called after the data of a record was compressed.
+   *
+   * @param uncompressedLength the length of the data before compression
+   * @param compressedLength the length of the data after compression
+   * @param durationNanos the time it took to compress the data
+   */
+  void observeCompression(int uncompressedLength, int compressedLength, long durationNanos);
+
+  /**
+   * Called after the data of a record was decompressed.
+   *
+   * @param uncompressedLength the length of the decompressed data
+   * @param durationNanos the time it took to decompress the data
+   */
+  void observeDecompression(int uncompressedLength, long durationNanos);
+}
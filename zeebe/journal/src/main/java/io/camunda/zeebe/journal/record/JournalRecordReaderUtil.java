@@ -12,6 +12,7 @@ import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.journal.util.ChecksumGenerator;
 import java.nio.ByteBuffer;
+import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 /** Common methods used by SegmentWriter and SegmentReader to read records from a buffer. */
@@ -26,7 +27,9 @@ public final class JournalRecordReaderUtil {
 
   /**
    * Reads the JournalRecord in the buffer at the current position. After the methods returns, the
-   * position of {@code buffer} will be advanced to the next record.
+   * position of {@code buffer} will be advanced to the next record. The data of a compressed record
+   * is only decompressed when it is accessed, see {@link
+   * JournalRecordSerializer#readRecord(RecordMetadata, DirectBuffer, int, DirectBuffer)}.
    */
   public JournalRecord read(final ByteBuffer buffer, final long expectedIndex) {
     // Mark the buffer so it can be reset if necessary.
@@ -67,9 +70,14 @@ public final class JournalRecordReaderUtil {
     }
 
     // Read record
-    final RecordData record = serializer.readData(directBuffer, metadataLength);
+    final JournalRecord record =
+        serializer.readRecord(
+            metadata,
+            directBuffer,
+            metadataLength,
+            new UnsafeBuffer(buffer, startPosition + metadataLength, recordLength));
 
-    if (record != null && expectedIndex != record.index()) {
+    if (expectedIndex != record.index()) {
       buffer.reset();
       throw new InvalidIndex(
           String.format(
@@ -77,7 +85,6 @@ public final class JournalRecordReaderUtil {
               expectedIndex, record.index()));
     }
     buffer.position(startPosition + metadataLength + recordLength);
-    return new PersistedJournalRecord(
-        metadata, record, new UnsafeBuffer(buffer, startPosition + metadataLength, recordLength));
+    return record;
   }
 }
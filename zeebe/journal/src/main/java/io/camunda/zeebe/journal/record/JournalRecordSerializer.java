@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.journal.record;
 
+import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
@@ -89,6 +90,21 @@ public interface JournalRecordSerializer {
    */
   RecordData readData(DirectBuffer buffer, int offset);
 
+  /**
+   * Reads the {@link JournalRecord} whose {@link RecordData} is at the given offset in the buffer.
+   * Unlike {@link #readData(DirectBuffer, int)}, the data of a compressed record is not
+   * decompressed until it is accessed, so reading only the index or asqn of the record is cheap.
+   *
+   * @param metadata the metadata of the record, which was read before
+   * @param buffer to read
+   * @param offset the offset in the buffer at which the data will be read from
+   * @param serializedRecord the serialized record, as returned by {@link
+   *     JournalRecord#serializedRecord()}
+   * @return the journal record that is read
+   */
+  JournalRecord readRecord(
+      RecordMetadata metadata, DirectBuffer buffer, int offset, DirectBuffer serializedRecord);
+
   /**
    * Returns the length of the serialized {@link RecordMetadata} in the buffer.
    *
@@ -0,0 +1,46 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.record;
+
+import io.camunda.zeebe.journal.CorruptedJournalException;
+
+/**
+ * The algorithm used to compress the data of journal records. Records are self-describing, so a
+ * journal can always read compressed records, regardless of the algorithm it is configured to write
+ * with.
+ */
+public enum RecordCompression {
+  /** The data of records is written as is. */
+  NONE((short) 0),
+
+  /**
+   * The data of records is compressed with DEFLATE, tuned for speed. Records which would not get
+   * smaller are written as is.
+   */
+  DEFLATE((short) 1);
+
+  private final short id;
+
+  RecordCompression(final short id) {
+    this.id = id;
+  }
+
+  short id() {
+    return id;
+  }
+
+  static RecordCompression ofId(final short id) {
+    for (final var compression : values()) {
+      if (compression.id == id) {
+        return compression;
+      }
+    }
+
+    throw new CorruptedJournalException("Unknown record compression with id " + id);
+  }
+}
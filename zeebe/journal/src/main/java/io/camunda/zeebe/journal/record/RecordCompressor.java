@@ -0,0 +1,187 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.record;
+
+import io.camunda.zeebe.journal.CorruptedJournalException;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Compresses and decompresses the data of journal records. The {@link Deflater} and {@link
+ * Inflater} are only created when first needed, as readers typically only decompress, and journals
+ * without compression never need either.
+ *
+ * <p>NOTE: this class is not thread safe, like the serializer which uses it.
+ */
+final class RecordCompressor {
+
+  /** Data shorter than this is not worth compressing, as the gain would be negligible. */
+  static final int MIN_COMPRESSIBLE_LENGTH = 128;
+
+  private final RecordCompression compression;
+  private final CompressionObserver observer;
+  private final ExpandableArrayBuffer uncompressed = new ExpandableArrayBuffer();
+  private final UnsafeBuffer compressedView = new UnsafeBuffer();
+  private final byte[][] decompressed = {new byte[0], new byte[0]};
+  private byte[] compressed = new byte[0];
+  private byte[] input = new byte[0];
+  private int nextDecompressed;
+  private Deflater deflater;
+  private Inflater inflater;
+
+  RecordCompressor(final RecordCompression compression, final CompressionObserver observer) {
+    this.compression = compression;
+    this.observer = observer;
+  }
+
+  RecordCompression compression() {
+    return compression;
+  }
+
+  boolean shouldCompress(final int length) {
+    return compression != RecordCompression.NONE && length >= MIN_COMPRESSIBLE_LENGTH;
+  }
+
+  /**
+   * Compresses the data written by the given writer. If the compressed data is not shorter than the
+   * original, the data is not compressed.
+   *
+   * @param dataWriter the writer of the data to compress
+   * @return the length of the compressed data, which can be read via {@link #compressedData()}, or
+   *     -1 if the data was not compressed
+   */
+  int compress(final BufferWriter dataWriter) {
+    final int length = dataWriter.getLength();
+    final long startTime = System.nanoTime();
+    dataWriter.write(uncompressed, 0);
+
+    if (compressed.length < length) {
+      compressed = new byte[length];
+    }
+
+    final var deflater = deflater();
+    deflater.setInput(uncompressed.byteArray(), 0, length);
+    deflater.finish();
+    // only accept results which are strictly smaller than the original
+    final int compressedLength = deflater.deflate(compressed, 0, length - 1);
+    final boolean finished = deflater.finished();
+    deflater.reset();
+
+    if (!finished) {
+      return -1;
+    }
+
+    observer.observeCompression(length, compressedLength, System.nanoTime() - startTime);
+    return compressedLength;
+  }
+
+  /** Returns the data of the last successful {@link #compress(BufferWriter)}. */
+  DirectBuffer compressedData() {
+    compressedView.wrap(compressed);
+    return compressedView;
+  }
+
+  /** Returns the uncompressed data of the last {@link #compress(BufferWriter)}. */
+  DirectBuffer uncompressedData() {
+    return uncompressed;
+  }
+
+  /**
+   * Decompresses the given data into a new buffer, which can safely be held onto after the next
+   * record is read.
+   *
+   * @param algorithm the algorithm the data was compressed with
+   * @param data the compressed data
+   * @param uncompressedLength the length of the data before it was compressed
+   * @return the decompressed data
+   */
+  DirectBuffer decompress(
+      final RecordCompression algorithm, final DirectBuffer data, final int uncompressedLength) {
+    final byte[] result = new byte[uncompressedLength];
+    inflate(algorithm, data, result, uncompressedLength);
+    return new UnsafeBuffer(result);
+  }
+
+  /**
+   * Decompresses the given data into one of two buffers, which are reused alternately. The returned
+   * data is therefore only valid until the data of two more records was decompressed by this
+   * compressor. It is only used for {@link io.camunda.zeebe.journal.JournalRecord#transientData()},
+   * whose callers opt into this validity window.
+   *
+   * @param algorithm the algorithm the data was compressed with
+   * @param data the compressed data
+   * @param uncompressedLength the length of the data before it was compressed
+   * @return the decompressed data
+   */
+  DirectBuffer decompressReusing(
+      final RecordCompression algorithm, final DirectBuffer data, final int uncompressedLength) {
+    byte[] result = decompressed[nextDecompressed];
+    if (result.length < uncompressedLength) {
+      result = new byte[uncompressedLength];
+      decompressed[nextDecompressed] = result;
+    }
+    nextDecompressed ^= 1;
+
+    inflate(algorithm, data, result, uncompressedLength);
+    return new UnsafeBuffer(result, 0, uncompressedLength);
+  }
+
+  private void inflate(
+      final RecordCompression algorithm,
+      final DirectBuffer data,
+      final byte[] result,
+      final int uncompressedLength) {
+    if (algorithm != RecordCompression.DEFLATE) {
+      throw new CorruptedJournalException(
+          "Cannot decompress record compressed with unexpected algorithm " + algorithm);
+    }
+
+    final long startTime = System.nanoTime();
+    final int length = data.capacity();
+    if (input.length < length) {
+      input = new byte[length];
+    }
+    data.getBytes(0, input, 0, length);
+
+    final var inflater = inflater();
+    try {
+      inflater.setInput(input, 0, length);
+      final int inflatedLength = inflater.inflate(result, 0, uncompressedLength);
+      if (inflatedLength != uncompressedLength || !inflater.finished()) {
+        throw new CorruptedJournalException(
+            "Expected to decompress record to %d bytes, but got %d"
+                .formatted(uncompressedLength, inflatedLength));
+      }
+    } catch (final DataFormatException e) {
+      throw new CorruptedJournalException(e);
+    } finally {
+      inflater.reset();
+    }
+
+    observer.observeDecompression(uncompressedLength, System.nanoTime() - startTime);
+  }
+
+  private Deflater deflater() {
+    if (deflater == null) {
+      deflater = new Deflater(Deflater.BEST_SPEED, true);
+    }
+    return deflater;
+  }
+
+  private Inflater inflater() {
+    if (inflater == null) {
+      inflater = new Inflater(true);
+    }
+    return inflater;
+  }
+}
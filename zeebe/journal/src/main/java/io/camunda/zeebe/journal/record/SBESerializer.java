@@ -8,6 +8,9 @@
 package io.camunda.zeebe.journal.record;
 
 import io.camunda.zeebe.journal.CorruptedJournalException;
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.file.CompressedRecordDataDecoder;
+import io.camunda.zeebe.journal.file.CompressedRecordDataEncoder;
 import io.camunda.zeebe.journal.file.MessageHeaderDecoder;
 import io.camunda.zeebe.journal.file.MessageHeaderEncoder;
 import io.camunda.zeebe.journal.file.RecordDataDecoder;
@@ -16,20 +19,45 @@ import io.camunda.zeebe.journal.file.RecordMetadataDecoder;
 import io.camunda.zeebe.journal.file.RecordMetadataEncoder;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.nio.BufferOverflowException;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
-/** The serializer that writes and reads a journal record according to the SBE schema defined. */
+/**
+ * The serializer that writes and reads a journal record according to the SBE schema defined.
+ *
+ * <p>If configured with a {@link RecordCompression}, the data of records is compressed when
+ * written, unless it is too short or would not get smaller. Compressed records are always
+ * decompressed when read, regardless of the configured compression. Records read via {@link
+ * #readRecord(RecordMetadata, DirectBuffer, int, DirectBuffer)} are only decompressed when their
+ * data is accessed.
+ */
 public final class SBESerializer implements JournalRecordSerializer {
   private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
   private final RecordMetadataEncoder metadataEncoder = new RecordMetadataEncoder();
   private final RecordDataEncoder recordEncoder = new RecordDataEncoder();
+  private final CompressedRecordDataEncoder compressedRecordEncoder =
+      new CompressedRecordDataEncoder();
 
   private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
   private final RecordMetadataDecoder metadataDecoder = new RecordMetadataDecoder();
   private final RecordDataDecoder recordDecoder = new RecordDataDecoder();
+  private final CompressedRecordDataDecoder compressedRecordDecoder =
+      new CompressedRecordDataDecoder();
+
+  private final RecordCompressor compressor;
+  private final DirectBufferWriter uncompressedDataWriter = new DirectBufferWriter();
+
+  public SBESerializer() {
+    this(RecordCompression.NONE, CompressionObserver.NOOP);
+  }
+
+  public SBESerializer(
+      final RecordCompression compression, final CompressionObserver compressionObserver) {
+    compressor = new RecordCompressor(compression, compressionObserver);
+  }
 
   @Override
   public Either<BufferOverflowException, Integer> writeData(
@@ -38,6 +66,23 @@ public final class SBESerializer implements JournalRecordSerializer {
       final BufferWriter recordDataWriter,
       final MutableDirectBuffer writeBuffer,
       final int offset) {
+    final int entryLength = recordDataWriter.getLength();
+    if (compressor.shouldCompress(entryLength)) {
+      final int compressedLength = compressor.compress(recordDataWriter);
+      if (compressedLength >= 0) {
+        return writeCompressedData(index, asqn, entryLength, compressedLength, writeBuffer, offset);
+      }
+
+      // the data is already written to the compressor, so there is no need to write it again
+      return writeDataAtVersion(
+          recordEncoder.sbeSchemaVersion(),
+          index,
+          asqn,
+          uncompressedDataWriter.wrap(compressor.uncompressedData(), 0, entryLength),
+          writeBuffer,
+          offset);
+    }
+
     return writeDataAtVersion(
         recordEncoder.sbeSchemaVersion(), index, asqn, recordDataWriter, writeBuffer, offset);
   }
@@ -76,6 +121,33 @@ public final class SBESerializer implements JournalRecordSerializer {
     return Either.right(writtenBytes);
   }
 
+  private Either<BufferOverflowException, Integer> writeCompressedData(
+      final long index,
+      final long asqn,
+      final int uncompressedLength,
+      final int compressedLength,
+      final MutableDirectBuffer writeBuffer,
+      final int offset) {
+    final int serializedLength =
+        headerEncoder.encodedLength()
+            + compressedRecordEncoder.sbeBlockLength()
+            + CompressedRecordDataEncoder.dataHeaderLength()
+            + compressedLength;
+    if (offset + serializedLength > writeBuffer.capacity()) {
+      return Either.left(new BufferOverflowException());
+    }
+
+    compressedRecordEncoder
+        .wrapAndApplyHeader(writeBuffer, offset, headerEncoder)
+        .index(index)
+        .asqn(asqn)
+        .compression(compressor.compression().id())
+        .uncompressedLength(uncompressedLength)
+        .putData(compressor.compressedData(), 0, compressedLength);
+
+    return Either.right(headerEncoder.encodedLength() + compressedRecordEncoder.encodedLength());
+  }
+
   @Override
   public int writeMetadata(
       final RecordMetadata metadata, final MutableDirectBuffer buffer, final int offset) {
@@ -116,6 +188,11 @@ public final class SBESerializer implements JournalRecordSerializer {
   @Override
   public RecordData readData(final DirectBuffer buffer, final int offset) {
     headerDecoder.wrap(buffer, offset);
+    if (headerDecoder.schemaId() == compressedRecordDecoder.sbeSchemaId()
+        && headerDecoder.templateId() == compressedRecordDecoder.sbeTemplateId()) {
+      return readCompressedData(buffer, offset);
+    }
+
     if (headerDecoder.schemaId() != recordDecoder.sbeSchemaId()
         || headerDecoder.templateId() != recordDecoder.sbeTemplateId()) {
       throw new CorruptedJournalException("Cannot read record. Header does not match.");
@@ -131,6 +208,58 @@ public final class SBESerializer implements JournalRecordSerializer {
     return new RecordData(recordDecoder.index(), recordDecoder.asqn(), data);
   }
 
+  private RecordData readCompressedData(final DirectBuffer buffer, final int offset) {
+    wrapCompressedRecord(buffer, offset);
+    final long index = compressedRecordDecoder.index();
+    final long asqn = compressedRecordDecoder.asqn();
+    final var compression = RecordCompression.ofId(compressedRecordDecoder.compression());
+    final int uncompressedLength = compressedRecordDecoder.uncompressedLength();
+    final DirectBuffer compressedData = new UnsafeBuffer();
+    compressedRecordDecoder.wrapData(compressedData);
+
+    return new RecordData(
+        index, asqn, compressor.decompress(compression, compressedData, uncompressedLength));
+  }
+
+  @Override
+  public JournalRecord readRecord(
+      final RecordMetadata metadata,
+      final DirectBuffer buffer,
+      final int offset,
+      final DirectBuffer serializedRecord) {
+    headerDecoder.wrap(buffer, offset);
+    if (headerDecoder.schemaId() != compressedRecordDecoder.sbeSchemaId()
+        || headerDecoder.templateId() != compressedRecordDecoder.sbeTemplateId()) {
+      return new PersistedJournalRecord(metadata, readData(buffer, offset), serializedRecord);
+    }
+
+    wrapCompressedRecord(buffer, offset);
+    final long index = compressedRecordDecoder.index();
+    final long asqn = compressedRecordDecoder.asqn();
+    final var compression = RecordCompression.ofId(compressedRecordDecoder.compression());
+    final int uncompressedLength = compressedRecordDecoder.uncompressedLength();
+    final DirectBuffer compressedData = new UnsafeBuffer();
+    compressedRecordDecoder.wrapData(compressedData);
+
+    return new CompressedJournalRecord(
+        metadata,
+        index,
+        asqn,
+        compression,
+        uncompressedLength,
+        compressedData,
+        serializedRecord,
+        compressor);
+  }
+
+  private void wrapCompressedRecord(final DirectBuffer buffer, final int offset) {
+    compressedRecordDecoder.wrap(
+        buffer,
+        offset + headerDecoder.encodedLength(),
+        headerDecoder.blockLength(),
+        headerDecoder.version());
+  }
+
   @Override
   public int getMetadataLength(final DirectBuffer buffer, final int offset) {
     headerDecoder.wrap(buffer, offset);
@@ -17,6 +17,7 @@ import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.journal.file.SegmentedJournal;
 import io.camunda.zeebe.journal.file.SegmentedJournalBuilder;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.camunda.zeebe.journal.util.MockJournalMetastore;
 import io.camunda.zeebe.journal.util.TestJournalRecord;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -344,6 +345,53 @@ final class JournalAppendTest {
     }
   }
 
+  @Test
+  void shouldReadCompressedRecordsAfterReopening() {
+    // given
+    CloseHelper.quietClose(journal);
+    journal = openJournal(b -> b.withRecordCompression(RecordCompression.DEFLATE));
+    final var data = new UnsafeBuffer("elementId=serviceTask;".repeat(50).getBytes());
+    final var appended = journal.append(1, new DirectBufferWriter().wrap(data));
+
+    // when
+    CloseHelper.quietClose(journal);
+    journal = openJournal();
+
+    // then
+    final var reader = journal.openReader();
+    assertThat(reader.hasNext()).isTrue();
+    final var read = reader.next();
+    assertThat(read).isEqualTo(appended);
+    assertThat(read.data()).isEqualTo(data);
+    assertThat(read.serializedRecord().capacity()).isLessThan(data.capacity());
+  }
+
+  @Test
+  void shouldAppendCompressedJournalRecordToUncompressedJournal() {
+    // given
+    CloseHelper.quietClose(journal);
+    journal = openJournal(b -> b.withRecordCompression(RecordCompression.DEFLATE));
+    final var data = new UnsafeBuffer("elementId=serviceTask;".repeat(50).getBytes());
+    try (final var receiverJournal =
+        SegmentedJournal.builder(meterRegistry)
+            .withDirectory(directory.resolve("data-2").toFile())
+            .withJournalIndexDensity(5)
+            .withMetaStore(new MockJournalMetastore())
+            .build()) {
+      final var expected = journal.append(10, new DirectBufferWriter().wrap(data));
+
+      // when
+      receiverJournal.append(expected.checksum(), getSerializedBytes(expected));
+
+      // then
+      final var reader = receiverJournal.openReader();
+      assertThat(reader.hasNext()).isTrue();
+      final var actual = reader.next();
+      assertThat(actual).isEqualTo(expected);
+      assertThat(actual.data()).isEqualTo(data);
+    }
+  }
+
   private static byte[] getSerializedBytes(final JournalRecord record) {
     final byte[] serializedRecord = new byte[record.serializedRecord().capacity()];
     record.serializedRecord().getBytes(0, serializedRecord);
@@ -34,6 +34,7 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -415,7 +416,7 @@ class SegmentedJournalTest {
   }
 
   @Test
-  void shouldNotUpdateIndexMappingsAfterRestartIfLastPositionIsInDescriptor() {
+  void shouldRestoreIndexMappingsOfSealedSegmentsAfterRestart() {
     // given
     final int entriesPerSegment = 2;
     journal = openJournal(entriesPerSegment);
@@ -423,6 +424,8 @@ class SegmentedJournalTest {
     journal.append(2, journalFactory.entry()).index();
     final var thirdIndex = journal.append(3, journalFactory.entry()).index();
     final JournalIndex indexBeforeRestart = journal.getJournalIndex();
+    final var firstLookup = indexBeforeRestart.lookup(firstIndex);
+    final var thirdLookup = indexBeforeRestart.lookup(thirdIndex);
 
     // when
     journal.close();
@@ -431,9 +434,117 @@ class SegmentedJournalTest {
     // then
     final JournalIndex indexAfterRestart = journal.getJournalIndex();
 
-    assertThat(indexAfterRestart.lookup(firstIndex)).isNull();
-    assertThat(indexAfterRestart.lookup(thirdIndex))
-        .isEqualTo(indexBeforeRestart.lookup(thirdIndex));
+    assertThat(indexAfterRestart.lookup(firstIndex)).isEqualTo(firstLookup);
+    assertThat(indexAfterRestart.lookupAsqn(1)).isEqualTo(firstIndex);
+    assertThat(indexAfterRestart.lookup(thirdIndex)).isEqualTo(thirdLookup);
+  }
+
+  @Test
+  void shouldWriteIndexFileOfSealedSegmentOnFlush() throws Exception {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    assertThat(indexFile(1)).doesNotExist();
+
+    // when
+    journal.flush();
+
+    // then
+    assertThat(indexFile(1)).exists();
+    assertThat(indexFile(2)).doesNotExist();
+  }
+
+  @Test
+  void shouldRebuildIndexOfSealedSegmentWithCorruptedIndexFileOnSeek() throws Exception {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    final var firstLookup = journal.getJournalIndex().lookup(firstIndex);
+    journal.close();
+
+    final var content = Files.readAllBytes(indexFile(1));
+    content[content.length / 2] ^= 1;
+    Files.write(indexFile(1), content);
+    journal = openJournal(entriesPerSegment);
+    assertThat(journal.getJournalIndex().lookup(firstIndex)).isNull();
+
+    // when
+    final JournalReader reader = journal.openReader();
+    reader.seekToAsqn(1);
+
+    // then
+    assertThat(journal.getJournalIndex().lookup(firstIndex)).isEqualTo(firstLookup);
+    assertThat(Files.readAllBytes(indexFile(1))).isNotEqualTo(content);
+  }
+
+  @Test
+  void shouldNotRebuildIndexOfSegmentsAfterIndexUpperBoundOnSeek() throws Exception {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    final var thirdIndex = journal.append(3, journalFactory.entry()).index();
+    journal.append(4, journalFactory.entry());
+    journal.append(5, journalFactory.entry());
+    journal.close();
+
+    final var firstContent = Files.readAllBytes(indexFile(1));
+    firstContent[firstContent.length / 2] ^= 1;
+    Files.write(indexFile(1), firstContent);
+    final var secondContent = Files.readAllBytes(indexFile(2));
+    secondContent[secondContent.length / 2] ^= 1;
+    Files.write(indexFile(2), secondContent);
+    journal = openJournal(entriesPerSegment);
+
+    // when
+    final JournalReader reader = journal.openReader();
+    reader.seekToAsqn(5, thirdIndex - 1);
+
+    // then
+    assertThat(Files.readAllBytes(indexFile(1))).isNotEqualTo(firstContent);
+    assertThat(Files.readAllBytes(indexFile(2))).isEqualTo(secondContent);
+  }
+
+  @Test
+  void shouldDeleteIndexFileWhenTruncatingSealedSegment() throws Exception {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    journal.flush();
+    assertThat(indexFile(1)).exists();
+
+    // when
+    journal.deleteAfter(1);
+
+    // then
+    assertThat(indexFile(1)).doesNotExist();
+  }
+
+  @Test
+  void shouldDeleteTemporaryIndexFilesOnOpen() throws Exception {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    journal.append(1, journalFactory.entry());
+    journal.close();
+    final var temporaryFile = indexFile(1).resolveSibling(indexFile(1).getFileName() + ".tmp");
+    Files.write(temporaryFile, new byte[] {1, 2, 3});
+
+    // when
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    assertThat(temporaryFile).doesNotExist();
   }
 
   @Test
@@ -920,6 +1031,12 @@ class SegmentedJournalTest {
         .hasMessage("Nope, no free space.");
   }
 
+  private Path indexFile(final long segmentId) {
+    return SegmentIndexFile.of(
+        SegmentFile.createSegmentFile(JOURNAL_NAME, directory.resolve("data").toFile(), segmentId)
+            .toPath());
+  }
+
   private SegmentedJournal openJournal(final int entriesPerSegment) {
     return openJournal("test", entriesPerSegment);
   }
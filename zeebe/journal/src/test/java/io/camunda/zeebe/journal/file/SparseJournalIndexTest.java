@@ -265,4 +265,60 @@ class SparseJournalIndexTest {
     assertThat(index.hasIndexed(11)).isFalse();
     assertThat(index.hasIndexed(100)).isFalse();
   }
+
+  @Test
+  void shouldIndexEntriesOutOfOrder() {
+    // given - every 5 index is added
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(5, 5), 10);
+    index.index(asJournalRecord(15, 15), 30);
+
+    // when - a reader indexes an entry the writer skipped
+    index.index(asJournalRecord(10, 10), 20);
+
+    // then
+    assertEquals(10, index.lookup(14).index());
+    assertEquals(20, index.lookup(14).position());
+    assertEquals(15, index.lookup(15).index());
+    assertEquals(10, index.lookupAsqn(12));
+  }
+
+  @Test
+  void shouldAppendAfterTruncation() {
+    // given - every index is added
+    final JournalIndex index = new SparseJournalIndex(1);
+    for (int i = 1; i <= 200; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // when
+    index.deleteAfter(100);
+    index.index(asJournalRecord(101, 2000), 1000);
+
+    // then
+    assertEquals(100, index.lookup(100).index());
+    assertEquals(101, index.lookup(150).index());
+    assertEquals(1000, index.lookup(150).position());
+    assertEquals(101, index.lookupAsqn(2000));
+    assertEquals(100, index.lookupAsqn(1999));
+  }
+
+  @Test
+  void shouldAppendAfterCompaction() {
+    // given - every index is added
+    final JournalIndex index = new SparseJournalIndex(1);
+    for (int i = 1; i <= 200; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // when
+    index.deleteUntil(150);
+    index.index(asJournalRecord(201, 2010), 402);
+
+    // then
+    assertNull(index.lookup(149));
+    assertEquals(150, index.lookup(150).index());
+    assertEquals(201, index.lookup(300).index());
+    assertEquals(201, index.lookupAsqn(3000));
+  }
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.perf;
+
+import io.camunda.zeebe.journal.JournalReader;
+import io.camunda.zeebe.journal.file.SegmentedJournal;
+import io.camunda.zeebe.journal.util.MockJournalMetastore;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the operations of a large journal which depend on the journal index: seeking by
+ * application sequence number, truncating the tail of the journal, and opening the journal, which
+ * rebuilds the index from the segments.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class SparseJournalIndexPerformanceTest {
+
+  private static final int TRUNCATED_ENTRIES = 1_000;
+
+  @Param("1000000")
+  private int entryCount;
+
+  private final DirectBufferWriter recordDataWriter = new DirectBufferWriter();
+  private final MockJournalMetastore metaStore = new MockJournalMetastore();
+  private File directory;
+  private SegmentedJournal journal;
+  private JournalReader reader;
+
+  @Setup
+  public void setup() throws Exception {
+    directory = Files.createTempDirectory("journal").toFile();
+    recordDataWriter.wrap(new UnsafeBuffer("TestData".getBytes()));
+
+    journal = openJournal();
+    for (int i = 1; i <= entryCount; i++) {
+      journal.append(i, recordDataWriter);
+    }
+    journal.flush();
+    reader = journal.openReader();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    CloseHelper.quietCloseAll(reader, journal);
+    FileUtil.deleteFolderIfExists(directory.toPath());
+  }
+
+  @Benchmark
+  public long measureSeekToAsqn() {
+    return reader.seekToAsqn(ThreadLocalRandom.current().nextLong(1, entryCount + 1));
+  }
+
+  @Benchmark
+  public long measureTruncate() {
+    final long lastIndex = journal.getLastIndex();
+    journal.deleteAfter(lastIndex - TRUNCATED_ENTRIES);
+    for (long asqn = lastIndex - TRUNCATED_ENTRIES + 1; asqn <= lastIndex; asqn++) {
+      journal.append(asqn, recordDataWriter);
+    }
+    return journal.getLastIndex();
+  }
+
+  @Benchmark
+  public long measureOpen() {
+    try (final var reopened = openJournal()) {
+      return reopened.getLastIndex();
+    }
+  }
+
+  private SegmentedJournal openJournal() {
+    return SegmentedJournal.builder(new SimpleMeterRegistry())
+        .withDirectory(directory)
+        .withMaxSegmentSize(16 * 1024 * 1024)
+        .withMetaStore(metaStore)
+        .build();
+  }
+
+  @JMHTest("measureSeekToAsqn")
+  void shouldSeekWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 60_000;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @JMHTest("measureTruncate")
+  void shouldTruncateWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 100;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @JMHTest("measureOpen")
+  void shouldOpenWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 50;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
@@ -13,6 +13,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import io.camunda.zeebe.journal.CorruptedJournalException;
 import io.camunda.zeebe.util.Either;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Random;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -152,4 +154,208 @@ final class SBESerializerTest {
     // when - then
     assertThat(serializer.writeData(record, writeBuffer, offset)).matches(Either::isLeft);
   }
+
+  @Test
+  void shouldCompressRecord() {
+    // given
+    final var compressingSerializer =
+        new SBESerializer(RecordCompression.DEFLATE, CompressionObserver.NOOP);
+    final var compressibleRecord = new RecordData(1, 2, compressibleData());
+    final var buffer = new UnsafeBuffer(ByteBuffer.allocate(1024));
+
+    // when
+    final int writtenLength = compressingSerializer.writeData(compressibleRecord, buffer, 0).get();
+
+    // then
+    assertThat(writtenLength).isLessThan(compressibleRecord.data().capacity());
+    assertThat(serializer.readData(buffer, 0)).isEqualTo(compressibleRecord);
+  }
+
+  @Test
+  void shouldNotCompressShortRecord() {
+    // given
+    final var compressingSerializer =
+        new SBESerializer(RecordCompression.DEFLATE, CompressionObserver.NOOP);
+
+    // when
+    final int writtenLength = compressingSerializer.writeData(record, writeBuffer, 0).get();
+
+    // then
+    assertThat(writtenLength).isEqualTo(serializer.writeData(record, writeBuffer, 0).get());
+    assertThat(compressingSerializer.readData(writeBuffer, 0)).isEqualTo(record);
+  }
+
+  @Test
+  void shouldNotCompressRecordWhichDoesNotGetSmaller() {
+    // given
+    final var compressingSerializer =
+        new SBESerializer(RecordCompression.DEFLATE, CompressionObserver.NOOP);
+    final var bytes = new byte[200];
+    new Random(42).nextBytes(bytes);
+    final var incompressibleRecord = new RecordData(1, 2, new UnsafeBuffer(bytes));
+
+    // when
+    final int writtenLength =
+        compressingSerializer.writeData(incompressibleRecord, writeBuffer, 0).get();
+
+    // then
+    assertThat(writtenLength)
+        .isEqualTo(serializer.writeData(incompressibleRecord, writeBuffer, 0).get());
+    assertThat(compressingSerializer.readData(writeBuffer, 0)).isEqualTo(incompressibleRecord);
+  }
+
+  @Test
+  void shouldObserveCompression() {
+    // given
+    final var observations = new ArrayList<String>();
+    final var compressingSerializer =
+        new SBESerializer(
+            RecordCompression.DEFLATE,
+            new CompressionObserver() {
+              @Override
+              public void observeCompression(
+                  final int uncompressedLength,
+                  final int compressedLength,
+                  final long durationNanos) {
+                observations.add("compress " + uncompressedLength);
+              }
+
+              @Override
+              public void observeDecompression(
+                  final int uncompressedLength, final long durationNanos) {
+                observations.add("decompress " + uncompressedLength);
+              }
+            });
+    final var compressibleRecord = new RecordData(1, 2, compressibleData());
+    final var buffer = new UnsafeBuffer(ByteBuffer.allocate(1024));
+
+    // when
+    compressingSerializer.writeData(compressibleRecord, buffer, 0).get();
+    compressingSerializer.readData(buffer, 0);
+
+    // then
+    final int length = compressibleRecord.data().capacity();
+    assertThat(observations).containsExactly("compress " + length, "decompress " + length);
+  }
+
+  @Test
+  void shouldThrowBufferOverFlowWhenNotEnoughSpaceForCompressedRecord() {
+    // given
+    final var compressingSerializer =
+        new SBESerializer(RecordCompression.DEFLATE, CompressionObserver.NOOP);
+    final var compressibleRecord = new RecordData(1, 2, compressibleData());
+    final int offset = writeBuffer.capacity() - 1;
+
+    // when - then
+    assertThat(compressingSerializer.writeData(compressibleRecord, writeBuffer, offset))
+        .matches(Either::isLeft);
+  }
+
+  @Test
+  void shouldNotDecompressRecordUntilDataIsAccessed() {
+    // given
+    final var decompressions = new ArrayList<Integer>();
+    final var compressingSerializer =
+        new SBESerializer(
+            RecordCompression.DEFLATE,
+            new CompressionObserver() {
+              @Override
+              public void observeCompression(
+                  final int uncompressedLength,
+                  final int compressedLength,
+                  final long durationNanos) {}
+
+              @Override
+              public void observeDecompression(
+                  final int uncompressedLength, final long durationNanos) {
+                decompressions.add(uncompressedLength);
+              }
+            });
+    final var compressibleRecord = new RecordData(1, 2, compressibleData());
+    final var buffer = new UnsafeBuffer(ByteBuffer.allocate(1024));
+    final int writtenLength = compressingSerializer.writeData(compressibleRecord, buffer, 0).get();
+
+    // when
+    final var recordRead =
+        compressingSerializer.readRecord(
+            metadata, buffer, 0, new UnsafeBuffer(buffer, 0, writtenLength));
+
+    // then
+    assertThat(recordRead.index()).isEqualTo(compressibleRecord.index());
+    assertThat(recordRead.asqn()).isEqualTo(compressibleRecord.asqn());
+    assertThat(decompressions).isEmpty();
+    assertThat(recordRead.data()).isEqualTo(compressibleRecord.data());
+    assertThat(decompressions).containsExactly(compressibleRecord.data().capacity());
+  }
+
+  @Test
+  void shouldKeepDataOfPreviousRecordWhenReadingNextRecord() {
+    // given
+    final var compressingSerializer =
+        new SBESerializer(RecordCompression.DEFLATE, CompressionObserver.NOOP);
+    final var firstRecord = new RecordData(1, 2, compressibleData());
+    final var secondRecord =
+        new RecordData(2, 3, new UnsafeBuffer("elementId=gateway;".repeat(20).getBytes()));
+    final var buffer = new UnsafeBuffer(ByteBuffer.allocate(1024));
+    final int firstLength = compressingSerializer.writeData(firstRecord, buffer, 0).get();
+    final int secondLength =
+        compressingSerializer.writeData(secondRecord, buffer, firstLength).get();
+
+    // when
+    final var firstRead =
+        compressingSerializer.readRecord(
+            metadata, buffer, 0, new UnsafeBuffer(buffer, 0, firstLength));
+    final var firstData = firstRead.data();
+    final var secondRead =
+        compressingSerializer.readRecord(
+            metadata, buffer, firstLength, new UnsafeBuffer(buffer, firstLength, secondLength));
+    final var secondData = secondRead.data();
+    final var thirdRead =
+        compressingSerializer.readRecord(
+            metadata, buffer, firstLength, new UnsafeBuffer(buffer, firstLength, secondLength));
+
+    // then
+    assertThat(thirdRead.data()).isEqualTo(secondRecord.data());
+    assertThat(secondData).isEqualTo(secondRecord.data());
+    assertThat(firstData).isEqualTo(firstRecord.data());
+  }
+
+  @Test
+  void shouldReadTransientDataOfCompressedRecord() {
+    // given
+    final var compressingSerializer =
+        new SBESerializer(RecordCompression.DEFLATE, CompressionObserver.NOOP);
+    final var compressibleRecord = new RecordData(1, 2, compressibleData());
+    final var buffer = new UnsafeBuffer(ByteBuffer.allocate(1024));
+    final int writtenLength = compressingSerializer.writeData(compressibleRecord, buffer, 0).get();
+
+    // when
+    final var recordRead =
+        compressingSerializer.readRecord(
+            metadata, buffer, 0, new UnsafeBuffer(buffer, 0, writtenLength));
+
+    // then
+    assertThat(recordRead.transientData()).isEqualTo(compressibleRecord.data());
+    assertThat(recordRead.data()).isEqualTo(compressibleRecord.data());
+  }
+
+  @Test
+  void shouldReadUncompressedRecord() {
+    // given
+    final int writtenLength = serializer.writeData(record, writeBuffer, 0).get();
+
+    // when
+    final var recordRead =
+        serializer.readRecord(
+            metadata, writeBuffer, 0, new UnsafeBuffer(writeBuffer, 0, writtenLength));
+
+    // then
+    assertThat(recordRead.index()).isEqualTo(record.index());
+    assertThat(recordRead.asqn()).isEqualTo(record.asqn());
+    assertThat(recordRead.data()).isEqualTo(record.data());
+  }
+
+  private static DirectBuffer compressibleData() {
+    return new UnsafeBuffer("processInstanceKey=1,elementId=task".repeat(20).getBytes());
+  }
 }
@@ -39,10 +39,10 @@ import java.util.TreeMap;
  * Access patterns:
  *
  * <ol>
- *   <li>Calls to {@link #tryAcquire(WriteContext, List)} from the sequencer, serialized through the
- *       sequencers write lock.
+ *   <li>Calls to {@link #tryAcquire(WriteContext, List)} from the sequencer, before the write is
+ *       queued for appending.
  *   <li>Calls to {@link #onAppend(InFlightEntry, long)} from the sequencer, serialized through the
- *       sequencers write lock.
+ *       sequencers drain of pending writes.
  *   <li>Calls to {@link #onWrite(long, long)} from the log storage, serialized through the single
  *       raft thread.
  *   <li>Calls to {@link #onCommit(long, long)} from the log storage, serialized through the single
@@ -134,7 +134,7 @@ public final class FlowControl implements AppendListener {
         // Internal commands are always accepted for incident response and maintenance.
         return Either.right(new InFlightEntry(metrics, batchMetadata, null));
       }
-      case UserCommand(final var intent) -> {
+      case UserCommand(var intent) -> {
         requestListener = processingLimiter.acquire(intent).orElse(null);
         if (requestListener == null) {
           return Either.left(Rejection.RequestLimitExhausted);
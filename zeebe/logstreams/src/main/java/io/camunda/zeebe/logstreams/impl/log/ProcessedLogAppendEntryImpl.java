@@ -10,6 +10,7 @@ package io.camunda.zeebe.logstreams.impl.log;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.util.buffer.BufferWriter;
 
 public record ProcessedLogAppendEntryImpl(LogAppendEntry entry) implements LogAppendEntry {
 
@@ -33,6 +34,11 @@ public record ProcessedLogAppendEntryImpl(LogAppendEntry entry) implements LogAp
     return entry.recordValue();
   }
 
+  @Override
+  public BufferWriter recordValueWriter() {
+    return entry.recordValueWriter();
+  }
+
   @Override
   public boolean isProcessed() {
     // this class only purpose is to mark the entry as processed
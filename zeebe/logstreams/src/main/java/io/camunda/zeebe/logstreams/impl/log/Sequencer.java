@@ -19,12 +19,19 @@ import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorage.AppendListener;
 import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.VisibleForTesting;
+import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.io.Closeable;
 import java.time.InstantSource;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.agrona.LangUtil;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.ManyToOneConcurrentLinkedQueue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,14 +39,24 @@ import org.slf4j.LoggerFactory;
  * The sequencer takes concurrent {@link #tryWrite(WriteContext, List, long) tryWrite} calls and
  * serializes them, assigning positions to all entries. Writes that are accepted are written
  * directly to the {@link LogStorage}.
+ *
+ * <p>Writers don't take a lock. Each accepted write is offered to a lock-free queue, and whichever
+ * writer manages to claim the drain assigns the positions of all queued writes in queue order and
+ * appends them to the storage, combining consecutive batches into a single append as long as they
+ * fit into one fragment. The other writers only wait until their own write was appended.
  */
 final class Sequencer implements LogStreamWriter, Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(Sequencer.class);
+  private static final int MAX_SPINS = 100;
   private final int maxFragmentSize;
 
   private volatile long position;
   private volatile boolean isClosed = false;
-  private final ReentrantLock lock = new ReentrantLock();
+  private final ManyToOneConcurrentLinkedQueue<PendingWrite> pendingWrites =
+      new ManyToOneConcurrentLinkedQueue<>();
+  private final AtomicBoolean isDraining = new AtomicBoolean();
+  // only accessed by the writer which drains the pending writes
+  private final List<PendingWrite> drainedWrites = new ArrayList<>();
   private final LogStorage logStorage;
   private final InstantSource clock;
   private final SequencerMetrics sequencerMetrics;
@@ -106,20 +123,14 @@ final class Sequencer implements LogStreamWriter, Closeable {
 
     final int batchSize = appendEntries.size();
     final int batchLength = calculateBatchLength(appendEntries);
+    final var pendingWrite =
+        new PendingWrite(appendEntries, sourcePosition, batchLength, inFlightEntry);
 
-    lock.lock();
     try {
-      final var currentPosition = position;
-      final var highestPosition = currentPosition + batchSize - 1;
-      final var sequencedBatch =
-          new SequencedBatch(
-              clock.millis(), currentPosition, sourcePosition, appendEntries, batchLength);
-      flowControl.onAppend(inFlightEntry, highestPosition);
-      logStorage.append(currentPosition, highestPosition, sequencedBatch, flowControl);
-      position = currentPosition + batchSize;
-      return Either.right(highestPosition);
+      pendingWrites.offer(pendingWrite);
+      awaitAppended(pendingWrite);
+      return Either.right(pendingWrite.highestPosition);
     } finally {
-      lock.unlock();
       sequencerMetrics.observeBatchLengthBytes(batchLength);
       sequencerMetrics.observeBatchSize(batchSize);
     }
@@ -135,7 +146,164 @@ final class Sequencer implements LogStreamWriter, Closeable {
     isClosed = true;
   }
 
+  @VisibleForTesting
+  int pendingWritesCount() {
+    return pendingWrites.size();
+  }
+
   private static boolean isEntryValid(final LogAppendEntry entry) {
-    return entry.recordValue() != null && entry.recordMetadata() != null;
+    return entry.recordValueWriter() != null && entry.recordMetadata() != null;
+  }
+
+  /**
+   * Waits until the given write was appended, draining the pending writes whenever no other writer
+   * is doing so. A writer which fails to claim the drain keeps retrying, so a write offered just
+   * after another writer finished draining is never left behind.
+   */
+  private void awaitAppended(final PendingWrite pendingWrite) {
+    var spins = 0;
+    while (!pendingWrite.isDone) {
+      if (isDraining.compareAndSet(false, true)) {
+        try {
+          drainPendingWrites(pendingWrite);
+        } finally {
+          isDraining.set(false);
+        }
+      } else if (++spins < MAX_SPINS) {
+        Thread.onSpinWait();
+      } else {
+        // the draining writer may have been descheduled, so don't keep the core busy
+        Thread.yield();
+      }
+    }
+
+    if (pendingWrite.failure != null) {
+      LangUtil.rethrowUnchecked(pendingWrite.failure);
+    }
+  }
+
+  /**
+   * Appends the queued writes in queue order until the given write was appended. Consecutive
+   * writes are appended together as long as their combined length fits into one fragment.
+   */
+  private void drainPendingWrites(final PendingWrite ownWrite) {
+    final var timestamp = clock.millis();
+    while (!ownWrite.isDone) {
+      var pendingWrite = pendingWrites.poll();
+      if (pendingWrite == null) {
+        return;
+      }
+
+      var currentPosition = position;
+      var drainedLength = 0;
+      do {
+        final var highestPosition = currentPosition + pendingWrite.entries.size() - 1;
+        pendingWrite.sequence(timestamp, currentPosition, highestPosition);
+        flowControl.onAppend(pendingWrite.inFlightEntry, highestPosition);
+        drainedWrites.add(pendingWrite);
+        drainedLength += pendingWrite.length;
+        currentPosition = highestPosition + 1;
+
+        pendingWrite = pendingWrites.peek();
+        if (pendingWrite != null && drainedLength + pendingWrite.length <= maxFragmentSize) {
+          pendingWrites.poll();
+        } else {
+          pendingWrite = null;
+        }
+      } while (pendingWrite != null);
+
+      appendDrainedWrites(currentPosition, drainedLength);
+    }
+  }
+
+  private void appendDrainedWrites(final long nextPosition, final int drainedLength) {
+    final var lowestPosition = drainedWrites.get(0).batch.firstPosition();
+    final var highestPosition = nextPosition - 1;
+    try {
+      if (drainedWrites.size() == 1) {
+        logStorage.append(lowestPosition, highestPosition, drainedWrites.get(0).batch, flowControl);
+      } else {
+        final var combinedWrites =
+            new CombinedWrites(List.copyOf(drainedWrites), drainedLength, flowControl);
+        logStorage.append(lowestPosition, highestPosition, combinedWrites, combinedWrites);
+      }
+      position = nextPosition;
+      drainedWrites.forEach(write -> write.complete(null));
+    } catch (final Throwable e) {
+      drainedWrites.forEach(write -> write.complete(e));
+    } finally {
+      drainedWrites.clear();
+    }
+  }
+
+  private static final class PendingWrite {
+    private final List<LogAppendEntry> entries;
+    private final long sourcePosition;
+    private final int length;
+    private final InFlightEntry inFlightEntry;
+    private SequencedBatch batch;
+    private long highestPosition;
+    private Throwable failure;
+    private volatile boolean isDone;
+
+    private PendingWrite(
+        final List<LogAppendEntry> entries,
+        final long sourcePosition,
+        final int length,
+        final InFlightEntry inFlightEntry) {
+      this.entries = entries;
+      this.sourcePosition = sourcePosition;
+      this.length = length;
+      this.inFlightEntry = inFlightEntry;
+    }
+
+    private void sequence(
+        final long timestamp, final long firstPosition, final long highestPosition) {
+      batch = new SequencedBatch(timestamp, firstPosition, sourcePosition, entries, length);
+      this.highestPosition = highestPosition;
+    }
+
+    private void complete(final Throwable failure) {
+      this.failure = failure;
+      // publishes the position and failure to the waiting writer
+      isDone = true;
+    }
+  }
+
+  /**
+   * Several sequenced batches which are appended to the storage as one block. Each batch is
+   * serialized as it is, and the append listener is notified once per batch, so flow control sees
+   * the same callbacks as if the batches were appended one by one.
+   */
+  private record CombinedWrites(List<PendingWrite> writes, int length, AppendListener listener)
+      implements BufferWriter, AppendListener {
+
+    @Override
+    public int getLength() {
+      return length;
+    }
+
+    @Override
+    public void write(final MutableDirectBuffer buffer, final int offset) {
+      var currentOffset = offset;
+      for (final var write : writes) {
+        write.batch.write(buffer, currentOffset);
+        currentOffset += write.length;
+      }
+    }
+
+    @Override
+    public void onWrite(final long index, final long highestPosition) {
+      for (final var write : writes) {
+        listener.onWrite(index, write.highestPosition);
+      }
+    }
+
+    @Override
+    public void onCommit(final long index, final long highestPosition) {
+      for (final var write : writes) {
+        listener.onCommit(index, write.highestPosition);
+      }
+    }
   }
 }
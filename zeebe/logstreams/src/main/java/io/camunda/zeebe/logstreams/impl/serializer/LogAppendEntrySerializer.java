@@ -49,7 +49,7 @@ final class LogAppendEntrySerializer {
 
     final var key = entry.key();
     final var metadata = entry.recordMetadata();
-    final var value = entry.recordValue();
+    final var value = entry.recordValueWriter();
     Objects.requireNonNull(metadata, "must specify metadata");
     Objects.requireNonNull(value, "must specify value");
 
@@ -107,6 +107,6 @@ final class LogAppendEntrySerializer {
   static int framedLength(final LogAppendEntry entry) {
     return DataFrameDescriptor.framedLength(
         LogEntryDescriptor.headerLength(entry.recordMetadata().getLength())
-            + entry.recordValue().getLength());
+            + entry.recordValueWriter().getLength());
   }
 }
@@ -12,6 +12,7 @@ import io.camunda.zeebe.logstreams.impl.log.LogEntryDescriptor;
 import io.camunda.zeebe.logstreams.impl.log.ProcessedLogAppendEntryImpl;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.Objects;
 
 /** Represents an unmodifiable application record entry to be appended on the log. */
@@ -38,6 +39,15 @@ public interface LogAppendEntry {
    */
   UnifiedRecordValue recordValue();
 
+  /**
+   * @return a writer for the serialized record value, which is used when writing the entry to the
+   *     log; defaults to the {@link #recordValue()} itself, but entries which already hold the
+   *     serialized value can return a writer which copies it as is instead of encoding it again
+   */
+  default BufferWriter recordValueWriter() {
+    return recordValue();
+  }
+
   /**
    * @return the length of the entry, used by writers to determine whether this entry can be written
    */
@@ -47,7 +57,7 @@ public interface LogAppendEntry {
         Integer.BYTES
         + // source Index
         recordMetadata().getLength()
-        + recordValue().getLength();
+        + recordValueWriter().getLength();
   }
 
   /**
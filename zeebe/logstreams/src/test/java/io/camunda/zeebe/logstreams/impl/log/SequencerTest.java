@@ -23,9 +23,13 @@ import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.InstantSource;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
@@ -247,6 +251,45 @@ final class SequencerTest {
     Assertions.assertThat(testFailures).isEmpty();
   }
 
+  @Test
+  void combinesPendingWritesIntoSingleAppend() throws InterruptedException {
+    // given
+    final var logStorage = new BlockingLogStorage();
+    final var logStreamMetrics = new LogStreamMetrics(new SimpleMeterRegistry());
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            1024 * 1024,
+            InstantSource.system(),
+            new SequencerMetrics(new SimpleMeterRegistry()),
+            new FlowControl(logStreamMetrics));
+    final var batch = List.of(TestEntry.ofDefaults());
+    final var testFailures = new ConcurrentLinkedQueue<Throwable>();
+    logStorage.blockFirstAppendUntil(() -> sequencer.pendingWritesCount() == 2);
+
+    // when -- two writes are queued while the first one is appended
+    final var firstWriter = newWriterThread(sequencer, 1, 1, batch, false, testFailures::add);
+    firstWriter.start();
+    logStorage.firstAppendStarted.await();
+    final var otherWriters =
+        List.of(
+            newWriterThread(sequencer, 1, 1, batch, false, testFailures::add),
+            newWriterThread(sequencer, 1, 1, batch, false, testFailures::add));
+    for (final var writer : otherWriters) {
+      writer.start();
+    }
+    firstWriter.join();
+    for (final var writer : otherWriters) {
+      writer.join();
+    }
+
+    // then
+    Assertions.assertThat(testFailures).isEmpty();
+    Assertions.assertThat(logStorage.appendedRanges)
+        .containsExactly(new AppendedRange(1, 1), new AppendedRange(2, 3));
+  }
+
   private Thread newWriterThread(
       final Sequencer sequencer,
       final long initialPosition,
@@ -312,4 +355,46 @@ final class SequencerTest {
       throw new UnsupportedOperationException();
     }
   }
+
+  private record AppendedRange(long lowestPosition, long highestPosition) {}
+
+  private static final class BlockingLogStorage implements LogStorage {
+
+    private final CountDownLatch firstAppendStarted = new CountDownLatch(1);
+    private final List<AppendedRange> appendedRanges = new CopyOnWriteArrayList<>();
+    private BooleanSupplier unblockCondition = () -> true;
+
+    private void blockFirstAppendUntil(final BooleanSupplier condition) {
+      unblockCondition = condition;
+    }
+
+    @Override
+    public LogStorageReader newReader() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      if (firstAppendStarted.getCount() > 0) {
+        firstAppendStarted.countDown();
+        Awaitility.await("until writes are pending").until(unblockCondition::getAsBoolean);
+      }
+      appendedRanges.add(new AppendedRange(lowestPosition, highestPosition));
+      listener.onCommit(highestPosition, highestPosition);
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+  }
 }
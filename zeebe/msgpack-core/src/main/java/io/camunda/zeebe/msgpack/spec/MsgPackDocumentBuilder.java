@@ -0,0 +1,225 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.msgpack.spec;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Builds a MessagePack document (i.e. a map with string keys) from entries and other documents,
+ * without decoding the values. The values are copied as they are, and only the keys of the merged
+ * documents are read to find the entries.
+ *
+ * <p>If a key is added more than once, the first entry wins. To merge documents where one takes
+ * precedence over the other, add the preferred one first; for example, the variables of a scope
+ * before the variables of its parent scope.
+ *
+ * <p>The builder is mutable and reusable: call {@link #reset()} before building a new document. The
+ * buffer returned by {@link #build()} is only valid until the builder is modified again.
+ */
+public final class MsgPackDocumentBuilder {
+
+  private static final int HEADER_LENGTH = 5;
+  private static final int INITIAL_INDEX_CAPACITY = 32;
+  private static final int NO_ENTRY = -1;
+
+  private final MsgPackReader reader = new MsgPackReader();
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final MutableDirectBuffer buffer = new ExpandableArrayBuffer();
+  private final DirectBuffer nameView = new UnsafeBuffer();
+  private final DirectBuffer resultView = new UnsafeBuffer();
+
+  // open addressing index of the keys: the offset and length of each key's bytes in the buffer
+  private int[] keyOffsets = new int[INITIAL_INDEX_CAPACITY];
+  private int[] keyLengths = new int[INITIAL_INDEX_CAPACITY];
+  private int size;
+
+  public MsgPackDocumentBuilder() {
+    reset();
+  }
+
+  /** Removes all entries, such that a new document can be built. */
+  public MsgPackDocumentBuilder reset() {
+    Arrays.fill(keyOffsets, NO_ENTRY);
+    size = 0;
+    writer.wrap(buffer, 0);
+    writer.reserveMapHeader();
+    return this;
+  }
+
+  /**
+   * @return the number of entries of the document
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @param name the UTF-8 encoded name of the entry
+   * @return true if the document contains an entry with the given name
+   */
+  public boolean contains(final DirectBuffer name) {
+    return keyOffsets[findSlot(name, 0, name.capacity())] != NO_ENTRY;
+  }
+
+  /**
+   * Adds the entry, unless the document already contains an entry with the same name.
+   *
+   * @param name the UTF-8 encoded name of the entry
+   * @param value the MessagePack encoded value of the entry
+   * @return true if the entry was added
+   */
+  public boolean putIfAbsent(final DirectBuffer name, final DirectBuffer value) {
+    return putIfAbsent(name, 0, name.capacity(), value, 0, value.capacity());
+  }
+
+  /**
+   * Adds the entry, unless the document already contains an entry with the same name.
+   *
+   * @return true if the entry was added
+   */
+  public boolean putIfAbsent(
+      final DirectBuffer nameBuffer,
+      final int nameOffset,
+      final int nameLength,
+      final DirectBuffer valueBuffer,
+      final int valueOffset,
+      final int valueLength) {
+    final int slot = findSlot(nameBuffer, nameOffset, nameLength);
+    if (keyOffsets[slot] != NO_ENTRY) {
+      return false;
+    }
+
+    writer.writeStringHeader(nameLength);
+    keyOffsets[slot] = writer.getOffset();
+    keyLengths[slot] = nameLength;
+    writer.writeRaw(nameBuffer, nameOffset, nameLength);
+    writer.writeRaw(valueBuffer, valueOffset, valueLength);
+
+    size++;
+    if (size * 2 > keyOffsets.length) {
+      growIndex();
+    }
+    return true;
+  }
+
+  /**
+   * Adds all entries of the given document, except the ones whose name is already contained.
+   *
+   * @param document a MessagePack map with string keys
+   * @return the number of added entries
+   */
+  public int putAllIfAbsent(final DirectBuffer document) {
+    return putAllIfAbsent(document, name -> true);
+  }
+
+  /**
+   * Adds the entries of the given document which match the filter, except the ones whose name is
+   * already contained.
+   *
+   * @param document a MessagePack map with string keys
+   * @param nameFilter tested with the UTF-8 encoded name of each entry; the buffer is only valid
+   *     during the call
+   * @return the number of added entries
+   */
+  public int putAllIfAbsent(final DirectBuffer document, final Predicate<DirectBuffer> nameFilter) {
+    if (document.capacity() == 0) {
+      return 0;
+    }
+
+    reader.wrap(document, 0, document.capacity());
+    final DirectBuffer entriesBuffer = reader.getBuffer();
+
+    int added = 0;
+    final int entries = reader.readMapHeader();
+    for (int i = 0; i < entries; i++) {
+      final int nameLength = reader.readStringLength();
+      final int nameOffset = reader.getOffset();
+      reader.skipBytes(nameLength);
+
+      final int valueOffset = reader.getOffset();
+      reader.skipValue();
+      final int valueLength = reader.getOffset() - valueOffset;
+
+      nameView.wrap(entriesBuffer, nameOffset, nameLength);
+      if (nameFilter.test(nameView)
+          && putIfAbsent(
+              entriesBuffer, nameOffset, nameLength, entriesBuffer, valueOffset, valueLength)) {
+        added++;
+      }
+    }
+    return added;
+  }
+
+  /**
+   * @return a view of the built document, which is only valid until the builder is modified
+   */
+  public DirectBuffer build() {
+    writer.writeReservedMapHeader(0, size);
+    resultView.wrap(buffer, 0, writer.getOffset());
+    return resultView;
+  }
+
+  /**
+   * @return the slot of the index which contains the given name, or the empty slot where it would
+   *     be inserted
+   */
+  private int findSlot(final DirectBuffer name, final int offset, final int length) {
+    final int mask = keyOffsets.length - 1;
+    int slot = hash(name, offset, length) & mask;
+
+    while (keyOffsets[slot] != NO_ENTRY && !keyEquals(slot, name, offset, length)) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private boolean keyEquals(
+      final int slot, final DirectBuffer name, final int offset, final int length) {
+    if (keyLengths[slot] != length) {
+      return false;
+    }
+
+    final int keyOffset = keyOffsets[slot];
+    for (int i = 0; i < length; i++) {
+      if (buffer.getByte(keyOffset + i) != name.getByte(offset + i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void growIndex() {
+    final int[] oldOffsets = keyOffsets;
+    final int[] oldLengths = keyLengths;
+    keyOffsets = new int[oldOffsets.length * 2];
+    keyLengths = new int[oldLengths.length * 2];
+    Arrays.fill(keyOffsets, NO_ENTRY);
+
+    for (int i = 0; i < oldOffsets.length; i++) {
+      if (oldOffsets[i] != NO_ENTRY) {
+        final int slot = findSlot(buffer, oldOffsets[i], oldLengths[i]);
+        keyOffsets[slot] = oldOffsets[i];
+        keyLengths[slot] = oldLengths[i];
+      }
+    }
+  }
+
+  private static int hash(final DirectBuffer name, final int offset, final int length) {
+    int hash = 1;
+    for (int i = 0; i < length; i++) {
+      hash = 31 * hash + name.getByte(offset + i);
+    }
+    // spread the higher bits, as the index only uses the lower ones
+    return hash ^ (hash >>> 16);
+  }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.msgpack.spec;
+
+import static io.camunda.zeebe.msgpack.spec.MsgPackCodes.BYTE_ORDER;
+import static io.camunda.zeebe.msgpack.spec.MsgPackCodes.UINT64;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Transcodes a msgpack document straight into JSON, without materializing it into objects first.
+ * The output is the same as converting the document with Jackson's msgpack parser and JSON
+ * generator: strings are escaped as Jackson does, binary values are written as base64 strings, and
+ * non-finite floats as quoted strings.
+ *
+ * <p>Field names can be renamed or filtered out via a {@link FieldNameMapper}. Nested documents are
+ * handled iteratively, so arbitrarily deep documents do not overflow the stack.
+ *
+ * <p>Instances are reusable, but not thread-safe.
+ */
+public final class MsgPackToJsonTranscoder {
+
+  private static final byte[] HEX_DIGITS = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+  private static final int INITIAL_DEPTH = 8;
+
+  private final MsgPackReader reader = new MsgPackReader();
+  private final UnsafeBuffer integerFieldName = new UnsafeBuffer(new byte[20]);
+  private final UnsafeBuffer integerFieldNameView = new UnsafeBuffer();
+  private final FieldNameMapper fieldNameMapper;
+
+  private int[] remainingElements = new int[INITIAL_DEPTH];
+  private boolean[] isObject = new boolean[INITIAL_DEPTH];
+  private boolean[] hasElements = new boolean[INITIAL_DEPTH];
+  private int depth;
+
+  private MutableDirectBuffer json;
+  private int position;
+
+  public MsgPackToJsonTranscoder() {
+    this(FieldNameMapper.IDENTITY);
+  }
+
+  public MsgPackToJsonTranscoder(final FieldNameMapper fieldNameMapper) {
+    this.fieldNameMapper = fieldNameMapper;
+  }
+
+  /**
+   * Transcodes the msgpack value at the given offset of the buffer into JSON.
+   *
+   * @param msgPack the buffer containing the msgpack value
+   * @param offset the offset of the value in the buffer
+   * @param length the length of the value
+   * @param json the buffer to write the JSON to; it must either be large enough, or expandable
+   * @param jsonOffset the offset at which to start writing the JSON
+   * @return the number of bytes written to the JSON buffer
+   * @throws MsgpackReaderException if the msgpack value is malformed or contains extension types
+   */
+  public int transcode(
+      final DirectBuffer msgPack,
+      final int offset,
+      final int length,
+      final MutableDirectBuffer json,
+      final int jsonOffset) {
+    reader.wrap(msgPack, offset, length);
+    this.json = json;
+    position = jsonOffset;
+    depth = 0;
+
+    try {
+      writeValue();
+
+      while (depth > 0) {
+        final int frame = depth - 1;
+        if (remainingElements[frame] == 0) {
+          writeByte(isObject[frame] ? '}' : ']');
+          depth--;
+        } else {
+          remainingElements[frame]--;
+          writeElement(frame);
+        }
+      }
+
+      return position - jsonOffset;
+    } finally {
+      this.json = null;
+    }
+  }
+
+  private void writeElement(final int frame) {
+    if (isObject[frame]) {
+      final DirectBuffer fieldName =
+          fieldNameMapper.mapFieldName(frame, readFieldName(reader.readToken()));
+      if (fieldName == null) {
+        reader.skipValue();
+        return;
+      }
+
+      writeSeparator(frame);
+      writeString(fieldName, 0, fieldName.capacity());
+      writeByte(':');
+    } else {
+      writeSeparator(frame);
+    }
+
+    writeValue();
+  }
+
+  private DirectBuffer readFieldName(final MsgPackToken token) {
+    return switch (token.getType()) {
+      case STRING -> token.getValueBuffer();
+      case INTEGER -> {
+        final int length = integerFieldName.putLongAscii(0, token.getIntegerValue());
+        integerFieldNameView.wrap(integerFieldName, 0, length);
+        yield integerFieldNameView;
+      }
+      default ->
+          throw new MsgpackReaderException(
+              "Expected field name to be a string or an integer, but found '%s'"
+                  .formatted(token.getType()));
+    };
+  }
+
+  private void writeSeparator(final int frame) {
+    if (hasElements[frame]) {
+      writeByte(',');
+    }
+    hasElements[frame] = true;
+  }
+
+  private void writeValue() {
+    if (reader.getBuffer().getByte(reader.getOffset()) == UINT64) {
+      // the reader only supports signed longs, but msgpack allows unsigned 64 bit integers
+      final long value = reader.getBuffer().getLong(reader.getOffset() + 1, BYTE_ORDER);
+      reader.skipValue();
+      writeAscii(Long.toUnsignedString(value));
+      return;
+    }
+
+    final MsgPackToken token = reader.readToken();
+    switch (token.getType()) {
+      case NIL -> writeBytes(NULL);
+      case BOOLEAN -> writeBytes(token.getBooleanValue() ? TRUE : FALSE);
+      case INTEGER -> position += json.putLongAscii(position, token.getIntegerValue());
+      case FLOAT -> writeFloat(token.getFloatValue());
+      case STRING -> {
+        final DirectBuffer value = token.getValueBuffer();
+        writeString(value, 0, value.capacity());
+      }
+      case BINARY -> writeBinary(token.getValueBuffer());
+      case MAP -> {
+        writeByte('{');
+        pushFrame(true, token.getSize());
+      }
+      case ARRAY -> {
+        writeByte('[');
+        pushFrame(false, token.getSize());
+      }
+      default ->
+          throw new MsgpackReaderException(
+              "Unable to transcode value of type '%s' to JSON".formatted(token.getType()));
+    }
+  }
+
+  private void writeFloat(final double value) {
+    if (Double.isFinite(value)) {
+      writeAscii(Double.toString(value));
+    } else {
+      writeByte('"');
+      writeAscii(Double.toString(value));
+      writeByte('"');
+    }
+  }
+
+  private void writeBinary(final DirectBuffer value) {
+    final byte[] bytes = new byte[value.capacity()];
+    value.getBytes(0, bytes);
+
+    writeByte('"');
+    writeBytes(Base64.getEncoder().encode(bytes));
+    writeByte('"');
+  }
+
+  private void writeString(final DirectBuffer value, final int offset, final int length) {
+    writeByte('"');
+
+    // only ASCII characters need to be escaped, so multi-byte UTF-8 sequences are copied as they
+    // are; all bytes of these sequences are negative
+    int unescapedStart = offset;
+    final int end = offset + length;
+    for (int i = offset; i < end; i++) {
+      final byte b = value.getByte(i);
+      if (b >= 0 && (b < 0x20 || b == '"' || b == '\\')) {
+        json.putBytes(position, value, unescapedStart, i - unescapedStart);
+        position += i - unescapedStart;
+        writeEscaped(b);
+        unescapedStart = i + 1;
+      }
+    }
+    json.putBytes(position, value, unescapedStart, end - unescapedStart);
+    position += end - unescapedStart;
+
+    writeByte('"');
+  }
+
+  private void writeEscaped(final byte b) {
+    writeByte('\\');
+    switch (b) {
+      case '"', '\\' -> writeByte(b);
+      case '\b' -> writeByte('b');
+      case '\t' -> writeByte('t');
+      case '\n' -> writeByte('n');
+      case '\f' -> writeByte('f');
+      case '\r' -> writeByte('r');
+      default -> {
+        writeByte('u');
+        writeByte('0');
+        writeByte('0');
+        writeByte(HEX_DIGITS[b >> 4]);
+        writeByte(HEX_DIGITS[b & 0xF]);
+      }
+    }
+  }
+
+  private void pushFrame(final boolean object, final int size) {
+    if (depth == remainingElements.length) {
+      final int newLength = depth * 2;
+      remainingElements = Arrays.copyOf(remainingElements, newLength);
+      isObject = Arrays.copyOf(isObject, newLength);
+      hasElements = Arrays.copyOf(hasElements, newLength);
+    }
+
+    remainingElements[depth] = size;
+    isObject[depth] = object;
+    hasElements[depth] = false;
+    depth++;
+  }
+
+  private void writeAscii(final String value) {
+    position += json.putStringWithoutLengthAscii(position, value);
+  }
+
+  private void writeBytes(final byte[] bytes) {
+    json.putBytes(position, bytes);
+    position += bytes.length;
+  }
+
+  private void writeByte(final int b) {
+    json.putByte(position, (byte) b);
+    position++;
+  }
+
+  /** Maps the names of the fields of a document when transcoding it. */
+  @FunctionalInterface
+  public interface FieldNameMapper {
+
+    /** Writes all fields with their original name. */
+    FieldNameMapper IDENTITY = (depth, name) -> name;
+
+    /**
+     * Returns the name which is written for the given field. The returned buffer is only read
+     * before the next call.
+     *
+     * @param depth the depth of the object containing the field, where 0 is the root object
+     * @param name the original name of the field, as UTF-8 bytes
+     * @return the name to write, as UTF-8 bytes, or null to leave out the field and its value
+     */
+    DirectBuffer mapFieldName(int depth, DirectBuffer name);
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.msgpack.spec;
+
+import static io.camunda.zeebe.msgpack.spec.MsgPackUtil.encodeMsgPack;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessagePack;
+
+final class MsgPackDocumentBuilderTest {
+
+  private final MsgPackDocumentBuilder builder = new MsgPackDocumentBuilder();
+
+  @Test
+  void shouldBuildEmptyDocument() throws IOException {
+    // when
+    final var document = builder.build();
+
+    // then
+    assertThat(builder.size()).isZero();
+    assertThat(decode(document)).isEmpty();
+  }
+
+  @Test
+  void shouldPutEntries() throws IOException {
+    // when
+    builder.putIfAbsent(wrap("a"), encodeMsgPack(p -> p.packInt(1)));
+    builder.putIfAbsent(wrap("b"), encodeMsgPack(p -> p.packString("text")));
+
+    // then
+    assertThat(builder.size()).isEqualTo(2);
+    assertThat(decode(builder.build())).containsExactly(entry("a", "1"), entry("b", "\"text\""));
+  }
+
+  @Test
+  void shouldKeepFirstEntry() throws IOException {
+    // given
+    builder.putIfAbsent(wrap("a"), encodeMsgPack(p -> p.packInt(1)));
+
+    // when
+    final var added = builder.putIfAbsent(wrap("a"), encodeMsgPack(p -> p.packInt(2)));
+
+    // then
+    assertThat(added).isFalse();
+    assertThat(builder.contains(wrap("a"))).isTrue();
+    assertThat(builder.contains(wrap("b"))).isFalse();
+    assertThat(decode(builder.build())).containsExactly(entry("a", "1"));
+  }
+
+  @Test
+  void shouldMergeDocuments() throws IOException {
+    // given
+    final var child =
+        encodeMsgPack(p -> p.packMapHeader(2).packString("a").packInt(1).packString("b").packNil());
+    final var parent =
+        encodeMsgPack(
+            p -> {
+              p.packMapHeader(2).packString("b").packInt(2).packString("c");
+              p.packMapHeader(1).packString("d").packArrayHeader(1).packBoolean(true);
+            });
+
+    // when
+    final var addedFromChild = builder.putAllIfAbsent(child);
+    final var addedFromParent = builder.putAllIfAbsent(parent);
+
+    // then
+    assertThat(addedFromChild).isEqualTo(2);
+    assertThat(addedFromParent).isOne();
+    assertThat(decode(builder.build()))
+        .containsExactly(entry("a", "1"), entry("b", "null"), entry("c", "{\"d\":[true]}"));
+  }
+
+  @Test
+  void shouldMergeFilteredEntries() throws IOException {
+    // given
+    final var document =
+        encodeMsgPack(
+            p -> p.packMapHeader(2).packString("a").packInt(1).packString("b").packInt(2));
+
+    // when
+    builder.putAllIfAbsent(document, name -> name.equals(wrap("b")));
+
+    // then
+    assertThat(decode(builder.build())).containsExactly(entry("b", "2"));
+  }
+
+  @Test
+  void shouldMergeManyEntries() throws IOException {
+    // given
+    final var count = 1_000;
+    final var document =
+        encodeMsgPack(
+            p -> {
+              p.packMapHeader(count);
+              for (int i = 0; i < count; i++) {
+                p.packString("var" + i).packInt(i);
+              }
+            });
+
+    // when
+    builder.putIfAbsent(wrap("var500"), encodeMsgPack(p -> p.packString("override")));
+    builder.putAllIfAbsent(document);
+
+    // then
+    final var result = decode(builder.build());
+    assertThat(result).hasSize(count).containsEntry("var500", "\"override\"");
+    assertThat(result).containsEntry("var0", "0").containsEntry("var999", "999");
+  }
+
+  @Test
+  void shouldResetDocument() throws IOException {
+    // given
+    builder.putIfAbsent(wrap("a"), encodeMsgPack(p -> p.packInt(1)));
+
+    // when
+    builder.reset();
+    builder.putIfAbsent(wrap("b"), encodeMsgPack(p -> p.packInt(2)));
+
+    // then
+    assertThat(builder.contains(wrap("a"))).isFalse();
+    assertThat(decode(builder.build())).containsExactly(entry("b", "2"));
+  }
+
+  private static DirectBuffer wrap(final String name) {
+    return new UnsafeBuffer(name.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static Map<String, String> decode(final DirectBuffer document) throws IOException {
+    final var bytes = new byte[document.capacity()];
+    document.getBytes(0, bytes);
+
+    final var result = new LinkedHashMap<String, String>();
+    try (final var unpacker = MessagePack.newDefaultUnpacker(bytes)) {
+      unpacker
+          .unpackValue()
+          .asMapValue()
+          .map()
+          .forEach((k, v) -> result.put(k.toString(), v.toJson()));
+    }
+    return result;
+  }
+}
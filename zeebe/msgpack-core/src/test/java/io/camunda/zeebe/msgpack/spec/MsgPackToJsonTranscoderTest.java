@@ -0,0 +1,241 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.msgpack.spec;
+
+import static io.camunda.zeebe.msgpack.spec.MsgPackUtil.encodeMsgPack;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackToJsonTranscoder.FieldNameMapper;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class MsgPackToJsonTranscoderTest {
+
+  private final ExpandableArrayBuffer json = new ExpandableArrayBuffer(16);
+
+  @Test
+  void shouldTranscodeScalars() {
+    // given
+    final var msgPack =
+        encodeMsgPack(
+            packer ->
+                packer
+                    .packArrayHeader(8)
+                    .packNil()
+                    .packBoolean(true)
+                    .packBoolean(false)
+                    .packInt(-12)
+                    .packLong(Long.MAX_VALUE)
+                    .packDouble(1.5)
+                    .packFloat(0.25f)
+                    .packString("foo"));
+
+    // when
+    final var result = transcode(new MsgPackToJsonTranscoder(), msgPack);
+
+    // then
+    assertThat(result)
+        .isEqualTo("[null,true,false,-12,%d,1.5,0.25,\"foo\"]".formatted(Long.MAX_VALUE));
+  }
+
+  @Test
+  void shouldTranscodeUnsignedLong() {
+    // given
+    final var maxUnsignedLong = new BigInteger("18446744073709551615");
+    final var msgPack = encodeMsgPack(packer -> packer.packBigInteger(maxUnsignedLong));
+
+    // when
+    final var result = transcode(new MsgPackToJsonTranscoder(), msgPack);
+
+    // then
+    assertThat(result).isEqualTo("18446744073709551615");
+  }
+
+  @Test
+  void shouldTranscodeNonFiniteFloatsAsStrings() {
+    // given
+    final var msgPack =
+        encodeMsgPack(
+            packer ->
+                packer
+                    .packArrayHeader(3)
+                    .packDouble(Double.NaN)
+                    .packDouble(Double.POSITIVE_INFINITY)
+                    .packDouble(Double.NEGATIVE_INFINITY));
+
+    // when
+    final var result = transcode(new MsgPackToJsonTranscoder(), msgPack);
+
+    // then
+    assertThat(result).isEqualTo("[\"NaN\",\"Infinity\",\"-Infinity\"]");
+  }
+
+  @Test
+  void shouldEscapeStrings() {
+    // given
+    final var msgPack =
+        encodeMsgPack(packer -> packer.packString("\"a\\b\"\b\t\n\f\r\u0001\u001f ü€"));
+
+    // when
+    final var result = transcode(new MsgPackToJsonTranscoder(), msgPack);
+
+    // then
+    assertThat(result).isEqualTo("\"\\\"a\\\\b\\\"\\b\\t\\n\\f\\r\\u0001\\u001F ü€\"");
+  }
+
+  @Test
+  void shouldTranscodeBinaryAsBase64() {
+    // given
+    final var msgPack =
+        encodeMsgPack(packer -> packer.packBinaryHeader(4).writePayload(new byte[] {1, 2, 3, 4}));
+
+    // when
+    final var result = transcode(new MsgPackToJsonTranscoder(), msgPack);
+
+    // then
+    assertThat(result).isEqualTo("\"AQIDBA==\"");
+  }
+
+  @Test
+  void shouldTranscodeNestedDocuments() {
+    // given
+    final var msgPack =
+        encodeMsgPack(
+            packer -> {
+              packer.packMapHeader(3);
+              packer.packString("a").packMapHeader(0);
+              packer.packString("b").packArrayHeader(0);
+              packer.packString("c").packArrayHeader(2);
+              packer.packMapHeader(1).packString("d").packArrayHeader(1).packInt(1);
+              packer.packInt(2).packString("e");
+            });
+
+    // when
+    final var result = transcode(new MsgPackToJsonTranscoder(), msgPack);
+
+    // then
+    assertThat(result).isEqualTo("{\"a\":{},\"b\":[],\"c\":[{\"d\":[1]},{\"2\":\"e\"}]}");
+  }
+
+  @Test
+  void shouldTranscodeDeeplyNestedDocument() {
+    // given
+    final int depth = 10_000;
+    final var msgPack =
+        encodeMsgPack(
+            packer -> {
+              for (int i = 0; i < depth; i++) {
+                packer.packArrayHeader(1);
+              }
+              packer.packNil();
+            });
+
+    // when
+    final var result = transcode(new MsgPackToJsonTranscoder(), msgPack);
+
+    // then
+    assertThat(result).isEqualTo("[".repeat(depth) + "null" + "]".repeat(depth));
+  }
+
+  @Test
+  void shouldMapFieldNames() {
+    // given
+    final DirectBuffer renamed = new UnsafeBuffer("renamed".getBytes(StandardCharsets.UTF_8));
+    final FieldNameMapper mapper =
+        (depth, name) ->
+            depth == 1 && name.getStringWithoutLengthUtf8(0, 1).equals("a") ? renamed : name;
+    final var msgPack =
+        encodeMsgPack(
+            packer -> {
+              packer.packMapHeader(2);
+              packer.packString("a").packMapHeader(1).packString("a").packInt(1);
+              packer.packString("b").packInt(2);
+            });
+
+    // when
+    final var result = transcode(new MsgPackToJsonTranscoder(mapper), msgPack);
+
+    // then
+    assertThat(result).isEqualTo("{\"a\":{\"renamed\":1},\"b\":2}");
+  }
+
+  @Test
+  void shouldSkipFieldsMappedToNull() {
+    // given
+    final FieldNameMapper mapper =
+        (depth, name) ->
+            name.getStringWithoutLengthUtf8(0, name.capacity()).startsWith("_") ? null : name;
+    final var msgPack =
+        encodeMsgPack(
+            packer -> {
+              packer.packMapHeader(4);
+              packer.packString("_first").packArrayHeader(1).packInt(1);
+              packer.packString("a").packInt(2);
+              packer.packString("_middle").packMapHeader(1).packString("x").packInt(3);
+              packer.packString("b").packInt(4);
+            });
+
+    // when
+    final var result = transcode(new MsgPackToJsonTranscoder(mapper), msgPack);
+
+    // then
+    assertThat(result).isEqualTo("{\"a\":2,\"b\":4}");
+  }
+
+  @Test
+  void shouldReuseTranscoder() {
+    // given
+    final var transcoder = new MsgPackToJsonTranscoder();
+    final var first =
+        encodeMsgPack(packer -> packer.packMapHeader(1).packString("a").packArrayHeader(0));
+    final var second = encodeMsgPack(packer -> packer.packArrayHeader(1).packInt(1));
+    transcode(transcoder, first);
+
+    // when
+    final var result = transcode(transcoder, second);
+
+    // then
+    assertThat(result).isEqualTo("[1]");
+  }
+
+  @Test
+  void shouldTranscodeAtOffsets() {
+    // given
+    final var msgPack = encodeMsgPack(packer -> packer.packInt(1).packString("a").packInt(2));
+    json.putByte(0, (byte) '#');
+
+    // when
+    final int length = new MsgPackToJsonTranscoder().transcode(msgPack, 1, 2, json, 1);
+
+    // then
+    assertThat(json.getStringWithoutLengthUtf8(0, length + 1)).isEqualTo("#\"a\"");
+  }
+
+  @Test
+  void shouldRejectExtensionTypes() {
+    // given
+    final var msgPack =
+        encodeMsgPack(
+            packer -> packer.packExtensionTypeHeader((byte) 1, 1).writePayload(new byte[1]));
+    final var transcoder = new MsgPackToJsonTranscoder();
+
+    // when - then
+    assertThatThrownBy(() -> transcode(transcoder, msgPack))
+        .isInstanceOf(MsgpackReaderException.class);
+  }
+
+  private String transcode(final MsgPackToJsonTranscoder transcoder, final DirectBuffer msgPack) {
+    final int length = transcoder.transcode(msgPack, 0, msgPack.capacity(), json, 0);
+    return json.getStringWithoutLengthUtf8(0, length);
+  }
+}
@@ -20,6 +20,7 @@ import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.MappingJsonFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.msgpack.spec.MsgPackToJsonTranscoder;
 import io.camunda.zeebe.protocol.record.JsonSerializable;
 import io.camunda.zeebe.protocol.record.value.PermissionType;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -34,6 +35,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.msgpack.jackson.dataformat.MessagePackFactory;
 
 public final class MsgPackConverter {
@@ -108,33 +111,34 @@ public final class MsgPackConverter {
   ////////////////////////////////////////////////////////////////////////////////////////////////
 
   public static String convertToJson(final DirectBuffer buffer) {
-    return convertToJson(BufferUtil.bufferAsArray(buffer));
+    return new String(convertToJsonBytes(buffer), JSON_CHARSET);
   }
 
   public static String convertToJson(final byte[] msgPack) {
-    return convertToJson(new ByteArrayInputStream(msgPack));
-  }
-
-  private static String convertToJson(final InputStream msgPackInputStream) {
-    final byte[] jsonBytes = convertToJsonBytes(msgPackInputStream);
-    return new String(jsonBytes, JSON_CHARSET);
+    return convertToJson(new UnsafeBuffer(msgPack));
   }
 
   public static InputStream convertToJsonInputStream(final byte[] msgPack) {
-    final byte[] jsonBytes = convertToJsonBytes(msgPack);
+    final byte[] jsonBytes = convertToJsonBytes(new UnsafeBuffer(msgPack));
     return new ByteArrayInputStream(jsonBytes);
   }
 
-  private static byte[] convertToJsonBytes(final byte[] msgPack) {
-    final InputStream inputStream = new ByteArrayInputStream(msgPack);
-    return convertToJsonBytes(inputStream);
-  }
+  /**
+   * Transcodes the document directly into JSON, which produces the same output as copying it from
+   * a msgpack parser into a JSON generator, but without creating a parser, a generator and the
+   * intermediate tokens for each conversion. A transcoder is created per call, as this class is
+   * used concurrently.
+   */
+  private static byte[] convertToJsonBytes(final DirectBuffer msgPack) {
+    final int length = msgPack.capacity();
+    final ExpandableArrayBuffer json = new ExpandableArrayBuffer(length + (length >> 1) + 16);
 
-  private static byte[] convertToJsonBytes(final InputStream msgPackInputStream) {
-    try (final ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-      convert(msgPackInputStream, outputStream, MESSAGE_PACK_FACTORY, JSON_FACTORY);
+    try {
+      final int jsonLength = new MsgPackToJsonTranscoder().transcode(msgPack, 0, length, json, 0);
+      final byte[] jsonBytes = new byte[jsonLength];
+      json.getBytes(0, jsonBytes);
 
-      return outputStream.toByteArray();
+      return jsonBytes;
     } catch (final Exception e) {
       throw new RuntimeException("Failed to convert MessagePack to JSON", e);
     }
@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.MappingJsonFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput (documents per second) of converting a variables document from msgpack
+ * to JSON, as the exporters do for every variable and decision evaluation record: once with the
+ * direct transcoder used by {@link MsgPackConverter}, and once by copying the document from a
+ * Jackson msgpack parser into a JSON generator, which is how it was converted before.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class MsgPackConverterPerformanceTest {
+
+  private static final JsonFactory MESSAGE_PACK_FACTORY = new MessagePackFactory();
+  private static final JsonFactory JSON_FACTORY = new MappingJsonFactory();
+
+  private UnsafeBuffer msgPack;
+
+  @Setup
+  public void setup() {
+    final Map<String, Object> document = new LinkedHashMap<>();
+    document.put("orderId", "order-4711");
+    document.put("customer", Map.of("name", "Jane \"JD\" Doe", "vip", true, "score", 0.87));
+    document.put("total", 1234567L);
+    document.put(
+        "items",
+        List.of(
+            Map.of("sku", "A-1", "quantity", 2, "price", 9.99),
+            Map.of("sku", "B-2", "quantity", 1, "price", 199.0),
+            Map.of("sku", "C-3", "quantity", 10, "price", 0.5)));
+    document.put("notes", "deliver between 9:00\tand 17:00\nring twice");
+    document.put("approved", null);
+    msgPack = new UnsafeBuffer(MsgPackConverter.convertToMsgPack(document));
+  }
+
+  @Benchmark
+  public String measureTranscoder() {
+    return MsgPackConverter.convertToJson(msgPack);
+  }
+
+  @Benchmark
+  public byte[] measureJackson() throws IOException {
+    final var outputStream = new ByteArrayOutputStream();
+    try (final var parser = MESSAGE_PACK_FACTORY.createParser(msgPack.byteArray());
+        final var generator = JSON_FACTORY.createGenerator(outputStream, JsonEncoding.UTF8)) {
+      parser.nextToken();
+      generator.copyCurrentStructure(parser);
+    }
+
+    return outputStream.toByteArray();
+  }
+
+  @JMHTest("measureTranscoder")
+  void shouldConvertWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 2_000_000;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
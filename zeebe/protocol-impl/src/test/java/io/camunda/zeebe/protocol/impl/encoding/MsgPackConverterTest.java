@@ -0,0 +1,90 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.databind.MappingJsonFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+final class MsgPackConverterTest {
+
+  @Test
+  void shouldConvertToSameJsonAsJackson() throws IOException {
+    // given
+    final Map<String, Object> document = new LinkedHashMap<>();
+    document.put("string", "foo \"bar\"\\ \t\n\u0001 äöü €");
+    document.put("int", 12);
+    document.put("negative", -1234567890123L);
+    document.put("double", 0.1);
+    document.put("nan", Double.NaN);
+    document.put("infinity", Double.NEGATIVE_INFINITY);
+    document.put("bool", true);
+    document.put("null", null);
+    document.put("binary", new byte[] {1, 2, 3, 4, 5});
+    document.put("list", List.of(1, "a", List.of(), Map.of()));
+    document.put("nested", Map.of("a", Map.of("b", List.of(Map.of("c", false)))));
+    final byte[] msgPack = MsgPackConverter.convertToMsgPack(document);
+
+    // when
+    final String json = MsgPackConverter.convertToJson(msgPack);
+
+    // then
+    assertThat(json).isEqualTo(convertWithJackson(msgPack));
+  }
+
+  @Test
+  void shouldConvertBufferViewToJson() {
+    // given
+    final byte[] msgPack = MsgPackConverter.convertToMsgPack("{\"a\":[1,2]}");
+    final byte[] padded = new byte[msgPack.length + 4];
+    System.arraycopy(msgPack, 0, padded, 2, msgPack.length);
+
+    // when
+    final String json =
+        MsgPackConverter.convertToJson(new UnsafeBuffer(padded, 2, msgPack.length));
+
+    // then
+    assertThat(json).isEqualTo("{\"a\":[1,2]}");
+  }
+
+  @Test
+  void shouldFailToConvertTruncatedDocument() {
+    // given
+    final byte[] msgPack = MsgPackConverter.convertToMsgPack("{\"a\":[1,2]}");
+    final byte[] truncated = Arrays.copyOf(msgPack, msgPack.length - 1);
+
+    // when - then
+    assertThatThrownBy(() -> MsgPackConverter.convertToJson(truncated))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessage("Failed to convert MessagePack to JSON");
+  }
+
+  private static String convertWithJackson(final byte[] msgPack) throws IOException {
+    final var outputStream = new ByteArrayOutputStream();
+    try (final var parser = new MessagePackFactory().createParser(msgPack);
+        final var generator =
+            new MappingJsonFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+      parser.nextToken();
+      generator.copyCurrentStructure(parser);
+    }
+
+    return outputStream.toString(StandardCharsets.UTF_8);
+  }
+}
@@ -10,6 +10,7 @@ package io.camunda.zeebe.snapshots;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.Map;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -41,4 +42,14 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @param maximumChunkSize
    */
   void setMaximumChunkSize(final int maximumChunkSize);
+
+  /**
+   * Sets the files which the receiver already holds, e.g. from its own latest snapshot. Instead of
+   * reading a file which the receiver already has with the same checksum, the reader may return a
+   * single chunk without content, which references the receiver's copy of that file. Chunks which
+   * were already read are not affected.
+   *
+   * @param fileChecksums the checksums of the files held by the receiver, by file name
+   */
+  void setReceiverFiles(final Map<String, Long> fileChecksums);
 }
@@ -18,6 +18,7 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
@@ -85,8 +86,6 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
-    checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
-
     final var tmpSnapshotDirectory = directory;
     try {
       FileUtil.ensureDirectoryExists(tmpSnapshotDirectory);
@@ -97,12 +96,22 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
     final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
 
-    LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
-    writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
-
     if (checksumCollection == null) {
       checksumCollection = new SfvChecksumImpl();
     }
+
+    if (SnapshotChunkUtil.isFileReference(snapshotChunk)) {
+      LOGGER.trace("Reuse snapshot file {} for snapshot {}", chunkName, snapshotId);
+      linkReferencedFile(snapshotChunk, snapshotFile);
+      checksumCollection.updateFromChecksum(snapshotFile, snapshotChunk.getChecksum());
+      return;
+    }
+
+    checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
+
+    LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
+    writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
+
     checksumCollection.updateFromBytes(
         snapshotFile.getFileName().toString(), snapshotChunk.getContent());
 
@@ -115,6 +124,49 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
+  /**
+   * Links the file referenced by the given chunk from the latest persisted snapshot, which is the
+   * snapshot whose files were advertised to the sender. Immutable files can be shared between
+   * snapshots, as they are never modified, and deleting the old snapshot only removes its link.
+   */
+  private void linkReferencedFile(final SnapshotChunk snapshotChunk, final Path snapshotFile)
+      throws SnapshotWriteException {
+    final var chunkName = snapshotChunk.getChunkName();
+    final var latestSnapshot =
+        snapshotStore
+            .getLatestSnapshot()
+            .orElseThrow(
+                () ->
+                    new SnapshotWriteException(
+                        String.format(
+                            "Expected to reuse file %s from the latest snapshot, but there is none",
+                            chunkName)));
+    final var sourceFile = latestSnapshot.getPath().resolve(chunkName);
+    final Long checksum = latestSnapshot.getChecksums().getChecksums().get(chunkName);
+
+    try {
+      if (checksum == null
+          || checksum != snapshotChunk.getChecksum()
+          || Files.size(sourceFile) != snapshotChunk.getTotalFileSize()) {
+        throw new SnapshotWriteException(
+            String.format(
+                "Expected to reuse file %s with checksum %d and size %d from snapshot %s, but it does not match",
+                chunkName,
+                snapshotChunk.getChecksum(),
+                snapshotChunk.getTotalFileSize(),
+                latestSnapshot.getId()));
+      }
+
+      Files.deleteIfExists(snapshotFile);
+      Files.createLink(snapshotFile, sourceFile);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format(
+              "Failed to reuse file %s from snapshot %s", chunkName, latestSnapshot.getId()),
+          e);
+    }
+  }
+
   private void collectMetadata(final SnapshotChunk chunk) throws IOException {
     if (metadataBuffer == null) {
       metadataBuffer = ByteBuffer.allocate(Math.toIntExact(chunk.getTotalFileSize()));
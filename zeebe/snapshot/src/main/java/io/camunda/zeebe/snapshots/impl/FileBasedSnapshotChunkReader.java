@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.snapshots.impl;
 
+import io.camunda.zeebe.snapshots.ImmutableChecksumsSFV;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.io.IOException;
@@ -15,17 +16,27 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.NavigableSet;
+import java.util.Set;
 import java.util.TreeSet;
 
 /**
  * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
  * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
  * the directory once this is created.
+ *
+ * <p>Immutable RocksDB SST files which the receiver already has with the same checksum are not
+ * read; instead, a single chunk without content references the receiver's copy of the file.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
+  private static final String IMMUTABLE_FILE_SUFFIX = ".sst";
+
   private final Path directory;
+  private final ImmutableChecksumsSFV checksums;
   private final NavigableSet<CharSequence> chunks;
+  private final Set<String> reusableChunks = new HashSet<>();
 
   private long offset;
   private NavigableSet<CharSequence> chunksView;
@@ -34,12 +45,24 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private long maximumChunkSize;
 
   public FileBasedSnapshotChunkReader(final Path directory) throws IOException {
-    this(directory, Long.MAX_VALUE);
+    this(directory, new SfvChecksumImpl());
+  }
+
+  public FileBasedSnapshotChunkReader(final Path directory, final ImmutableChecksumsSFV checksums)
+      throws IOException {
+    this(directory, checksums, Long.MAX_VALUE);
   }
 
   FileBasedSnapshotChunkReader(final Path directory, final long maximumChunkSize)
       throws IOException {
+    this(directory, new SfvChecksumImpl(), maximumChunkSize);
+  }
+
+  FileBasedSnapshotChunkReader(
+      final Path directory, final ImmutableChecksumsSFV checksums, final long maximumChunkSize)
+      throws IOException {
     this.directory = directory;
+    this.checksums = checksums;
     chunks = collectChunks(directory);
     totalCount = chunks.size();
     chunksView = new TreeSet<>(chunks);
@@ -89,10 +112,25 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     this.maximumChunkSize = maximumChunkSize;
   }
 
+  @Override
+  public void setReceiverFiles(final Map<String, Long> fileChecksums) {
+    reusableChunks.clear();
+    for (final var chunk : chunks) {
+      final var fileName = chunk.toString();
+      final var checksum = checksums.getChecksums().get(fileName);
+      if (fileName.endsWith(IMMUTABLE_FILE_SUFFIX)
+          && checksum != null
+          && checksum.equals(fileChecksums.get(fileName))) {
+        reusableChunks.add(fileName);
+      }
+    }
+  }
+
   @Override
   public void close() {
     chunks.clear();
     chunksView.clear();
+    reusableChunks.clear();
   }
 
   @Override
@@ -103,6 +141,10 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   @Override
   public SnapshotChunk next() {
     final var fileName = chunksView.first().toString();
+    if (offset == 0 && reusableChunks.contains(fileName)) {
+      return nextFileReference(fileName);
+    }
+
     final var filePath = directory.resolve(fileName).toString();
 
     try (final var file = new RandomAccessFile(filePath, "r")) {
@@ -125,4 +167,16 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       throw new UncheckedIOException(e);
     }
   }
+
+  private SnapshotChunk nextFileReference(final String fileName) {
+    try {
+      final var fileLength = Files.size(directory.resolve(fileName));
+      chunksView.pollFirst();
+
+      return SnapshotChunkUtil.createFileReferenceChunk(
+          snapshotID, totalCount, fileName, checksums.getChecksums().get(fileName), fileLength);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
 }
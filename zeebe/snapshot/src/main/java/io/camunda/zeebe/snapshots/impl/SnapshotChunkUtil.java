@@ -38,6 +38,25 @@ final class SnapshotChunkUtil {
         snapshotId, totalCount, fileName, checksum, fileData, fileBlockPosition, totalFileSize);
   }
 
+  /**
+   * Creates a chunk which references a file the receiver already has, instead of containing it. As
+   * a chunk of a non-empty file always has content, a chunk without content is only a reference if
+   * the file is not empty; its checksum is the checksum of the whole file.
+   */
+  static SnapshotChunk createFileReferenceChunk(
+      final String snapshotId,
+      final int totalCount,
+      final String fileName,
+      final long fileChecksum,
+      final long totalFileSize) {
+    return new SnapshotChunkImpl(
+        snapshotId, totalCount, fileName, fileChecksum, new byte[0], 0, totalFileSize);
+  }
+
+  static boolean isFileReference(final SnapshotChunk chunk) {
+    return chunk.getContent().length == 0 && chunk.getTotalFileSize() > 0;
+  }
+
   private static final class SnapshotChunkImpl implements SnapshotChunk {
     private final String snapshotId;
     private final int totalCount;
@@ -27,6 +27,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import org.assertj.core.api.Assertions;
@@ -44,6 +45,10 @@ public class FileBasedReceivedSnapshotTest {
       Map.of(
           "file1", "file1 contents",
           "file2", "file2 contents");
+  private static final Map<String, String> SST_SNAPSHOT_FILE_CONTENTS =
+      Map.of(
+          "000001.sst", "immutable contents",
+          "CURRENT", "current contents");
 
   @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
   @Rule public ActorSchedulerRule scheduler = new ActorSchedulerRule();
@@ -349,6 +354,57 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldReuseFilesOfLatestSnapshot() throws IOException {
+    // given
+    final var latestSnapshot =
+        receiveSnapshot(takePersistedSnapshot(1L, SST_SNAPSHOT_FILE_CONTENTS)).persist().join();
+    final var persistedSnapshot = takePersistedSnapshot(2L, SST_SNAPSHOT_FILE_CONTENTS);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    final var chunks = new ArrayList<SnapshotChunk>();
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setReceiverFiles(latestSnapshot.getChecksums().getChecksums());
+      while (snapshotChunkReader.hasNext()) {
+        final var chunk = snapshotChunkReader.next();
+        chunks.add(chunk);
+        receivedSnapshot.apply(chunk).join();
+      }
+    }
+    final var newSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(chunks)
+        .filteredOn(SnapshotChunkUtil::isFileReference)
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("000001.sst");
+    assertThat(newSnapshot.getPath().resolve("000001.sst")).hasContent("immutable contents");
+    assertThat(newSnapshot.getChecksums().sameChecksums(persistedSnapshot.getChecksums()))
+        .isTrue();
+  }
+
+  @Test
+  public void shouldNotReuseFileWhichIsNotInLatestSnapshot() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L, SST_SNAPSHOT_FILE_CONTENTS);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    final SnapshotChunk reference;
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setReceiverFiles(persistedSnapshot.getChecksums().getChecksums());
+      reference = snapshotChunkReader.next();
+    }
+
+    // then
+    assertThatCode(() -> receivedSnapshot.apply(reference).join())
+        .hasCauseInstanceOf(SnapshotWriteException.class)
+        .hasMessageContaining("Expected to reuse file 000001.sst from the latest snapshot");
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
@@ -363,16 +419,21 @@ public class FileBasedReceivedSnapshotTest {
   }
 
   private PersistedSnapshot takePersistedSnapshot(final long index) {
+    return takePersistedSnapshot(index, SNAPSHOT_FILE_CONTENTS);
+  }
+
+  private PersistedSnapshot takePersistedSnapshot(
+      final long index, final Map<String, String> fileContents) {
     final var transientSnapshot = senderSnapshotStore.newTransientSnapshot(index, 0L, 1, 0).get();
-    transientSnapshot.take(this::writeSnapshot).join();
+    transientSnapshot.take(path -> writeSnapshot(path, fileContents)).join();
     return transientSnapshot.withLastFollowupEventPosition(100L).persist().join();
   }
 
-  private boolean writeSnapshot(final Path path) {
+  private boolean writeSnapshot(final Path path, final Map<String, String> fileContents) {
     try {
       FileUtil.ensureDirectoryExists(path);
 
-      for (final var entry : SNAPSHOT_FILE_CONTENTS.entrySet()) {
+      for (final var entry : fileContents.entrySet()) {
         final var fileName = path.resolve(entry.getKey());
         final var fileContent = entry.getValue().getBytes(StandardCharsets.UTF_8);
         Files.write(fileName, fileContent, CREATE_NEW, StandardOpenOption.WRITE);
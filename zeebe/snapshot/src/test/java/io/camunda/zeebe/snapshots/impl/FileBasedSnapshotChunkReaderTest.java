@@ -332,6 +332,39 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(chunkFromFirstSeek.getChecksum()).isEqualTo(chunkFromSecondSeek.getChecksum());
   }
 
+  @Test
+  public void shouldReferenceImmutableFilesKnownToReceiver() throws IOException {
+    // given
+    snapshotDirectory = temporaryFolder.getRoot().toPath();
+    Files.writeString(snapshotDirectory.resolve("1.sst"), "known");
+    Files.writeString(snapshotDirectory.resolve("2.sst"), "changed");
+    Files.writeString(snapshotDirectory.resolve("CURRENT"), "mutable");
+    final var checksums = new SfvChecksumImpl();
+    try (final var files = Files.list(snapshotDirectory)) {
+      for (final var file : files.toList()) {
+        checksums.updateFromFile(file);
+      }
+    }
+    final var reader = new FileBasedSnapshotChunkReader(snapshotDirectory, checksums);
+
+    // when
+    final var receiverChecksums = new HashMap<>(checksums.getChecksums());
+    receiverChecksums.put("2.sst", 0xCAFEL);
+    reader.setReceiverFiles(receiverChecksums);
+    final var chunks = getAllChunks(reader);
+
+    // then
+    assertThat(chunks)
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("1.sst", "2.sst", "CURRENT");
+    assertThat(chunks.get(0).getContent()).isEmpty();
+    assertThat(chunks.get(0).getTotalFileSize()).isEqualTo(5);
+    assertThat(chunks.get(0).getChecksum()).isEqualTo(checksums.getChecksums().get("1.sst"));
+    assertThat(SnapshotChunkUtil.isFileReference(chunks.get(0))).isTrue();
+    assertThat(chunks.get(1).getContent()).asString(StandardCharsets.UTF_8).isEqualTo("changed");
+    assertThat(chunks.get(2).getContent()).asString(StandardCharsets.UTF_8).isEqualTo("mutable");
+  }
+
   private List<SnapshotChunk> getAllChunks(final FileBasedSnapshotChunkReader reader) {
     final var snapshotChunks = new ArrayList<SnapshotChunk>();
 
@@ -21,6 +21,7 @@ import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.ErrorIntent;
+import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
@@ -39,6 +40,7 @@ import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.api.scheduling.ScheduledCommandCache;
 import io.camunda.zeebe.stream.api.state.MutableLastProcessedPositionState;
 import io.camunda.zeebe.stream.impl.metrics.ProcessingMetrics;
+import io.camunda.zeebe.stream.impl.records.CopiedRecords;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
 import io.camunda.zeebe.stream.impl.records.UnwrittenRecord;
@@ -51,6 +53,7 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.function.BooleanSupplier;
@@ -94,6 +97,14 @@ import org.slf4j.Logger;
  *                                       +-----+
  *
  * </pre>
+ *
+ * <p>If pipelining is enabled (see {@link StreamProcessorContext#getMaxPipelinedCommands()}), the
+ * transaction is not committed in {@code updateState()} as long as more commands are waiting on the
+ * log. Instead, the next command is read and processed against the not yet committed state of the
+ * previous ones. Each pipelined command is guarded by a savepoint, such that errors only roll back
+ * the changes of the failing command. Once the pipeline is full, or no more commands are available,
+ * all pipelined commands are committed at once and only then their side effects (e.g. responses)
+ * are executed, in the order the commands were processed.
  */
 public final class ProcessingStateMachine {
 
@@ -106,6 +117,10 @@ public final class ProcessingStateMachine {
       "Expected to roll back the current transaction for record '{} {}' successfully, but exception was thrown.";
   private static final String ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED =
       "Expected to execute side effects for record '{} {}' successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_EXECUTE_PIPELINED_SIDE_EFFECTS_ABORTED =
+      "Expected to execute side effects for {} pipelined commands successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_COMMIT_PIPELINED_FAILED =
+      "Expected to commit the state changes of %d pipelined commands (last position %d), but caught an exception. Their follow-up records are already written, failing to recover by replay.";
   private static final String ERROR_MESSAGE_UPDATE_STATE_FAILED =
       "Expected to successfully update state for record '{} {}', but caught an exception. Retry.";
   private static final String ERROR_MESSAGE_PROCESSING_FAILED_RETRY_PROCESSING =
@@ -158,6 +173,10 @@ public final class ProcessingStateMachine {
   private final LogStreamWriter logStreamWriter;
   private boolean inProcessing;
   private final int maxCommandsInBatch;
+  private final int maxPipelinedCommands;
+  // commands which are processed and written, but whose state changes are not yet committed
+  private final Deque<PipelinedCommand> pipelinedCommands = new ArrayDeque<>();
+  private boolean hasSavepoint;
   private int processedCommandsCount;
   private final ProcessingMetrics processingMetrics;
   private final ScheduledCommandCache scheduledCommandCache;
@@ -180,6 +199,7 @@ public final class ProcessingStateMachine {
     abortCondition = context.getAbortCondition();
     lastProcessedPositionState = context.getLastProcessedPositionState();
     maxCommandsInBatch = context.getMaxCommandsInBatch();
+    maxPipelinedCommands = context.getMaxPipelinedCommands();
 
     writeRetryStrategy = new AbortableRetryStrategy(actor);
     sideEffectsRetryStrategy = new AbortableRetryStrategy(actor);
@@ -226,12 +246,20 @@ public final class ProcessingStateMachine {
       //  * and this was the last record written (records that have been written to the dispatcher
       //    might not be written to the log yet, which means they will appear shortly after this)
       reachedEnd =
-          isEventOrRejection.applies(previousRecord)
+          pipelinedCommands.isEmpty()
+              && isEventOrRejection.applies(previousRecord)
               && !hasNext
               && lastWrittenPosition <= previousRecord.getPosition();
     }
 
-    if (shouldProcessNext.getAsBoolean() && hasNext && !inProcessing) {
+    final var canProcessNext = shouldProcessNext.getAsBoolean() && hasNext;
+    if (!canProcessNext && !inProcessing && !pipelinedCommands.isEmpty()) {
+      // no more commands to pipeline right now, commit what we have
+      commitPipelinedCommands();
+      return;
+    }
+
+    if (canProcessNext && !inProcessing) {
       currentRecord = logStreamReader.next();
 
       if (processingFilter.applies(currentRecord)) {
@@ -276,6 +304,7 @@ public final class ProcessingStateMachine {
       typedCommand.wrap(loggedEvent, metadata, value);
 
       zeebeDbTransaction = transactionContext.getCurrentTransaction();
+      setSavepointIfPipelined();
       try (final var timer = processingMetrics.startBatchProcessingDurationTimer()) {
         zeebeDbTransaction.run(() -> batchProcessing(typedCommand));
         processingMetrics.observeCommandCount(processedCommandsCount);
@@ -437,7 +466,13 @@ public final class ProcessingStateMachine {
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
-              zeebeDbTransaction.rollback();
+              if (hasSavepoint) {
+                // only discard the changes of the current command, not the pipelined ones
+                hasSavepoint = false;
+                zeebeDbTransaction.rollbackToSavepoint();
+              } else {
+                zeebeDbTransaction.rollback();
+              }
               return true;
             },
             abortCondition);
@@ -563,6 +598,7 @@ public final class ProcessingStateMachine {
   private void errorHandlingInTransaction(final Throwable processingException) throws Exception {
     startErrorLoop(typedCommand.hasRequestMetadata());
     zeebeDbTransaction = transactionContext.getCurrentTransaction();
+    setSavepointIfPipelined();
     zeebeDbTransaction.run(
         () -> {
           final ProcessingResultBuilder processingResultBuilder =
@@ -637,6 +673,11 @@ public final class ProcessingStateMachine {
   }
 
   private void updateState() {
+    if (maxPipelinedCommands > 1) {
+      pipelineCommand();
+      return;
+    }
+
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
@@ -672,24 +713,8 @@ public final class ProcessingStateMachine {
             () -> {
               // TODO refactor this into two parallel tasks, which are then combined, and on the
               // completion of which the process continues
-              for (final var processingResponse : pendingResponses) {
-                final var responseWriter = context.getCommandResponseWriter();
-
-                final var responseValue = processingResponse.responseValue();
-                final var recordMetadata = responseValue.recordMetadata();
-                responseWriter
-                    .intent(recordMetadata.getIntent())
-                    .key(responseValue.key())
-                    .recordType(recordMetadata.getRecordType())
-                    .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
-                    .rejectionType(recordMetadata.getRejectionType())
-                    .partitionId(context.getPartitionId())
-                    .valueType(recordMetadata.getValueType())
-                    .valueWriter(responseValue.recordValue())
-                    .tryWriteResponse(
-                        processingResponse.requestStreamId(), processingResponse.requestId());
-              }
-              return executePostCommitTasks();
+              writeResponses(pendingResponses);
+              return executePostCommitTasks(currentProcessingResult);
             },
             abortCondition);
 
@@ -712,9 +737,130 @@ public final class ProcessingStateMachine {
         });
   }
 
-  private boolean executePostCommitTasks() {
+  /**
+   * Keeps the state changes of the current command uncommitted and continues with the next command
+   * if more are waiting on the log and the pipeline is not full yet; otherwise commits all
+   * pipelined commands.
+   */
+  private void pipelineCommand() {
+    pipelinedCommands.addLast(
+        new PipelinedCommand(
+            CopiedRecords.createCopiedTypedRecord(context.getPartitionId(), currentRecord),
+            metadata.getIntent(),
+            currentProcessingResult,
+            pendingResponses,
+            processingTimer));
+    // the follow-up records are written, the next command gets its own savepoint
+    hasSavepoint = false;
+    lastWrittenPosition = writtenPosition;
+
+    if (pipelinedCommands.size() < maxPipelinedCommands
+        && shouldProcessNext.getAsBoolean()
+        && logStreamReader.hasNext()) {
+      markProcessingCompleted();
+      actor.submit(this::tryToReadNextRecord);
+    } else {
+      commitPipelinedCommands();
+    }
+  }
+
+  private void commitPipelinedCommands() {
+    inProcessing = true;
+    final var lastCommandPosition = pipelinedCommands.getLast().command().getPosition();
+    final ActorFuture<Boolean> retryFuture =
+        updateStateRetryStrategy.runWithRetry(
+            () -> {
+              zeebeDbTransaction.commit();
+              hasSavepoint = false;
+              lastSuccessfulProcessedRecordPosition = lastCommandPosition;
+              processingMetrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
+              return true;
+            },
+            abortCondition);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            // the follow-up records of all pipelined commands are already written, so we can't
+            // roll back and process them again; the events are applied again on replay
+            throw new UnrecoverableException(
+                ERROR_MESSAGE_COMMIT_PIPELINED_FAILED.formatted(
+                    pipelinedCommands.size(), lastCommandPosition),
+                throwable);
+          }
+
+          for (final var pipelinedCommand : pipelinedCommands) {
+            scheduledCommandCache.remove(
+                pipelinedCommand.intent(), pipelinedCommand.command().getKey());
+          }
+          executePipelinedSideEffects();
+        });
+  }
+
+  private void executePipelinedSideEffects() {
+    final ActorFuture<Boolean> retryFuture =
+        sideEffectsRetryStrategy.runWithRetry(
+            () -> {
+              var success = true;
+              for (final var pipelinedCommand : pipelinedCommands) {
+                writeResponses(pipelinedCommand.responses());
+                success &= executePostCommitTasks(pipelinedCommand.processingResult());
+              }
+              return success;
+            },
+            abortCondition);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(
+                ERROR_MESSAGE_EXECUTE_PIPELINED_SIDE_EFFECTS_ABORTED,
+                pipelinedCommands.size(),
+                throwable);
+          }
+
+          for (final var pipelinedCommand : pipelinedCommands) {
+            notifyProcessedListener(pipelinedCommand.command());
+            pipelinedCommand.processingTimer().close();
+          }
+          pipelinedCommands.clear();
+
+          markProcessingCompleted();
+          actor.submit(this::tryToReadNextRecord);
+        });
+  }
+
+  private void setSavepointIfPipelined() throws Exception {
+    if (maxPipelinedCommands > 1 && !hasSavepoint) {
+      zeebeDbTransaction.setSavepoint();
+      hasSavepoint = true;
+    }
+  }
+
+  private void writeResponses(final Collection<ProcessingResponse> responses) {
+    for (final var processingResponse : responses) {
+      final var responseWriter = context.getCommandResponseWriter();
+
+      final var responseValue = processingResponse.responseValue();
+      final var recordMetadata = responseValue.recordMetadata();
+      responseWriter
+          .intent(recordMetadata.getIntent())
+          .key(responseValue.key())
+          .recordType(recordMetadata.getRecordType())
+          .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
+          .rejectionType(recordMetadata.getRejectionType())
+          .partitionId(context.getPartitionId())
+          .valueType(recordMetadata.getValueType())
+          .valueWriter(responseValue.recordValueWriter())
+          .tryWriteResponse(processingResponse.requestStreamId(), processingResponse.requestId());
+    }
+  }
+
+  private boolean executePostCommitTasks(final ProcessingResult processingResult) {
     try (final var timer = processingMetrics.startBatchProcessingPostCommitTasksTimer()) {
-      return currentProcessingResult.executePostCommitTasks();
+      return processingResult.executePostCommitTasks();
     }
   }
 
@@ -772,6 +918,13 @@ public final class ProcessingStateMachine {
   private record BatchProcessingStepResult(
       List<TypedRecord<?>> toProcess, List<LogAppendEntry> toWrite) {}
 
+  private record PipelinedCommand(
+      TypedRecord<?> command,
+      Intent intent,
+      ProcessingResult processingResult,
+      Collection<ProcessingResponse> responses,
+      CloseableSilently processingTimer) {}
+
   @FunctionalInterface
   private interface NextProcessingStep {
     void run() throws Exception;
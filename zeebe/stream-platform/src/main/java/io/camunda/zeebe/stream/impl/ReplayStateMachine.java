@@ -68,6 +68,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private final RetryStrategy replayStrategy;
 
   private final BooleanSupplier abortCondition;
+  private final int maxBatchesInTransaction;
   // current iteration
   private long lastSourceEventPosition = StreamProcessor.UNSET_POSITION;
   private long batchSourceEventPosition = StreamProcessor.UNSET_POSITION;
@@ -75,6 +76,12 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private long snapshotPosition;
   private long lastReadRecordPosition = StreamProcessor.UNSET_POSITION;
   private long lastReplayedEventPosition = StreamProcessor.UNSET_POSITION;
+  // the position after which the batches of the current transaction start, to read them again on
+  // retry
+  private long transactionStartPosition = StreamProcessor.UNSET_POSITION;
+  private long lastReadRecordPositionBeforeTransaction = StreamProcessor.UNSET_POSITION;
+  private long transactionSourceEventPosition = StreamProcessor.UNSET_POSITION;
+  private Batch currentBatch;
 
   private ActorFuture<LastProcessingPositions> recoveryFuture;
   private ZeebeDbTransaction zeebeDbTransaction;
@@ -98,6 +105,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     recordValues = context.getRecordValues();
     transactionContext = context.getTransactionContext();
     abortCondition = context.getAbortCondition();
+    maxBatchesInTransaction = context.getMaxBatchesInReplayTransaction();
     keyGeneratorControls = context.getKeyGeneratorControls();
     lastProcessedPositionState = context.getLastProcessedPositionState();
 
@@ -159,22 +167,26 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
         currentState = State.REPLAY_EVENT;
 
         final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
-        final var batch = logStreamBatchReader.next();
+        lastReadRecordPositionBeforeTransaction = lastReadRecordPosition;
+        transactionStartPosition =
+            lastReadRecordPosition != StreamProcessor.UNSET_POSITION
+                ? lastReadRecordPosition
+                : snapshotPosition;
         replayStrategy
-            .runWithRetry(() -> tryToReplayBatch(batch), abortCondition)
+            .runWithRetry(this::tryToReplayBatches, abortCondition)
             .onComplete(
                 (success, failure) -> {
                   if (failure != null) {
                     throw new RuntimeException(
                         "Failed to replay batch at '%s %s'"
-                            .formatted(batch.current(), typedEvent.getMetadata()),
+                            .formatted(currentBatch.current(), typedEvent.getMetadata()),
                         failure);
                   } else {
                     // observe the replay duration
                     replayDurationTimer.close();
-                    // the position should be visible only after the batch is replayed successfully
+                    // the position should be visible only after the batches are replayed successfully
                     lastSourceEventPosition =
-                        Math.max(lastSourceEventPosition, batchSourceEventPosition);
+                        Math.max(lastSourceEventPosition, transactionSourceEventPosition);
                     replayMetrics.setLastSourcePosition(lastSourceEventPosition);
                     actor.submit(this::replayNextEvent);
                   }
@@ -196,21 +208,36 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     }
   }
 
-  private boolean tryToReplayBatch(final Batch batch) throws Exception {
+  /**
+   * Replays the next batches of events in one transaction, up to the configured maximum, or as many
+   * as are available. The events are applied in the order of the log, and the last processed
+   * position is marked once per transaction with the highest source position of its batches, so the
+   * resulting state is the same as when committing after every batch.
+   */
+  private boolean tryToReplayBatches() throws Exception {
     final boolean onRetry = zeebeDbTransaction != null;
     if (onRetry) {
       zeebeDbTransaction.rollback();
-      // reading the whole batch from the beginning again
-      batch.head();
+      // reading all batches of the transaction from the beginning again
+      logStreamBatchReader.seekToNextBatch(transactionStartPosition);
+      lastReadRecordPosition = lastReadRecordPositionBeforeTransaction;
     }
 
     zeebeDbTransaction = transactionContext.getCurrentTransaction();
     zeebeDbTransaction.run(
         () -> {
-          batch.forEachRemaining(this::replayEvent);
-
-          if (batchSourceEventPosition > snapshotPosition) {
-            lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
+          transactionSourceEventPosition = StreamProcessor.UNSET_POSITION;
+          int replayedBatches = 0;
+          do {
+            currentBatch = logStreamBatchReader.next();
+            currentBatch.forEachRemaining(this::replayEvent);
+            transactionSourceEventPosition =
+                Math.max(transactionSourceEventPosition, batchSourceEventPosition);
+            replayedBatches++;
+          } while (replayedBatches < maxBatchesInTransaction && logStreamBatchReader.hasNext());
+
+          if (transactionSourceEventPosition > snapshotPosition) {
+            lastProcessedPositionState.markAsProcessed(transactionSourceEventPosition);
           }
         });
 
@@ -228,12 +255,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
       readMetadata(currentEvent);
       final var currentTypedEvent = readRecordValue(currentEvent);
 
-      final var processor =
-          recordProcessors.stream()
-              .filter(p -> p.accepts(currentTypedEvent.getValueType()))
-              .findFirst()
-              .orElseThrow(() -> NoSuchProcessorException.forRecord(currentTypedEvent));
-
+      final var processor = findProcessor(currentTypedEvent);
       processor.replay(currentTypedEvent);
       lastReplayedEventPosition = currentTypedEvent.getPosition();
     }
@@ -241,6 +263,17 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     onRecordReplayed(currentEvent);
   }
 
+  private RecordProcessor findProcessor(final TypedRecord<?> typedRecord) {
+    final var valueType = typedRecord.getValueType();
+    for (final var recordProcessor : recordProcessors) {
+      if (recordProcessor.accepts(valueType)) {
+        return recordProcessor;
+      }
+    }
+
+    throw NoSuchProcessorException.forRecord(typedRecord);
+  }
+
   /**
    * Ends the replay and sets some important properties, especially completes the replay future with
    * the last processing positions.
@@ -147,6 +147,16 @@ public final class StreamProcessorBuilder {
           "Batch processing limit must be >= 1 but was %s"
               .formatted(streamProcessorContext.getMaxCommandsInBatch()));
     }
+    if (streamProcessorContext.getMaxPipelinedCommands() < 1) {
+      throw new IllegalArgumentException(
+          "Pipelined commands limit must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getMaxPipelinedCommands()));
+    }
+    if (streamProcessorContext.getMaxBatchesInReplayTransaction() < 1) {
+      throw new IllegalArgumentException(
+          "Replay transaction limit must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getMaxBatchesInReplayTransaction()));
+    }
   }
 
   public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
@@ -154,6 +164,25 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  /**
+   * Sets how many commands may be processed against the not yet committed state before the
+   * transaction is committed. A value of 1 (the default) disables pipelined processing.
+   */
+  public StreamProcessorBuilder maxPipelinedCommands(final int maxPipelinedCommands) {
+    streamProcessorContext.maxPipelinedCommands(maxPipelinedCommands);
+    return this;
+  }
+
+  /**
+   * Sets how many batches of events, i.e. the follow-up events of one command, are replayed in one
+   * transaction. A value of 1 (the default) commits the state changes after every replayed batch.
+   */
+  public StreamProcessorBuilder maxBatchesInReplayTransaction(
+      final int maxBatchesInReplayTransaction) {
+    streamProcessorContext.maxBatchesInReplayTransaction(maxBatchesInReplayTransaction);
+    return this;
+  }
+
   public StreamProcessorBuilder setEnableAsyncScheduledTasks(final boolean enabled) {
     streamProcessorContext.setEnableAsyncScheduledTasks(enabled);
     return this;
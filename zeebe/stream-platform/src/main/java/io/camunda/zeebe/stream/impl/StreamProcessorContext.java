@@ -30,6 +30,8 @@ import java.util.function.BooleanSupplier;
 public final class StreamProcessorContext implements ReadonlyStreamProcessorContext {
 
   public static final int DEFAULT_MAX_COMMANDS_IN_BATCH = 100;
+  public static final int DEFAULT_MAX_PIPELINED_COMMANDS = 1;
+  public static final int DEFAULT_MAX_BATCHES_IN_REPLAY_TRANSACTION = 1;
   private static final StreamProcessorListener NOOP_LISTENER = processedCommand -> {};
   private ActorControl actor;
   private LogStream logStream;
@@ -52,6 +54,8 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   private volatile StreamProcessor.Phase phase = Phase.INITIAL;
   private KeyGeneratorControls keyGeneratorControls;
   private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private int maxPipelinedCommands = DEFAULT_MAX_PIPELINED_COMMANDS;
+  private int maxBatchesInReplayTransaction = DEFAULT_MAX_BATCHES_IN_REPLAY_TRANSACTION;
   private boolean enableAsyncScheduledTasks = true;
   private EventFilter processingFilter = e -> true;
   private ControllableStreamClock clock;
@@ -223,6 +227,25 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
     return maxCommandsInBatch;
   }
 
+  public StreamProcessorContext maxPipelinedCommands(final int maxPipelinedCommands) {
+    this.maxPipelinedCommands = maxPipelinedCommands;
+    return this;
+  }
+
+  public int getMaxPipelinedCommands() {
+    return maxPipelinedCommands;
+  }
+
+  public StreamProcessorContext maxBatchesInReplayTransaction(
+      final int maxBatchesInReplayTransaction) {
+    this.maxBatchesInReplayTransaction = maxBatchesInReplayTransaction;
+    return this;
+  }
+
+  public int getMaxBatchesInReplayTransaction() {
+    return maxBatchesInReplayTransaction;
+  }
+
   public StreamProcessorContext setEnableAsyncScheduledTasks(final boolean enabled) {
     enableAsyncScheduledTasks = enabled;
     return this;
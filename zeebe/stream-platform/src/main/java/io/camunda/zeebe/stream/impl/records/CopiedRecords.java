@@ -9,6 +9,7 @@ package io.camunda.zeebe.stream.impl.records;
 
 import static io.camunda.zeebe.stream.impl.TypedEventRegistry.EVENT_REGISTRY;
 
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.record.CopiedRecord;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
@@ -53,4 +54,27 @@ public final class CopiedRecords {
         rawEvent.getSourceEventPosition(),
         rawEvent.getTimestamp());
   }
+
+  /**
+   * Copies the given event into a new buffer and wraps it as a typed record, such that it stays
+   * valid after the reader moved on to the next event.
+   */
+  public static TypedRecordImpl createCopiedTypedRecord(
+      final int partitionId, final LoggedEvent rawEvent) {
+    final var eventBuffer = new UnsafeBuffer(new byte[rawEvent.getLength()]);
+    rawEvent.write(eventBuffer, 0);
+    final var copiedEvent = new LoggedEventImpl();
+    copiedEvent.wrap(eventBuffer, 0);
+
+    final var metadata = new RecordMetadata();
+    copiedEvent.readMetadata(metadata);
+
+    final UnifiedRecordValue recordValue =
+        ReflectUtil.newInstance(EVENT_REGISTRY.get(metadata.getValueType()));
+    copiedEvent.readValue(recordValue);
+
+    final var typedRecord = new TypedRecordImpl(partitionId);
+    typedRecord.wrap(copiedEvent, metadata, recordValue);
+    return typedRecord;
+  }
 }
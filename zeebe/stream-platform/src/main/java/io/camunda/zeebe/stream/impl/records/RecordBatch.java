@@ -21,13 +21,22 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Spliterator;
 import java.util.function.Consumer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public final class RecordBatch implements MutableRecordBatch {
 
+  private static final int MIN_CHUNK_SIZE = 1024;
+  private static final int MAX_CHUNK_SIZE = 32 * 1024;
+
   final List<RecordBatchEntry> recordBatchEntries = new ArrayList<>();
   private int batchSize;
   private final RecordBatchSizePredicate recordBatchSizePredicate;
 
+  // the values of all entries are copied into shared chunks, instead of one array per value; a
+  // chunk is never reused, since the entries may still be referenced after the batch was written
+  private final UnsafeBuffer chunk = new UnsafeBuffer(0, 0);
+  private int chunkOffset;
+
   public RecordBatch(final RecordBatchSizePredicate recordBatchSizePredicate) {
     this.recordBatchSizePredicate = recordBatchSizePredicate;
   }
@@ -42,17 +51,23 @@ public final class RecordBatch implements MutableRecordBatch {
       final RecordMetadata metadata,
       final int sourceIndex,
       final BufferWriter valueWriter) {
-    final var recordBatchEntry =
-        RecordBatchEntry.createEntry(key, metadata, sourceIndex, valueWriter);
-    final var entryLength = recordBatchEntry.getLength();
+    final var valueLength = valueWriter.getLength();
+    final var entryLength = Long.BYTES + Integer.BYTES + metadata.getLength() + valueLength;
 
     if (!recordBatchSizePredicate.test(recordBatchEntries.size() + 1, batchSize + entryLength)) {
       return Either.left(
           new ExceededBatchRecordSizeException(
-              recordBatchEntry, entryLength, recordBatchEntries.size(), batchSize));
+              RecordBatchEntry.createEntry(key, metadata, sourceIndex, valueWriter),
+              entryLength,
+              recordBatchEntries.size(),
+              batchSize));
     }
 
-    recordBatchEntries.add(recordBatchEntry);
+    // we need to copy the value, to make sure that it will not change later
+    final var valueBuffer = allocate(valueLength);
+    valueWriter.write(valueBuffer, 0);
+
+    recordBatchEntries.add(new RecordBatchEntry(metadata, key, sourceIndex, valueBuffer));
     batchSize += entryLength;
     return Either.right(null);
   }
@@ -66,6 +81,19 @@ public final class RecordBatch implements MutableRecordBatch {
     return batchSize;
   }
 
+  private UnsafeBuffer allocate(final int length) {
+    if (chunk.capacity() - chunkOffset < length) {
+      final var chunkSize =
+          Math.min(Math.max(chunk.capacity() * 2, MIN_CHUNK_SIZE), MAX_CHUNK_SIZE);
+      chunk.wrap(new byte[Math.max(chunkSize, length)]);
+      chunkOffset = 0;
+    }
+
+    final var buffer = new UnsafeBuffer(chunk, chunkOffset, length);
+    chunkOffset += length;
+    return buffer;
+  }
+
   @Override
   public Iterator<RecordBatchEntry> iterator() {
     return recordBatchEntries.iterator();
@@ -14,14 +14,69 @@ import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.util.ReflectUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
-public record RecordBatchEntry(
-    RecordMetadata recordMetadata, long key, int sourceIndex, UnifiedRecordValue unifiedRecordValue)
-    implements LogAppendEntry {
+/**
+ * An entry of a {@link RecordBatch}, which holds a serialized copy of the record value. The value
+ * is written to the log as it is, and is only decoded into a {@link UnifiedRecordValue} when it is
+ * accessed through {@link #recordValue()}.
+ */
+public final class RecordBatchEntry implements LogAppendEntry {
+
+  private final RecordMetadata recordMetadata;
+  private final long key;
+  private final int sourceIndex;
+  private final DirectBuffer valueBuffer;
+  private final DirectBufferWriter valueWriter;
+  private UnifiedRecordValue unifiedRecordValue;
+
+  RecordBatchEntry(
+      final RecordMetadata recordMetadata,
+      final long key,
+      final int sourceIndex,
+      final DirectBuffer valueBuffer) {
+    this.recordMetadata = recordMetadata;
+    this.key = key;
+    this.sourceIndex = sourceIndex;
+    this.valueBuffer = valueBuffer;
+    valueWriter = new DirectBufferWriter().wrap(valueBuffer);
+  }
+
+  @Override
+  public long key() {
+    return key;
+  }
+
+  @Override
+  public int sourceIndex() {
+    return sourceIndex;
+  }
+
+  @Override
+  public RecordMetadata recordMetadata() {
+    return recordMetadata;
+  }
 
   @Override
   public UnifiedRecordValue recordValue() {
+    return unifiedRecordValue();
+  }
+
+  @Override
+  public BufferWriter recordValueWriter() {
+    return valueWriter;
+  }
+
+  public UnifiedRecordValue unifiedRecordValue() {
+    if (unifiedRecordValue == null) {
+      final UnifiedRecordValue value =
+          ReflectUtil.newInstance(EVENT_REGISTRY.get(recordMetadata.getValueType()));
+      value.wrap(valueBuffer, 0, valueBuffer.capacity());
+      unifiedRecordValue = value;
+    }
+
     return unifiedRecordValue;
   }
 
@@ -32,14 +87,22 @@ public record RecordBatchEntry(
       final BufferWriter valueWriter) {
 
     // we need to copy the value, to make sure that it will not change later
-    final var bytes = new byte[valueWriter.getLength()];
-    final var recordValueBuffer = new UnsafeBuffer(bytes);
+    final var recordValueBuffer = new UnsafeBuffer(new byte[valueWriter.getLength()]);
     valueWriter.write(recordValueBuffer, 0);
 
-    final UnifiedRecordValue unifiedRecordValue =
-        ReflectUtil.newInstance(EVENT_REGISTRY.get(metadata.getValueType()));
-    unifiedRecordValue.wrap(recordValueBuffer, 0, recordValueBuffer.capacity());
+    return new RecordBatchEntry(metadata, key, sourceIndex, recordValueBuffer);
+  }
 
-    return new RecordBatchEntry(metadata, key, sourceIndex, unifiedRecordValue);
+  @Override
+  public String toString() {
+    return "RecordBatchEntry[recordMetadata="
+        + recordMetadata
+        + ", key="
+        + key
+        + ", sourceIndex="
+        + sourceIndex
+        + ", unifiedRecordValue="
+        + unifiedRecordValue()
+        + "]";
   }
 }
@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.ValueType;
@@ -20,6 +21,7 @@ import io.camunda.zeebe.stream.impl.records.RecordBatch;
 import io.camunda.zeebe.stream.impl.records.RecordBatchEntry;
 import io.camunda.zeebe.stream.util.Records;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.Test;
 
 class RecordBatchTest {
@@ -215,4 +217,52 @@ class RecordBatchTest {
     // then
     assertThat(canAppend).isFalse();
   }
+
+  @Test
+  void shouldCopyValueOnAppend() {
+    // given
+    final var recordBatch = new RecordBatch((count, size) -> true);
+    final var processInstanceRecord = Records.processInstance(1);
+    recordBatch.appendRecord(1, RECORD_METADATA, -1, processInstanceRecord);
+
+    // when
+    processInstanceRecord.setProcessInstanceKey(2);
+
+    // then
+    assertThat(recordBatch)
+        .map(RecordBatchEntry::recordValue)
+        .map(ProcessInstanceRecord.class::cast)
+        .map(ProcessInstanceRecord::getProcessInstanceKey)
+        .containsOnly(1L);
+  }
+
+  @Test
+  void shouldWriteValuesOfEntriesSpanningSeveralChunks() {
+    // given
+    final var recordBatch = new RecordBatch((count, size) -> true);
+    final var processId = "a".repeat(5_000);
+    for (int i = 0; i < 100; i++) {
+      recordBatch.appendRecord(i, RECORD_METADATA, -1, Records.processInstance(i, processId));
+    }
+
+    // when
+    final var values = recordBatch.entries().stream().map(this::writeValue).toList();
+
+    // then
+    assertThat(values).hasSize(100);
+    for (int i = 0; i < 100; i++) {
+      assertThat(values.get(i).getProcessInstanceKey()).isEqualTo(i);
+      assertThat(values.get(i).getBpmnProcessId()).isEqualTo(processId);
+    }
+  }
+
+  private ProcessInstanceRecord writeValue(final LogAppendEntry entry) {
+    final var valueWriter = entry.recordValueWriter();
+    final var buffer = new UnsafeBuffer(new byte[valueWriter.getLength()]);
+    valueWriter.write(buffer, 0);
+
+    final var value = new ProcessInstanceRecord();
+    value.wrap(buffer, 0, buffer.capacity());
+    return value;
+  }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTIVATE_ELEMENT;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.util.RecordToWrite;
+import io.camunda.zeebe.stream.util.Records;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(StreamPlatformExtension.class)
+final class StreamProcessorBatchedReplayTest {
+
+  @SuppressWarnings("unused") // injected by the extension
+  private StreamPlatform streamPlatform;
+
+  @Test
+  void shouldReplayEventsInLogOrder() {
+    // given
+    final var replayedKeys = recordReplayedKeys();
+    writeCommandWithEvent(19);
+    writeCommandWithEvent(20);
+    writeCommandWithEvent(21);
+
+    // when
+    final var streamProcessor = startStreamProcessorWithBatchedReplay();
+
+    // then
+    Awaitility.await("all events are replayed")
+        .untilAsserted(
+            () ->
+                assertThat(replayedKeys)
+                    .containsExactly(
+                        Protocol.encodePartitionId(1, 19),
+                        Protocol.encodePartitionId(1, 20),
+                        Protocol.encodePartitionId(1, 21)));
+    assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(5L);
+    assertThat(streamProcessor.getLastWrittenPositionAsync().join()).isEqualTo(6L);
+    assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition()).isEqualTo(5L);
+    assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(21L);
+  }
+
+  @Test
+  void shouldReplayAllBatchesOfTransactionAgainOnRetry() {
+    // given -- replaying the second event fails once
+    final List<Long> replayedKeys = new CopyOnWriteArrayList<>();
+    final var failed = new AtomicBoolean();
+    doAnswer(
+            invocation -> {
+              final TypedRecord<?> record = invocation.getArgument(0);
+              if (record.getKey() == Protocol.encodePartitionId(1, 20) && !failed.getAndSet(true)) {
+                throw new RuntimeException("expected");
+              }
+              replayedKeys.add(record.getKey());
+              return null;
+            })
+        .when(streamPlatform.getDefaultMockedRecordProcessor())
+        .replay(any());
+    writeCommandWithEvent(19);
+    writeCommandWithEvent(20);
+    writeCommandWithEvent(21);
+
+    // when
+    final var streamProcessor = startStreamProcessorWithBatchedReplay();
+
+    // then -- the rolled back event of the first batch is replayed again
+    Awaitility.await("all events are replayed")
+        .untilAsserted(
+            () ->
+                assertThat(replayedKeys)
+                    .containsExactly(
+                        Protocol.encodePartitionId(1, 19),
+                        Protocol.encodePartitionId(1, 19),
+                        Protocol.encodePartitionId(1, 20),
+                        Protocol.encodePartitionId(1, 21)));
+    assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(5L);
+    assertThat(streamProcessor.getLastWrittenPositionAsync().join()).isEqualTo(6L);
+    assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(21L);
+  }
+
+  private List<Long> recordReplayedKeys() {
+    final List<Long> replayedKeys = new CopyOnWriteArrayList<>();
+    doAnswer(
+            invocation -> {
+              final TypedRecord<?> record = invocation.getArgument(0);
+              replayedKeys.add(record.getKey());
+              return null;
+            })
+        .when(streamPlatform.getDefaultMockedRecordProcessor())
+        .replay(any());
+    return replayedKeys;
+  }
+
+  private void writeCommandWithEvent(final long key) {
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .key(Protocol.encodePartitionId(1, key))
+            .causedBy(0));
+  }
+
+  private StreamProcessor startStreamProcessorWithBatchedReplay() {
+    return streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(), true, cfg -> cfg.maxBatchesInReplayTransaction(10));
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTIVATE_ELEMENT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.timeout;
+
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.stream.api.EmptyProcessingResult;
+import io.camunda.zeebe.stream.api.ProcessingResult;
+import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
+import io.camunda.zeebe.stream.api.RecordProcessor;
+import io.camunda.zeebe.stream.api.RecordProcessorContext;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.impl.state.DbKeyGenerator;
+import io.camunda.zeebe.stream.util.RecordToWrite;
+import io.camunda.zeebe.stream.util.Records;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+
+@ExtendWith(StreamPlatformExtension.class)
+final class StreamProcessorPipelinedProcessingTest {
+
+  private static final long TIMEOUT_MILLIS = 2_000L;
+
+  @SuppressWarnings("unused") // injected by the extension
+  private StreamPlatform streamPlatform;
+
+  @Test
+  void shouldCommitStateOfAllPipelinedCommands() {
+    // given
+    final var processor = new KeyGeneratingProcessor(count -> {});
+    startPipelinedStreamProcessor(processor);
+    final var firstKey = nextKey(processor);
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(2)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(3)));
+
+    // then
+    await("all commands are processed and committed")
+        .untilAsserted(
+            () ->
+                assertThat(
+                        streamPlatform.getStreamProcessor().getLastProcessedPositionAsync().join())
+                    .isEqualTo(3));
+    assertThat(nextKey(processor)).isEqualTo(firstKey + 4);
+  }
+
+  @Test
+  void shouldNotifyListenerInOrderAfterCommit() {
+    // given
+    final var processor = new KeyGeneratingProcessor(count -> {});
+    startPipelinedStreamProcessor(processor);
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(2)));
+
+    // then
+    final var listener = streamPlatform.getMockStreamProcessorListener();
+    final var inOrder = inOrder(listener);
+    inOrder
+        .verify(listener, timeout(TIMEOUT_MILLIS))
+        .onProcessed(ArgumentMatchers.argThat(record -> record.getPosition() == 1));
+    inOrder
+        .verify(listener, timeout(TIMEOUT_MILLIS))
+        .onProcessed(ArgumentMatchers.argThat(record -> record.getPosition() == 2));
+  }
+
+  @Test
+  void shouldOnlyRollBackFailingCommand() {
+    // given -- the second command fails after generating a key
+    final var processor =
+        new KeyGeneratingProcessor(
+            count -> {
+              if (count == 2) {
+                throw new RuntimeException("expected");
+              }
+            });
+    startPipelinedStreamProcessor(processor);
+    final var firstKey = nextKey(processor);
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(2)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(3)));
+
+    // then -- the keys of the first and third command are kept
+    await("all commands are processed and committed")
+        .untilAsserted(
+            () ->
+                assertThat(
+                        streamPlatform.getStreamProcessor().getLastProcessedPositionAsync().join())
+                    .isEqualTo(3));
+    assertThat(nextKey(processor)).isEqualTo(firstKey + 3);
+  }
+
+  private void startPipelinedStreamProcessor(final RecordProcessor processor) {
+    streamPlatform
+        .withRecordProcessors(List.of(processor))
+        .buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.maxPipelinedCommands(10));
+  }
+
+  private long nextKey(final KeyGeneratingProcessor processor) {
+    final var zeebeDb = processor.context.getZeebeDb();
+    return new DbKeyGenerator(1, zeebeDb, zeebeDb.createContext()).nextKey();
+  }
+
+  private static final class KeyGeneratingProcessor implements RecordProcessor {
+
+    private final AtomicInteger processedCount = new AtomicInteger();
+    private final IntConsumer afterKeyGenerated;
+    private RecordProcessorContext context;
+
+    private KeyGeneratingProcessor(final IntConsumer afterKeyGenerated) {
+      this.afterKeyGenerated = afterKeyGenerated;
+    }
+
+    @Override
+    public void init(final RecordProcessorContext recordProcessorContext) {
+      context = recordProcessorContext;
+    }
+
+    @Override
+    public boolean accepts(final ValueType valueType) {
+      return true;
+    }
+
+    @Override
+    public void replay(final TypedRecord record) {}
+
+    @Override
+    public ProcessingResult process(
+        final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
+      new DbKeyGenerator(1, context.getZeebeDb(), context.getTransactionContext()).nextKey();
+      afterKeyGenerated.accept(processedCount.incrementAndGet());
+      return EmptyProcessingResult.INSTANCE;
+    }
+
+    @Override
+    public ProcessingResult onProcessingError(
+        final Throwable processingException,
+        final TypedRecord record,
+        final ProcessingResultBuilder processingResultBuilder) {
+      return EmptyProcessingResult.INSTANCE;
+    }
+  }
+}
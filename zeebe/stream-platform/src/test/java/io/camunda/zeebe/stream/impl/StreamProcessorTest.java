@@ -28,6 +28,7 @@ import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.record.RecordType;
@@ -66,6 +67,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InOrder;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.verification.VerificationWithTimeout;
 
 @ExtendWith(StreamPlatformExtension.class)
@@ -1398,6 +1400,41 @@ public final class StreamProcessorTest {
     inOrder.verifyNoMoreInteractions();
   }
 
+  @Test
+  public void shouldNotifyTransactionListenerOnRollbackWhenRetryingExceededBatch() {
+    // given -- a follow-up command which exceeds the batch size when processed in the same batch
+    final var defaultRecordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final var transactionListener = mock(TransactionListener.class);
+    doAnswer(
+            invocation -> {
+              final RecordProcessorContext context = invocation.getArgument(0);
+              context.getTransactionContext().addTransactionListener(transactionListener);
+              return null;
+            })
+        .when(defaultRecordProcessor)
+        .init(any());
+
+    final var processingError =
+        new ExceededBatchRecordSizeException(mock(RecordBatchEntry.class), 10, 1, 1);
+    when(defaultRecordProcessor.process(any(), any()))
+        .thenAnswer(StreamProcessorTest::appendFollowUpCommand)
+        .thenThrow(processingError)
+        .thenAnswer(StreamProcessorTest::appendFollowUpCommand)
+        .thenReturn(EmptyProcessingResult.INSTANCE);
+    streamPlatform.startStreamProcessor();
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then -- the failed batch is rolled back without calling onProcessingError and retried
+    verify(defaultRecordProcessor, TIMEOUT.times(4)).process(any(), any());
+    verify(defaultRecordProcessor, never()).onProcessingError(any(), any(), any());
+    final var inOrder = inOrder(transactionListener);
+    inOrder.verify(transactionListener, TIMEOUT).onRollback();
+    inOrder.verify(transactionListener, TIMEOUT).onCommit();
+  }
+
   @Test
   void shouldRemoveCachedScheduledCommandOnProcess() {
     // given
@@ -1475,6 +1512,19 @@ public final class StreamProcessorTest {
     verify(streamPlatform.getDefaultMockedRecordProcessor(), never()).process(any(), any());
   }
 
+  private static ProcessingResult appendFollowUpCommand(final InvocationOnMock invocation) {
+    final ProcessingResultBuilder resultBuilder = invocation.getArgument(1);
+    resultBuilder.appendRecordReturnEither(
+        1,
+        Records.processInstance(1),
+        new RecordMetadata()
+            .recordType(RecordType.COMMAND)
+            .intent(ACTIVATE_ELEMENT)
+            .rejectionType(RejectionType.NULL_VAL)
+            .rejectionReason(""));
+    return resultBuilder.build();
+  }
+
   private static final class TestProcessor implements RecordProcessor {
 
     ProcessingResult processingResult = EmptyProcessingResult.INSTANCE;
@@ -0,0 +1,97 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.perf;
+
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATING;
+
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.stream.impl.records.RecordBatch;
+import io.camunda.zeebe.stream.util.Records;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput (records per second) of building a processing result: appending the
+ * records to a {@link RecordBatch} and writing their values as the log writer does. Run it with
+ * {@code -prof gc} to compare the allocation rate per record.
+ */
+@Warmup(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class RecordBatchPerformanceTest {
+
+  private static final int RECORDS_PER_INVOCATION = 10;
+
+  private final UnsafeBuffer writeBuffer = new UnsafeBuffer(new byte[64 * 1024]);
+  private RecordMetadata metadata;
+  private ProcessInstanceRecord value;
+
+  @Setup
+  public void setup() {
+    metadata =
+        new RecordMetadata()
+            .recordType(RecordType.EVENT)
+            .valueType(ValueType.PROCESS_INSTANCE)
+            .intent(ELEMENT_ACTIVATING)
+            .rejectionType(RejectionType.NULL_VAL)
+            .rejectionReason("");
+    value = Records.processInstance(1);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS_PER_INVOCATION)
+  public int measureAppendAndWrite() {
+    final var recordBatch = new RecordBatch((count, size) -> true);
+    for (int i = 0; i < RECORDS_PER_INVOCATION; i++) {
+      recordBatch.appendRecord(i, metadata, -1, value);
+    }
+
+    var offset = 0;
+    for (final var entry : recordBatch) {
+      final var valueWriter = entry.recordValueWriter();
+      valueWriter.write(writeBuffer, offset);
+      offset += valueWriter.getLength();
+    }
+
+    return offset;
+  }
+
+  @JMHTest("measureAppendAndWrite")
+  void shouldAppendWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 1_000_000;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.perf;
+
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTIVATE_ELEMENT;
+
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
+import io.camunda.zeebe.stream.api.ProcessingResult;
+import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
+import io.camunda.zeebe.stream.api.RecordProcessor;
+import io.camunda.zeebe.stream.api.RecordProcessorContext;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.impl.StreamPlatform;
+import io.camunda.zeebe.stream.impl.state.DbKeyGenerator;
+import io.camunda.zeebe.stream.util.DefaultZeebeDbFactory;
+import io.camunda.zeebe.stream.util.RecordToWrite;
+import io.camunda.zeebe.stream.util.Records;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.agrona.CloseHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the processing throughput (commands per second) of the stream processor with and without
+ * pipelined processing. Each invocation writes a batch of commands to the log and waits until all
+ * of them are processed and committed.
+ */
+@Warmup(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class StreamProcessorPipeliningPerformanceTest {
+
+  private static final int COMMANDS_PER_INVOCATION = 100;
+
+  @Param({"1", "100"})
+  private int maxPipelinedCommands;
+
+  private final List<AutoCloseable> closeables = new ArrayList<>();
+  private final AtomicLong processedCommands = new AtomicLong();
+  private StreamPlatform streamPlatform;
+  private RecordToWrite[] commands;
+  private long expectedProcessedCommands;
+
+  @Setup
+  public void setup() throws Exception {
+    final var actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setActorClock(new DefaultActorClock())
+            .build();
+    actorScheduler.start();
+    closeables.add(actorScheduler);
+
+    final var tempFolder = Files.createTempDirectory(null);
+    closeables.add(() -> FileUtil.deleteFolderIfExists(tempFolder));
+
+    streamPlatform =
+        new StreamPlatform(
+            tempFolder,
+            closeables,
+            actorScheduler,
+            DefaultZeebeDbFactory.defaultFactory(),
+            new DefaultActorClock());
+    streamPlatform
+        .withRecordProcessors(new ArrayList<>(List.of(new KeyGeneratingProcessor())))
+        .buildStreamProcessor(
+            streamPlatform.getLogStream(),
+            true,
+            cfg ->
+                cfg.maxPipelinedCommands(maxPipelinedCommands)
+                    .listener(processed -> processedCommands.incrementAndGet()));
+
+    commands = new RecordToWrite[COMMANDS_PER_INVOCATION];
+    for (int i = 0; i < COMMANDS_PER_INVOCATION; i++) {
+      commands[i] =
+          RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(i));
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    Collections.reverse(closeables);
+    CloseHelper.quietCloseAll(closeables);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(COMMANDS_PER_INVOCATION)
+  public long measureProcessingThroughput() {
+    expectedProcessedCommands += COMMANDS_PER_INVOCATION;
+    streamPlatform.writeBatch(commands);
+
+    while (processedCommands.get() < expectedProcessedCommands) {
+      Thread.onSpinWait();
+    }
+
+    return processedCommands.get();
+  }
+
+  @JMHTest("measureProcessingThroughput")
+  void shouldProcessWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 10_000;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("maxPipelinedCommands", "100")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  /** Generates a key and writes a single follow-up event for every command. */
+  private static final class KeyGeneratingProcessor implements RecordProcessor {
+
+    private DbKeyGenerator keyGenerator;
+
+    @Override
+    public void init(final RecordProcessorContext recordProcessorContext) {
+      keyGenerator =
+          new DbKeyGenerator(
+              recordProcessorContext.getPartitionId(),
+              recordProcessorContext.getZeebeDb(),
+              recordProcessorContext.getTransactionContext());
+    }
+
+    @Override
+    public boolean accepts(final ValueType valueType) {
+      return true;
+    }
+
+    @Override
+    public void replay(final TypedRecord record) {}
+
+    @Override
+    public ProcessingResult process(
+        final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
+      processingResultBuilder.appendRecordReturnEither(
+          keyGenerator.nextKey(),
+          record.getValue(),
+          new RecordMetadata()
+              .recordType(RecordType.EVENT)
+              .intent(ACTIVATE_ELEMENT)
+              .rejectionType(RejectionType.NULL_VAL)
+              .rejectionReason(""));
+      return processingResultBuilder.build();
+    }
+
+    @Override
+    public ProcessingResult onProcessingError(
+        final Throwable processingException,
+        final TypedRecord record,
+        final ProcessingResultBuilder processingResultBuilder) {
+      return processingResultBuilder.build();
+    }
+  }
+}
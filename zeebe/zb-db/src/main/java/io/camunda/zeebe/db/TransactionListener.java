@@ -0,0 +1,35 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db;
+
+/**
+ * Listens to the outcome of the transactions of a {@link TransactionContext}. This allows to keep
+ * in-memory state, like caches or indexes, consistent with the database: changes made as part of a
+ * transaction can be kept pending until it is committed, and discarded if it is rolled back.
+ *
+ * <p>Listeners are called on the thread which commits or rolls back the transaction, after the
+ * operation on the database succeeded.
+ */
+public interface TransactionListener {
+
+  /** Called after a savepoint was set, see {@link ZeebeDbTransaction#setSavepoint()}. */
+  default void onSavepoint() {}
+
+  /**
+   * Called after the transaction was rolled back to the latest savepoint, see {@link
+   * ZeebeDbTransaction#rollbackToSavepoint()}. The changes made before the savepoint are still
+   * pending.
+   */
+  default void onRollbackToSavepoint() {}
+
+  /** Called after the transaction was committed. */
+  default void onCommit() {}
+
+  /** Called after the transaction was rolled back, discarding all of its changes. */
+  default void onRollback() {}
+}
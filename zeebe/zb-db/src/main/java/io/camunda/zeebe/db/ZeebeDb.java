@@ -10,6 +10,7 @@ package io.camunda.zeebe.db;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * The zeebe database, to store key value pairs in different column families. The column families
@@ -53,6 +54,26 @@ public interface ZeebeDb<ColumnFamilyType extends Enum<? extends EnumValue> & En
 
   Optional<String> getProperty(String propertyName);
 
+  /**
+   * Returns the value of the given property of one of the dedicated column families of the
+   * database, see {@link #getDedicatedColumnFamilyNames()}. For any other name, the value of the
+   * default column family is returned, same as for {@link #getProperty(String)}.
+   *
+   * @param dedicatedColumnFamilyName the name of the dedicated column family
+   * @param propertyName the name of the property
+   * @return the value of the property, or empty if it is not available
+   */
+  Optional<String> getProperty(String dedicatedColumnFamilyName, String propertyName);
+
+  /**
+   * Returns the names of the physical column families which are dedicated to a logical column
+   * family. By default, all logical column families share the default physical column family, but
+   * some of them may be configured to be stored in a dedicated one.
+   *
+   * @return the names of the dedicated column families, empty if there are none
+   */
+  Set<String> getDedicatedColumnFamilyNames();
+
   TransactionContext createContext();
 
   /**
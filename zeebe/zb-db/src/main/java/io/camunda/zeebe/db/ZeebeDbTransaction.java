@@ -38,4 +38,24 @@ public interface ZeebeDbTransaction {
    * @throws Exception if the underlying database has a non recoverable exception thrown
    */
   void rollback() throws Exception;
+
+  /**
+   * Marks the current state of the transaction. A later call to {@link #rollbackToSavepoint()}
+   * discards all changes made after this point, but keeps the uncommitted changes made before it.
+   * Savepoints are stacked, and are all released when the transaction is committed or rolled back.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void setSavepoint() throws Exception;
+
+  /**
+   * Rolls the transaction back to the latest savepoint, discarding all changes made after it. The
+   * savepoint itself is released.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown, e.g. if no
+   *     savepoint was set
+   */
+  void rollbackToSavepoint() throws Exception;
 }
@@ -11,9 +11,14 @@ import io.camunda.zeebe.snapshots.CRC32CChecksumProvider;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.LiveFileMetaData;
+import org.rocksdb.Options;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 
@@ -21,10 +26,23 @@ public class ChecksumProviderRocksDBImpl implements CRC32CChecksumProvider {
 
   @Override
   public Map<String, Long> getSnapshotChecksums(final Path snapshotPath) {
-    try (final var db = RocksDB.openReadOnly(snapshotPath.toString())) {
-      return db.getLiveFilesMetaData().stream()
-          .filter(fileMetaData -> fileMetaData.fileChecksum().length != 0)
-          .collect(Collectors.toMap(this::getMetadataName, this::rocksDBChecksumAsLong));
+    // all column families must be opened, otherwise their files are not reported as live
+    final List<ColumnFamilyHandle> handles = new ArrayList<>();
+    try (final var options = new Options();
+        final var db =
+            RocksDB.openReadOnly(
+                snapshotPath.toString(),
+                RocksDB.listColumnFamilies(options, snapshotPath.toString()).stream()
+                    .map(ColumnFamilyDescriptor::new)
+                    .toList(),
+                handles)) {
+      try {
+        return db.getLiveFilesMetaData().stream()
+            .filter(fileMetaData -> fileMetaData.fileChecksum().length != 0)
+            .collect(Collectors.toMap(this::getMetadataName, this::rocksDBChecksumAsLong));
+      } finally {
+        handles.forEach(ColumnFamilyHandle::close);
+      }
     } catch (final RocksDBException e) {
       throw new RuntimeException(e);
     }
@@ -7,7 +7,11 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 
 public final class RocksDbConfiguration {
 
@@ -43,7 +47,44 @@ public final class RocksDbConfiguration {
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  public static final long DEFAULT_VALUE_CACHE_SIZE = 0;
+
+  public static final TransactionMode DEFAULT_TRANSACTION_MODE = TransactionMode.OPTIMISTIC;
+
   private Properties columnFamilyOptions = new Properties();
+
+  /**
+   * Logical column families (by enum name, e.g. {@code VARIABLES}) which are stored in their own,
+   * dedicated RocksDB column family instead of sharing the default one, mapped to the column family
+   * options to use for them. If the options of an entry are empty, the same options as for the
+   * default column family are used, with the memtable budget shared between all column families.
+   * Names which are not a constant of the column family enum of the database are ignored, so they
+   * have to be validated by the caller.
+   *
+   * <p>Separating write-heavy, short-lived data from long-lived data allows tuning compaction per
+   * data set and reduces the write amplification of the long-lived data. Existing data is moved
+   * into, and out of, the dedicated column families when the database is opened, so the layout can
+   * be changed for existing snapshots.
+   *
+   * <p>Since the WAL may be disabled, atomic flushes are enabled when there is more than one column
+   * family, which keeps checkpoints consistent across column families.
+   */
+  private Map<String, Properties> dedicatedColumnFamilies = new HashMap<>();
+
+  /**
+   * Logical column families (by enum name, e.g. {@code ELEMENT_INSTANCE_KEY}) of which the
+   * committed values are kept in an in-memory cache, in front of RocksDB. Reading a cached value
+   * skips the call into RocksDB, which pays off for values which are read repeatedly within a short
+   * time. Has no effect unless {@link #valueCacheSize} is positive.
+   */
+  private Set<String> cachedColumnFamilies = new HashSet<>();
+
+  /**
+   * The maximum size in bytes of the value cache of a database, shared by all cached column
+   * families. Setting to 0 (the default) or less disables the cache.
+   */
+  private long valueCacheSize = DEFAULT_VALUE_CACHE_SIZE;
+
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
   private int maxWriteBufferNumber = DEFAULT_MAX_WRITE_BUFFER_NUMBER;
@@ -52,6 +93,12 @@ public final class RocksDbConfiguration {
 
   private boolean sstPartitioningEnabled = DEFAULT_SST_PARTITIONING_ENABLED;
 
+  /**
+   * Defines how the writes of a transaction are buffered until they are committed. See {@link
+   * TransactionMode}.
+   */
+  private TransactionMode transactionMode = DEFAULT_TRANSACTION_MODE;
+
   /**
    * Defines how many files are kept open by RocksDB, per default it is unlimited (-1). This is done
    * for performance reasons, if we set a value higher then zero it needs to keep track of open
@@ -83,6 +130,34 @@ public final class RocksDbConfiguration {
     return this;
   }
 
+  public Map<String, Properties> getDedicatedColumnFamilies() {
+    return dedicatedColumnFamilies;
+  }
+
+  public RocksDbConfiguration setDedicatedColumnFamilies(
+      final Map<String, Properties> dedicatedColumnFamilies) {
+    this.dedicatedColumnFamilies = dedicatedColumnFamilies;
+    return this;
+  }
+
+  public Set<String> getCachedColumnFamilies() {
+    return cachedColumnFamilies;
+  }
+
+  public RocksDbConfiguration setCachedColumnFamilies(final Set<String> cachedColumnFamilies) {
+    this.cachedColumnFamilies = cachedColumnFamilies;
+    return this;
+  }
+
+  public long getValueCacheSize() {
+    return valueCacheSize;
+  }
+
+  public RocksDbConfiguration setValueCacheSize(final long valueCacheSize) {
+    this.valueCacheSize = valueCacheSize;
+    return this;
+  }
+
   public boolean isStatisticsEnabled() {
     return statisticsEnabled;
   }
@@ -155,4 +230,29 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public TransactionMode getTransactionMode() {
+    return transactionMode;
+  }
+
+  public RocksDbConfiguration setTransactionMode(final TransactionMode transactionMode) {
+    this.transactionMode = transactionMode;
+    return this;
+  }
+
+  public enum TransactionMode {
+    /**
+     * Uses a RocksDB optimistic transaction, which tracks the written keys to detect conflicts with
+     * concurrent writers on commit.
+     */
+    OPTIMISTIC,
+
+    /**
+     * Buffers the writes in an indexed write batch, which is written to the database at once on
+     * commit. Reads see the uncommitted writes, and rollbacks and savepoints are supported as with
+     * {@link #OPTIMISTIC}, but no keys are tracked and no conflicts are detected. This is only safe
+     * if there is a single writer, which is the case for the state of a partition.
+     */
+    WRITE_BATCH
+  }
 }
@@ -15,11 +15,17 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.agrona.CloseHelper;
 import org.rocksdb.Checkpoint;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.DBOptions;
 import org.rocksdb.Options;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -62,6 +68,17 @@ final class SnapshotOnlyDb<ColumnFamilyType extends Enum<? extends EnumValue> &
     throw unsupported("getProperty");
   }
 
+  @Override
+  public Optional<String> getProperty(
+      final String dedicatedColumnFamilyName, final String propertyName) {
+    throw unsupported("getProperty");
+  }
+
+  @Override
+  public Set<String> getDedicatedColumnFamilyNames() {
+    throw unsupported("getDedicatedColumnFamilyNames");
+  }
+
   @Override
   public TransactionContext createContext() {
     throw unsupported("createContext");
@@ -85,8 +102,26 @@ final class SnapshotOnlyDb<ColumnFamilyType extends Enum<? extends EnumValue> &
       ZeebeDb<ColumnFamilyType> openDb(
           final Options options, final String path, final List<AutoCloseable> managedResources)
           throws RocksDBException {
-    final RocksDB db = RocksDB.openReadOnly(options, path);
+    final var columnFamilyNames = RocksDB.listColumnFamilies(options, path);
+    if (columnFamilyNames.size() <= 1) {
+      final RocksDB db = RocksDB.openReadOnly(options, path);
+      managedResources.add(db);
+      return new SnapshotOnlyDb<>(db, managedResources);
+    }
+
+    // all column families must be opened, otherwise they would be missing from the snapshot
+    final var dbOptions = new DBOptions(options);
+    managedResources.add(dbOptions);
+    final var cfOptions = new ColumnFamilyOptions(options);
+    managedResources.add(cfOptions);
+    final var cfDescriptors =
+        columnFamilyNames.stream()
+            .map(name -> new ColumnFamilyDescriptor(name, cfOptions))
+            .toList();
+    final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
+    final RocksDB db = RocksDB.openReadOnly(dbOptions, path, cfDescriptors, cfHandles);
     managedResources.add(db);
+    managedResources.addAll(cfHandles);
 
     return new SnapshotOnlyDb<>(db, managedResources);
   }
@@ -23,6 +23,8 @@ public final class ZeebeRocksDBMetricExporter<
       LoggerFactory.getLogger(ZeebeRocksDBMetricExporter.class.getName());
 
   private static final String PARTITION = "partition";
+  private static final String COLUMN_FAMILY = "column_family";
+  private static final String COLUMN_FAMILY_INFIX = "_column_family";
   private static final String ZEEBE_NAMESPACE = "zeebe";
 
   private static final String MEMORY_METRICS_HELP =
@@ -103,6 +105,12 @@ public final class ZeebeRocksDBMetricExporter<
             .getProperty(metric.getPropertyName())
             .map(Double::parseDouble)
             .ifPresent(value -> metric.exportValue(partition, value));
+        for (final String columnFamilyName : database.getDedicatedColumnFamilyNames()) {
+          database
+              .getProperty(columnFamilyName, metric.getPropertyName())
+              .map(Double::parseDouble)
+              .ifPresent(value -> metric.exportValue(partition, columnFamilyName, value));
+        }
       } catch (final Exception exception) {
         LOG.debug("Error occurred on exporting metric {}", metric.getPropertyName(), exception);
       }
@@ -113,6 +121,7 @@ public final class ZeebeRocksDBMetricExporter<
 
     private final String propertyName;
     private final Gauge gauge;
+    private final Gauge columnFamilyGauge;
 
     private RocksDBMetric(final String propertyName, final String namePrefix, final String help) {
       this.propertyName = Objects.requireNonNull(propertyName);
@@ -124,6 +133,14 @@ public final class ZeebeRocksDBMetricExporter<
               .help(help)
               .labelNames(PARTITION)
               .register();
+      // dedicated column families are reported separately, to keep the series above unchanged
+      columnFamilyGauge =
+          Gauge.build()
+              .namespace(ZEEBE_NAMESPACE)
+              .name(namePrefix + COLUMN_FAMILY_INFIX + gaugeSuffix())
+              .help(help + ", only for dedicated column families")
+              .labelNames(PARTITION, COLUMN_FAMILY)
+              .register();
     }
 
     private String gaugeSuffix() {
@@ -136,6 +153,11 @@ public final class ZeebeRocksDBMetricExporter<
       gauge.labels(partitionID).set(value);
     }
 
+    public void exportValue(
+        final String partitionID, final String columnFamilyName, final Double value) {
+      columnFamilyGauge.labels(partitionID, columnFamilyName).set(value);
+    }
+
     public String getPropertyName() {
       return propertyName;
     }
@@ -18,10 +18,13 @@ import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import org.agrona.CloseHelper;
+import org.agrona.collections.MutableReference;
 import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.BloomFilter;
 import org.rocksdb.ColumnFamilyOptions;
@@ -102,12 +105,19 @@ public final class ZeebeRocksDbFactory<
   }
 
   private RocksDbOptions prepareOptions(final List<AutoCloseable> managedResources) {
-    // column family options have to be closed as last
-    final var columnFamilyOptions = createColumnFamilyOptions(managedResources);
+    // column family options have to be closed as last; the block cache is shared by all column
+    // families of the same database
+    final var sharedTableConfig = new MutableReference<TableFormatConfig>();
+    final var columnFamilyOptions =
+        createColumnFamilyOptions(
+            rocksDbConfiguration.getColumnFamilyOptions(), managedResources, sharedTableConfig);
     managedResources.add(columnFamilyOptions);
+    final var dedicatedColumnFamilyOptions =
+        createDedicatedColumnFamilyOptions(managedResources, sharedTableConfig);
+    managedResources.addAll(dedicatedColumnFamilyOptions.values());
     final var dbOptions = createDefaultDbOptions(managedResources);
     managedResources.add(dbOptions);
-    return new RocksDbOptions(dbOptions, columnFamilyOptions);
+    return new RocksDbOptions(dbOptions, columnFamilyOptions, dedicatedColumnFamilyOptions);
   }
 
   private DBOptions createDefaultDbOptions(final List<AutoCloseable> closeables) {
@@ -123,8 +133,10 @@ public final class ZeebeRocksDbFactory<
             .setMaxOpenFiles(rocksDbConfiguration.getMaxOpenFiles())
             // 1 flush, 1 compaction
             .setMaxBackgroundJobs(2)
-            // we only use the default CF
-            .setCreateMissingColumnFamilies(false)
+            // dedicated column families are created on demand
+            .setCreateMissingColumnFamilies(hasDedicatedColumnFamilies())
+            // without WAL, this is what keeps checkpoints consistent across column families
+            .setAtomicFlush(hasDedicatedColumnFamilies())
             // may not be necessary when WAL is disabled, but nevertheless recommended to avoid
             // many small SST files
             .setAvoidFlushDuringRecovery(true)
@@ -158,18 +170,55 @@ public final class ZeebeRocksDbFactory<
     return dbOptions;
   }
 
+  private boolean hasDedicatedColumnFamilies() {
+    return !rocksDbConfiguration.getDedicatedColumnFamilies().isEmpty();
+  }
+
   /**
-   * @return Options which are used on all column families
+   * @return Options which are used on the default column family, and on all dedicated column
+   *     families which have no options of their own
    */
   ColumnFamilyOptions createColumnFamilyOptions(final List<AutoCloseable> closeables) {
-    final var userProvidedColumnFamilyOptions = rocksDbConfiguration.getColumnFamilyOptions();
+    return createColumnFamilyOptions(
+        rocksDbConfiguration.getColumnFamilyOptions(), closeables, new MutableReference<>());
+  }
+
+  /**
+   * @return Options for each dedicated column family, by name of the logical column family
+   */
+  Map<String, ColumnFamilyOptions> createDedicatedColumnFamilyOptions(
+      final List<AutoCloseable> closeables,
+      final MutableReference<TableFormatConfig> sharedTableConfig) {
+    final var options = new HashMap<String, ColumnFamilyOptions>();
+    rocksDbConfiguration
+        .getDedicatedColumnFamilies()
+        .forEach(
+            (name, userProvidedOptions) -> {
+              final var hasOwnOptions =
+                  userProvidedOptions != null && !userProvidedOptions.isEmpty();
+              options.put(
+                  name,
+                  createColumnFamilyOptions(
+                      hasOwnOptions
+                          ? userProvidedOptions
+                          : rocksDbConfiguration.getColumnFamilyOptions(),
+                      closeables,
+                      sharedTableConfig));
+            });
+    return options;
+  }
+
+  private ColumnFamilyOptions createColumnFamilyOptions(
+      final Properties userProvidedColumnFamilyOptions,
+      final List<AutoCloseable> closeables,
+      final MutableReference<TableFormatConfig> sharedTableConfig) {
     final var hasUserOptions = !userProvidedColumnFamilyOptions.isEmpty();
 
     if (hasUserOptions) {
       return createFromUserOptions(userProvidedColumnFamilyOptions);
     }
 
-    return createDefaultColumnFamilyOptions(closeables);
+    return createDefaultColumnFamilyOptions(closeables, sharedTableConfig);
   }
 
   private ColumnFamilyOptions createFromUserOptions(
@@ -189,7 +238,8 @@ public final class ZeebeRocksDbFactory<
   }
 
   private ColumnFamilyOptions createDefaultColumnFamilyOptions(
-      final List<AutoCloseable> closeables) {
+      final List<AutoCloseable> closeables,
+      final MutableReference<TableFormatConfig> sharedTableConfig) {
     final var columnFamilyOptions = new ColumnFamilyOptions();
 
     final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
@@ -208,12 +258,18 @@ public final class ZeebeRocksDbFactory<
     // create
     // a filter for each memtable, allowing us to skip the prefixes if possible
     final var memtablePrefixFilterMemory = 0.15;
+    // every column family has its own memtables, so the budget is shared between all of them
+    final var columnFamilyCount = 1 + rocksDbConfiguration.getDedicatedColumnFamilies().size();
     final var memtableMemory =
         Math.round(
-            ((totalMemoryBudget - blockCacheMemory) / (double) maxConcurrentMemtableCount)
+            ((totalMemoryBudget - blockCacheMemory)
+                    / (double) (maxConcurrentMemtableCount * columnFamilyCount))
                 * (1 - memtablePrefixFilterMemory));
 
-    final var tableConfig = createTableFormatConfig(closeables, blockCacheMemory);
+    if (sharedTableConfig.get() == null) {
+      sharedTableConfig.set(createTableFormatConfig(closeables, blockCacheMemory));
+    }
+    final var tableConfig = sharedTableConfig.get();
 
     if (rocksDbConfiguration.isSstPartitioningEnabled()) {
       columnFamilyOptions.setSstPartitionerFactory(
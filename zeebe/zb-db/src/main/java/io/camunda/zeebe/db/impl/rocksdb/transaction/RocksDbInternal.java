@@ -19,6 +19,8 @@ import static org.rocksdb.Status.Code.TryAgain;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.EnumSet;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -26,6 +28,7 @@ import org.rocksdb.RocksObject;
 import org.rocksdb.Status;
 import org.rocksdb.Status.Code;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatchWithIndex;
 
 public final class RocksDbInternal {
 
@@ -116,6 +119,25 @@ public final class RocksDbInternal {
     }
   }
 
+  /**
+   * Resolves a method of {@link WriteBatchWithIndex} which takes the native handle of the batch.
+   * Depending on the RocksDB version, these are either instance or static methods; static methods
+   * are adapted to take the batch as first argument as well, so both can be invoked the same way.
+   */
+  static MethodHandle unreflectBatchMethod(final String name, final Class<?>... parameterTypes)
+      throws NoSuchMethodException {
+    final Method method = WriteBatchWithIndex.class.getDeclaredMethod(name, parameterTypes);
+    method.setAccessible(true);
+    try {
+      final var handle = MethodHandles.lookup().unreflect(method);
+      return Modifier.isStatic(method.getModifiers())
+          ? MethodHandles.dropArguments(handle, 0, WriteBatchWithIndex.class)
+          : handle;
+    } catch (final IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   static boolean isRocksDbExceptionRecoverable(final RocksDBException rdbex) {
     final Status status = rdbex.getStatus();
     return RECOVERABLE_ERROR_CODES.contains(status.getCode());
@@ -25,6 +25,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
@@ -56,6 +57,9 @@ class TransactionalColumnFamily<
   private final ColumnFamilyContext columnFamilyContext;
   private final ForeignKeyChecker foreignKeyChecker;
   private final ColumnFamilyMetrics metrics;
+  private final ColumnFamilyHandle handle;
+  private final long nativeHandle;
+  private final boolean cached;
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
@@ -73,6 +77,9 @@ class TransactionalColumnFamily<
     this.valueInstance = valueInstance;
     this.metrics = metrics;
     columnFamilyContext = new ColumnFamilyContext(columnFamily.getValue());
+    handle = transactionDb.getColumnFamilyHandle(columnFamily);
+    nativeHandle = transactionDb.getColumnFamilyNativeHandle(columnFamily);
+    cached = transactionDb.isCached(columnFamily);
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
   }
 
@@ -86,12 +93,7 @@ class TransactionalColumnFamily<
 
             assertKeyDoesNotExist(transaction);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            put(transaction, value.getLength());
           });
     }
   }
@@ -105,12 +107,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeValue(value);
             assertKeyExists(transaction);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            put(transaction, value.getLength());
           });
     }
   }
@@ -123,12 +120,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             columnFamilyContext.writeValue(value);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            put(transaction, value.getLength());
           });
     }
   }
@@ -139,12 +131,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
+            final byte[] value = getValue(transaction);
             columnFamilyContext.wrapValueView(value);
           });
       final var valueBuffer = columnFamilyContext.getValueView();
@@ -225,10 +212,7 @@ class TransactionalColumnFamily<
           transaction -> {
             columnFamilyContext.writeKey(key);
             assertKeyExists(transaction);
-            transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength());
+            delete(transaction);
           });
     }
   }
@@ -239,10 +223,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength());
+            delete(transaction);
           });
     }
   }
@@ -253,12 +234,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
+            final byte[] value = getValue(transaction);
             columnFamilyContext.wrapValueView(value);
           });
       return !columnFamilyContext.isValueViewEmpty();
@@ -308,7 +284,7 @@ class TransactionalColumnFamily<
     }
     final var value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            nativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
             columnFamilyContext.getKeyLength());
@@ -324,7 +300,7 @@ class TransactionalColumnFamily<
     }
     final var value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            nativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
             columnFamilyContext.getKeyLength());
@@ -334,6 +310,46 @@ class TransactionalColumnFamily<
     }
   }
 
+  private byte[] getValue(final ZeebeTransaction transaction) throws Exception {
+    if (cached) {
+      return transaction.getCached(
+          nativeHandle,
+          transactionDb.getReadOptionsNativeHandle(),
+          columnFamilyContext.getKeyBufferArray(),
+          columnFamilyContext.getKeyLength());
+    }
+    return transaction.get(
+        nativeHandle,
+        transactionDb.getReadOptionsNativeHandle(),
+        columnFamilyContext.getKeyBufferArray(),
+        columnFamilyContext.getKeyLength());
+  }
+
+  private void put(final ZeebeTransaction transaction, final int valueLength) throws Exception {
+    transaction.put(
+        nativeHandle,
+        columnFamilyContext.getKeyBufferArray(),
+        columnFamilyContext.getKeyLength(),
+        columnFamilyContext.getValueBufferArray(),
+        valueLength);
+    if (cached) {
+      transaction.recordCachedWrite(
+          columnFamilyContext.getKeyBufferArray(),
+          columnFamilyContext.getKeyLength(),
+          columnFamilyContext.getValueBufferArray(),
+          valueLength);
+    }
+  }
+
+  private void delete(final ZeebeTransaction transaction) throws Exception {
+    transaction.delete(
+        nativeHandle, columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength());
+    if (cached) {
+      transaction.recordCachedWrite(
+          columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength(), null, 0);
+    }
+  }
+
   /**
    * Make sure to use this method in all public methods of this class to ensure that all operations
    * on the column family occur inside a transaction. Within private methods we can assume that a
@@ -346,7 +362,7 @@ class TransactionalColumnFamily<
 
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
-    return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
+    return currentTransaction.newIterator(options, handle);
   }
 
   /**
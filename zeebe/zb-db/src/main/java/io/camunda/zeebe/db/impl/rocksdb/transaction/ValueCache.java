@@ -0,0 +1,123 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A least recently used cache of committed values, shared by all transactions of a database. It
+ * holds the serialized values of the logical column families which are configured to be cached, by
+ * their full key (including the column family prefix), and is bounded by the approximate size of
+ * the entries in bytes.
+ *
+ * <p>The cache only ever contains committed values: transactions buffer their own writes (see
+ * {@link ZeebeTransaction}) and write them through once they are committed. To prevent a reader
+ * from caching a value which was overwritten by a concurrent commit, values read from the database
+ * are only added if no commit was applied since the read started, see {@link #version()}.
+ *
+ * <p>The cached arrays are never modified, so they can be wrapped by values directly.
+ */
+final class ValueCache {
+
+  // rough estimate of the memory used by the map entry, the key buffer and the array headers
+  private static final int ENTRY_OVERHEAD = 96;
+
+  private final long capacityInBytes;
+  private final LinkedHashMap<DirectBuffer, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long sizeInBytes;
+  private long version;
+
+  ValueCache(final long capacityInBytes) {
+    this.capacityInBytes = capacityInBytes;
+  }
+
+  /**
+   * @return the cached value of the given key, or {@code null} if it is not cached
+   */
+  synchronized byte[] get(final DirectBuffer key) {
+    return entries.get(key);
+  }
+
+  /**
+   * @return the version of the cache, which changes whenever a commit is applied
+   */
+  synchronized long version() {
+    return version;
+  }
+
+  /**
+   * Adds a value which was read from the database, unless a commit was applied since the given
+   * version was observed, in which case the value may already be stale.
+   */
+  synchronized void putIfUnchanged(
+      final DirectBuffer key, final byte[] value, final long observedVersion) {
+    if (version == observedVersion) {
+      put(copyOf(key), value);
+    }
+  }
+
+  /**
+   * Applies the writes of a committed transaction. Values which are {@code null} are removed from
+   * the cache.
+   */
+  synchronized void applyCommitted(final Map<DirectBuffer, byte[]> writes) {
+    version++;
+    writes.forEach(
+        (key, value) -> {
+          if (value == null) {
+            remove(key);
+          } else {
+            put(key, value);
+          }
+        });
+  }
+
+  synchronized long sizeInBytes() {
+    return sizeInBytes;
+  }
+
+  private void put(final DirectBuffer key, final byte[] value) {
+    final var previous = entries.put(key, value);
+    if (previous != null) {
+      sizeInBytes -= entrySize(key, previous);
+    }
+    sizeInBytes += entrySize(key, value);
+
+    final var iterator = entries.entrySet().iterator();
+    while (sizeInBytes > capacityInBytes && iterator.hasNext()) {
+      final var eldest = iterator.next();
+      sizeInBytes -= entrySize(eldest.getKey(), eldest.getValue());
+      iterator.remove();
+    }
+  }
+
+  private void remove(final DirectBuffer key) {
+    final var previous = entries.remove(key);
+    if (previous != null) {
+      sizeInBytes -= entrySize(key, previous);
+    }
+  }
+
+  private static long entrySize(final DirectBuffer key, final byte[] value) {
+    return ENTRY_OVERHEAD + key.capacity() + value.length;
+  }
+
+  static DirectBuffer copyOf(final DirectBuffer key) {
+    final var copy = new byte[key.capacity()];
+    key.getBytes(0, copy);
+    return new UnsafeBuffer(copy);
+  }
+
+  static byte[] copyOf(final byte[] value, final int length) {
+    return Arrays.copyOf(value, length);
+  }
+}
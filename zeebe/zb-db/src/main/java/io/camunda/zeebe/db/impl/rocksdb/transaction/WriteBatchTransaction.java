@@ -0,0 +1,186 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.lang.invoke.MethodHandle;
+import org.agrona.LangUtil;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.WriteBatchWithIndex;
+import org.rocksdb.WriteOptions;
+
+/**
+ * A transaction which buffers its writes in a {@link WriteBatchWithIndex} instead of a RocksDB
+ * transaction, and writes them to the database at once on commit. Reads are served from the batch
+ * first and then from the database, so uncommitted writes are visible to the transaction itself.
+ *
+ * <p>Unlike an optimistic transaction, the written keys are not tracked and not validated on
+ * commit, which saves the conflict checking. Concurrent writes to the same keys are not detected,
+ * so this must only be used with a single writer.
+ */
+final class WriteBatchTransaction extends ZeebeTransaction {
+
+  /*
+   final native void put(final long handle, final byte[] key, final int keyLen,
+       final byte[] value, final int valueLen, final long cfHandle);
+  */
+  private static final MethodHandle PUT_WITH_HANDLE;
+
+  /*
+   private native byte[] getFromBatchAndDB(final long handle, final long dbHandle,
+       final long readOptHandle, final byte[] key, final int keyLen, final long cfHandle);
+  */
+  private static final MethodHandle GET_WITH_HANDLE;
+
+  /*
+   final native void delete(final long handle, final byte[] key, final int keyLen,
+       final long cfHandle) throws RocksDBException;
+  */
+  private static final MethodHandle REMOVE_WITH_HANDLE;
+
+  static {
+    RocksDB.loadLibrary();
+
+    try {
+      PUT_WITH_HANDLE =
+          RocksDbInternal.unreflectBatchMethod(
+              "put",
+              Long.TYPE,
+              byte[].class,
+              Integer.TYPE,
+              byte[].class,
+              Integer.TYPE,
+              Long.TYPE);
+      GET_WITH_HANDLE =
+          RocksDbInternal.unreflectBatchMethod(
+              "getFromBatchAndDB",
+              Long.TYPE,
+              Long.TYPE,
+              Long.TYPE,
+              byte[].class,
+              Integer.TYPE,
+              Long.TYPE);
+      REMOVE_WITH_HANDLE =
+          RocksDbInternal.unreflectBatchMethod(
+              "delete", Long.TYPE, byte[].class, Integer.TYPE, Long.TYPE);
+    } catch (final NoSuchMethodException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private final RocksDB db;
+  private final long dbNativeHandle;
+  private final WriteOptions writeOptions;
+  private final WriteBatchWithIndex batch;
+  private final long batchNativeHandle;
+
+  /**
+   * @param db the database to read from and to write the batch to
+   * @param writeOptions the options to write the batch with
+   * @param valueCache the cache of committed values to use for cached column families, or {@code
+   *     null} if no column family is cached
+   */
+  WriteBatchTransaction(
+      final RocksDB db, final WriteOptions writeOptions, final ValueCache valueCache) {
+    super(valueCache);
+    this.db = db;
+    this.writeOptions = writeOptions;
+    dbNativeHandle = ZeebeTransactionDb.getNativeHandle(db);
+    // overwriting keys in the index is required to iterate over the batch and the database
+    batch = new WriteBatchWithIndex(true);
+    batchNativeHandle = ZeebeTransactionDb.getNativeHandle(batch);
+  }
+
+  @Override
+  public void put(
+      final long columnFamilyHandle,
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength) {
+    try {
+      PUT_WITH_HANDLE.invokeExact(
+          batch, batchNativeHandle, key, keyLength, value, valueLength, columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
+  @Override
+  public byte[] get(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final byte[] key,
+      final int keyLength) {
+    try {
+      return (byte[])
+          GET_WITH_HANDLE.invokeExact(
+              batch,
+              batchNativeHandle,
+              dbNativeHandle,
+              readOptionsHandle,
+              key,
+              keyLength,
+              columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+      return null; // unreachable
+    }
+  }
+
+  @Override
+  public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength) {
+    try {
+      REMOVE_WITH_HANDLE.invokeExact(batch, batchNativeHandle, key, keyLength, columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
+  @Override
+  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
+    // the returned iterator takes ownership of the database iterator
+    return batch.newIteratorWithBase(handle, db.newIterator(handle, options), options);
+  }
+
+  @Override
+  void renewTransaction() {
+    // the batch is cleared on commit and rollback, so it can be reused as it is
+  }
+
+  @Override
+  void setTransactionSavepoint() {
+    batch.setSavePoint();
+  }
+
+  @Override
+  void rollbackTransactionToSavepoint() throws RocksDBException {
+    batch.rollbackToSavePoint();
+  }
+
+  @Override
+  void commitTransaction() throws RocksDBException {
+    if (batch.count() > 0) {
+      db.write(writeOptions, batch);
+    }
+    batch.clear();
+  }
+
+  @Override
+  void rollbackTransaction() {
+    batch.clear();
+  }
+
+  @Override
+  public void close() {
+    batch.close();
+  }
+}
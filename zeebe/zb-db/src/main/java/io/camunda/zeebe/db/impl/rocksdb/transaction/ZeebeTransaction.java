@@ -9,10 +9,17 @@ package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
 import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRocksDbExceptionRecoverable;
 
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
 import org.agrona.LangUtil;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
@@ -21,16 +28,39 @@ import org.rocksdb.Transaction;
 
 public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
+  // marks a pending write of which the value is not known anymore, after rolling back to a
+  // savepoint
+  private static final byte[] UNKNOWN_VALUE = new byte[0];
+
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
+  private final ValueCache valueCache;
+  // uncommitted writes to cached column families; deletions are stored as null values
+  private final Map<DirectBuffer, byte[]> pendingCacheWrites = new HashMap<>();
+  private final UnsafeBuffer cacheKeyView = new UnsafeBuffer();
+  private final List<TransactionListener> listeners = new ArrayList<>();
 
   private boolean inCurrentTransaction;
+  // whether the transaction was started and neither committed nor rolled back since
+  private boolean isOpen;
   private Transaction transaction;
 
   public ZeebeTransaction(
       final Transaction transaction, final TransactionRenovator transactionRenovator) {
+    this(transaction, transactionRenovator, null);
+  }
+
+  /**
+   * @param valueCache the cache of committed values to use for cached column families, or {@code
+   *     null} if no column family is cached
+   */
+  ZeebeTransaction(
+      final Transaction transaction,
+      final TransactionRenovator transactionRenovator,
+      final ValueCache valueCache) {
     this.transactionRenovator = transactionRenovator;
     this.transaction = transaction;
+    this.valueCache = valueCache;
     try {
       nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
     } catch (final Exception ex) {
@@ -38,6 +68,17 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  /**
+   * For implementations which buffer the writes without a RocksDB transaction; these have to
+   * override the methods accessing the database and the transaction.
+   */
+  ZeebeTransaction(final ValueCache valueCache) {
+    transactionRenovator = null;
+    transaction = null;
+    this.valueCache = valueCache;
+    nativeHandle = 0;
+  }
+
   public void put(
       final long columnFamilyHandle,
       final byte[] key,
@@ -80,6 +121,50 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  /**
+   * Same as {@link #get(long, long, byte[], int)}, but for keys of a cached column family: the
+   * value is read from the writes of this transaction or from the cache of committed values first,
+   * and read values are added to the cache. The returned array must not be modified.
+   */
+  public byte[] getCached(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final byte[] key,
+      final int keyLength)
+      throws Exception {
+    cacheKeyView.wrap(key, 0, keyLength);
+    if (pendingCacheWrites.containsKey(cacheKeyView)) {
+      final var pendingValue = pendingCacheWrites.get(cacheKeyView);
+      return pendingValue == UNKNOWN_VALUE
+          ? get(columnFamilyHandle, readOptionsHandle, key, keyLength)
+          : pendingValue;
+    }
+
+    final var cachedValue = valueCache.get(cacheKeyView);
+    if (cachedValue != null) {
+      return cachedValue;
+    }
+
+    final var observedVersion = valueCache.version();
+    final var value = get(columnFamilyHandle, readOptionsHandle, key, keyLength);
+    if (value != null) {
+      valueCache.putIfUnchanged(cacheKeyView, value, observedVersion);
+    }
+    return value;
+  }
+
+  /**
+   * Records a write to a cached column family, which is written through to the cache of committed
+   * values once this transaction is committed.
+   *
+   * @param value the written value, or {@code null} if the key was deleted
+   */
+  public void recordCachedWrite(
+      final byte[] key, final int keyLength, final byte[] value, final int valueLength) {
+    final var keyCopy = new UnsafeBuffer(ValueCache.copyOf(key, keyLength));
+    pendingCacheWrites.put(keyCopy, value == null ? null : ValueCache.copyOf(value, valueLength));
+  }
+
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
     try {
@@ -95,8 +180,17 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   }
 
   void resetTransaction() {
-    transaction = transactionRenovator.renewTransaction(transaction);
+    renewTransaction();
     inCurrentTransaction = true;
+    isOpen = true;
+  }
+
+  void addListener(final TransactionListener listener) {
+    listeners.add(listener);
+  }
+
+  void renewTransaction() {
+    transaction = transactionRenovator.renewTransaction(transaction);
   }
 
   boolean isInCurrentTransaction() {
@@ -142,13 +236,84 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  @Override
+  public void setSavepoint() throws RocksDBException {
+    try {
+      setTransactionSavepoint();
+      listeners.forEach(TransactionListener::onSavepoint);
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage = "Unexpected error occurred during RocksDB transaction savepoint.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+  }
+
+  @Override
+  public void rollbackToSavepoint() throws RocksDBException {
+    try {
+      rollbackTransactionToSavepoint();
+      // we don't track which writes happened after the savepoint, so we fall back to reading them
+      // from the transaction, and invalidate them on commit
+      pendingCacheWrites.replaceAll((key, value) -> UNKNOWN_VALUE);
+      listeners.forEach(TransactionListener::onRollbackToSavepoint);
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage =
+          "Unexpected error occurred during RocksDB transaction rollback to savepoint.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+  }
+
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.commit();
+    if (pendingCacheWrites.isEmpty()) {
+      commitTransaction();
+    } else {
+      try {
+        pendingCacheWrites.replaceAll((key, value) -> value == UNKNOWN_VALUE ? null : value);
+        // commits are applied to the cache in the same order as to the database
+        synchronized (valueCache) {
+          commitTransaction();
+          valueCache.applyCommitted(pendingCacheWrites);
+        }
+      } finally {
+        pendingCacheWrites.clear();
+      }
+    }
+
+    isOpen = false;
+    listeners.forEach(TransactionListener::onCommit);
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
+    pendingCacheWrites.clear();
+    rollbackTransaction();
+
+    // a transaction is also rolled back after it was committed, which must not be reported
+    if (isOpen) {
+      isOpen = false;
+      listeners.forEach(TransactionListener::onRollback);
+    }
+  }
+
+  void setTransactionSavepoint() throws RocksDBException {
+    transaction.setSavePoint();
+  }
+
+  void rollbackTransactionToSavepoint() throws RocksDBException {
+    transaction.rollbackToSavePoint();
+  }
+
+  void commitTransaction() throws RocksDBException {
+    transaction.commit();
+  }
+
+  void rollbackTransaction() throws RocksDBException {
     transaction.rollback();
   }
 
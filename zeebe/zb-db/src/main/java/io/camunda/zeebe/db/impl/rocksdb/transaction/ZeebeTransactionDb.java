@@ -18,24 +18,35 @@ import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.FineGrainedColumnFamilyMetrics;
 import io.camunda.zeebe.db.impl.NoopColumnFamilyMetrics;
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
 import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionMode;
 import io.camunda.zeebe.protocol.EnumValue;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.OptimisticTransactionDB;
+import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksObject;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 
@@ -45,6 +56,10 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   private static final Logger LOG = Loggers.DB_LOGGER;
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
+  private static final String DEFAULT_COLUMN_FAMILY_NAME =
+      new String(RocksDB.DEFAULT_COLUMN_FAMILY, StandardCharsets.UTF_8);
+  // entries are moved between column families in batches to bound the memory usage
+  private static final int MIGRATION_BATCH_SIZE = 10_000;
   private final OptimisticTransactionDB optimisticTransactionDB;
   private final List<AutoCloseable> closables;
   private final ReadOptions prefixReadOptions;
@@ -52,11 +67,17 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   private final WriteOptions defaultWriteOptions;
   private final ColumnFamilyHandle defaultHandle;
   private final long defaultNativeHandle;
+  private final Map<String, DedicatedColumnFamily> dedicatedColumnFamilies;
+  private final Set<String> migratedColumnFamilies = ConcurrentHashMap.newKeySet();
+  private final Set<String> cachedColumnFamilies;
+  private final ValueCache valueCache;
+  private final TransactionMode transactionMode;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration accessMetricsConfiguration;
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
+      final Map<String, ColumnFamilyHandle> dedicatedHandles,
       final OptimisticTransactionDB optimisticTransactionDB,
       final List<AutoCloseable> closables,
       final RocksDbConfiguration rocksDbConfiguration,
@@ -64,10 +85,25 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
       final AccessMetricsConfiguration accessMetricsConfiguration) {
     this.defaultHandle = defaultHandle;
     defaultNativeHandle = getNativeHandle(defaultHandle);
+    dedicatedColumnFamilies = new HashMap<>();
+    dedicatedHandles.forEach(
+        (name, handle) ->
+            dedicatedColumnFamilies.put(
+                name, new DedicatedColumnFamily(handle, getNativeHandle(handle))));
     this.optimisticTransactionDB = optimisticTransactionDB;
     this.closables = closables;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.accessMetricsConfiguration = accessMetricsConfiguration;
+    transactionMode = rocksDbConfiguration.getTransactionMode();
+
+    if (rocksDbConfiguration.getValueCacheSize() > 0
+        && !rocksDbConfiguration.getCachedColumnFamilies().isEmpty()) {
+      cachedColumnFamilies = Set.copyOf(rocksDbConfiguration.getCachedColumnFamilies());
+      valueCache = new ValueCache(rocksDbConfiguration.getValueCacheSize());
+    } else {
+      cachedColumnFamilies = Set.of();
+      valueCache = null;
+    }
 
     prefixReadOptions =
         new ReadOptions()
@@ -93,25 +129,56 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
           final ConsistencyChecksSettings consistencyChecksSettings,
           final AccessMetricsConfiguration metrics)
           throws RocksDBException {
-    final var cfDescriptors =
-        Arrays.asList( // todo: could consider using List.of
-            new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    final var dedicatedCfOptions = options.dedicatedCfOptions();
+    final var existingColumnFamilies = listColumnFamilies(options, path);
+
+    // column families which are not dedicated anymore are opened with the default options, and
+    // moved back into the default column family below
+    final var columnFamilyNames = new LinkedHashSet<String>();
+    columnFamilyNames.add(DEFAULT_COLUMN_FAMILY_NAME);
+    columnFamilyNames.addAll(existingColumnFamilies);
+    columnFamilyNames.addAll(dedicatedCfOptions.keySet());
+
+    final var cfDescriptors = new ArrayList<ColumnFamilyDescriptor>();
+    for (final var name : columnFamilyNames) {
+      cfDescriptors.add(
+          new ColumnFamilyDescriptor(
+              name.getBytes(StandardCharsets.UTF_8),
+              dedicatedCfOptions.getOrDefault(name, options.cfOptions())));
+    }
+
     final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
     final OptimisticTransactionDB optimisticTransactionDB =
         OptimisticTransactionDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
     closables.add(optimisticTransactionDB);
 
-    if (cfHandles.size() != 1) {
+    if (cfHandles.size() != cfDescriptors.size()) {
       throw new IllegalStateException(
-          "Expected a handle for the default column family but found %d handles"
-              .formatted(cfHandles.size()));
+          "Expected a handle for each of the %d column families but found %d handles"
+              .formatted(cfDescriptors.size(), cfHandles.size()));
     }
 
     final ColumnFamilyHandle defaultColumnFamilyHandle = cfHandles.getFirst();
     closables.add(defaultColumnFamilyHandle);
 
+    final var dedicatedHandles = new HashMap<String, ColumnFamilyHandle>();
+    for (final var handle : cfHandles.subList(1, cfHandles.size())) {
+      final var name = new String(handle.getName(), StandardCharsets.UTF_8);
+      if (dedicatedCfOptions.containsKey(name)) {
+        closables.add(handle);
+        dedicatedHandles.put(name, handle);
+      } else {
+        LOG.info("Moving entries of column family {} back to the default column family", name);
+        try (handle) {
+          moveEntries(optimisticTransactionDB, handle, defaultColumnFamilyHandle, null);
+          optimisticTransactionDB.dropColumnFamily(handle);
+        }
+      }
+    }
+
     return new ZeebeTransactionDb<>(
         defaultColumnFamilyHandle,
+        dedicatedHandles,
         optimisticTransactionDB,
         closables,
         rocksDbConfiguration,
@@ -119,6 +186,65 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
         metrics);
   }
 
+  private static List<String> listColumnFamilies(final RocksDbOptions options, final String path) {
+    if (!new File(path, "CURRENT").exists()) {
+      return List.of();
+    }
+
+    try (final var listOptions = new Options(options.dbOptions(), options.cfOptions())) {
+      return RocksDB.listColumnFamilies(listOptions, path).stream()
+          .map(name -> new String(name, StandardCharsets.UTF_8))
+          .filter(name -> !name.equals(DEFAULT_COLUMN_FAMILY_NAME))
+          .toList();
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException(
+          "Failed to list the column families of the database in path %s".formatted(path), e);
+    }
+  }
+
+  /**
+   * Moves all entries starting with the given prefix, or all entries if the prefix is null, from
+   * the source to the target column family. Each batch of moved entries is written atomically, so
+   * an interrupted move can be resumed by moving again.
+   */
+  private static void moveEntries(
+      final RocksDB db,
+      final ColumnFamilyHandle source,
+      final ColumnFamilyHandle target,
+      final byte[] prefix)
+      throws RocksDBException {
+    try (final var readOptions = new ReadOptions().setTotalOrderSeek(true);
+        final var writeOptions = new WriteOptions();
+        final var iterator = db.newIterator(source, readOptions);
+        final var batch = new WriteBatch()) {
+      if (prefix == null) {
+        iterator.seekToFirst();
+      } else {
+        iterator.seek(prefix);
+      }
+
+      for (; iterator.isValid(); iterator.next()) {
+        final byte[] key = iterator.key();
+        if (prefix != null
+            && !BufferUtil.startsWith(prefix, 0, prefix.length, key, 0, key.length)) {
+          break;
+        }
+
+        batch.put(target, key, iterator.value());
+        batch.delete(source, key);
+        if (batch.count() >= MIGRATION_BATCH_SIZE * 2) {
+          db.write(writeOptions, batch);
+          batch.clear();
+        }
+      }
+      iterator.status();
+
+      if (batch.count() > 0) {
+        db.write(writeOptions, batch);
+      }
+    }
+  }
+
   static long getNativeHandle(final RocksObject object) {
     try {
       return RocksDbInternal.nativeHandle.getLong(object);
@@ -132,16 +258,81 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return prefixReadOptions;
   }
 
-  protected ColumnFamilyHandle getDefaultHandle() {
-    return defaultHandle;
-  }
-
   protected long getReadOptionsNativeHandle() {
     return getNativeHandle(defaultReadOptions);
   }
 
-  protected long getDefaultNativeHandle() {
-    return defaultNativeHandle;
+  /**
+   * @return the handle of the RocksDB column family in which the given logical column family is
+   *     stored
+   */
+  protected ColumnFamilyHandle getColumnFamilyHandle(final Enum<? extends EnumValue> columnFamily) {
+    final var dedicatedColumnFamily = getDedicatedColumnFamily(columnFamily);
+    return dedicatedColumnFamily == null ? defaultHandle : dedicatedColumnFamily.handle();
+  }
+
+  /**
+   * @return the native handle of the RocksDB column family in which the given logical column family
+   *     is stored
+   */
+  protected long getColumnFamilyNativeHandle(final Enum<? extends EnumValue> columnFamily) {
+    final var dedicatedColumnFamily = getDedicatedColumnFamily(columnFamily);
+    return dedicatedColumnFamily == null
+        ? defaultNativeHandle
+        : dedicatedColumnFamily.nativeHandle();
+  }
+
+  /**
+   * @return true if the committed values of the given logical column family are cached
+   */
+  protected boolean isCached(final Enum<? extends EnumValue> columnFamily) {
+    return cachedColumnFamilies.contains(columnFamily.name());
+  }
+
+  private DedicatedColumnFamily getDedicatedColumnFamily(
+      final Enum<? extends EnumValue> columnFamily) {
+    if (dedicatedColumnFamilies.isEmpty()) {
+      return null;
+    }
+
+    final var name = columnFamily.name();
+    final var dedicatedColumnFamily = dedicatedColumnFamilies.get(name);
+    if (dedicatedColumnFamily != null && !migratedColumnFamilies.contains(name)) {
+      migrateToDedicatedColumnFamily(columnFamily, dedicatedColumnFamily);
+    }
+    return dedicatedColumnFamily;
+  }
+
+  /**
+   * Moves the entries of the given logical column family which are still stored in the default
+   * column family, e.g. because the database was created before the column family was configured to
+   * be dedicated. This happens lazily, as the key prefix of a logical column family is only known
+   * once it is used, but always before the first access to the logical column family.
+   */
+  private synchronized void migrateToDedicatedColumnFamily(
+      final Enum<? extends EnumValue> columnFamily,
+      final DedicatedColumnFamily dedicatedColumnFamily) {
+    if (migratedColumnFamilies.contains(columnFamily.name())) {
+      return;
+    }
+
+    final var prefix = new byte[Long.BYTES];
+    new UnsafeBuffer(prefix)
+        .putLong(0, ((EnumValue) columnFamily).getValue(), ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    try {
+      moveEntries(optimisticTransactionDB, defaultHandle, dedicatedColumnFamily.handle(), prefix);
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException(
+          "Failed to move the entries of column family %s into its dedicated column family"
+              .formatted(columnFamily),
+          e);
+    }
+    migratedColumnFamilies.add(columnFamily.name());
+  }
+
+  @Override
+  public Set<String> getDedicatedColumnFamilyNames() {
+    return Collections.unmodifiableSet(dedicatedColumnFamilies.keySet());
   }
 
   @Override
@@ -191,10 +382,31 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return Optional.ofNullable(propertyValue);
   }
 
+  @Override
+  public Optional<String> getProperty(
+      final String dedicatedColumnFamilyName, final String propertyName) {
+    final var dedicatedColumnFamily = dedicatedColumnFamilies.get(dedicatedColumnFamilyName);
+    final var handle =
+        dedicatedColumnFamily == null ? defaultHandle : dedicatedColumnFamily.handle();
+    String propertyValue = null;
+    try {
+      propertyValue = optimisticTransactionDB.getProperty(handle, propertyName);
+    } catch (final RocksDBException rde) {
+      LOG.debug(rde.getMessage(), rde);
+    }
+    return Optional.ofNullable(propertyValue);
+  }
+
   @Override
   public TransactionContext createContext() {
-    final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
-    final ZeebeTransaction zeebeTransaction = new ZeebeTransaction(transaction, this);
+    final ZeebeTransaction zeebeTransaction =
+        switch (transactionMode) {
+          case OPTIMISTIC ->
+              new ZeebeTransaction(
+                  optimisticTransactionDB.beginTransaction(defaultWriteOptions), this, valueCache);
+          case WRITE_BATCH ->
+              new WriteBatchTransaction(optimisticTransactionDB, defaultWriteOptions, valueCache);
+        };
     closables.add(zeebeTransaction);
     return new DefaultTransactionContext(zeebeTransaction);
   }
@@ -231,4 +443,6 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
           }
         });
   }
+
+  private record DedicatedColumnFamily(ColumnFamilyHandle handle, long nativeHandle) {}
 }
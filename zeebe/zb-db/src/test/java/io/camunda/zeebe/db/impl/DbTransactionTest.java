@@ -12,12 +12,15 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.Before;
@@ -235,6 +238,29 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isFalse();
   }
 
+  @Test
+  public void shouldRollbackToSavepoint() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    twoKey.wrapLong(52000);
+    twoValue.wrapLong(192313);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+    transaction.setSavepoint();
+    transaction.run(() -> twoColumnFamily.insert(twoKey, twoValue));
+
+    // when
+    transaction.rollbackToSavepoint();
+    transaction.commit();
+
+    // then
+    assertThat(oneColumnFamily.exists(oneKey)).isTrue();
+    assertThat(twoColumnFamily.exists(twoKey)).isFalse();
+  }
+
   @Test
   public void shouldGetValueInTransaction() {
     // given
@@ -477,6 +503,117 @@ public final class DbTransactionTest {
         .isSameAs(exception);
   }
 
+  @Test
+  public void shouldNotifyListenerOnCommit() throws Exception {
+    // given
+    final var listener = new RecordingTransactionListener();
+    transactionContext.addTransactionListener(listener);
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(2);
+
+    // when
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+    transaction.commit();
+
+    // then
+    assertThat(listener.events).containsExactly("commit");
+  }
+
+  @Test
+  public void shouldNotifyListenerOnRollback() throws Exception {
+    // given
+    final var listener = new RecordingTransactionListener();
+    transactionContext.addTransactionListener(listener);
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(2);
+
+    // when
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+    transaction.rollback();
+
+    // then
+    assertThat(listener.events).containsExactly("rollback");
+  }
+
+  @Test
+  public void shouldNotifyListenerOnSavepointRollback() throws Exception {
+    // given
+    final var listener = new RecordingTransactionListener();
+    transactionContext.addTransactionListener(listener);
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(2);
+
+    // when
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.setSavepoint();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+    transaction.rollbackToSavepoint();
+    transaction.commit();
+
+    // then
+    assertThat(listener.events).containsExactly("savepoint", "rollbackToSavepoint", "commit");
+  }
+
+  @Test
+  public void shouldNotifyListenerOnlyOnceForImplicitTransaction() {
+    // given
+    final var listener = new RecordingTransactionListener();
+    transactionContext.addTransactionListener(listener);
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(2);
+
+    // when
+    transactionContext.runInTransaction(() -> oneColumnFamily.insert(oneKey, oneValue));
+
+    // then - the implicit rollback after the commit is not reported
+    assertThat(listener.events).containsExactly("commit");
+  }
+
+  @Test
+  public void shouldNotifyListenerOnRollbackOfFailedImplicitTransaction() {
+    // given
+    final var listener = new RecordingTransactionListener();
+    transactionContext.addTransactionListener(listener);
+
+    // when
+    assertThatThrownBy(
+            () ->
+                transactionContext.runInTransaction(
+                    () -> {
+                      throw new IllegalStateException("expected");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    // then
+    assertThat(listener.events).containsExactly("rollback");
+  }
+
+  private static final class RecordingTransactionListener implements TransactionListener {
+    private final List<String> events = new ArrayList<>();
+
+    @Override
+    public void onSavepoint() {
+      events.add("savepoint");
+    }
+
+    @Override
+    public void onRollbackToSavepoint() {
+      events.add("rollbackToSavepoint");
+    }
+
+    @Override
+    public void onCommit() {
+      events.add("commit");
+    }
+
+    @Override
+    public void onRollback() {
+      events.add("rollback");
+    }
+  }
+
   private enum ColumnFamilies implements EnumValue {
     DEFAULT, // rocksDB needs a default column family
     ONE,
@@ -0,0 +1,155 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbFactory;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.protocol.EnumValue;
+import java.io.File;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class DedicatedColumnFamilyTest {
+
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+
+  @Test
+  void shouldStoreLogicalColumnFamilyInDedicatedColumnFamily(final @TempDir File path)
+      throws Exception {
+    // given
+    try (final var db = createFactory(Map.of("TWO", new Properties())).createDb(path)) {
+
+      // when
+      putValues(db, ColumnFamilies.ONE, 10);
+      putValues(db, ColumnFamilies.TWO, 20);
+
+      // then
+      assertThat(db.getDedicatedColumnFamilyNames()).containsExactly("TWO");
+      assertThat(db.getProperty("TWO", "rocksdb.estimate-num-keys")).hasValue("20");
+      assertThat(countValues(db, ColumnFamilies.ONE)).isEqualTo(10);
+      assertThat(countValues(db, ColumnFamilies.TWO)).isEqualTo(20);
+    }
+  }
+
+  @Test
+  void shouldMoveExistingEntriesIntoDedicatedColumnFamily(final @TempDir File path)
+      throws Exception {
+    // given
+    try (final var db = createFactory(Map.of()).createDb(path)) {
+      putValues(db, ColumnFamilies.ONE, 10);
+      putValues(db, ColumnFamilies.TWO, 20);
+      putValues(db, ColumnFamilies.THREE, 30);
+    }
+
+    // when
+    try (final var db = createFactory(Map.of("TWO", new Properties())).createDb(path)) {
+
+      // then
+      assertThat(countValues(db, ColumnFamilies.ONE)).isEqualTo(10);
+      assertThat(countValues(db, ColumnFamilies.TWO)).isEqualTo(20);
+      assertThat(countValues(db, ColumnFamilies.THREE)).isEqualTo(30);
+      assertThat(db.getProperty("TWO", "rocksdb.estimate-num-keys")).hasValue("20");
+    }
+  }
+
+  @Test
+  void shouldMoveEntriesBackIntoDefaultColumnFamily(final @TempDir File path) throws Exception {
+    // given
+    try (final var db = createFactory(Map.of("TWO", new Properties())).createDb(path)) {
+      putValues(db, ColumnFamilies.ONE, 10);
+      putValues(db, ColumnFamilies.TWO, 20);
+    }
+
+    // when
+    try (final var db = createFactory(Map.of()).createDb(path)) {
+
+      // then
+      assertThat(db.getDedicatedColumnFamilyNames()).isEmpty();
+      assertThat(countValues(db, ColumnFamilies.ONE)).isEqualTo(10);
+      assertThat(countValues(db, ColumnFamilies.TWO)).isEqualTo(20);
+    }
+  }
+
+  @Test
+  void shouldIncludeDedicatedColumnFamiliesInSnapshot(
+      final @TempDir File path, final @TempDir File snapshotParent) throws Exception {
+    // given
+    final var factory = createFactory(Map.of("TWO", new Properties()));
+    final var snapshotDir = new File(snapshotParent, "snapshot");
+    try (final var db = factory.createDb(path)) {
+      putValues(db, ColumnFamilies.ONE, 10);
+      putValues(db, ColumnFamilies.TWO, 20);
+
+      // when
+      db.createSnapshot(snapshotDir);
+    }
+
+    // then
+    final var copyDir = new File(snapshotParent, "copy");
+    try (final var snapshotOnlyDb = factory.openSnapshotOnlyDb(snapshotDir)) {
+      snapshotOnlyDb.createSnapshot(copyDir);
+    }
+    try (final var db = factory.createDb(copyDir)) {
+      assertThat(countValues(db, ColumnFamilies.ONE)).isEqualTo(10);
+      assertThat(countValues(db, ColumnFamilies.TWO)).isEqualTo(20);
+    }
+  }
+
+  private void putValues(
+      final ZeebeDb<ColumnFamilies> db, final ColumnFamilies columnFamily, final int count) {
+    final ColumnFamily<DbLong, DbLong> cf =
+        db.createColumnFamily(columnFamily, db.createContext(), key, value);
+    for (int i = 0; i < count; i++) {
+      key.wrapLong(i);
+      value.wrapLong(i * 10L);
+      cf.insert(key, value);
+    }
+  }
+
+  private int countValues(final ZeebeDb<ColumnFamilies> db, final ColumnFamilies columnFamily) {
+    final ColumnFamily<DbLong, DbLong> cf =
+        db.createColumnFamily(columnFamily, db.createContext(), key, value);
+    final var count = new int[1];
+    cf.forEach(
+        (k, v) -> {
+          assertThat(v.getValue()).isEqualTo(k.getValue() * 10L);
+          count[0]++;
+        });
+    return count[0];
+  }
+
+  private static ZeebeDbFactory<ColumnFamilies> createFactory(
+      final Map<String, Properties> dedicatedColumnFamilies) {
+    return new ZeebeRocksDbFactory<>(
+        new RocksDbConfiguration().setDedicatedColumnFamilies(dedicatedColumnFamilies),
+        new ConsistencyChecksSettings(true, true),
+        new AccessMetricsConfiguration(Kind.NONE, 1));
+  }
+
+  private enum ColumnFamilies implements EnumValue {
+    DEFAULT,
+    ONE,
+    TWO,
+    THREE;
+
+    @Override
+    public int getValue() {
+      return ordinal();
+    }
+  }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.protocol.EnumValue;
+import java.io.File;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class CachedColumnFamilyTest {
+
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+  private ZeebeDb<ColumnFamilies> db;
+  private TransactionContext context;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+
+  @BeforeEach
+  void setup(final @TempDir File path) {
+    db =
+        new ZeebeRocksDbFactory<ColumnFamilies>(
+                new RocksDbConfiguration()
+                    .setValueCacheSize(1024 * 1024)
+                    .setCachedColumnFamilies(Set.of(ColumnFamilies.CACHED.name())),
+                new ConsistencyChecksSettings(true, true),
+                new AccessMetricsConfiguration(Kind.NONE, 1))
+            .createDb(path);
+    context = db.createContext();
+    columnFamily = db.createColumnFamily(ColumnFamilies.CACHED, context, key, value);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    db.close();
+  }
+
+  @Test
+  void shouldReadCommittedValue() {
+    // given
+    put(1, 10);
+
+    // when - read twice to read from the cache
+    final var firstRead = get(1);
+    final var secondRead = get(1);
+
+    // then
+    assertThat(firstRead).isEqualTo(10);
+    assertThat(secondRead).isEqualTo(10);
+  }
+
+  @Test
+  void shouldReadOwnUncommittedWrites() throws Exception {
+    // given
+    put(1, 10);
+    get(1);
+    final var transaction = context.getCurrentTransaction();
+
+    // when
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          value.wrapLong(20);
+          columnFamily.update(key, value);
+        });
+
+    // then
+    assertThat(get(1)).isEqualTo(20);
+    transaction.commit();
+    assertThat(get(1)).isEqualTo(20);
+  }
+
+  @Test
+  void shouldDiscardWritesOnRollback() throws Exception {
+    // given
+    put(1, 10);
+    get(1);
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          value.wrapLong(20);
+          columnFamily.update(key, value);
+          key.wrapLong(2);
+          value.wrapLong(30);
+          columnFamily.insert(key, value);
+        });
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(get(1)).isEqualTo(10);
+    assertThat(get(2)).isNull();
+  }
+
+  @Test
+  void shouldDiscardWritesAfterSavepoint() throws Exception {
+    // given
+    put(1, 10);
+    get(1);
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          key.wrapLong(2);
+          value.wrapLong(20);
+          columnFamily.insert(key, value);
+        });
+    transaction.setSavepoint();
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          value.wrapLong(11);
+          columnFamily.update(key, value);
+        });
+
+    // when
+    transaction.rollbackToSavepoint();
+    transaction.commit();
+
+    // then
+    assertThat(get(1)).isEqualTo(10);
+    assertThat(get(2)).isEqualTo(20);
+  }
+
+  @Test
+  void shouldNotReadDeletedValue() {
+    // given
+    put(1, 10);
+    get(1);
+
+    // when
+    key.wrapLong(1);
+    columnFamily.deleteExisting(key);
+
+    // then
+    assertThat(get(1)).isNull();
+    assertThat(columnFamily.exists(key)).isFalse();
+  }
+
+  @Test
+  void shouldReadValueCommittedByOtherContext() {
+    // given
+    put(1, 10);
+    get(1);
+    final var otherKey = new DbLong();
+    final var otherValue = new DbLong();
+    final var otherContext = db.createContext();
+    final var otherColumnFamily =
+        db.createColumnFamily(ColumnFamilies.CACHED, otherContext, otherKey, otherValue);
+
+    // when
+    otherKey.wrapLong(1);
+    otherValue.wrapLong(20);
+    otherColumnFamily.update(otherKey, otherValue);
+
+    // then
+    assertThat(get(1)).isEqualTo(20);
+  }
+
+  private void put(final long k, final long v) {
+    key.wrapLong(k);
+    value.wrapLong(v);
+    columnFamily.upsert(key, value);
+  }
+
+  private Long get(final long k) {
+    key.wrapLong(k);
+    final var result = columnFamily.get(key);
+    return result == null ? null : result.getValue();
+  }
+
+  private enum ColumnFamilies implements EnumValue {
+    DEFAULT,
+    CACHED;
+
+    @Override
+    public int getValue() {
+      return ordinal();
+    }
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class ValueCacheTest {
+
+  @Test
+  void shouldCacheReadValue() {
+    // given
+    final var cache = new ValueCache(1024);
+
+    // when
+    cache.putIfUnchanged(key(1), new byte[] {1}, cache.version());
+
+    // then
+    assertThat(cache.get(key(1))).containsExactly(1);
+  }
+
+  @Test
+  void shouldNotCacheReadValueAfterConcurrentCommit() {
+    // given
+    final var cache = new ValueCache(1024);
+    final var observedVersion = cache.version();
+
+    // when
+    cache.applyCommitted(Map.of(key(1), new byte[] {2}));
+    cache.putIfUnchanged(key(1), new byte[] {1}, observedVersion);
+
+    // then
+    assertThat(cache.get(key(1))).containsExactly(2);
+  }
+
+  @Test
+  void shouldRemoveDeletedValueOnCommit() {
+    // given
+    final var cache = new ValueCache(1024);
+    cache.putIfUnchanged(key(1), new byte[] {1}, cache.version());
+    final var writes = new HashMap<DirectBuffer, byte[]>();
+    writes.put(key(1), null);
+
+    // when
+    cache.applyCommitted(writes);
+
+    // then
+    assertThat(cache.get(key(1))).isNull();
+    assertThat(cache.sizeInBytes()).isZero();
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedValuesWhenFull() {
+    // given
+    final var value = new byte[100];
+    final var cache = new ValueCache(700);
+    cache.putIfUnchanged(key(1), value, cache.version());
+    cache.putIfUnchanged(key(2), value, cache.version());
+    cache.putIfUnchanged(key(3), value, cache.version());
+
+    // when
+    cache.get(key(1));
+    cache.putIfUnchanged(key(4), value, cache.version());
+
+    // then
+    assertThat(cache.get(key(2))).isNull();
+    assertThat(cache.get(key(1))).isNotNull();
+    assertThat(cache.get(key(3))).isNotNull();
+    assertThat(cache.get(key(4))).isNotNull();
+    assertThat(cache.sizeInBytes()).isLessThanOrEqualTo(700);
+  }
+
+  private static DirectBuffer key(final long key) {
+    final var buffer = new UnsafeBuffer(new byte[Long.BYTES]);
+    buffer.putLong(0, key);
+    return buffer;
+  }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionMode;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.protocol.EnumValue;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class WriteBatchTransactionTest {
+
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+  private ZeebeDb<ColumnFamilies> db;
+  private TransactionContext context;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+
+  @BeforeEach
+  void setup(final @TempDir File path) {
+    db =
+        new ZeebeRocksDbFactory<ColumnFamilies>(
+                new RocksDbConfiguration().setTransactionMode(TransactionMode.WRITE_BATCH),
+                new ConsistencyChecksSettings(true, true),
+                new AccessMetricsConfiguration(Kind.NONE, 1))
+            .createDb(path);
+    context = db.createContext();
+    columnFamily = db.createColumnFamily(ColumnFamilies.VALUES, context, key, value);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    db.close();
+  }
+
+  @Test
+  void shouldReadCommittedValue() {
+    // given
+    put(1, 10);
+
+    // when
+    final var result = get(1);
+
+    // then
+    assertThat(result).isEqualTo(10);
+  }
+
+  @Test
+  void shouldReadOwnUncommittedWrites() throws Exception {
+    // given
+    put(1, 10);
+    final var transaction = context.getCurrentTransaction();
+
+    // when
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          value.wrapLong(20);
+          columnFamily.update(key, value);
+          key.wrapLong(2);
+          value.wrapLong(30);
+          columnFamily.insert(key, value);
+        });
+
+    // then
+    assertThat(get(1)).isEqualTo(20);
+    assertThat(get(2)).isEqualTo(30);
+    transaction.commit();
+    assertThat(get(1)).isEqualTo(20);
+    assertThat(get(2)).isEqualTo(30);
+  }
+
+  @Test
+  void shouldNotExposeUncommittedWritesToOtherContext() throws Exception {
+    // given
+    final var otherContext = db.createContext();
+    final var otherKey = new DbLong();
+    final var otherColumnFamily =
+        db.createColumnFamily(ColumnFamilies.VALUES, otherContext, otherKey, new DbLong());
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          value.wrapLong(10);
+          columnFamily.insert(key, value);
+        });
+
+    // when
+    otherKey.wrapLong(1);
+    final var beforeCommit = otherColumnFamily.exists(otherKey);
+    transaction.commit();
+    final var afterCommit = otherColumnFamily.exists(otherKey);
+
+    // then
+    assertThat(beforeCommit).isFalse();
+    assertThat(afterCommit).isTrue();
+  }
+
+  @Test
+  void shouldDiscardWritesOnRollback() throws Exception {
+    // given
+    put(1, 10);
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          columnFamily.deleteExisting(key);
+          key.wrapLong(2);
+          value.wrapLong(20);
+          columnFamily.insert(key, value);
+        });
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(get(1)).isEqualTo(10);
+    assertThat(get(2)).isNull();
+  }
+
+  @Test
+  void shouldDiscardWritesAfterSavepoint() throws Exception {
+    // given
+    put(1, 10);
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          key.wrapLong(2);
+          value.wrapLong(20);
+          columnFamily.insert(key, value);
+        });
+    transaction.setSavepoint();
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          value.wrapLong(11);
+          columnFamily.update(key, value);
+        });
+
+    // when
+    transaction.rollbackToSavepoint();
+    transaction.commit();
+
+    // then
+    assertThat(get(1)).isEqualTo(10);
+    assertThat(get(2)).isEqualTo(20);
+  }
+
+  @Test
+  void shouldIterateOverCommittedAndUncommittedWrites() throws Exception {
+    // given
+    put(1, 10);
+    put(2, 20);
+    put(4, 40);
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          key.wrapLong(2);
+          columnFamily.deleteExisting(key);
+          key.wrapLong(3);
+          value.wrapLong(30);
+          columnFamily.insert(key, value);
+          key.wrapLong(4);
+          value.wrapLong(41);
+          columnFamily.update(key, value);
+        });
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    transaction.run(() -> columnFamily.forEach((k, v) -> values.add(v.getValue())));
+
+    // then
+    assertThat(values).containsExactly(10L, 30L, 41L);
+  }
+
+  private void put(final long k, final long v) {
+    key.wrapLong(k);
+    value.wrapLong(v);
+    columnFamily.upsert(key, value);
+  }
+
+  private Long get(final long k) {
+    key.wrapLong(k);
+    final var result = columnFamily.get(key);
+    return result == null ? null : result.getValue();
+  }
+
+  private enum ColumnFamilies implements EnumValue {
+    DEFAULT,
+    VALUES;
+
+    @Override
+    public int getValue() {
+      return ordinal();
+    }
+  }
+}